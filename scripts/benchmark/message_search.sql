@@ -0,0 +1,155 @@
+-- Benchmark da busca textual de mensagens (GET /api/chats/search).
+--
+-- Gera um corpus sintético em um banco DESCARTÁVEL já migrado pelo Flyway e mede, com
+-- EXPLAIN (ANALYZE, BUFFERS), a mesma consulta usada por MessageRepository.search.
+-- Não é um teste automatizado: os números dependem do hardware e da configuração do PostgreSQL.
+--
+-- Uso:
+--   createdb comuniquecem_bench
+--   mvn flyway:migrate -Dflyway.url=jdbc:postgresql://localhost:5432/comuniquecem_bench ...
+--   psql -d comuniquecem_bench -v messages=5000000 -f scripts/benchmark/message_search.sql
+
+\set ON_ERROR_STOP on
+\if :{?messages}
+\else
+    \set messages 5000000
+\endif
+\set users 2000
+\set chats 20000
+\set months 24
+\timing on
+
+-- Vocabulário com termos comuns e raros, para medir consultas de seletividade diferente
+CREATE TEMPORARY TABLE bench_words AS
+SELECT row_number() OVER () AS n, word
+FROM unnest(string_to_array(
+    'prova trabalho aula professor escola matemática história geografia português ciências ' ||
+    'amanhã hoje semana reunião horário sala turma nota entrega dúvida exercício capítulo ' ||
+    'livro caderno biblioteca intervalo recreio uniforme transporte ônibus merenda feira ' ||
+    'olimpíada fotossíntese logaritmo renascimento hidrografia subjuntivo mitocôndria', ' ')) AS word;
+
+INSERT INTO institutions (id, created_at, updated_at, version, name, code, password, teacher_password, active)
+VALUES ('00000000-0000-0000-0000-00000000be01', now(), now(), 0, 'Benchmark', 'BENCH', 'x', 'x', true);
+
+INSERT INTO users (id, created_at, updated_at, version, name, email, password, role, active, online,
+                   email_verified, institution_id)
+SELECT md5('bench-user-' || i)::uuid, now(), now(), 0, 'Aluno ' || i, 'aluno' || i || '@bench.local', 'x',
+       'STUDENT', true, false, true, '00000000-0000-0000-0000-00000000be01'
+FROM generate_series(1, :users) AS i;
+
+-- Pares distintos já em ordem canônica (user1_id < user2_id)
+INSERT INTO chats (id, created_at, updated_at, version, active, last_message_at, user1_id, user2_id, initiated_by_id)
+SELECT md5('bench-chat-' || pair.n)::uuid, now() - make_interval(months => :months), now(), 0, true, now(),
+       LEAST(pair.a, pair.b), GREATEST(pair.a, pair.b), pair.a
+FROM (
+    SELECT DISTINCT ON (LEAST(a, b), GREATEST(a, b)) row_number() OVER () AS n, a, b
+    FROM (
+        SELECT md5('bench-user-' || (1 + (i % :users)))::uuid AS a,
+               md5('bench-user-' || (1 + ((i * 7919 + 13) % :users)))::uuid AS b
+        FROM generate_series(1, :chats) AS i
+    ) candidates
+    WHERE a <> b
+) pair;
+
+INSERT INTO chat_participants (id, created_at, updated_at, version, unread_count, last_message_at,
+                               chat_id, user_id, other_user_id)
+SELECT md5(c.id::text || p.user_id::text)::uuid, now(), now(), 0, 0, now(), c.id, p.user_id, p.other_user_id
+FROM chats c
+CROSS JOIN LATERAL (VALUES (c.user1_id, c.user2_id), (c.user2_id, c.user1_id)) AS p (user_id, other_user_id)
+WHERE c.id IN (SELECT md5('bench-chat-' || n)::uuid FROM generate_series(1, :chats) AS n);
+
+-- Partições para todo o período do corpus (24 meses, o mesmo valor de :months)
+DO $$
+DECLARE
+    month DATE;
+BEGIN
+    FOR month IN
+        SELECT generate_series(date_trunc('month', now()) - INTERVAL '24 months',
+                               date_trunc('month', now()), INTERVAL '1 month')::date
+    LOOP
+        EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF messages FOR VALUES FROM (%L) TO (%L)',
+                       'messages_' || to_char(month, 'YYYY_MM'), month, (month + INTERVAL '1 month')::date);
+    END LOOP;
+END $$;
+
+CREATE TEMPORARY TABLE bench_chats AS
+SELECT row_number() OVER () AS n, id, user1_id, user2_id
+FROM chats WHERE id IN (SELECT md5('bench-chat-' || n)::uuid FROM generate_series(1, :chats) AS n);
+
+-- Mensagens com 6 a 15 palavras; termos do fim do vocabulário são raros (distribuição enviesada)
+INSERT INTO messages (id, created_at, updated_at, version, content, sent_at, is_file, deleted, edited,
+                      chat_id, sender_id)
+SELECT gen_random_uuid(), gen.ts, gen.ts, 0, gen.body, gen.ts, false, false, false, c.id,
+       CASE WHEN gen.i % 2 = 0 THEN c.user1_id ELSE c.user2_id END
+FROM (
+    SELECT i,
+           now() - random() * make_interval(months => :months) AS ts,
+           1 + (i % (SELECT count(*) FROM bench_chats)) AS chat_n,
+           (SELECT string_agg(v.words[1 + floor(power(random(), 3) * array_length(v.words, 1))::int], ' ')
+            FROM generate_series(1, 6 + (i % 10)) AS k) AS body
+    FROM generate_series(1, :messages) AS i
+    CROSS JOIN (SELECT array_agg(word ORDER BY n) AS words FROM bench_words) v
+) gen
+JOIN bench_chats c ON c.n = gen.chat_n;
+
+ANALYZE users;
+ANALYZE chats;
+ANALYZE chat_participants;
+ANALYZE messages;
+
+-- Usuário com conversas típicas
+SELECT user1_id AS bench_user FROM bench_chats WHERE n = 1 \gset
+
+\echo '== termo raro =='
+\set q 'mitocôndria'
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT page.id, page.chat_id, page.sent_at, page.rank,
+       ts_headline('portuguese', page.content, websearch_to_tsquery('portuguese', :'q'),
+                   'StartSel=<mark>, StopSel=</mark>, MaxWords=30, MinWords=10, MaxFragments=2')
+FROM (
+    SELECT m.id, m.chat_id, m.sent_at, m.content,
+           ts_rank_cd(m.search_vector, websearch_to_tsquery('portuguese', :'q')) AS rank
+    FROM chat_participants p
+    JOIN chats c ON c.id = p.chat_id AND c.active
+    JOIN messages m ON m.chat_id = p.chat_id
+    WHERE p.user_id = :'bench_user'
+      AND NOT m.deleted
+      AND m.search_vector @@ websearch_to_tsquery('portuguese', :'q')
+    ORDER BY rank DESC, m.sent_at DESC, m.id DESC
+    LIMIT 21
+) page;
+
+\echo '== termo comum =='
+\set q 'prova'
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT m.id, ts_rank_cd(m.search_vector, websearch_to_tsquery('portuguese', :'q')) AS rank
+FROM chat_participants p
+JOIN chats c ON c.id = p.chat_id AND c.active
+JOIN messages m ON m.chat_id = p.chat_id
+WHERE p.user_id = :'bench_user'
+  AND NOT m.deleted
+  AND m.search_vector @@ websearch_to_tsquery('portuguese', :'q')
+ORDER BY rank DESC, m.sent_at DESC, m.id DESC
+LIMIT 21;
+
+\echo '== frase exata =='
+\set q '"entrega trabalho"'
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT m.id, ts_rank_cd(m.search_vector, websearch_to_tsquery('portuguese', :'q')) AS rank
+FROM chat_participants p
+JOIN chats c ON c.id = p.chat_id AND c.active
+JOIN messages m ON m.chat_id = p.chat_id
+WHERE p.user_id = :'bench_user'
+  AND NOT m.deleted
+  AND m.search_vector @@ websearch_to_tsquery('portuguese', :'q')
+ORDER BY rank DESC, m.sent_at DESC, m.id DESC
+LIMIT 21;
+
+\echo '== referência: ILIKE sem índice =='
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT m.id
+FROM chat_participants p
+JOIN messages m ON m.chat_id = p.chat_id
+WHERE p.user_id = :'bench_user' AND m.content ILIKE '%mitocôndria%'
+ORDER BY m.sent_at DESC
+LIMIT 21;
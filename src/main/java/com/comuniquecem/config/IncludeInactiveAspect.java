@@ -0,0 +1,57 @@
+package com.comuniquecem.config;
+
+import com.comuniquecem.entity.SoftDeleteFilters;
+import com.comuniquecem.repository.IncludeInactive;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Desabilita os filtros de linhas inativas/apagadas durante métodos marcados com {@link IncludeInactive}
+ */
+@Aspect
+@Component
+public class IncludeInactiveAspect {
+
+    private static final List<String> FILTERS = List.of(SoftDeleteFilters.ACTIVE, SoftDeleteFilters.NOT_DELETED);
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Around("@annotation(includeInactive)")
+    public Object withoutFilters(ProceedingJoinPoint joinPoint, IncludeInactive includeInactive) throws Throwable {
+        // Sem sessão vinculada à thread, o repositório abriria outra sessão, já com os filtros ativos
+        if (!TransactionSynchronizationManager.hasResource(entityManagerFactory)) {
+            throw new IllegalStateException(
+                joinPoint.getSignature().toShortString() + " com @IncludeInactive deve ser chamado dentro de uma transação");
+        }
+
+        Session session = entityManager.unwrap(Session.class);
+        List<String> disabled = new ArrayList<>();
+        for (String filter : FILTERS) {
+            if (session.getEnabledFilter(filter) != null) {
+                session.disableFilter(filter);
+                disabled.add(filter);
+            }
+        }
+
+        try {
+            return joinPoint.proceed();
+        } finally {
+            disabled.forEach(session::enableFilter);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.comuniquecem.config;
+
+import com.comuniquecem.entity.SoftDeleteFilters;
+import org.hibernate.Session;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+
+/**
+ * Configuração dos filtros de linhas inativas/apagadas.
+ *
+ * Habilita os filtros em todo EntityManager criado, de modo que qualquer método de repositório
+ * (com ou sem transação da aplicação) aplique as mesmas restrições dos índices parciais.
+ */
+@Configuration
+public class SoftDeleteFilterConfig {
+
+    @Bean
+    public static BeanPostProcessor softDeleteFilterInitializer() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof LocalContainerEntityManagerFactoryBean factory) {
+                    factory.setEntityManagerInitializer(entityManager -> {
+                        Session session = entityManager.unwrap(Session.class);
+                        session.enableFilter(SoftDeleteFilters.ACTIVE);
+                        session.enableFilter(SoftDeleteFilters.NOT_DELETED);
+                    });
+                }
+                return bean;
+            }
+        };
+    }
+}
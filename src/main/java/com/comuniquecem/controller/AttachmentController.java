@@ -0,0 +1,254 @@
+package com.comuniquecem.controller;
+
+import com.comuniquecem.dto.response.AttachmentResponse;
+import com.comuniquecem.entity.Attachment;
+import com.comuniquecem.entity.User;
+import com.comuniquecem.entity.enums.ImageSize;
+import com.comuniquecem.service.AttachmentStorageService;
+import com.comuniquecem.service.ImageDerivativeService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Controller para envio e download de anexos
+ */
+@RestController
+@RequestMapping("/api/attachments")
+@Tag(name = "Anexos", description = "Endpoints para envio e download de arquivos")
+@SecurityRequirement(name = "Bearer Authentication")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class AttachmentController {
+
+    // Atributos do Tomcat para enviar o arquivo pelo conector (sendfile), sem passar o conteúdo pela JVM
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    // Abaixo disso uma escrita comum é mais barata que o sendfile (mesmo limite do DefaultServlet do Tomcat)
+    private static final long SENDFILE_MIN_SIZE = 48 * 1024;
+
+    // O conteúdo de um hash nunca muda: pode ficar no cache do navegador indefinidamente
+    private static final String CACHE_CONTROL = CacheControl.maxAge(Duration.ofDays(365))
+        .cachePrivate()
+        .immutable()
+        .getHeaderValue();
+
+    // Original servido no lugar de uma versão reduzida ainda não gerada: revalidado a cada uso
+    private static final String PENDING_CACHE_CONTROL = CacheControl.noCache()
+        .cachePrivate()
+        .getHeaderValue();
+
+    @Autowired
+    private AttachmentStorageService attachmentStorageService;
+
+    @Autowired
+    private ImageDerivativeService imageDerivativeService;
+
+    /**
+     * Envia um arquivo
+     */
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(summary = "Enviar arquivo", description = "Armazena o arquivo e retorna o hash usado para anexá-lo a mensagens")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "Arquivo armazenado"),
+        @ApiResponse(responseCode = "400", description = "Arquivo vazio, grande demais ou de tipo não permitido"),
+        @ApiResponse(responseCode = "401", description = "Não autorizado"),
+        @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
+    })
+    public ResponseEntity<AttachmentResponse> upload(
+            @RequestParam("file") MultipartFile file,
+            @AuthenticationPrincipal User currentUser) {
+
+        AttachmentResponse attachment = attachmentStorageService.store(file, currentUser.getId(), false);
+        return ResponseEntity.status(HttpStatus.CREATED).body(attachment);
+    }
+
+    /**
+     * Envia uma imagem pública (foto de perfil, logo ou imagem de notícia)
+     */
+    @PostMapping(value = "/images", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(summary = "Enviar imagem pública", description = "Armazena uma imagem visível a todos os usuários e gera suas versões reduzidas em segundo plano")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "Imagem armazenada"),
+        @ApiResponse(responseCode = "400", description = "Arquivo vazio, grande demais ou que não é imagem"),
+        @ApiResponse(responseCode = "401", description = "Não autorizado"),
+        @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
+    })
+    public ResponseEntity<AttachmentResponse> uploadImage(
+            @RequestParam("file") MultipartFile file,
+            @AuthenticationPrincipal User currentUser) {
+
+        AttachmentResponse image = attachmentStorageService.store(file, currentUser.getId(), true);
+        return ResponseEntity.status(HttpStatus.CREATED).body(image);
+    }
+
+    /**
+     * Baixa um arquivo, inteiro ou em uma faixa de bytes, ou uma versão reduzida de uma imagem
+     */
+    @GetMapping("/{sha256}")
+    @Operation(summary = "Baixar arquivo", description = "Retorna o arquivo ou, para imagens, a versão do tamanho pedido; aceita Range (uma faixa), If-Range e If-None-Match")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Arquivo retornado"),
+        @ApiResponse(responseCode = "206", description = "Faixa do arquivo retornada"),
+        @ApiResponse(responseCode = "304", description = "Arquivo não modificado"),
+        @ApiResponse(responseCode = "401", description = "Não autorizado"),
+        @ApiResponse(responseCode = "404", description = "Arquivo não encontrado"),
+        @ApiResponse(responseCode = "416", description = "Faixa fora do arquivo")
+    })
+    public void download(
+            @PathVariable String sha256,
+            @Parameter(description = "Nome sugerido para salvar o arquivo")
+            @RequestParam(required = false) String name,
+            @Parameter(description = "Tamanho da imagem: thumb, small, medium ou original")
+            @RequestParam(required = false) String size,
+            @AuthenticationPrincipal User currentUser,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+
+        Attachment attachment = attachmentStorageService.findReadable(sha256, currentUser.getId());
+        Path original = attachmentStorageService.resolve(attachment);
+        ImageSize imageSize = imageDerivativeService.isSupported(attachment.getContentType())
+            ? imageDerivativeService.parseSize(size)
+            : null;
+
+        if (imageSize == null) {
+            serve(original, attachment.getSize(), attachment.getContentType(), "\"" + attachment.getSha256() + "\"",
+                CACHE_CONTROL, name, request, response);
+            return;
+        }
+
+        Optional<Path> derivative = imageDerivativeService.find(attachment.getSha256(), imageSize);
+        if (derivative.isPresent()) {
+            serve(derivative.get(), Files.size(derivative.get()), imageDerivativeService.getDerivativeType(),
+                "\"" + attachment.getSha256() + "-" + imageSize.getParam() + "\"", CACHE_CONTROL, name, request, response);
+            return;
+        }
+
+        // Versão ainda não gerada: responde o original sem cache duradouro e agenda a geração
+        imageDerivativeService.schedule(attachment.getSha256(), original);
+        serve(original, attachment.getSize(), attachment.getContentType(), "\"" + attachment.getSha256() + "\"",
+            PENDING_CACHE_CONTROL, name, request, response);
+    }
+
+    private void serve(Path path, long length, String contentType, String etag, String cacheControl, String name,
+                       HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (new ServletWebRequest(request, response).checkNotModified(etag)) {
+            return;
+        }
+
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setContentType(contentType);
+        if (name != null && !name.isBlank()) {
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(name, StandardCharsets.UTF_8).build().toString());
+        }
+
+        long start = 0;
+        long end = length - 1;
+
+        HttpRange range = requestedRange(request, etag);
+        if (range != null) {
+            start = range.getRangeStart(length);
+            end = range.getRangeEnd(length);
+            // HttpRange não rejeita uma faixa que começa depois do fim do arquivo
+            if (start >= length || start > end) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                return;
+            }
+            response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+        }
+
+        long count = end - start + 1;
+        response.setContentLengthLong(count);
+        if (HttpMethod.HEAD.matches(request.getMethod())) {
+            return;
+        }
+
+        write(path, start, count, request, response);
+    }
+
+    /**
+     * Faixa pedida pelo cliente, ou null para o arquivo inteiro. Cabeçalhos inválidos, várias
+     * faixas ou If-Range de outra versão resultam no arquivo inteiro, como permite a RFC 9110.
+     */
+    private HttpRange requestedRange(HttpServletRequest request, String etag) {
+        String header = request.getHeader(HttpHeaders.RANGE);
+        if (header == null) {
+            return null;
+        }
+
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange != null && !ifRange.equals(etag)) {
+            return null;
+        }
+
+        try {
+            List<HttpRange> ranges = HttpRange.parseRanges(header);
+            return ranges.size() == 1 ? ranges.get(0) : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private void write(Path path, long start, long count, HttpServletRequest request,
+                       HttpServletResponse response) throws IOException {
+        if (count >= SENDFILE_MIN_SIZE && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            // O Tomcat exige o caminho canônico e envia o arquivo após o retorno do controller
+            request.setAttribute(SENDFILE_FILENAME, path.toRealPath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, start + count);
+            return;
+        }
+
+        // Sem sendfile: transferTo deixa a cópia com o sistema operacional sempre que o canal permite
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long sent = channel.transferTo(position, remaining, out);
+                if (sent <= 0) {
+                    break;
+                }
+                position += sent;
+                remaining -= sent;
+            }
+        }
+    }
+}
@@ -0,0 +1,272 @@
+package com.comuniquecem.controller;
+
+import com.comuniquecem.dto.request.EditMessageRequest;
+import com.comuniquecem.dto.request.ReceiptRequest;
+import com.comuniquecem.dto.request.SendMessageRequest;
+import com.comuniquecem.dto.request.StartChatRequest;
+import com.comuniquecem.dto.response.CursorPageResponse;
+import com.comuniquecem.dto.response.InboxEntryResponse;
+import com.comuniquecem.dto.response.MessageResponse;
+import com.comuniquecem.dto.response.MessageSearchResultResponse;
+import com.comuniquecem.dto.response.UnreadCountsResponse;
+import com.comuniquecem.entity.User;
+import com.comuniquecem.service.ChatReceiptService;
+import com.comuniquecem.service.ChatService;
+import com.comuniquecem.service.UnreadCounterService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Controller para conversas e mensagens
+ */
+@RestController
+@RequestMapping("/api/chats")
+@Tag(name = "Chat", description = "Endpoints para conversas e mensagens")
+@SecurityRequirement(name = "Bearer Authentication")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class ChatController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChatController.class);
+
+    @Autowired
+    private ChatService chatService;
+
+    @Autowired
+    private ChatReceiptService chatReceiptService;
+
+    @Autowired
+    private UnreadCounterService unreadCounterService;
+
+    /**
+     * Busca a caixa de entrada do usuário
+     */
+    @GetMapping
+    @Operation(summary = "Caixa de entrada", description = "Lista as conversas do usuário ordenadas pela última mensagem, com prévia e contador de não lidas")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Conversas retornadas"),
+        @ApiResponse(responseCode = "400", description = "Cursor inválido"),
+        @ApiResponse(responseCode = "401", description = "Não autorizado"),
+        @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
+    })
+    public ResponseEntity<CursorPageResponse<InboxEntryResponse>> getInbox(
+            @Parameter(description = "Cursor retornado pela página anterior")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Quantidade de conversas (máximo 100)")
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal User currentUser) {
+
+        return ResponseEntity.ok(chatService.getInbox(currentUser.getId(), cursor, size));
+    }
+
+    /**
+     * Inicia uma conversa com outro usuário ou retorna a existente
+     */
+    @PostMapping
+    @Operation(summary = "Iniciar conversa", description = "Retorna a conversa com o usuário informado, criando-a se ainda não existir")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Conversa retornada"),
+        @ApiResponse(responseCode = "400", description = "Dados inválidos"),
+        @ApiResponse(responseCode = "401", description = "Não autorizado"),
+        @ApiResponse(responseCode = "404", description = "Usuário não encontrado"),
+        @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
+    })
+    public ResponseEntity<InboxEntryResponse> startChat(
+            @Valid @RequestBody StartChatRequest request,
+            @AuthenticationPrincipal User currentUser) {
+
+        InboxEntryResponse chat = chatService.getOrCreateChat(
+            currentUser.getId(), currentUser.getInstitution().getId(), request.getUserId());
+        return ResponseEntity.ok(chat);
+    }
+
+    /**
+     * Busca textual nas mensagens do usuário
+     */
+    @GetMapping("/search")
+    @Operation(summary = "Buscar mensagens", description = "Busca textual nas conversas do usuário, ordenada por relevância, com trechos destacados")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Resultados retornados"),
+        @ApiResponse(responseCode = "400", description = "Termo de busca ou cursor inválido"),
+        @ApiResponse(responseCode = "401", description = "Não autorizado"),
+        @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
+    })
+    public ResponseEntity<CursorPageResponse<MessageSearchResultResponse>> searchMessages(
+            @Parameter(description = "Termos de busca (aceita \"frase exata\", OR e -exclusão)", required = true)
+            @RequestParam("q") String query,
+            @Parameter(description = "Restringe a busca a uma conversa")
+            @RequestParam(required = false) UUID chatId,
+            @Parameter(description = "Cursor retornado pela página anterior")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Quantidade de resultados (máximo 50)")
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal User currentUser) {
+
+        return ResponseEntity.ok(chatService.searchMessages(currentUser.getId(), query, chatId, cursor, size));
+    }
+
+    /**
+     * Busca os contadores de não lidas de todas as conversas do usuário
+     */
+    @GetMapping("/unread")
+    @Operation(summary = "Mensagens não lidas", description = "Retorna o total e o contador por conversa das mensagens não lidas do usuário")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Contadores retornados"),
+        @ApiResponse(responseCode = "401", description = "Não autorizado"),
+        @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
+    })
+    public ResponseEntity<UnreadCountsResponse> getUnreadCounts(@AuthenticationPrincipal User currentUser) {
+        return ResponseEntity.ok(unreadCounterService.getUnreadCounts(currentUser.getId()));
+    }
+
+    /**
+     * Busca o histórico de mensagens da conversa
+     */
+    @GetMapping("/{chatId}/messages")
+    @Operation(summary = "Histórico da conversa", description = "Lista mensagens anteriores ao instante informado, da mais recente para a mais antiga")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Mensagens retornadas"),
+        @ApiResponse(responseCode = "401", description = "Não autorizado"),
+        @ApiResponse(responseCode = "404", description = "Conversa não encontrada"),
+        @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
+    })
+    public ResponseEntity<List<MessageResponse>> getMessages(
+            @Parameter(description = "ID da conversa", required = true)
+            @PathVariable UUID chatId,
+            @Parameter(description = "Retorna mensagens enviadas antes deste instante")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime before,
+            @Parameter(description = "Quantidade de mensagens (máximo 100)")
+            @RequestParam(defaultValue = "50") int size,
+            @AuthenticationPrincipal User currentUser) {
+
+        List<MessageResponse> messages = chatService.getMessages(chatId, currentUser.getId(), before, size);
+        return ResponseEntity.ok(messages);
+    }
+
+    /**
+     * Envia uma mensagem na conversa
+     */
+    @PostMapping("/{chatId}/messages")
+    @Operation(summary = "Enviar mensagem", description = "Envia uma mensagem de texto na conversa")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "Mensagem enviada"),
+        @ApiResponse(responseCode = "400", description = "Dados inválidos"),
+        @ApiResponse(responseCode = "401", description = "Não autorizado"),
+        @ApiResponse(responseCode = "404", description = "Conversa não encontrada"),
+        @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
+    })
+    public ResponseEntity<MessageResponse> sendMessage(
+            @Parameter(description = "ID da conversa", required = true)
+            @PathVariable UUID chatId,
+            @Valid @RequestBody SendMessageRequest request,
+            @AuthenticationPrincipal User currentUser) {
+
+        logger.debug("Enviando mensagem na conversa: {}", chatId);
+        MessageResponse message = chatService.sendMessage(chatId, currentUser.getId(), request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(message);
+    }
+
+    /**
+     * Edita uma mensagem enviada pelo usuário
+     */
+    @PutMapping("/{chatId}/messages/{messageId}")
+    @Operation(summary = "Editar mensagem", description = "Edita o texto de uma mensagem própria até 15 minutos após o envio")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Mensagem editada"),
+        @ApiResponse(responseCode = "400", description = "Dados inválidos ou prazo de edição expirado"),
+        @ApiResponse(responseCode = "401", description = "Não autorizado"),
+        @ApiResponse(responseCode = "404", description = "Conversa ou mensagem não encontrada"),
+        @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
+    })
+    public ResponseEntity<MessageResponse> editMessage(
+            @Parameter(description = "ID da conversa", required = true)
+            @PathVariable UUID chatId,
+            @Parameter(description = "ID da mensagem", required = true)
+            @PathVariable UUID messageId,
+            @Valid @RequestBody EditMessageRequest request,
+            @AuthenticationPrincipal User currentUser) {
+
+        return ResponseEntity.ok(chatService.editMessage(chatId, currentUser.getId(), messageId, request.getContent()));
+    }
+
+    /**
+     * Apaga uma mensagem enviada pelo usuário
+     */
+    @DeleteMapping("/{chatId}/messages/{messageId}")
+    @Operation(summary = "Apagar mensagem", description = "Apaga uma mensagem própria para os dois participantes")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "204", description = "Mensagem apagada"),
+        @ApiResponse(responseCode = "400", description = "Mensagem de outro participante"),
+        @ApiResponse(responseCode = "401", description = "Não autorizado"),
+        @ApiResponse(responseCode = "404", description = "Conversa ou mensagem não encontrada"),
+        @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
+    })
+    public ResponseEntity<Void> deleteMessage(
+            @Parameter(description = "ID da conversa", required = true)
+            @PathVariable UUID chatId,
+            @Parameter(description = "ID da mensagem", required = true)
+            @PathVariable UUID messageId,
+            @AuthenticationPrincipal User currentUser) {
+
+        chatService.deleteMessage(chatId, currentUser.getId(), messageId);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Confirma entrega das mensagens até a mensagem informada
+     */
+    @PostMapping("/{chatId}/delivered")
+    @Operation(summary = "Confirmar entrega", description = "Confirma o recebimento das mensagens da conversa até a mensagem informada")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "202", description = "Confirmação registrada"),
+        @ApiResponse(responseCode = "401", description = "Não autorizado"),
+        @ApiResponse(responseCode = "404", description = "Conversa ou mensagem não encontrada"),
+        @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
+    })
+    public ResponseEntity<Void> markDelivered(
+            @Parameter(description = "ID da conversa", required = true)
+            @PathVariable UUID chatId,
+            @Valid @RequestBody ReceiptRequest request,
+            @AuthenticationPrincipal User currentUser) {
+
+        chatReceiptService.markDelivered(chatId, currentUser.getId(), request.getMessageId());
+        return ResponseEntity.accepted().build();
+    }
+
+    /**
+     * Confirma leitura das mensagens até a mensagem informada
+     */
+    @PostMapping("/{chatId}/read")
+    @Operation(summary = "Confirmar leitura", description = "Confirma a leitura das mensagens da conversa até a mensagem informada")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "202", description = "Confirmação registrada"),
+        @ApiResponse(responseCode = "401", description = "Não autorizado"),
+        @ApiResponse(responseCode = "404", description = "Conversa ou mensagem não encontrada"),
+        @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
+    })
+    public ResponseEntity<Void> markRead(
+            @Parameter(description = "ID da conversa", required = true)
+            @PathVariable UUID chatId,
+            @Valid @RequestBody ReceiptRequest request,
+            @AuthenticationPrincipal User currentUser) {
+
+        chatReceiptService.markRead(chatId, currentUser.getId(), request.getMessageId());
+        return ResponseEntity.accepted().build();
+    }
+}
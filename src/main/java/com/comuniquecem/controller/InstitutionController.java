@@ -0,0 +1,59 @@
+package com.comuniquecem.controller;
+
+import com.comuniquecem.dto.response.InstitutionSummaryResponse;
+import com.comuniquecem.entity.User;
+import com.comuniquecem.service.InstitutionService;
+import com.comuniquecem.util.EntityTag;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.UUID;
+
+/**
+ * Controller para instituições
+ */
+@RestController
+@RequestMapping("/api/institutions")
+@Tag(name = "Instituições", description = "Endpoints para consulta de instituições")
+@SecurityRequirement(name = "Bearer Authentication")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class InstitutionController {
+
+    @Autowired
+    private InstitutionService institutionService;
+
+    /**
+     * Busca instituição por ID
+     */
+    @GetMapping("/{id}")
+    @Operation(summary = "Buscar instituição por ID", description = "Retorna a instituição do usuário. Suporta If-None-Match/If-Modified-Since (304).")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Instituição encontrada"),
+        @ApiResponse(responseCode = "304", description = "Instituição não alterada"),
+        @ApiResponse(responseCode = "401", description = "Não autorizado"),
+        @ApiResponse(responseCode = "404", description = "Instituição não encontrada"),
+        @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
+    })
+    public ResponseEntity<InstitutionSummaryResponse> getInstitution(
+            @Parameter(description = "ID da instituição", required = true)
+            @PathVariable UUID id,
+            @AuthenticationPrincipal User currentUser,
+            WebRequest webRequest) {
+
+        EntityTag tag = institutionService.getInstitutionTag(id, currentUser);
+        if (tag != null && tag.isNotModified(webRequest)) {
+            return null;
+        }
+
+        return ResponseEntity.ok(institutionService.findById(id, currentUser));
+    }
+}
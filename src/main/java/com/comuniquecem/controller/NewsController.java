@@ -0,0 +1,182 @@
+package com.comuniquecem.controller;
+
+import com.comuniquecem.dto.request.NewsRequest;
+import com.comuniquecem.dto.response.NewsFeedResponse;
+import com.comuniquecem.dto.response.NewsResponse;
+import com.comuniquecem.dto.response.NewsViewsResponse;
+import com.comuniquecem.entity.User;
+import com.comuniquecem.service.NewsService;
+import com.comuniquecem.util.EntityTag;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.UUID;
+
+/**
+ * Controller para notícias da instituição
+ */
+@RestController
+@RequestMapping("/api/news")
+@Tag(name = "Notícias", description = "Endpoints para o feed e a publicação de notícias")
+@SecurityRequirement(name = "Bearer Authentication")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class NewsController {
+
+    @Autowired
+    private NewsService newsService;
+
+    /**
+     * Busca o feed de notícias da instituição do usuário
+     */
+    @GetMapping
+    @Operation(summary = "Feed de notícias", description = "Lista as notícias publicadas da instituição, da mais recente para a mais antiga, com os destaques fixados na primeira página. Suporta If-None-Match (ETag fraca, 304).")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Notícias retornadas"),
+        @ApiResponse(responseCode = "304", description = "Feed não alterado"),
+        @ApiResponse(responseCode = "400", description = "Cursor inválido"),
+        @ApiResponse(responseCode = "401", description = "Não autorizado"),
+        @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
+    })
+    public ResponseEntity<NewsFeedResponse> getFeed(
+            @Parameter(description = "Cursor retornado pela página anterior")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Quantidade de notícias (máximo 50)")
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal User currentUser,
+            WebRequest webRequest) {
+
+        UUID institutionId = currentUser.getInstitution().getId();
+        if (newsService.getFeedTag(institutionId).isNotModified(webRequest)) {
+            return null;
+        }
+
+        return ResponseEntity.ok(newsService.getFeed(institutionId, cursor, size));
+    }
+
+    /**
+     * Busca uma notícia
+     */
+    @GetMapping("/{id}")
+    @Operation(summary = "Buscar notícia", description = "Retorna a notícia completa. Suporta If-None-Match/If-Modified-Since (304).")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Notícia encontrada"),
+        @ApiResponse(responseCode = "304", description = "Notícia não alterada"),
+        @ApiResponse(responseCode = "401", description = "Não autorizado"),
+        @ApiResponse(responseCode = "404", description = "Notícia não encontrada"),
+        @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
+    })
+    public ResponseEntity<NewsResponse> getNews(
+            @Parameter(description = "ID da notícia", required = true)
+            @PathVariable UUID id,
+            @AuthenticationPrincipal User currentUser,
+            WebRequest webRequest) {
+
+        // A leitura respondida com 304 também conta como visualização
+        EntityTag tag = newsService.getNewsTag(id, currentUser);
+        if (tag != null && tag.isNotModified(webRequest)) {
+            newsService.recordView(id, currentUser);
+            return null;
+        }
+
+        return ResponseEntity.ok(newsService.getNews(id, currentUser));
+    }
+
+    /**
+     * Busca as visualizações de uma notícia
+     */
+    @GetMapping("/{id}/views")
+    @Operation(summary = "Visualizações da notícia", description = "Retorna o total de visualizações e a estimativa de leitores únicos (somente o autor ou um administrador)")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Visualizações retornadas"),
+        @ApiResponse(responseCode = "400", description = "Notícia de outro autor"),
+        @ApiResponse(responseCode = "401", description = "Não autorizado"),
+        @ApiResponse(responseCode = "403", description = "Acesso negado"),
+        @ApiResponse(responseCode = "404", description = "Notícia não encontrada"),
+        @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
+    })
+    @PreAuthorize("hasAnyRole('TEACHER', 'ADMIN', 'SUPER_ADMIN')")
+    public ResponseEntity<NewsViewsResponse> getViews(
+            @Parameter(description = "ID da notícia", required = true)
+            @PathVariable UUID id,
+            @AuthenticationPrincipal User currentUser) {
+
+        return ResponseEntity.ok(newsService.getViews(id, currentUser));
+    }
+
+    /**
+     * Cria uma notícia
+     */
+    @PostMapping
+    @Operation(summary = "Criar notícia", description = "Cria uma notícia na instituição do autor, como rascunho ou já publicada")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "Notícia criada"),
+        @ApiResponse(responseCode = "400", description = "Dados inválidos"),
+        @ApiResponse(responseCode = "401", description = "Não autorizado"),
+        @ApiResponse(responseCode = "403", description = "Acesso negado"),
+        @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
+    })
+    @PreAuthorize("hasAnyRole('TEACHER', 'ADMIN', 'SUPER_ADMIN')")
+    public ResponseEntity<NewsResponse> createNews(
+            @Valid @RequestBody NewsRequest request,
+            @AuthenticationPrincipal User currentUser) {
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(newsService.createNews(currentUser, request));
+    }
+
+    /**
+     * Edita uma notícia
+     */
+    @PutMapping("/{id}")
+    @Operation(summary = "Editar notícia", description = "Edita uma notícia (somente o autor ou um administrador)")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Notícia editada"),
+        @ApiResponse(responseCode = "400", description = "Dados inválidos"),
+        @ApiResponse(responseCode = "401", description = "Não autorizado"),
+        @ApiResponse(responseCode = "403", description = "Acesso negado"),
+        @ApiResponse(responseCode = "404", description = "Notícia não encontrada"),
+        @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
+    })
+    @PreAuthorize("hasAnyRole('TEACHER', 'ADMIN', 'SUPER_ADMIN')")
+    public ResponseEntity<NewsResponse> updateNews(
+            @Parameter(description = "ID da notícia", required = true)
+            @PathVariable UUID id,
+            @Valid @RequestBody NewsRequest request,
+            @AuthenticationPrincipal User currentUser) {
+
+        return ResponseEntity.ok(newsService.updateNews(id, currentUser, request));
+    }
+
+    /**
+     * Publica um rascunho
+     */
+    @PostMapping("/{id}/publish")
+    @Operation(summary = "Publicar notícia", description = "Publica um rascunho no feed da instituição")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Notícia publicada"),
+        @ApiResponse(responseCode = "400", description = "Notícia já publicada"),
+        @ApiResponse(responseCode = "401", description = "Não autorizado"),
+        @ApiResponse(responseCode = "403", description = "Acesso negado"),
+        @ApiResponse(responseCode = "404", description = "Notícia não encontrada"),
+        @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
+    })
+    @PreAuthorize("hasAnyRole('TEACHER', 'ADMIN', 'SUPER_ADMIN')")
+    public ResponseEntity<NewsResponse> publishNews(
+            @Parameter(description = "ID da notícia", required = true)
+            @PathVariable UUID id,
+            @AuthenticationPrincipal User currentUser) {
+
+        return ResponseEntity.ok(newsService.publishNews(id, currentUser));
+    }
+}
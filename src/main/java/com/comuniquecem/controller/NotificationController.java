@@ -0,0 +1,87 @@
+package com.comuniquecem.controller;
+
+import com.comuniquecem.dto.response.NotificationPageResponse;
+import com.comuniquecem.entity.User;
+import com.comuniquecem.service.NotificationService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+/**
+ * Controller para as notificações do usuário
+ */
+@RestController
+@RequestMapping("/api/notifications")
+@Tag(name = "Notificações", description = "Endpoints para as notificações do usuário")
+@SecurityRequirement(name = "Bearer Authentication")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class NotificationController {
+
+    @Autowired
+    private NotificationService notificationService;
+
+    /**
+     * Lista as notificações do usuário
+     */
+    @GetMapping
+    @Operation(summary = "Listar notificações", description = "Lista as notificações do usuário, da mais recente para a mais antiga, com o total de não lidas")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Notificações retornadas"),
+        @ApiResponse(responseCode = "400", description = "Cursor inválido"),
+        @ApiResponse(responseCode = "401", description = "Não autorizado"),
+        @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
+    })
+    public ResponseEntity<NotificationPageResponse> getNotifications(
+            @Parameter(description = "Cursor retornado pela página anterior")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Quantidade de notificações (máximo 100)")
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal User currentUser) {
+
+        return ResponseEntity.ok(notificationService.getNotifications(currentUser.getId(), cursor, size));
+    }
+
+    /**
+     * Marca uma notificação como lida
+     */
+    @PostMapping("/{id}/read")
+    @Operation(summary = "Marcar notificação como lida", description = "Marca uma notificação do usuário como lida")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "204", description = "Notificação marcada como lida"),
+        @ApiResponse(responseCode = "401", description = "Não autorizado"),
+        @ApiResponse(responseCode = "404", description = "Notificação não encontrada"),
+        @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
+    })
+    public ResponseEntity<Void> markRead(
+            @Parameter(description = "ID da notificação", required = true)
+            @PathVariable UUID id,
+            @AuthenticationPrincipal User currentUser) {
+
+        notificationService.markRead(id, currentUser.getId());
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Marca todas as notificações como lidas
+     */
+    @PostMapping("/read-all")
+    @Operation(summary = "Marcar todas como lidas", description = "Marca todas as notificações do usuário como lidas")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "204", description = "Notificações marcadas como lidas"),
+        @ApiResponse(responseCode = "401", description = "Não autorizado"),
+        @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
+    })
+    public ResponseEntity<Void> markAllRead(@AuthenticationPrincipal User currentUser) {
+        notificationService.markAllRead(currentUser.getId());
+        return ResponseEntity.noContent().build();
+    }
+}
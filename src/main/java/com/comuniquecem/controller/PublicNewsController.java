@@ -0,0 +1,130 @@
+package com.comuniquecem.controller;
+
+import com.comuniquecem.service.PublicNewsService;
+import com.comuniquecem.util.EntityTag;
+import com.comuniquecem.util.PrecompressedBody;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Controller para as notícias públicas das instituições (sem autenticação).
+ *
+ * As respostas são idênticas para qualquer visitante e podem ser guardadas por um proxy
+ * reverso: Cache-Control public, ETag por versão e codificação, e Vary: Accept-Encoding.
+ */
+@RestController
+@RequestMapping("/api/public/institutions/{code}/news")
+@Tag(name = "Notícias públicas", description = "Endpoints somente leitura para o portal dos responsáveis")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class PublicNewsController {
+
+    @Autowired
+    private PublicNewsService publicNewsService;
+
+    @Value("${news.public.max-age-seconds:60}")
+    private long maxAgeSeconds;
+
+    @Value("${news.public.stale-while-revalidate-seconds:30}")
+    private long staleWhileRevalidateSeconds;
+
+    private String cacheControl;
+
+    @PostConstruct
+    void init() {
+        cacheControl = CacheControl.maxAge(Duration.ofSeconds(maxAgeSeconds))
+            .cachePublic()
+            .staleWhileRevalidate(Duration.ofSeconds(staleWhileRevalidateSeconds))
+            .getHeaderValue();
+    }
+
+    /**
+     * Lista as notícias publicadas da instituição
+     */
+    @GetMapping
+    @Operation(summary = "Notícias públicas", description = "Lista as notícias publicadas da instituição, da mais recente para a mais antiga. Suporta If-None-Match (304) e gzip.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Notícias retornadas"),
+        @ApiResponse(responseCode = "304", description = "Página não alterada"),
+        @ApiResponse(responseCode = "400", description = "Página fora do limite"),
+        @ApiResponse(responseCode = "404", description = "Instituição não encontrada"),
+        @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
+    })
+    public ResponseEntity<byte[]> getNewsPage(
+            @Parameter(description = "Código da instituição", required = true)
+            @PathVariable String code,
+            @Parameter(description = "Número da página (começa em 0)")
+            @RequestParam(defaultValue = "0") int page,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            WebRequest webRequest,
+            HttpServletResponse response) {
+
+        UUID institutionId = publicNewsService.findInstitutionId(code);
+        EntityTag tag = publicNewsService.getPageTag(institutionId, page);
+
+        return respond(tag, acceptEncoding, webRequest, response,
+            current -> publicNewsService.getPage(institutionId, page, current));
+    }
+
+    /**
+     * Busca uma notícia publicada da instituição
+     */
+    @GetMapping("/{id}")
+    @Operation(summary = "Notícia pública", description = "Retorna uma notícia publicada da instituição. Suporta If-None-Match (304) e gzip.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Notícia encontrada"),
+        @ApiResponse(responseCode = "304", description = "Notícia não alterada"),
+        @ApiResponse(responseCode = "404", description = "Instituição ou notícia não encontrada"),
+        @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
+    })
+    public ResponseEntity<byte[]> getNews(
+            @Parameter(description = "Código da instituição", required = true)
+            @PathVariable String code,
+            @Parameter(description = "ID da notícia", required = true)
+            @PathVariable UUID id,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            WebRequest webRequest,
+            HttpServletResponse response) {
+
+        UUID institutionId = publicNewsService.findInstitutionId(code);
+        EntityTag tag = publicNewsService.getNewsTag(institutionId, id);
+
+        return respond(tag, acceptEncoding, webRequest, response,
+            current -> publicNewsService.getNews(institutionId, id, current));
+    }
+
+    private ResponseEntity<byte[]> respond(EntityTag tag, String acceptEncoding, WebRequest webRequest,
+                                           HttpServletResponse response, Function<EntityTag, PrecompressedBody> body) {
+        boolean gzip = PrecompressedBody.acceptsGzip(acceptEncoding);
+
+        // Definidos antes da verificação para acompanharem também a resposta 304
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        if (PrecompressedBody.tagFor(tag, gzip).isNotModified(webRequest)) {
+            return null;
+        }
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON);
+        if (gzip) {
+            builder.header(HttpHeaders.CONTENT_ENCODING, PrecompressedBody.GZIP);
+        }
+        return builder.body(body.apply(tag).content(gzip));
+    }
+}
@@ -0,0 +1,388 @@
+package com.comuniquecem.controller;
+
+import com.comuniquecem.dto.request.LiveQuizAnswerRequest;
+import com.comuniquecem.dto.request.LiveQuizRequest;
+import com.comuniquecem.dto.request.QuestionAnswerRequest;
+import com.comuniquecem.dto.request.QuestionRequest;
+import com.comuniquecem.dto.request.QuizRequest;
+import com.comuniquecem.dto.response.LeaderboardEntryResponse;
+import com.comuniquecem.dto.response.LeaderboardResponse;
+import com.comuniquecem.dto.response.LiveQuizResponse;
+import com.comuniquecem.dto.response.LiveQuizResultsResponse;
+import com.comuniquecem.dto.response.PracticeQuestionResponse;
+import com.comuniquecem.dto.response.QuestionAnswerResponse;
+import com.comuniquecem.dto.response.QuestionImportResponse;
+import com.comuniquecem.dto.response.QuestionResponse;
+import com.comuniquecem.dto.response.QuestionStatsResponse;
+import com.comuniquecem.dto.response.QuizResponse;
+import com.comuniquecem.entity.User;
+import com.comuniquecem.service.LeaderboardService;
+import com.comuniquecem.service.LiveQuizService;
+import com.comuniquecem.service.QuestionImportService;
+import com.comuniquecem.service.QuestionService;
+import com.comuniquecem.service.QuizService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Controller para as questões de quiz da instituição
+ */
+@RestController
+@RequestMapping("/api/questions")
+@Tag(name = "Questões", description = "Endpoints para o cadastro de questões, a geração de quizzes e as respostas")
+@SecurityRequirement(name = "Bearer Authentication")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class QuestionController {
+
+    @Autowired
+    private QuizService quizService;
+
+    @Autowired
+    private QuestionService questionService;
+
+    @Autowired
+    private LiveQuizService liveQuizService;
+
+    @Autowired
+    private QuestionImportService questionImportService;
+
+    @Autowired
+    private LeaderboardService leaderboardService;
+
+    /**
+     * Gera um quiz com questões da instituição
+     */
+    @PostMapping("/quiz")
+    @Operation(summary = "Gerar quiz", description = "Sorteia questões distintas da instituição na mistura de dificuldades pedida (pesos por dificuldade de 1 a 5). Retorna menos questões se não houver o suficiente.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Quiz gerado"),
+        @ApiResponse(responseCode = "400", description = "Dados inválidos"),
+        @ApiResponse(responseCode = "401", description = "Não autorizado"),
+        @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
+    })
+    public ResponseEntity<QuizResponse> generateQuiz(
+            @Valid @RequestBody QuizRequest request,
+            @AuthenticationPrincipal User currentUser) {
+
+        return ResponseEntity.ok(quizService.generateQuiz(currentUser, request));
+    }
+
+    /**
+     * Próxima questão da prática adaptativa do aluno
+     */
+    @GetMapping("/practice/next")
+    @Operation(summary = "Próxima questão de prática", description = "Escolhe a próxima questão para o aluno: a menor dificuldade ainda não dominada, priorizando questões erradas (fora do intervalo de revisão) e depois as nunca respondidas. Responda com POST /api/questions/{id}/answers.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Questão escolhida"),
+        @ApiResponse(responseCode = "401", description = "Não autorizado"),
+        @ApiResponse(responseCode = "404", description = "Nenhuma questão disponível"),
+        @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
+    })
+    public ResponseEntity<PracticeQuestionResponse> nextPracticeQuestion(
+            @AuthenticationPrincipal User currentUser) {
+
+        return ResponseEntity.ok(quizService.nextPracticeQuestion(currentUser));
+    }
+
+    /**
+     * Ranking de pontuação da instituição
+     */
+    @GetMapping("/leaderboard")
+    @Operation(summary = "Ranking da instituição", description = "Retorna os primeiros colocados da instituição por pontos de quiz (cada acerto vale a dificuldade da questão vezes quiz.leaderboard.points-per-level) e a posição do usuário.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Ranking retornado"),
+        @ApiResponse(responseCode = "401", description = "Não autorizado"),
+        @ApiResponse(responseCode = "503", description = "Ranking indisponível no momento"),
+        @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
+    })
+    public ResponseEntity<LeaderboardResponse> getLeaderboard(
+            @Parameter(description = "Quantidade de colocados (padrão 10, máximo 100)")
+            @RequestParam(required = false) Integer size,
+            @AuthenticationPrincipal User currentUser) {
+
+        return ResponseEntity.ok(leaderboardService.getLeaderboard(currentUser, size));
+    }
+
+    /**
+     * Posição do usuário no ranking da instituição
+     */
+    @GetMapping("/leaderboard/me")
+    @Operation(summary = "Minha posição no ranking", description = "Retorna a posição (a partir de 1, nula se ainda não pontuou) e os pontos do usuário no ranking da instituição")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Posição retornada"),
+        @ApiResponse(responseCode = "401", description = "Não autorizado"),
+        @ApiResponse(responseCode = "503", description = "Ranking indisponível no momento"),
+        @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
+    })
+    public ResponseEntity<LeaderboardEntryResponse> getStanding(
+            @AuthenticationPrincipal User currentUser) {
+
+        return ResponseEntity.ok(leaderboardService.getStanding(currentUser));
+    }
+
+    /**
+     * Busca uma questão com a resposta correta
+     */
+    @GetMapping("/{id}")
+    @Operation(summary = "Buscar questão", description = "Retorna a questão completa, com a resposta correta")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Questão encontrada"),
+        @ApiResponse(responseCode = "401", description = "Não autorizado"),
+        @ApiResponse(responseCode = "403", description = "Acesso negado"),
+        @ApiResponse(responseCode = "404", description = "Questão não encontrada"),
+        @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
+    })
+    @PreAuthorize("hasAnyRole('TEACHER', 'ADMIN', 'SUPER_ADMIN')")
+    public ResponseEntity<QuestionResponse> getQuestion(
+            @Parameter(description = "ID da questão", required = true)
+            @PathVariable UUID id,
+            @AuthenticationPrincipal User currentUser) {
+
+        return ResponseEntity.ok(questionService.getQuestion(id, currentUser));
+    }
+
+    /**
+     * Cria uma questão
+     */
+    @PostMapping
+    @Operation(summary = "Criar questão", description = "Cria uma questão na instituição do autor")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "Questão criada"),
+        @ApiResponse(responseCode = "400", description = "Dados inválidos"),
+        @ApiResponse(responseCode = "401", description = "Não autorizado"),
+        @ApiResponse(responseCode = "403", description = "Acesso negado"),
+        @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
+    })
+    @PreAuthorize("hasAnyRole('TEACHER', 'ADMIN', 'SUPER_ADMIN')")
+    public ResponseEntity<QuestionResponse> createQuestion(
+            @Valid @RequestBody QuestionRequest request,
+            @AuthenticationPrincipal User currentUser) {
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(questionService.createQuestion(currentUser, request));
+    }
+
+    /**
+     * Importa questões de uma planilha CSV ou de um arquivo JSON
+     */
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(summary = "Importar questões", description = "Importa questões de um CSV (cabeçalho com title, option1 a option4, correctAnswer e, opcionalmente, explanation e difficultyLevel; vírgula ou ponto e vírgula) ou de uma lista JSON com os campos do cadastro. Linhas inválidas são recusadas sem interromper o arquivo.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Importação concluída, com as linhas recusadas"),
+        @ApiResponse(responseCode = "400", description = "Arquivo vazio, ilegível ou sem as colunas obrigatórias"),
+        @ApiResponse(responseCode = "401", description = "Não autorizado"),
+        @ApiResponse(responseCode = "403", description = "Acesso negado"),
+        @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
+    })
+    @PreAuthorize("hasAnyRole('TEACHER', 'ADMIN', 'SUPER_ADMIN')")
+    public ResponseEntity<QuestionImportResponse> importQuestions(
+            @RequestParam("file") MultipartFile file,
+            @AuthenticationPrincipal User currentUser) {
+
+        return ResponseEntity.ok(questionImportService.importQuestions(currentUser, file));
+    }
+
+    /**
+     * Edita uma questão
+     */
+    @PutMapping("/{id}")
+    @Operation(summary = "Editar questão", description = "Edita uma questão (somente o autor ou um administrador)")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Questão editada"),
+        @ApiResponse(responseCode = "400", description = "Dados inválidos"),
+        @ApiResponse(responseCode = "401", description = "Não autorizado"),
+        @ApiResponse(responseCode = "403", description = "Acesso negado"),
+        @ApiResponse(responseCode = "404", description = "Questão não encontrada"),
+        @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
+    })
+    @PreAuthorize("hasAnyRole('TEACHER', 'ADMIN', 'SUPER_ADMIN')")
+    public ResponseEntity<QuestionResponse> updateQuestion(
+            @Parameter(description = "ID da questão", required = true)
+            @PathVariable UUID id,
+            @Valid @RequestBody QuestionRequest request,
+            @AuthenticationPrincipal User currentUser) {
+
+        return ResponseEntity.ok(questionService.updateQuestion(id, currentUser, request));
+    }
+
+    /**
+     * Desativa uma questão
+     */
+    @DeleteMapping("/{id}")
+    @Operation(summary = "Desativar questão", description = "Desativa uma questão (somente o autor ou um administrador); as respostas já registradas são mantidas")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "204", description = "Questão desativada"),
+        @ApiResponse(responseCode = "400", description = "Questão de outro autor"),
+        @ApiResponse(responseCode = "401", description = "Não autorizado"),
+        @ApiResponse(responseCode = "403", description = "Acesso negado"),
+        @ApiResponse(responseCode = "404", description = "Questão não encontrada"),
+        @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
+    })
+    @PreAuthorize("hasAnyRole('TEACHER', 'ADMIN', 'SUPER_ADMIN')")
+    public ResponseEntity<Void> deactivateQuestion(
+            @Parameter(description = "ID da questão", required = true)
+            @PathVariable UUID id,
+            @AuthenticationPrincipal User currentUser) {
+
+        questionService.deactivateQuestion(id, currentUser);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Responde uma questão
+     */
+    @PostMapping("/{id}/answers")
+    @Operation(summary = "Responder questão", description = "Registra a resposta do usuário e retorna se ele acertou, a resposta correta e a explicação")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Resposta registrada"),
+        @ApiResponse(responseCode = "400", description = "Dados inválidos"),
+        @ApiResponse(responseCode = "401", description = "Não autorizado"),
+        @ApiResponse(responseCode = "404", description = "Questão não encontrada"),
+        @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
+    })
+    public ResponseEntity<QuestionAnswerResponse> answer(
+            @Parameter(description = "ID da questão", required = true)
+            @PathVariable UUID id,
+            @Valid @RequestBody QuestionAnswerRequest request,
+            @AuthenticationPrincipal User currentUser) {
+
+        return ResponseEntity.ok(quizService.answer(id, currentUser, request));
+    }
+
+    /**
+     * Busca as estatísticas de respostas de uma questão
+     */
+    @GetMapping("/{id}/stats")
+    @Operation(summary = "Estatísticas da questão", description = "Retorna o total de respostas, acertos e a taxa de acerto, incluindo respostas recém-recebidas")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Estatísticas retornadas"),
+        @ApiResponse(responseCode = "401", description = "Não autorizado"),
+        @ApiResponse(responseCode = "403", description = "Acesso negado"),
+        @ApiResponse(responseCode = "404", description = "Questão não encontrada"),
+        @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
+    })
+    @PreAuthorize("hasAnyRole('TEACHER', 'ADMIN', 'SUPER_ADMIN')")
+    public ResponseEntity<QuestionStatsResponse> getStats(
+            @Parameter(description = "ID da questão", required = true)
+            @PathVariable UUID id,
+            @AuthenticationPrincipal User currentUser) {
+
+        return ResponseEntity.ok(quizService.getStats(id, currentUser));
+    }
+
+    /**
+     * Inicia um quiz ao vivo
+     */
+    @PostMapping("/live")
+    @Operation(summary = "Iniciar quiz ao vivo", description = "Envia a questão aos alunos conectados (evento live_quiz_started) e recebe respostas durante a duração (padrão de 30 segundos). O histograma é enviado ao professor pelo WebSocket (live_quiz_results).")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "Quiz ao vivo iniciado"),
+        @ApiResponse(responseCode = "400", description = "Dados inválidos"),
+        @ApiResponse(responseCode = "401", description = "Não autorizado"),
+        @ApiResponse(responseCode = "403", description = "Acesso negado"),
+        @ApiResponse(responseCode = "404", description = "Questão não encontrada"),
+        @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
+    })
+    @PreAuthorize("hasAnyRole('TEACHER', 'ADMIN', 'SUPER_ADMIN')")
+    public ResponseEntity<LiveQuizResponse> startLiveQuiz(
+            @Valid @RequestBody LiveQuizRequest request,
+            @AuthenticationPrincipal User currentUser) {
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(liveQuizService.start(currentUser, request));
+    }
+
+    /**
+     * Lista os quizzes ao vivo abertos da instituição
+     */
+    @GetMapping("/live")
+    @Operation(summary = "Quizzes ao vivo abertos", description = "Lista os quizzes ao vivo em andamento na instituição, para quem conectou depois do início")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Quizzes retornados"),
+        @ApiResponse(responseCode = "401", description = "Não autorizado"),
+        @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
+    })
+    public ResponseEntity<List<LiveQuizResponse>> getOpenLiveQuizzes(
+            @AuthenticationPrincipal User currentUser) {
+
+        return ResponseEntity.ok(liveQuizService.getOpenSessions(currentUser));
+    }
+
+    /**
+     * Responde um quiz ao vivo
+     */
+    @PostMapping("/live/{sessionId}/answers")
+    @Operation(summary = "Responder quiz ao vivo", description = "Registra a opção escolhida (1 a 4), uma vez por aluno. Também disponível pelo WebSocket (live_quiz_answer).")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "204", description = "Resposta registrada"),
+        @ApiResponse(responseCode = "400", description = "Quiz encerrado ou resposta já registrada"),
+        @ApiResponse(responseCode = "401", description = "Não autorizado"),
+        @ApiResponse(responseCode = "404", description = "Quiz ao vivo não encontrado"),
+        @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
+    })
+    public ResponseEntity<Void> answerLiveQuiz(
+            @Parameter(description = "ID do quiz ao vivo", required = true)
+            @PathVariable UUID sessionId,
+            @Valid @RequestBody LiveQuizAnswerRequest request,
+            @AuthenticationPrincipal User currentUser) {
+
+        liveQuizService.answer(sessionId, currentUser, request.getOption());
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Encerra um quiz ao vivo antes do fim da duração
+     */
+    @PostMapping("/live/{sessionId}/close")
+    @Operation(summary = "Encerrar quiz ao vivo", description = "Encerra o quiz ao vivo (somente o professor que o iniciou ou um administrador) e retorna o resultado")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Quiz ao vivo encerrado"),
+        @ApiResponse(responseCode = "400", description = "Quiz de outro professor"),
+        @ApiResponse(responseCode = "401", description = "Não autorizado"),
+        @ApiResponse(responseCode = "403", description = "Acesso negado"),
+        @ApiResponse(responseCode = "404", description = "Quiz ao vivo não encontrado"),
+        @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
+    })
+    @PreAuthorize("hasAnyRole('TEACHER', 'ADMIN', 'SUPER_ADMIN')")
+    public ResponseEntity<LiveQuizResultsResponse> closeLiveQuiz(
+            @Parameter(description = "ID do quiz ao vivo", required = true)
+            @PathVariable UUID sessionId,
+            @AuthenticationPrincipal User currentUser) {
+
+        return ResponseEntity.ok(liveQuizService.close(sessionId, currentUser));
+    }
+
+    /**
+     * Resultado de um quiz ao vivo
+     */
+    @GetMapping("/live/{sessionId}/results")
+    @Operation(summary = "Resultado do quiz ao vivo", description = "Histograma das opções escolhidas. Durante o quiz, somente para o professor; após o encerramento, para todos, com a opção correta.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Resultado retornado"),
+        @ApiResponse(responseCode = "400", description = "Quiz ainda em andamento"),
+        @ApiResponse(responseCode = "401", description = "Não autorizado"),
+        @ApiResponse(responseCode = "404", description = "Quiz ao vivo não encontrado"),
+        @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
+    })
+    public ResponseEntity<LiveQuizResultsResponse> getLiveQuizResults(
+            @Parameter(description = "ID do quiz ao vivo", required = true)
+            @PathVariable UUID sessionId,
+            @AuthenticationPrincipal User currentUser) {
+
+        return ResponseEntity.ok(liveQuizService.getResults(sessionId, currentUser));
+    }
+}
@@ -0,0 +1,50 @@
+package com.comuniquecem.controller;
+
+import com.comuniquecem.dto.response.SyncResponse;
+import com.comuniquecem.entity.User;
+import com.comuniquecem.service.SyncService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Controller para a sincronização incremental das conversas
+ */
+@RestController
+@RequestMapping("/api/sync")
+@Tag(name = "Sincronização", description = "Endpoints para sincronização do app após reconexão")
+@SecurityRequirement(name = "Bearer Authentication")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class SyncController {
+
+    @Autowired
+    private SyncService syncService;
+
+    /**
+     * Busca as alterações de todas as conversas desde o cursor
+     */
+    @GetMapping
+    @Operation(summary = "Sincronizar conversas", description = "Retorna mensagens novas, editadas e apagadas e as confirmações alteradas em todas as conversas desde o cursor. Sem cursor, retorna apenas a posição atual.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Alterações retornadas"),
+        @ApiResponse(responseCode = "400", description = "Cursor inválido"),
+        @ApiResponse(responseCode = "401", description = "Não autorizado"),
+        @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
+    })
+    public ResponseEntity<SyncResponse> sync(
+            @Parameter(description = "Cursor retornado pela sincronização anterior")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Quantidade máxima de alterações (máximo 500)")
+            @RequestParam(defaultValue = "200") int limit,
+            @AuthenticationPrincipal User currentUser) {
+
+        return ResponseEntity.ok(syncService.sync(currentUser.getId(), cursor, limit));
+    }
+}
@@ -4,6 +4,7 @@ import com.comuniquecem.dto.response.UserResponse;
 import com.comuniquecem.dto.response.UserSummaryResponse;
 import com.comuniquecem.entity.enums.UserRole;
 import com.comuniquecem.service.UserService;
+import com.comuniquecem.util.EntityTag;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -20,6 +21,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.UUID;
@@ -43,9 +45,10 @@ public class UserController {
      * Busca usuário por ID
      */
     @GetMapping("/{id}")
-    @Operation(summary = "Buscar usuário por ID", description = "Retorna informações detalhadas de um usuário")
+    @Operation(summary = "Buscar usuário por ID", description = "Retorna informações detalhadas de um usuário. Suporta If-None-Match/If-Modified-Since (304).")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Usuário encontrado"),
+        @ApiResponse(responseCode = "304", description = "Usuário não alterado"),
         @ApiResponse(responseCode = "404", description = "Usuário não encontrado"),
         @ApiResponse(responseCode = "401", description = "Não autorizado"),
         @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
@@ -54,8 +57,15 @@ public class UserController {
     public ResponseEntity<UserResponse> getUserById(
             @Parameter(description = "ID do usuário", required = true)
             @PathVariable UUID id,
-            Authentication authentication) {
+            Authentication authentication,
+            WebRequest webRequest) {
         
+        // Verificação de versão sem carregar o usuário nem serializar a resposta
+        EntityTag tag = userService.getUserTag(id);
+        if (tag != null && tag.isNotModified(webRequest)) {
+            return null;
+        }
+
         logger.info("Buscando usuário por ID: {}", id);
         UserResponse user = userService.findById(id);
         return ResponseEntity.ok(user);
@@ -65,9 +75,10 @@ public class UserController {
      * Busca usuários por instituição
      */
     @GetMapping("/institution/{institutionId}")
-    @Operation(summary = "Buscar usuários por instituição", description = "Lista usuários de uma instituição com paginação")
+    @Operation(summary = "Buscar usuários por instituição", description = "Lista usuários de uma instituição com paginação. Suporta If-None-Match (ETag fraca, 304).")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Lista de usuários retornada"),
+        @ApiResponse(responseCode = "304", description = "Lista não alterada"),
         @ApiResponse(responseCode = "401", description = "Não autorizado"),
         @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
     })
@@ -78,8 +89,13 @@ public class UserController {
             @Parameter(description = "Role do usuário (opcional)")
             @RequestParam(required = false) UserRole role,
             @PageableDefault(size = 20) Pageable pageable,
-            Authentication authentication) {
+            Authentication authentication,
+            WebRequest webRequest) {
         
+        if (userService.getInstitutionUsersTag(institutionId).isNotModified(webRequest)) {
+            return null;
+        }
+
         logger.info("Buscando usuários da instituição: {}, role: {}", institutionId, role);
         
         Page<UserSummaryResponse> users = role != null
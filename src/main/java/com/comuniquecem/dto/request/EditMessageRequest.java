@@ -0,0 +1,30 @@
+package com.comuniquecem.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+/**
+ * DTO para edição do conteúdo de uma mensagem
+ */
+public class EditMessageRequest {
+
+    @NotBlank(message = "Conteúdo da mensagem é obrigatório")
+    @Size(max = 4000, message = "Mensagem deve ter no máximo 4000 caracteres")
+    private String content;
+
+    // Constructors
+    public EditMessageRequest() {}
+
+    public EditMessageRequest(String content) {
+        this.content = content;
+    }
+
+    // Getters and Setters
+    public String getContent() {
+        return content;
+    }
+
+    public void setContent(String content) {
+        this.content = content;
+    }
+}
@@ -0,0 +1,32 @@
+package com.comuniquecem.dto.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * DTO para a resposta de um aluno em um quiz ao vivo (número da opção, de 1 a 4)
+ */
+public class LiveQuizAnswerRequest {
+
+    @NotNull(message = "Opção é obrigatória")
+    @Min(value = 1, message = "Opção deve estar entre 1 e 4")
+    @Max(value = 4, message = "Opção deve estar entre 1 e 4")
+    private Integer option;
+
+    // Constructors
+    public LiveQuizAnswerRequest() {}
+
+    public LiveQuizAnswerRequest(Integer option) {
+        this.option = option;
+    }
+
+    // Getters and Setters
+    public Integer getOption() {
+        return option;
+    }
+
+    public void setOption(Integer option) {
+        this.option = option;
+    }
+}
@@ -0,0 +1,45 @@
+package com.comuniquecem.dto.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.UUID;
+
+/**
+ * DTO para iniciar um quiz ao vivo com uma questão da instituição
+ */
+public class LiveQuizRequest {
+
+    @NotNull(message = "Questão é obrigatória")
+    private UUID questionId;
+
+    @Min(value = 5, message = "Duração deve ser de no mínimo 5 segundos")
+    @Max(value = 300, message = "Duração deve ser de no máximo 300 segundos")
+    private Integer durationSeconds;
+
+    // Constructors
+    public LiveQuizRequest() {}
+
+    public LiveQuizRequest(UUID questionId, Integer durationSeconds) {
+        this.questionId = questionId;
+        this.durationSeconds = durationSeconds;
+    }
+
+    // Getters and Setters
+    public UUID getQuestionId() {
+        return questionId;
+    }
+
+    public void setQuestionId(UUID questionId) {
+        this.questionId = questionId;
+    }
+
+    public Integer getDurationSeconds() {
+        return durationSeconds;
+    }
+
+    public void setDurationSeconds(Integer durationSeconds) {
+        this.durationSeconds = durationSeconds;
+    }
+}
@@ -0,0 +1,75 @@
+package com.comuniquecem.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+/**
+ * DTO para criação e edição de notícias
+ */
+public class NewsRequest {
+
+    @NotBlank(message = "Título é obrigatório")
+    @Size(min = 5, max = 200, message = "Título deve ter entre 5 e 200 caracteres")
+    private String title;
+
+    @NotBlank(message = "Conteúdo é obrigatório")
+    private String content;
+
+    @Size(max = 255, message = "URL da imagem deve ter no máximo 255 caracteres")
+    private String imageUrl;
+
+    private Boolean featured;
+    private Boolean published;
+
+    // Constructors
+    public NewsRequest() {}
+
+    public NewsRequest(String title, String content, String imageUrl, Boolean featured, Boolean published) {
+        this.title = title;
+        this.content = content;
+        this.imageUrl = imageUrl;
+        this.featured = featured;
+        this.published = published;
+    }
+
+    // Getters and Setters
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getContent() {
+        return content;
+    }
+
+    public void setContent(String content) {
+        this.content = content;
+    }
+
+    public String getImageUrl() {
+        return imageUrl;
+    }
+
+    public void setImageUrl(String imageUrl) {
+        this.imageUrl = imageUrl;
+    }
+
+    public Boolean getFeatured() {
+        return featured;
+    }
+
+    public void setFeatured(Boolean featured) {
+        this.featured = featured;
+    }
+
+    public Boolean getPublished() {
+        return published;
+    }
+
+    public void setPublished(Boolean published) {
+        this.published = published;
+    }
+}
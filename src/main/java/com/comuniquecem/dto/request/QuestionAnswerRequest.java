@@ -0,0 +1,30 @@
+package com.comuniquecem.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+/**
+ * DTO para a resposta de um aluno a uma questão
+ */
+public class QuestionAnswerRequest {
+
+    @NotBlank(message = "Resposta é obrigatória")
+    @Size(max = 255, message = "Resposta deve ter no máximo 255 caracteres")
+    private String answer;
+
+    // Constructors
+    public QuestionAnswerRequest() {}
+
+    public QuestionAnswerRequest(String answer) {
+        this.answer = answer;
+    }
+
+    // Getters and Setters
+    public String getAnswer() {
+        return answer;
+    }
+
+    public void setAnswer(String answer) {
+        this.answer = answer;
+    }
+}
@@ -0,0 +1,121 @@
+package com.comuniquecem.dto.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+/**
+ * DTO para criação e edição de questões
+ */
+public class QuestionRequest {
+
+    @NotBlank(message = "Título da questão é obrigatório")
+    @Size(min = 10, max = 500, message = "Título deve ter entre 10 e 500 caracteres")
+    private String title;
+
+    @NotBlank(message = "Primeira opção é obrigatória")
+    @Size(max = 200, message = "Opção deve ter no máximo 200 caracteres")
+    private String option1;
+
+    @NotBlank(message = "Segunda opção é obrigatória")
+    @Size(max = 200, message = "Opção deve ter no máximo 200 caracteres")
+    private String option2;
+
+    @NotBlank(message = "Terceira opção é obrigatória")
+    @Size(max = 200, message = "Opção deve ter no máximo 200 caracteres")
+    private String option3;
+
+    @NotBlank(message = "Quarta opção é obrigatória")
+    @Size(max = 200, message = "Opção deve ter no máximo 200 caracteres")
+    private String option4;
+
+    @NotBlank(message = "Resposta correta é obrigatória")
+    private String correctAnswer;
+
+    private String explanation;
+
+    @Min(value = 1, message = "Dificuldade deve estar entre 1 e 5")
+    @Max(value = 5, message = "Dificuldade deve estar entre 1 e 5")
+    private Integer difficultyLevel;
+
+    // Constructors
+    public QuestionRequest() {}
+
+    public QuestionRequest(String title, String option1, String option2, String option3, String option4,
+                           String correctAnswer, String explanation, Integer difficultyLevel) {
+        this.title = title;
+        this.option1 = option1;
+        this.option2 = option2;
+        this.option3 = option3;
+        this.option4 = option4;
+        this.correctAnswer = correctAnswer;
+        this.explanation = explanation;
+        this.difficultyLevel = difficultyLevel;
+    }
+
+    // Getters and Setters
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getOption1() {
+        return option1;
+    }
+
+    public void setOption1(String option1) {
+        this.option1 = option1;
+    }
+
+    public String getOption2() {
+        return option2;
+    }
+
+    public void setOption2(String option2) {
+        this.option2 = option2;
+    }
+
+    public String getOption3() {
+        return option3;
+    }
+
+    public void setOption3(String option3) {
+        this.option3 = option3;
+    }
+
+    public String getOption4() {
+        return option4;
+    }
+
+    public void setOption4(String option4) {
+        this.option4 = option4;
+    }
+
+    public String getCorrectAnswer() {
+        return correctAnswer;
+    }
+
+    public void setCorrectAnswer(String correctAnswer) {
+        this.correctAnswer = correctAnswer;
+    }
+
+    public String getExplanation() {
+        return explanation;
+    }
+
+    public void setExplanation(String explanation) {
+        this.explanation = explanation;
+    }
+
+    public Integer getDifficultyLevel() {
+        return difficultyLevel;
+    }
+
+    public void setDifficultyLevel(Integer difficultyLevel) {
+        this.difficultyLevel = difficultyLevel;
+    }
+}
@@ -0,0 +1,46 @@
+package com.comuniquecem.dto.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.Map;
+
+/**
+ * DTO para a geração de um quiz: quantidade de questões e o peso de cada dificuldade (1 a 5).
+ * Sem pesos, as questões são sorteadas proporcionalmente ao que existe em cada dificuldade.
+ */
+public class QuizRequest {
+
+    @NotNull(message = "Quantidade de questões é obrigatória")
+    @Min(value = 1, message = "Quiz deve ter entre 1 e 50 questões")
+    @Max(value = 50, message = "Quiz deve ter entre 1 e 50 questões")
+    private Integer size;
+
+    private Map<Integer, Integer> difficultyWeights;
+
+    // Constructors
+    public QuizRequest() {}
+
+    public QuizRequest(Integer size, Map<Integer, Integer> difficultyWeights) {
+        this.size = size;
+        this.difficultyWeights = difficultyWeights;
+    }
+
+    // Getters and Setters
+    public Integer getSize() {
+        return size;
+    }
+
+    public void setSize(Integer size) {
+        this.size = size;
+    }
+
+    public Map<Integer, Integer> getDifficultyWeights() {
+        return difficultyWeights;
+    }
+
+    public void setDifficultyWeights(Map<Integer, Integer> difficultyWeights) {
+        this.difficultyWeights = difficultyWeights;
+    }
+}
@@ -0,0 +1,30 @@
+package com.comuniquecem.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.util.UUID;
+
+/**
+ * DTO para confirmação de entrega/leitura até uma mensagem
+ */
+public class ReceiptRequest {
+
+    @NotNull(message = "Mensagem é obrigatória")
+    private UUID messageId;
+
+    // Constructors
+    public ReceiptRequest() {}
+
+    public ReceiptRequest(UUID messageId) {
+        this.messageId = messageId;
+    }
+
+    // Getters and Setters
+    public UUID getMessageId() {
+        return messageId;
+    }
+
+    public void setMessageId(UUID messageId) {
+        this.messageId = messageId;
+    }
+}
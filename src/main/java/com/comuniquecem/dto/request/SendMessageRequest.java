@@ -0,0 +1,65 @@
+package com.comuniquecem.dto.request;
+
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+import java.util.UUID;
+
+/**
+ * DTO para envio de mensagem em uma conversa.
+ * Com attachmentSha256 (retornado pelo upload) a mensagem é um arquivo e o conteúdo é opcional.
+ */
+public class SendMessageRequest {
+
+    @Size(max = 4000, message = "Mensagem deve ter no máximo 4000 caracteres")
+    private String content;
+
+    private UUID replyToId;
+
+    @Pattern(regexp = "[0-9a-f]{64}", message = "Anexo inválido")
+    private String attachmentSha256;
+
+    @Size(max = 255, message = "Nome do arquivo deve ter no máximo 255 caracteres")
+    private String fileName;
+
+    // Constructors
+    public SendMessageRequest() {}
+
+    public SendMessageRequest(String content, UUID replyToId) {
+        this.content = content;
+        this.replyToId = replyToId;
+    }
+
+    // Getters and Setters
+    public String getContent() {
+        return content;
+    }
+
+    public void setContent(String content) {
+        this.content = content;
+    }
+
+    public UUID getReplyToId() {
+        return replyToId;
+    }
+
+    public void setReplyToId(UUID replyToId) {
+        this.replyToId = replyToId;
+    }
+
+    public String getAttachmentSha256() {
+        return attachmentSha256;
+    }
+
+    public void setAttachmentSha256(String attachmentSha256) {
+        this.attachmentSha256 = attachmentSha256;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public void setFileName(String fileName) {
+        this.fileName = fileName;
+    }
+}
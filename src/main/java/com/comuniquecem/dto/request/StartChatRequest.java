@@ -0,0 +1,30 @@
+package com.comuniquecem.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.util.UUID;
+
+/**
+ * DTO para iniciar (ou retomar) uma conversa com outro usuário
+ */
+public class StartChatRequest {
+
+    @NotNull(message = "Usuário é obrigatório")
+    private UUID userId;
+
+    // Constructors
+    public StartChatRequest() {}
+
+    public StartChatRequest(UUID userId) {
+        this.userId = userId;
+    }
+
+    // Getters and Setters
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public void setUserId(UUID userId) {
+        this.userId = userId;
+    }
+}
@@ -0,0 +1,65 @@
+package com.comuniquecem.dto.response;
+
+/**
+ * DTO com os dados de um arquivo enviado
+ */
+public class AttachmentResponse {
+
+    private String sha256;
+    private String fileName;
+    private String contentType;
+    private Long size;
+    private String url;
+
+    // Constructors
+    public AttachmentResponse() {}
+
+    public AttachmentResponse(String sha256, String fileName, String contentType, Long size, String url) {
+        this.sha256 = sha256;
+        this.fileName = fileName;
+        this.contentType = contentType;
+        this.size = size;
+        this.url = url;
+    }
+
+    // Getters and Setters
+    public String getSha256() {
+        return sha256;
+    }
+
+    public void setSha256(String sha256) {
+        this.sha256 = sha256;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public void setFileName(String fileName) {
+        this.fileName = fileName;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public void setContentType(String contentType) {
+        this.contentType = contentType;
+    }
+
+    public Long getSize() {
+        return size;
+    }
+
+    public void setSize(Long size) {
+        this.size = size;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public void setUrl(String url) {
+        this.url = url;
+    }
+}
@@ -0,0 +1,47 @@
+package com.comuniquecem.dto.response;
+
+import java.util.List;
+
+/**
+ * DTO para páginas navegadas por cursor (keyset)
+ */
+public class CursorPageResponse<T> {
+
+    private List<T> items;
+    private String nextCursor;
+    private Boolean hasMore;
+
+    // Constructors
+    public CursorPageResponse() {}
+
+    public CursorPageResponse(List<T> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.hasMore = nextCursor != null;
+    }
+
+    // Getters and Setters
+    public List<T> getItems() {
+        return items;
+    }
+
+    public void setItems(List<T> items) {
+        this.items = items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public Boolean getHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(Boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+}
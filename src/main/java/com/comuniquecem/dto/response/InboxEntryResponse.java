@@ -0,0 +1,115 @@
+package com.comuniquecem.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * DTO para uma conversa na caixa de entrada do usuário
+ */
+public class InboxEntryResponse {
+
+    private UUID chatId;
+    private UUID otherUserId;
+    private String otherUserName;
+    private String otherUserProfilePictureUrl;
+    private Boolean otherUserOnline;
+    private String lastMessagePreview;
+    private UUID lastMessageSenderId;
+    private Long unreadCount;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss.SSS")
+    private LocalDateTime lastMessageAt;
+
+    // Constructors
+    public InboxEntryResponse() {}
+
+    public InboxEntryResponse(UUID chatId, UUID otherUserId, String otherUserName,
+                              String otherUserProfilePictureUrl, Boolean otherUserOnline,
+                              String lastMessagePreview, UUID lastMessageSenderId,
+                              LocalDateTime lastMessageAt, Long unreadCount) {
+        this.chatId = chatId;
+        this.otherUserId = otherUserId;
+        this.otherUserName = otherUserName;
+        this.otherUserProfilePictureUrl = otherUserProfilePictureUrl;
+        this.otherUserOnline = otherUserOnline;
+        this.lastMessagePreview = lastMessagePreview;
+        this.lastMessageSenderId = lastMessageSenderId;
+        this.lastMessageAt = lastMessageAt;
+        this.unreadCount = unreadCount;
+    }
+
+    // Getters and Setters
+    public UUID getChatId() {
+        return chatId;
+    }
+
+    public void setChatId(UUID chatId) {
+        this.chatId = chatId;
+    }
+
+    public UUID getOtherUserId() {
+        return otherUserId;
+    }
+
+    public void setOtherUserId(UUID otherUserId) {
+        this.otherUserId = otherUserId;
+    }
+
+    public String getOtherUserName() {
+        return otherUserName;
+    }
+
+    public void setOtherUserName(String otherUserName) {
+        this.otherUserName = otherUserName;
+    }
+
+    public String getOtherUserProfilePictureUrl() {
+        return otherUserProfilePictureUrl;
+    }
+
+    public void setOtherUserProfilePictureUrl(String otherUserProfilePictureUrl) {
+        this.otherUserProfilePictureUrl = otherUserProfilePictureUrl;
+    }
+
+    public Boolean getOtherUserOnline() {
+        return otherUserOnline;
+    }
+
+    public void setOtherUserOnline(Boolean otherUserOnline) {
+        this.otherUserOnline = otherUserOnline;
+    }
+
+    public String getLastMessagePreview() {
+        return lastMessagePreview;
+    }
+
+    public void setLastMessagePreview(String lastMessagePreview) {
+        this.lastMessagePreview = lastMessagePreview;
+    }
+
+    public UUID getLastMessageSenderId() {
+        return lastMessageSenderId;
+    }
+
+    public void setLastMessageSenderId(UUID lastMessageSenderId) {
+        this.lastMessageSenderId = lastMessageSenderId;
+    }
+
+    public Long getUnreadCount() {
+        return unreadCount;
+    }
+
+    public void setUnreadCount(Long unreadCount) {
+        this.unreadCount = unreadCount;
+    }
+
+    public LocalDateTime getLastMessageAt() {
+        return lastMessageAt;
+    }
+
+    public void setLastMessageAt(LocalDateTime lastMessageAt) {
+        this.lastMessageAt = lastMessageAt;
+    }
+}
@@ -0,0 +1,57 @@
+package com.comuniquecem.dto.response;
+
+import java.util.UUID;
+
+/**
+ * DTO para a posição de um aluno no ranking da instituição (rank a partir de 1; nulo se ainda não pontuou)
+ */
+public class LeaderboardEntryResponse {
+
+    private Long rank;
+    private UUID userId;
+    private String name;
+    private Long score;
+
+    // Constructors
+    public LeaderboardEntryResponse() {}
+
+    public LeaderboardEntryResponse(Long rank, UUID userId, String name, Long score) {
+        this.rank = rank;
+        this.userId = userId;
+        this.name = name;
+        this.score = score;
+    }
+
+    // Getters and Setters
+    public Long getRank() {
+        return rank;
+    }
+
+    public void setRank(Long rank) {
+        this.rank = rank;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public void setUserId(UUID userId) {
+        this.userId = userId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public Long getScore() {
+        return score;
+    }
+
+    public void setScore(Long score) {
+        this.score = score;
+    }
+}
@@ -0,0 +1,47 @@
+package com.comuniquecem.dto.response;
+
+import java.util.List;
+
+/**
+ * DTO para o ranking da instituição: os primeiros colocados e a posição do usuário
+ */
+public class LeaderboardResponse {
+
+    private List<LeaderboardEntryResponse> entries;
+    private LeaderboardEntryResponse me;
+    private Long players;
+
+    // Constructors
+    public LeaderboardResponse() {}
+
+    public LeaderboardResponse(List<LeaderboardEntryResponse> entries, LeaderboardEntryResponse me, Long players) {
+        this.entries = entries;
+        this.me = me;
+        this.players = players;
+    }
+
+    // Getters and Setters
+    public List<LeaderboardEntryResponse> getEntries() {
+        return entries;
+    }
+
+    public void setEntries(List<LeaderboardEntryResponse> entries) {
+        this.entries = entries;
+    }
+
+    public LeaderboardEntryResponse getMe() {
+        return me;
+    }
+
+    public void setMe(LeaderboardEntryResponse me) {
+        this.me = me;
+    }
+
+    public Long getPlayers() {
+        return players;
+    }
+
+    public void setPlayers(Long players) {
+        this.players = players;
+    }
+}
@@ -0,0 +1,74 @@
+package com.comuniquecem.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * DTO de um quiz ao vivo em andamento, enviado aos alunos conectados
+ */
+public class LiveQuizResponse {
+
+    private UUID sessionId;
+    private UUID teacherId;
+    private QuizQuestionResponse question;
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss.SSS")
+    private LocalDateTime startedAt;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss.SSS")
+    private LocalDateTime closesAt;
+
+    // Constructors
+    public LiveQuizResponse() {}
+
+    public LiveQuizResponse(UUID sessionId, UUID teacherId, QuizQuestionResponse question,
+                            LocalDateTime startedAt, LocalDateTime closesAt) {
+        this.sessionId = sessionId;
+        this.teacherId = teacherId;
+        this.question = question;
+        this.startedAt = startedAt;
+        this.closesAt = closesAt;
+    }
+
+    // Getters and Setters
+    public UUID getSessionId() {
+        return sessionId;
+    }
+
+    public void setSessionId(UUID sessionId) {
+        this.sessionId = sessionId;
+    }
+
+    public UUID getTeacherId() {
+        return teacherId;
+    }
+
+    public void setTeacherId(UUID teacherId) {
+        this.teacherId = teacherId;
+    }
+
+    public QuizQuestionResponse getQuestion() {
+        return question;
+    }
+
+    public void setQuestion(QuizQuestionResponse question) {
+        this.question = question;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(LocalDateTime startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public LocalDateTime getClosesAt() {
+        return closesAt;
+    }
+
+    public void setClosesAt(LocalDateTime closesAt) {
+        this.closesAt = closesAt;
+    }
+}
@@ -0,0 +1,97 @@
+package com.comuniquecem.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO com o histograma de respostas de um quiz ao vivo (counts[0] é a opção 1).
+ * A opção correta só é informada após o encerramento.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class LiveQuizResultsResponse {
+
+    private UUID sessionId;
+    private UUID questionId;
+    private List<Long> counts;
+    private Long totalAnswers;
+    private Boolean closed;
+    private Integer correctOption;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss.SSS")
+    private LocalDateTime closesAt;
+
+    // Constructors
+    public LiveQuizResultsResponse() {}
+
+    public LiveQuizResultsResponse(UUID sessionId, UUID questionId, List<Long> counts, Long totalAnswers,
+                                   Boolean closed, Integer correctOption, LocalDateTime closesAt) {
+        this.sessionId = sessionId;
+        this.questionId = questionId;
+        this.counts = counts;
+        this.totalAnswers = totalAnswers;
+        this.closed = closed;
+        this.correctOption = correctOption;
+        this.closesAt = closesAt;
+    }
+
+    // Getters and Setters
+    public UUID getSessionId() {
+        return sessionId;
+    }
+
+    public void setSessionId(UUID sessionId) {
+        this.sessionId = sessionId;
+    }
+
+    public UUID getQuestionId() {
+        return questionId;
+    }
+
+    public void setQuestionId(UUID questionId) {
+        this.questionId = questionId;
+    }
+
+    public List<Long> getCounts() {
+        return counts;
+    }
+
+    public void setCounts(List<Long> counts) {
+        this.counts = counts;
+    }
+
+    public Long getTotalAnswers() {
+        return totalAnswers;
+    }
+
+    public void setTotalAnswers(Long totalAnswers) {
+        this.totalAnswers = totalAnswers;
+    }
+
+    public Boolean getClosed() {
+        return closed;
+    }
+
+    public void setClosed(Boolean closed) {
+        this.closed = closed;
+    }
+
+    public Integer getCorrectOption() {
+        return correctOption;
+    }
+
+    public void setCorrectOption(Integer correctOption) {
+        this.correctOption = correctOption;
+    }
+
+    public LocalDateTime getClosesAt() {
+        return closesAt;
+    }
+
+    public void setClosesAt(LocalDateTime closesAt) {
+        this.closesAt = closesAt;
+    }
+}
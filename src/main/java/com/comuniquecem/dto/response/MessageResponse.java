@@ -0,0 +1,193 @@
+package com.comuniquecem.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * DTO para resposta de mensagem
+ */
+public class MessageResponse {
+
+    private UUID id;
+    private UUID chatId;
+    private UUID senderId;
+    private String senderName;
+    private String content;
+    private Boolean delivered;
+    private Boolean read;
+    private Boolean isFile;
+    private String fileName;
+    private String fileUrl;
+    private Long fileSize;
+    private String fileType;
+    private Boolean edited;
+    private Boolean deleted = false;
+    private UUID replyToId;
+    private ReplyPreviewResponse replyTo;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss.SSS")
+    private LocalDateTime sentAt;
+
+    // Constructors
+    public MessageResponse() {}
+
+    public MessageResponse(UUID id, UUID chatId, UUID senderId, String senderName, String content,
+                           Boolean delivered, Boolean read, Boolean isFile, String fileName,
+                           String fileUrl, Long fileSize, String fileType, Boolean edited,
+                           UUID replyToId, LocalDateTime sentAt) {
+        this.id = id;
+        this.chatId = chatId;
+        this.senderId = senderId;
+        this.senderName = senderName;
+        this.content = content;
+        this.delivered = delivered;
+        this.read = read;
+        this.isFile = isFile;
+        this.fileName = fileName;
+        this.fileUrl = fileUrl;
+        this.fileSize = fileSize;
+        this.fileType = fileType;
+        this.edited = edited;
+        this.replyToId = replyToId;
+        this.sentAt = sentAt;
+    }
+
+    // Getters and Setters
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public UUID getChatId() {
+        return chatId;
+    }
+
+    public void setChatId(UUID chatId) {
+        this.chatId = chatId;
+    }
+
+    public UUID getSenderId() {
+        return senderId;
+    }
+
+    public void setSenderId(UUID senderId) {
+        this.senderId = senderId;
+    }
+
+    public String getSenderName() {
+        return senderName;
+    }
+
+    public void setSenderName(String senderName) {
+        this.senderName = senderName;
+    }
+
+    public String getContent() {
+        return content;
+    }
+
+    public void setContent(String content) {
+        this.content = content;
+    }
+
+    public Boolean getDelivered() {
+        return delivered;
+    }
+
+    public void setDelivered(Boolean delivered) {
+        this.delivered = delivered;
+    }
+
+    public Boolean getRead() {
+        return read;
+    }
+
+    public void setRead(Boolean read) {
+        this.read = read;
+    }
+
+    public Boolean getIsFile() {
+        return isFile;
+    }
+
+    public void setIsFile(Boolean isFile) {
+        this.isFile = isFile;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public void setFileName(String fileName) {
+        this.fileName = fileName;
+    }
+
+    public String getFileUrl() {
+        return fileUrl;
+    }
+
+    public void setFileUrl(String fileUrl) {
+        this.fileUrl = fileUrl;
+    }
+
+    public Long getFileSize() {
+        return fileSize;
+    }
+
+    public void setFileSize(Long fileSize) {
+        this.fileSize = fileSize;
+    }
+
+    public String getFileType() {
+        return fileType;
+    }
+
+    public void setFileType(String fileType) {
+        this.fileType = fileType;
+    }
+
+    public Boolean getEdited() {
+        return edited;
+    }
+
+    public void setEdited(Boolean edited) {
+        this.edited = edited;
+    }
+
+    public Boolean getDeleted() {
+        return deleted;
+    }
+
+    public void setDeleted(Boolean deleted) {
+        this.deleted = deleted;
+    }
+
+    public UUID getReplyToId() {
+        return replyToId;
+    }
+
+    public void setReplyToId(UUID replyToId) {
+        this.replyToId = replyToId;
+    }
+
+    public ReplyPreviewResponse getReplyTo() {
+        return replyTo;
+    }
+
+    public void setReplyTo(ReplyPreviewResponse replyTo) {
+        this.replyTo = replyTo;
+    }
+
+    public LocalDateTime getSentAt() {
+        return sentAt;
+    }
+
+    public void setSentAt(LocalDateTime sentAt) {
+        this.sentAt = sentAt;
+    }
+}
@@ -0,0 +1,94 @@
+package com.comuniquecem.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * DTO para um resultado da busca de mensagens.
+ * O trecho é HTML seguro: o texto é escapado e os termos encontrados ficam entre &lt;mark&gt;.
+ */
+public class MessageSearchResultResponse {
+
+    private UUID messageId;
+    private UUID chatId;
+    private UUID senderId;
+    private String senderName;
+    private String snippet;
+    private Float rank;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss.SSS")
+    private LocalDateTime sentAt;
+
+    // Constructors
+    public MessageSearchResultResponse() {}
+
+    public MessageSearchResultResponse(UUID messageId, UUID chatId, UUID senderId, String senderName,
+                                       String snippet, Float rank, LocalDateTime sentAt) {
+        this.messageId = messageId;
+        this.chatId = chatId;
+        this.senderId = senderId;
+        this.senderName = senderName;
+        this.snippet = snippet;
+        this.rank = rank;
+        this.sentAt = sentAt;
+    }
+
+    // Getters and Setters
+    public UUID getMessageId() {
+        return messageId;
+    }
+
+    public void setMessageId(UUID messageId) {
+        this.messageId = messageId;
+    }
+
+    public UUID getChatId() {
+        return chatId;
+    }
+
+    public void setChatId(UUID chatId) {
+        this.chatId = chatId;
+    }
+
+    public UUID getSenderId() {
+        return senderId;
+    }
+
+    public void setSenderId(UUID senderId) {
+        this.senderId = senderId;
+    }
+
+    public String getSenderName() {
+        return senderName;
+    }
+
+    public void setSenderName(String senderName) {
+        this.senderName = senderName;
+    }
+
+    public String getSnippet() {
+        return snippet;
+    }
+
+    public void setSnippet(String snippet) {
+        this.snippet = snippet;
+    }
+
+    public Float getRank() {
+        return rank;
+    }
+
+    public void setRank(Float rank) {
+        this.rank = rank;
+    }
+
+    public LocalDateTime getSentAt() {
+        return sentAt;
+    }
+
+    public void setSentAt(LocalDateTime sentAt) {
+        this.sentAt = sentAt;
+    }
+}
@@ -0,0 +1,61 @@
+package com.comuniquecem.dto.response;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * DTO para uma página do feed de notícias. As notícias em destaque (pinned) vêm apenas
+ * na primeira página e também aparecem na sua posição cronológica em items.
+ */
+public class NewsFeedResponse implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private List<NewsSummaryResponse> pinned;
+    private List<NewsSummaryResponse> items;
+    private String nextCursor;
+    private Boolean hasMore;
+
+    // Constructors
+    public NewsFeedResponse() {}
+
+    public NewsFeedResponse(List<NewsSummaryResponse> pinned, List<NewsSummaryResponse> items, String nextCursor) {
+        this.pinned = pinned;
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.hasMore = nextCursor != null;
+    }
+
+    // Getters and Setters
+    public List<NewsSummaryResponse> getPinned() {
+        return pinned;
+    }
+
+    public void setPinned(List<NewsSummaryResponse> pinned) {
+        this.pinned = pinned;
+    }
+
+    public List<NewsSummaryResponse> getItems() {
+        return items;
+    }
+
+    public void setItems(List<NewsSummaryResponse> items) {
+        this.items = items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public Boolean getHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(Boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+}
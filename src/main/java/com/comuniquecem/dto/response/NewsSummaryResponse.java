@@ -0,0 +1,116 @@
+package com.comuniquecem.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * DTO para uma notícia no feed da instituição (com trecho do conteúdo)
+ */
+public class NewsSummaryResponse implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private UUID id;
+    private String title;
+    private String excerpt;
+    private String imageUrl;
+    private Boolean featured;
+    private Long views;
+    private UUID authorId;
+    private String authorName;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss.SSS")
+    private LocalDateTime createdAt;
+
+    // Constructors
+    public NewsSummaryResponse() {}
+
+    public NewsSummaryResponse(UUID id, String title, String excerpt, String imageUrl, Boolean featured, Long views,
+                               UUID authorId, String authorName, LocalDateTime createdAt) {
+        this.id = id;
+        this.title = title;
+        this.excerpt = excerpt;
+        this.imageUrl = imageUrl;
+        this.featured = featured;
+        this.views = views;
+        this.authorId = authorId;
+        this.authorName = authorName;
+        this.createdAt = createdAt;
+    }
+
+    // Getters and Setters
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getExcerpt() {
+        return excerpt;
+    }
+
+    public void setExcerpt(String excerpt) {
+        this.excerpt = excerpt;
+    }
+
+    public String getImageUrl() {
+        return imageUrl;
+    }
+
+    public void setImageUrl(String imageUrl) {
+        this.imageUrl = imageUrl;
+    }
+
+    public Boolean getFeatured() {
+        return featured;
+    }
+
+    public void setFeatured(Boolean featured) {
+        this.featured = featured;
+    }
+
+    public Long getViews() {
+        return views;
+    }
+
+    public void setViews(Long views) {
+        this.views = views;
+    }
+
+    public UUID getAuthorId() {
+        return authorId;
+    }
+
+    public void setAuthorId(UUID authorId) {
+        this.authorId = authorId;
+    }
+
+    public String getAuthorName() {
+        return authorName;
+    }
+
+    public void setAuthorName(String authorName) {
+        this.authorName = authorName;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
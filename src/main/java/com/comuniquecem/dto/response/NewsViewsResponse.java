@@ -0,0 +1,47 @@
+package com.comuniquecem.dto.response;
+
+import java.util.UUID;
+
+/**
+ * DTO para as visualizações de uma notícia
+ */
+public class NewsViewsResponse {
+
+    private UUID newsId;
+    private Long views;
+    private Long uniqueViewers;
+
+    // Constructors
+    public NewsViewsResponse() {}
+
+    public NewsViewsResponse(UUID newsId, Long views, Long uniqueViewers) {
+        this.newsId = newsId;
+        this.views = views;
+        this.uniqueViewers = uniqueViewers;
+    }
+
+    // Getters and Setters
+    public UUID getNewsId() {
+        return newsId;
+    }
+
+    public void setNewsId(UUID newsId) {
+        this.newsId = newsId;
+    }
+
+    public Long getViews() {
+        return views;
+    }
+
+    public void setViews(Long views) {
+        this.views = views;
+    }
+
+    public Long getUniqueViewers() {
+        return uniqueViewers;
+    }
+
+    public void setUniqueViewers(Long uniqueViewers) {
+        this.uniqueViewers = uniqueViewers;
+    }
+}
@@ -0,0 +1,57 @@
+package com.comuniquecem.dto.response;
+
+import java.util.List;
+
+/**
+ * DTO para uma página das notificações do usuário, com o total de não lidas
+ */
+public class NotificationPageResponse {
+
+    private List<NotificationResponse> items;
+    private Long unreadCount;
+    private String nextCursor;
+    private Boolean hasMore;
+
+    // Constructors
+    public NotificationPageResponse() {}
+
+    public NotificationPageResponse(List<NotificationResponse> items, Long unreadCount, String nextCursor) {
+        this.items = items;
+        this.unreadCount = unreadCount;
+        this.nextCursor = nextCursor;
+        this.hasMore = nextCursor != null;
+    }
+
+    // Getters and Setters
+    public List<NotificationResponse> getItems() {
+        return items;
+    }
+
+    public void setItems(List<NotificationResponse> items) {
+        this.items = items;
+    }
+
+    public Long getUnreadCount() {
+        return unreadCount;
+    }
+
+    public void setUnreadCount(Long unreadCount) {
+        this.unreadCount = unreadCount;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public Boolean getHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(Boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+}
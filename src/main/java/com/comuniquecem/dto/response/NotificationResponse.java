@@ -0,0 +1,86 @@
+package com.comuniquecem.dto.response;
+
+import com.comuniquecem.entity.enums.NotificationType;
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * DTO para uma notificação do usuário
+ */
+public class NotificationResponse {
+
+    private UUID id;
+    private NotificationType type;
+    private UUID referenceId;
+    private String title;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss.SSS")
+    private LocalDateTime createdAt;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss.SSS")
+    private LocalDateTime readAt;
+
+    // Constructors
+    public NotificationResponse() {}
+
+    public NotificationResponse(UUID id, NotificationType type, UUID referenceId, String title,
+                                LocalDateTime createdAt, LocalDateTime readAt) {
+        this.id = id;
+        this.type = type;
+        this.referenceId = referenceId;
+        this.title = title;
+        this.createdAt = createdAt;
+        this.readAt = readAt;
+    }
+
+    // Getters and Setters
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public NotificationType getType() {
+        return type;
+    }
+
+    public void setType(NotificationType type) {
+        this.type = type;
+    }
+
+    public UUID getReferenceId() {
+        return referenceId;
+    }
+
+    public void setReferenceId(UUID referenceId) {
+        this.referenceId = referenceId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getReadAt() {
+        return readAt;
+    }
+
+    public void setReadAt(LocalDateTime readAt) {
+        this.readAt = readAt;
+    }
+}
@@ -0,0 +1,68 @@
+package com.comuniquecem.dto.response;
+
+import com.comuniquecem.entity.enums.PracticeReason;
+
+/**
+ * DTO da próxima questão da prática adaptativa, com a dificuldade escolhida e o histórico do aluno nela
+ */
+public class PracticeQuestionResponse {
+
+    private QuizQuestionResponse question;
+    private Integer targetDifficulty;
+    private PracticeReason reason;
+    private Integer attempts;
+    private Integer correctCount;
+
+    // Constructors
+    public PracticeQuestionResponse() {}
+
+    public PracticeQuestionResponse(QuizQuestionResponse question, Integer targetDifficulty, PracticeReason reason,
+                                    Integer attempts, Integer correctCount) {
+        this.question = question;
+        this.targetDifficulty = targetDifficulty;
+        this.reason = reason;
+        this.attempts = attempts;
+        this.correctCount = correctCount;
+    }
+
+    // Getters and Setters
+    public QuizQuestionResponse getQuestion() {
+        return question;
+    }
+
+    public void setQuestion(QuizQuestionResponse question) {
+        this.question = question;
+    }
+
+    public Integer getTargetDifficulty() {
+        return targetDifficulty;
+    }
+
+    public void setTargetDifficulty(Integer targetDifficulty) {
+        this.targetDifficulty = targetDifficulty;
+    }
+
+    public PracticeReason getReason() {
+        return reason;
+    }
+
+    public void setReason(PracticeReason reason) {
+        this.reason = reason;
+    }
+
+    public Integer getAttempts() {
+        return attempts;
+    }
+
+    public void setAttempts(Integer attempts) {
+        this.attempts = attempts;
+    }
+
+    public Integer getCorrectCount() {
+        return correctCount;
+    }
+
+    public void setCorrectCount(Integer correctCount) {
+        this.correctCount = correctCount;
+    }
+}
@@ -0,0 +1,47 @@
+package com.comuniquecem.dto.response;
+
+import java.util.List;
+
+/**
+ * DTO para uma página da listagem pública de notícias
+ */
+public class PublicNewsPageResponse {
+
+    private List<PublicNewsSummaryResponse> items;
+    private Integer page;
+    private Boolean hasMore;
+
+    // Constructors
+    public PublicNewsPageResponse() {}
+
+    public PublicNewsPageResponse(List<PublicNewsSummaryResponse> items, Integer page, Boolean hasMore) {
+        this.items = items;
+        this.page = page;
+        this.hasMore = hasMore;
+    }
+
+    // Getters and Setters
+    public List<PublicNewsSummaryResponse> getItems() {
+        return items;
+    }
+
+    public void setItems(List<PublicNewsSummaryResponse> items) {
+        this.items = items;
+    }
+
+    public Integer getPage() {
+        return page;
+    }
+
+    public void setPage(Integer page) {
+        this.page = page;
+    }
+
+    public Boolean getHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(Boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+}
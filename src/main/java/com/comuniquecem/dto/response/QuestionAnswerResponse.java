@@ -0,0 +1,68 @@
+package com.comuniquecem.dto.response;
+
+import java.util.UUID;
+
+/**
+ * DTO para o resultado de uma resposta: se acertou, a resposta correta e a explicação
+ */
+public class QuestionAnswerResponse {
+
+    private UUID questionId;
+    private String answer;
+    private Boolean correct;
+    private String correctAnswer;
+    private String explanation;
+
+    // Constructors
+    public QuestionAnswerResponse() {}
+
+    public QuestionAnswerResponse(UUID questionId, String answer, Boolean correct, String correctAnswer,
+                                  String explanation) {
+        this.questionId = questionId;
+        this.answer = answer;
+        this.correct = correct;
+        this.correctAnswer = correctAnswer;
+        this.explanation = explanation;
+    }
+
+    // Getters and Setters
+    public UUID getQuestionId() {
+        return questionId;
+    }
+
+    public void setQuestionId(UUID questionId) {
+        this.questionId = questionId;
+    }
+
+    public String getAnswer() {
+        return answer;
+    }
+
+    public void setAnswer(String answer) {
+        this.answer = answer;
+    }
+
+    public Boolean getCorrect() {
+        return correct;
+    }
+
+    public void setCorrect(Boolean correct) {
+        this.correct = correct;
+    }
+
+    public String getCorrectAnswer() {
+        return correctAnswer;
+    }
+
+    public void setCorrectAnswer(String correctAnswer) {
+        this.correctAnswer = correctAnswer;
+    }
+
+    public String getExplanation() {
+        return explanation;
+    }
+
+    public void setExplanation(String explanation) {
+        this.explanation = explanation;
+    }
+}
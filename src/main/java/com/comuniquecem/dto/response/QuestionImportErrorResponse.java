@@ -0,0 +1,35 @@
+package com.comuniquecem.dto.response;
+
+/**
+ * DTO de uma linha recusada na importação de questões
+ */
+public class QuestionImportErrorResponse {
+
+    private Long row;
+    private String message;
+
+    // Constructors
+    public QuestionImportErrorResponse() {}
+
+    public QuestionImportErrorResponse(Long row, String message) {
+        this.row = row;
+        this.message = message;
+    }
+
+    // Getters and Setters
+    public Long getRow() {
+        return row;
+    }
+
+    public void setRow(Long row) {
+        this.row = row;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+}
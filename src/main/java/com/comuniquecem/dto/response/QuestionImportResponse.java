@@ -0,0 +1,69 @@
+package com.comuniquecem.dto.response;
+
+import java.util.List;
+
+/**
+ * DTO com o resultado da importação de questões.
+ * Somente as primeiras linhas recusadas são detalhadas (errorsTruncated).
+ */
+public class QuestionImportResponse {
+
+    private Long totalRows;
+    private Long imported;
+    private Long failed;
+    private List<QuestionImportErrorResponse> errors;
+    private Boolean errorsTruncated;
+
+    // Constructors
+    public QuestionImportResponse() {}
+
+    public QuestionImportResponse(Long totalRows, Long imported, Long failed,
+                                  List<QuestionImportErrorResponse> errors, Boolean errorsTruncated) {
+        this.totalRows = totalRows;
+        this.imported = imported;
+        this.failed = failed;
+        this.errors = errors;
+        this.errorsTruncated = errorsTruncated;
+    }
+
+    // Getters and Setters
+    public Long getTotalRows() {
+        return totalRows;
+    }
+
+    public void setTotalRows(Long totalRows) {
+        this.totalRows = totalRows;
+    }
+
+    public Long getImported() {
+        return imported;
+    }
+
+    public void setImported(Long imported) {
+        this.imported = imported;
+    }
+
+    public Long getFailed() {
+        return failed;
+    }
+
+    public void setFailed(Long failed) {
+        this.failed = failed;
+    }
+
+    public List<QuestionImportErrorResponse> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(List<QuestionImportErrorResponse> errors) {
+        this.errors = errors;
+    }
+
+    public Boolean getErrorsTruncated() {
+        return errorsTruncated;
+    }
+
+    public void setErrorsTruncated(Boolean errorsTruncated) {
+        this.errorsTruncated = errorsTruncated;
+    }
+}
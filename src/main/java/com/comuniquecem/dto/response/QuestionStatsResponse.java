@@ -0,0 +1,57 @@
+package com.comuniquecem.dto.response;
+
+import java.util.UUID;
+
+/**
+ * DTO para as estatísticas de respostas de uma questão
+ */
+public class QuestionStatsResponse {
+
+    private UUID questionId;
+    private Long answerCount;
+    private Long correctCount;
+    private Double successRate;
+
+    // Constructors
+    public QuestionStatsResponse() {}
+
+    public QuestionStatsResponse(UUID questionId, Long answerCount, Long correctCount) {
+        this.questionId = questionId;
+        this.answerCount = answerCount;
+        this.correctCount = correctCount;
+        this.successRate = answerCount > 0 ? (double) correctCount / answerCount * 100 : 0.0;
+    }
+
+    // Getters and Setters
+    public UUID getQuestionId() {
+        return questionId;
+    }
+
+    public void setQuestionId(UUID questionId) {
+        this.questionId = questionId;
+    }
+
+    public Long getAnswerCount() {
+        return answerCount;
+    }
+
+    public void setAnswerCount(Long answerCount) {
+        this.answerCount = answerCount;
+    }
+
+    public Long getCorrectCount() {
+        return correctCount;
+    }
+
+    public void setCorrectCount(Long correctCount) {
+        this.correctCount = correctCount;
+    }
+
+    public Double getSuccessRate() {
+        return successRate;
+    }
+
+    public void setSuccessRate(Double successRate) {
+        this.successRate = successRate;
+    }
+}
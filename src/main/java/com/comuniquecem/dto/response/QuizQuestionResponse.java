@@ -0,0 +1,88 @@
+package com.comuniquecem.dto.response;
+
+import java.util.UUID;
+
+/**
+ * DTO de uma questão no quiz, sem a resposta correta nem a explicação
+ */
+public class QuizQuestionResponse {
+
+    private UUID id;
+    private String title;
+    private String option1;
+    private String option2;
+    private String option3;
+    private String option4;
+    private Integer difficultyLevel;
+
+    // Constructors
+    public QuizQuestionResponse() {}
+
+    public QuizQuestionResponse(UUID id, String title, String option1, String option2, String option3,
+                                String option4, Integer difficultyLevel) {
+        this.id = id;
+        this.title = title;
+        this.option1 = option1;
+        this.option2 = option2;
+        this.option3 = option3;
+        this.option4 = option4;
+        this.difficultyLevel = difficultyLevel;
+    }
+
+    // Getters and Setters
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getOption1() {
+        return option1;
+    }
+
+    public void setOption1(String option1) {
+        this.option1 = option1;
+    }
+
+    public String getOption2() {
+        return option2;
+    }
+
+    public void setOption2(String option2) {
+        this.option2 = option2;
+    }
+
+    public String getOption3() {
+        return option3;
+    }
+
+    public void setOption3(String option3) {
+        this.option3 = option3;
+    }
+
+    public String getOption4() {
+        return option4;
+    }
+
+    public void setOption4(String option4) {
+        this.option4 = option4;
+    }
+
+    public Integer getDifficultyLevel() {
+        return difficultyLevel;
+    }
+
+    public void setDifficultyLevel(Integer difficultyLevel) {
+        this.difficultyLevel = difficultyLevel;
+    }
+}
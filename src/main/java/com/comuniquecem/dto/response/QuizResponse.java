@@ -0,0 +1,37 @@
+package com.comuniquecem.dto.response;
+
+import java.util.List;
+
+/**
+ * DTO para um quiz gerado. Pode ter menos questões que o pedido se a instituição não tiver o suficiente.
+ */
+public class QuizResponse {
+
+    private List<QuizQuestionResponse> questions;
+    private Integer requested;
+
+    // Constructors
+    public QuizResponse() {}
+
+    public QuizResponse(List<QuizQuestionResponse> questions, Integer requested) {
+        this.questions = questions;
+        this.requested = requested;
+    }
+
+    // Getters and Setters
+    public List<QuizQuestionResponse> getQuestions() {
+        return questions;
+    }
+
+    public void setQuestions(List<QuizQuestionResponse> questions) {
+        this.questions = questions;
+    }
+
+    public Integer getRequested() {
+        return requested;
+    }
+
+    public void setRequested(Integer requested) {
+        this.requested = requested;
+    }
+}
@@ -0,0 +1,74 @@
+package com.comuniquecem.dto.response;
+
+import java.util.UUID;
+
+/**
+ * DTO para a prévia da mensagem respondida
+ */
+public class ReplyPreviewResponse {
+
+    private UUID messageId;
+    private UUID senderId;
+    private String senderName;
+    private String preview;
+    private Boolean deleted;
+
+    // Constructors
+    public ReplyPreviewResponse() {}
+
+    public ReplyPreviewResponse(UUID messageId, UUID senderId, String senderName, String preview, Boolean deleted) {
+        this.messageId = messageId;
+        this.senderId = senderId;
+        this.senderName = senderName;
+        this.preview = preview;
+        this.deleted = deleted;
+    }
+
+    /**
+     * Prévia para uma mensagem respondida que foi apagada (ou removida pela retenção)
+     */
+    public static ReplyPreviewResponse deleted(UUID messageId) {
+        return new ReplyPreviewResponse(messageId, null, null, "Mensagem apagada", true);
+    }
+
+    // Getters and Setters
+    public UUID getMessageId() {
+        return messageId;
+    }
+
+    public void setMessageId(UUID messageId) {
+        this.messageId = messageId;
+    }
+
+    public UUID getSenderId() {
+        return senderId;
+    }
+
+    public void setSenderId(UUID senderId) {
+        this.senderId = senderId;
+    }
+
+    public String getSenderName() {
+        return senderName;
+    }
+
+    public void setSenderName(String senderName) {
+        this.senderName = senderName;
+    }
+
+    public String getPreview() {
+        return preview;
+    }
+
+    public void setPreview(String preview) {
+        this.preview = preview;
+    }
+
+    public Boolean getDeleted() {
+        return deleted;
+    }
+
+    public void setDeleted(Boolean deleted) {
+        this.deleted = deleted;
+    }
+}
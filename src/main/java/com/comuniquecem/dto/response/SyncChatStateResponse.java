@@ -0,0 +1,66 @@
+package com.comuniquecem.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * DTO com o estado atual de uma conversa alterada desde o último cursor de sincronização
+ */
+public class SyncChatStateResponse {
+
+    private UUID chatId;
+
+    // Até onde o outro participante recebeu/leu as mensagens do usuário
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss.SSS")
+    private LocalDateTime deliveredUpTo;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss.SSS")
+    private LocalDateTime readUpTo;
+
+    private Long unreadCount;
+
+    // Constructors
+    public SyncChatStateResponse() {}
+
+    public SyncChatStateResponse(UUID chatId, LocalDateTime deliveredUpTo, LocalDateTime readUpTo, Long unreadCount) {
+        this.chatId = chatId;
+        this.deliveredUpTo = deliveredUpTo;
+        this.readUpTo = readUpTo;
+        this.unreadCount = unreadCount;
+    }
+
+    // Getters and Setters
+    public UUID getChatId() {
+        return chatId;
+    }
+
+    public void setChatId(UUID chatId) {
+        this.chatId = chatId;
+    }
+
+    public LocalDateTime getDeliveredUpTo() {
+        return deliveredUpTo;
+    }
+
+    public void setDeliveredUpTo(LocalDateTime deliveredUpTo) {
+        this.deliveredUpTo = deliveredUpTo;
+    }
+
+    public LocalDateTime getReadUpTo() {
+        return readUpTo;
+    }
+
+    public void setReadUpTo(LocalDateTime readUpTo) {
+        this.readUpTo = readUpTo;
+    }
+
+    public Long getUnreadCount() {
+        return unreadCount;
+    }
+
+    public void setUnreadCount(Long unreadCount) {
+        this.unreadCount = unreadCount;
+    }
+}
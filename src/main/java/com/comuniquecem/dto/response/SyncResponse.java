@@ -0,0 +1,75 @@
+package com.comuniquecem.dto.response;
+
+import java.util.List;
+
+/**
+ * DTO com as alterações de todas as conversas do usuário desde o cursor de sincronização
+ */
+public class SyncResponse {
+
+    private List<MessageResponse> messages;
+    private List<SyncChatStateResponse> chats;
+    private String nextCursor;
+    private Boolean hasMore;
+    private Boolean resyncRequired;
+
+    // Constructors
+    public SyncResponse() {}
+
+    public SyncResponse(List<MessageResponse> messages, List<SyncChatStateResponse> chats,
+                        String nextCursor, Boolean hasMore, Boolean resyncRequired) {
+        this.messages = messages;
+        this.chats = chats;
+        this.nextCursor = nextCursor;
+        this.hasMore = hasMore;
+        this.resyncRequired = resyncRequired;
+    }
+
+    /**
+     * Resposta sem alterações, apenas com o cursor a partir do qual sincronizar
+     */
+    public static SyncResponse empty(String cursor, boolean resyncRequired) {
+        return new SyncResponse(List.of(), List.of(), cursor, false, resyncRequired);
+    }
+
+    // Getters and Setters
+    public List<MessageResponse> getMessages() {
+        return messages;
+    }
+
+    public void setMessages(List<MessageResponse> messages) {
+        this.messages = messages;
+    }
+
+    public List<SyncChatStateResponse> getChats() {
+        return chats;
+    }
+
+    public void setChats(List<SyncChatStateResponse> chats) {
+        this.chats = chats;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public Boolean getHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(Boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+
+    public Boolean getResyncRequired() {
+        return resyncRequired;
+    }
+
+    public void setResyncRequired(Boolean resyncRequired) {
+        this.resyncRequired = resyncRequired;
+    }
+}
@@ -0,0 +1,38 @@
+package com.comuniquecem.dto.response;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * DTO com os contadores de mensagens não lidas do usuário
+ */
+public class UnreadCountsResponse {
+
+    private Long total;
+    private Map<UUID, Long> chats;
+
+    // Constructors
+    public UnreadCountsResponse() {}
+
+    public UnreadCountsResponse(Long total, Map<UUID, Long> chats) {
+        this.total = total;
+        this.chats = chats;
+    }
+
+    // Getters and Setters
+    public Long getTotal() {
+        return total;
+    }
+
+    public void setTotal(Long total) {
+        this.total = total;
+    }
+
+    public Map<UUID, Long> getChats() {
+        return chats;
+    }
+
+    public void setChats(Map<UUID, Long> chats) {
+        this.chats = chats;
+    }
+}
@@ -0,0 +1,80 @@
+package com.comuniquecem.entity;
+
+import jakarta.persistence.*;
+
+/**
+ * Entidade representando um arquivo armazenado pelo conteúdo.
+ * O SHA-256 do conteúdo é a identidade do arquivo: o mesmo arquivo enviado em várias
+ * conversas é gravado em disco uma única vez. O nome original fica em cada mensagem.
+ * Imagens públicas (fotos de perfil, logos, imagens de notícias) podem ser baixadas por qualquer usuário autenticado.
+ */
+@Entity
+@Table(name = "attachments", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_attachment_sha256", columnNames = "sha256")
+})
+public class Attachment extends BaseEntity {
+
+    @Column(name = "sha256", nullable = false, length = 64, updatable = false)
+    private String sha256;
+
+    @Column(name = "size", nullable = false, updatable = false)
+    private Long size;
+
+    @Column(name = "content_type", nullable = false, length = 100)
+    private String contentType;
+
+    @Column(name = "public_image", nullable = false)
+    private Boolean publicImage = false;
+
+    // Constructors
+    public Attachment() {}
+
+    public Attachment(String sha256, Long size, String contentType) {
+        this.sha256 = sha256;
+        this.size = size;
+        this.contentType = contentType;
+    }
+
+    // Getters and Setters
+    public String getSha256() {
+        return sha256;
+    }
+
+    public void setSha256(String sha256) {
+        this.sha256 = sha256;
+    }
+
+    public Long getSize() {
+        return size;
+    }
+
+    public void setSize(Long size) {
+        this.size = size;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public void setContentType(String contentType) {
+        this.contentType = contentType;
+    }
+
+    public Boolean getPublicImage() {
+        return publicImage;
+    }
+
+    public void setPublicImage(Boolean publicImage) {
+        this.publicImage = publicImage;
+    }
+
+    @Override
+    public String toString() {
+        return "Attachment{" +
+                "id=" + getId() +
+                ", sha256='" + sha256 + '\'' +
+                ", size=" + size +
+                ", contentType='" + contentType + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,49 @@
+package com.comuniquecem.entity;
+
+import jakarta.persistence.*;
+
+/**
+ * Entidade registrando que um usuário enviou um arquivo.
+ * Como o arquivo é deduplicado pelo conteúdo, cada usuário que o enviou tem o seu registro:
+ * é o que permite anexá-lo a uma mensagem sem expor arquivos de terceiros pelo hash.
+ */
+@Entity
+@Table(name = "attachment_uploads", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_attachment_upload", columnNames = {"attachment_id", "user_id"})
+})
+public class AttachmentUpload extends BaseEntity {
+
+    // Relacionamentos
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "attachment_id", nullable = false)
+    private Attachment attachment;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    // Constructors
+    public AttachmentUpload() {}
+
+    public AttachmentUpload(Attachment attachment, User user) {
+        this.attachment = attachment;
+        this.user = user;
+    }
+
+    // Getters and Setters
+    public Attachment getAttachment() {
+        return attachment;
+    }
+
+    public void setAttachment(Attachment attachment) {
+        this.attachment = attachment;
+    }
+
+    public User getUser() {
+        return user;
+    }
+
+    public void setUser(User user) {
+        this.user = user;
+    }
+}
@@ -1,6 +1,7 @@
 package com.comuniquecem.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.FilterDef;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -12,6 +13,8 @@ import java.util.UUID;
  * Classe base para todas as entidades com auditoria automática
  */
 @MappedSuperclass
+@FilterDef(name = SoftDeleteFilters.ACTIVE, defaultCondition = "active = true")
+@FilterDef(name = SoftDeleteFilters.NOT_DELETED, defaultCondition = "deleted = false")
 @EntityListeners(AuditingEntityListener.class)
 public abstract class BaseEntity {
 
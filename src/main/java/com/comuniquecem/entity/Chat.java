@@ -1,35 +1,70 @@
 package com.comuniquecem.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Filter;
 
 import java.util.HashSet;
 import java.util.Set;
 
 /**
- * Entidade representando uma conversa entre dois usuários
+ * Entidade representando uma conversa entre dois usuários.
+ * O par é armazenado em ordem canônica (user1_id < user2_id), de modo que existe no máximo
+ * uma conversa por par e a busca é uma única sonda no índice único.
+ * Conversas inativas ficam fora das consultas (filtro {@link SoftDeleteFilters#ACTIVE}).
  */
 @Entity
-@Table(name = "chats", indexes = {
-    @Index(name = "idx_chat_users", columnList = "user1_id, user2_id"),
-    @Index(name = "idx_chat_user1", columnList = "user1_id"),
-    @Index(name = "idx_chat_user2", columnList = "user2_id")
-})
+@Table(name = "chats",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_chat_pair", columnNames = {"user1_id", "user2_id"})
+    },
+    indexes = {
+        @Index(name = "idx_chat_user2_active", columnList = "user2_id") // parcial (WHERE active) no PostgreSQL
+    })
+@Filter(name = SoftDeleteFilters.ACTIVE)
 public class Chat extends BaseEntity {
 
     @Column(name = "active", nullable = false)
     private Boolean active = true;
 
+    public static final int PREVIEW_LENGTH = 140;
+
     @Column(name = "last_message_at")
     private java.time.LocalDateTime lastMessageAt;
 
+    // Prévia da última mensagem, desnormalizada para a caixa de entrada
+    @Column(name = "last_message_preview", length = PREVIEW_LENGTH)
+    private String lastMessagePreview;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "last_message_sender_id")
+    private User lastMessageSender;
+
+    // Marcas d'água de confirmação: cada participante recebeu/leu todas as
+    // mensagens do outro enviadas até o instante indicado
+    @Column(name = "user1_delivered_up_to")
+    private java.time.LocalDateTime user1DeliveredUpTo;
+
+    @Column(name = "user1_read_up_to")
+    private java.time.LocalDateTime user1ReadUpTo;
+
+    @Column(name = "user2_delivered_up_to")
+    private java.time.LocalDateTime user2DeliveredUpTo;
+
+    @Column(name = "user2_read_up_to")
+    private java.time.LocalDateTime user2ReadUpTo;
+
     // Relacionamentos
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user1_id", nullable = false)
-    private User user1; // Usuário que iniciou a conversa
+    private User user1; // Participante de menor id
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user2_id", nullable = false)
-    private User user2; // Usuário que recebeu o convite
+    private User user2; // Participante de maior id
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "initiated_by_id", nullable = false)
+    private User initiatedBy; // Usuário que iniciou a conversa
 
     @OneToMany(mappedBy = "chat", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private Set<Message> messages = new HashSet<>();
@@ -37,12 +72,22 @@ public class Chat extends BaseEntity {
     // Constructors
     public Chat() {}
 
-    public Chat(User user1, User user2) {
-        this.user1 = user1;
-        this.user2 = user2;
+    public Chat(User initiator, User other) {
+        boolean initiatorFirst = compareUserIds(initiator.getId(), other.getId()) < 0;
+        this.user1 = initiatorFirst ? initiator : other;
+        this.user2 = initiatorFirst ? other : initiator;
+        this.initiatedBy = initiator;
         this.lastMessageAt = java.time.LocalDateTime.now();
     }
 
+    /**
+     * Compara ids na mesma ordem do tipo uuid do PostgreSQL (bytes sem sinal), que define o par canônico
+     */
+    public static int compareUserIds(java.util.UUID a, java.util.UUID b) {
+        int result = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return result != 0 ? result : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+
     // Getters and Setters
     public Boolean getActive() {
         return active;
@@ -60,6 +105,54 @@ public class Chat extends BaseEntity {
         this.lastMessageAt = lastMessageAt;
     }
 
+    public String getLastMessagePreview() {
+        return lastMessagePreview;
+    }
+
+    public void setLastMessagePreview(String lastMessagePreview) {
+        this.lastMessagePreview = lastMessagePreview;
+    }
+
+    public User getLastMessageSender() {
+        return lastMessageSender;
+    }
+
+    public void setLastMessageSender(User lastMessageSender) {
+        this.lastMessageSender = lastMessageSender;
+    }
+
+    public java.time.LocalDateTime getUser1DeliveredUpTo() {
+        return user1DeliveredUpTo;
+    }
+
+    public void setUser1DeliveredUpTo(java.time.LocalDateTime user1DeliveredUpTo) {
+        this.user1DeliveredUpTo = user1DeliveredUpTo;
+    }
+
+    public java.time.LocalDateTime getUser1ReadUpTo() {
+        return user1ReadUpTo;
+    }
+
+    public void setUser1ReadUpTo(java.time.LocalDateTime user1ReadUpTo) {
+        this.user1ReadUpTo = user1ReadUpTo;
+    }
+
+    public java.time.LocalDateTime getUser2DeliveredUpTo() {
+        return user2DeliveredUpTo;
+    }
+
+    public void setUser2DeliveredUpTo(java.time.LocalDateTime user2DeliveredUpTo) {
+        this.user2DeliveredUpTo = user2DeliveredUpTo;
+    }
+
+    public java.time.LocalDateTime getUser2ReadUpTo() {
+        return user2ReadUpTo;
+    }
+
+    public void setUser2ReadUpTo(java.time.LocalDateTime user2ReadUpTo) {
+        this.user2ReadUpTo = user2ReadUpTo;
+    }
+
     public User getUser1() {
         return user1;
     }
@@ -76,6 +169,14 @@ public class Chat extends BaseEntity {
         this.user2 = user2;
     }
 
+    public User getInitiatedBy() {
+        return initiatedBy;
+    }
+
+    public void setInitiatedBy(User initiatedBy) {
+        this.initiatedBy = initiatedBy;
+    }
+
     public Set<Message> getMessages() {
         return messages;
     }
@@ -96,17 +197,79 @@ public class Chat extends BaseEntity {
     public void addMessage(Message message) {
         this.messages.add(message);
         message.setChat(this);
-        this.lastMessageAt = java.time.LocalDateTime.now();
+        registerLastMessage(message);
+    }
+
+    public void registerLastMessage(Message message) {
+        this.lastMessageAt = message.getSentAt();
+        this.lastMessagePreview = previewOf(message);
+        this.lastMessageSender = message.getSender();
+    }
+
+    public static String previewOf(Message message) {
+        return previewOf(message.getIsFile(), message.getFileName(), message.getContent());
+    }
+
+    public static String previewOf(Boolean isFile, String fileName, String content) {
+        String text = Boolean.TRUE.equals(isFile) ? fileName : content;
+        if (text == null) {
+            return null;
+        }
+        return text.length() > PREVIEW_LENGTH ? text.substring(0, PREVIEW_LENGTH - 1) + "…" : text;
     }
 
     public boolean canBeAccessedBy(User user) {
         return includesUser(user);
     }
 
+    public boolean isUser1(java.util.UUID userId) {
+        return user1.getId().equals(userId);
+    }
+
+    public User getOtherUser(java.util.UUID userId) {
+        return isUser1(userId) ? user2 : user1;
+    }
+
+    public java.time.LocalDateTime getReadUpTo(java.util.UUID userId) {
+        return isUser1(userId) ? user1ReadUpTo : user2ReadUpTo;
+    }
+
+    public java.time.LocalDateTime getDeliveredUpTo(java.util.UUID userId) {
+        java.time.LocalDateTime delivered = isUser1(userId) ? user1DeliveredUpTo : user2DeliveredUpTo;
+        java.time.LocalDateTime read = getReadUpTo(userId);
+        // Mensagem lida implica mensagem entregue
+        if (delivered == null || (read != null && read.isAfter(delivered))) {
+            return read;
+        }
+        return delivered;
+    }
+
+    /**
+     * Deriva o status de leitura de uma mensagem a partir da marca d'água do destinatário
+     */
+    public boolean isReadByRecipient(Message message) {
+        java.time.LocalDateTime upTo = getReadUpTo(recipientIdOf(message));
+        return upTo != null && !message.getSentAt().isAfter(upTo);
+    }
+
+    /**
+     * Deriva o status de entrega de uma mensagem a partir da marca d'água do destinatário
+     */
+    public boolean isDeliveredToRecipient(Message message) {
+        java.time.LocalDateTime upTo = getDeliveredUpTo(recipientIdOf(message));
+        return upTo != null && !message.getSentAt().isAfter(upTo);
+    }
+
+    private java.util.UUID recipientIdOf(Message message) {
+        java.util.UUID senderId = message.getSender().getId();
+        return isUser1(senderId) ? user2.getId() : user1.getId();
+    }
+
     public long getUnreadCount(User user) {
+        java.time.LocalDateTime upTo = getReadUpTo(user.getId());
         return messages.stream()
                 .filter(message -> !message.getSender().equals(user))
-                .filter(message -> !message.getRead())
+                .filter(message -> upTo == null || message.getSentAt().isAfter(upTo))
                 .count();
     }
 
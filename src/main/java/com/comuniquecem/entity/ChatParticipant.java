@@ -0,0 +1,98 @@
+package com.comuniquecem.entity;
+
+import jakarta.persistence.*;
+
+/**
+ * Entidade representando o estado de um participante em uma conversa.
+ * Mantém o contador de mensagens não lidas, atualizado de forma incremental, e serve
+ * de índice da caixa de entrada: uma linha por usuário, ordenável por última mensagem.
+ */
+@Entity
+@Table(name = "chat_participants",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_chat_participant", columnNames = {"chat_id", "user_id"})
+    },
+    indexes = {
+        @Index(name = "idx_chat_participant_inbox", columnList = "user_id, last_message_at, chat_id")
+    })
+public class ChatParticipant extends BaseEntity {
+
+    @Column(name = "unread_count", nullable = false)
+    private Long unreadCount = 0L;
+
+    @Column(name = "last_message_at", nullable = false)
+    private java.time.LocalDateTime lastMessageAt;
+
+    // Relacionamentos
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "chat_id", nullable = false)
+    private Chat chat;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "other_user_id", nullable = false)
+    private User otherUser;
+
+    // Constructors
+    public ChatParticipant() {}
+
+    public ChatParticipant(Chat chat, User user) {
+        this.chat = chat;
+        this.user = user;
+        this.otherUser = chat.getOtherUser(user.getId());
+        this.lastMessageAt = chat.getLastMessageAt() != null ? chat.getLastMessageAt() : chat.getCreatedAt();
+    }
+
+    // Getters and Setters
+    public Long getUnreadCount() {
+        return unreadCount;
+    }
+
+    public void setUnreadCount(Long unreadCount) {
+        this.unreadCount = unreadCount;
+    }
+
+    public java.time.LocalDateTime getLastMessageAt() {
+        return lastMessageAt;
+    }
+
+    public void setLastMessageAt(java.time.LocalDateTime lastMessageAt) {
+        this.lastMessageAt = lastMessageAt;
+    }
+
+    public Chat getChat() {
+        return chat;
+    }
+
+    public void setChat(Chat chat) {
+        this.chat = chat;
+    }
+
+    public User getUser() {
+        return user;
+    }
+
+    public void setUser(User user) {
+        this.user = user;
+    }
+
+    public User getOtherUser() {
+        return otherUser;
+    }
+
+    public void setOtherUser(User otherUser) {
+        this.otherUser = otherUser;
+    }
+
+    @Override
+    public String toString() {
+        return "ChatParticipant{" +
+                "id=" + getId() +
+                ", unreadCount=" + unreadCount +
+                ", lastMessageAt=" + lastMessageAt +
+                '}';
+    }
+}
@@ -3,15 +3,18 @@ package com.comuniquecem.entity;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.Filter;
 
 import java.util.HashSet;
 import java.util.Set;
 
 /**
- * Entidade representando uma instituição de ensino
+ * Entidade representando uma instituição de ensino.
+ * Instituições inativas ficam fora das consultas (filtro {@link SoftDeleteFilters#ACTIVE}).
  */
 @Entity
 @Table(name = "institutions")
+@Filter(name = SoftDeleteFilters.ACTIVE)
 public class Institution extends BaseEntity {
 
     @NotBlank(message = "Nome da instituição é obrigatório")
@@ -0,0 +1,86 @@
+package com.comuniquecem.entity;
+
+import jakarta.persistence.*;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Entidade com a pontuação de um aluno no ranking da instituição.
+ *
+ * É apenas a cópia periódica do sorted set do ranking, gravada por upsert JDBC; serve para
+ * reconstruí-lo se ele se perder, nunca para consultar posições.
+ */
+@Entity
+@Table(name = "leaderboard_scores")
+public class LeaderboardScore {
+
+    @EmbeddedId
+    private Key id;
+
+    @Column(name = "score", nullable = false, updatable = false)
+    private Long score;
+
+    @Column(name = "updated_at", nullable = false, updatable = false)
+    private LocalDateTime updatedAt;
+
+    // Constructors
+    public LeaderboardScore() {}
+
+    // Getters
+    public Key getId() {
+        return id;
+    }
+
+    public Long getScore() {
+        return score;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    /**
+     * Chave composta: instituição e aluno
+     */
+    @Embeddable
+    public static class Key implements Serializable {
+
+        @Column(name = "institution_id", nullable = false, updatable = false)
+        private UUID institutionId;
+
+        @Column(name = "user_id", nullable = false, updatable = false)
+        private UUID userId;
+
+        // Constructors
+        public Key() {}
+
+        public Key(UUID institutionId, UUID userId) {
+            this.institutionId = institutionId;
+            this.userId = userId;
+        }
+
+        // Getters
+        public UUID getInstitutionId() {
+            return institutionId;
+        }
+
+        public UUID getUserId() {
+            return userId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key key)) return false;
+            return Objects.equals(institutionId, key.institutionId) && Objects.equals(userId, key.userId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(institutionId, userId);
+        }
+    }
+}
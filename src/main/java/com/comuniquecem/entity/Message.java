@@ -3,18 +3,26 @@ package com.comuniquecem.entity;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import org.hibernate.annotations.Filter;
 
 import java.time.LocalDateTime;
 
 /**
- * Entidade representando uma mensagem no chat
+ * Entidade representando uma mensagem no chat.
+ * O status de entrega/leitura não é armazenado por mensagem: é derivado das
+ * marcas d'água de cada participante em {@link Chat}.
+ * No PostgreSQL a tabela é particionada por mês em sent_at; consultas devem limitar
+ * sent_at sempre que possível para que apenas as partições relevantes sejam lidas.
+ * Mensagens apagadas ficam fora das consultas (filtro {@link SoftDeleteFilters#NOT_DELETED}).
  */
 @Entity
 @Table(name = "messages", indexes = {
-    @Index(name = "idx_message_chat", columnList = "chat_id"),
+    @Index(name = "idx_message_chat_live", columnList = "chat_id, sent_at"), // parcial (WHERE NOT deleted) no PostgreSQL
     @Index(name = "idx_message_sender", columnList = "sender_id"),
-    @Index(name = "idx_message_sent_at", columnList = "sent_at")
+    @Index(name = "idx_message_deleted_at", columnList = "deleted_at"), // parcial (WHERE deleted) no PostgreSQL
+    @Index(name = "idx_message_attachment", columnList = "attachment_sha256") // parcial (WHERE NOT NULL) no PostgreSQL
 })
+@Filter(name = SoftDeleteFilters.NOT_DELETED)
 public class Message extends BaseEntity {
 
     @NotBlank(message = "Conteúdo da mensagem é obrigatório")
@@ -25,18 +33,6 @@ public class Message extends BaseEntity {
     @Column(name = "sent_at", nullable = false)
     private LocalDateTime sentAt;
 
-    @Column(name = "delivered", nullable = false)
-    private Boolean delivered = false;
-
-    @Column(name = "delivered_at")
-    private LocalDateTime deliveredAt;
-
-    @Column(name = "read", nullable = false)
-    private Boolean read = false;
-
-    @Column(name = "read_at")
-    private LocalDateTime readAt;
-
     @Column(name = "is_file", nullable = false)
     private Boolean isFile = false;
 
@@ -52,6 +48,10 @@ public class Message extends BaseEntity {
     @Column(name = "file_type")
     private String fileType;
 
+    // Hash do arquivo em attachments; fileUrl aponta para o download desse arquivo
+    @Column(name = "attachment_sha256", length = 64)
+    private String attachmentSha256;
+
     @Column(name = "deleted", nullable = false)
     private Boolean deleted = false;
 
@@ -73,8 +73,9 @@ public class Message extends BaseEntity {
     @JoinColumn(name = "sender_id", nullable = false)
     private User sender;
 
+    // Sem FK: a chave primária da tabela particionada inclui sent_at
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "reply_to_id")
+    @JoinColumn(name = "reply_to_id", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private Message replyTo; // Para responder a uma mensagem específica
 
     // Constructors
@@ -117,48 +118,6 @@ public class Message extends BaseEntity {
         this.sentAt = sentAt;
     }
 
-    public Boolean getDelivered() {
-        return delivered;
-    }
-
-    public void setDelivered(Boolean delivered) {
-        this.delivered = delivered;
-        if (delivered && deliveredAt == null) {
-            this.deliveredAt = LocalDateTime.now();
-        }
-    }
-
-    public LocalDateTime getDeliveredAt() {
-        return deliveredAt;
-    }
-
-    public void setDeliveredAt(LocalDateTime deliveredAt) {
-        this.deliveredAt = deliveredAt;
-    }
-
-    public Boolean getRead() {
-        return read;
-    }
-
-    public void setRead(Boolean read) {
-        this.read = read;
-        if (read && readAt == null) {
-            this.readAt = LocalDateTime.now();
-            // Auto-mark as delivered when read
-            if (!delivered) {
-                setDelivered(true);
-            }
-        }
-    }
-
-    public LocalDateTime getReadAt() {
-        return readAt;
-    }
-
-    public void setReadAt(LocalDateTime readAt) {
-        this.readAt = readAt;
-    }
-
     public Boolean getIsFile() {
         return isFile;
     }
@@ -199,6 +158,14 @@ public class Message extends BaseEntity {
         this.fileType = fileType;
     }
 
+    public String getAttachmentSha256() {
+        return attachmentSha256;
+    }
+
+    public void setAttachmentSha256(String attachmentSha256) {
+        this.attachmentSha256 = attachmentSha256;
+    }
+
     public Boolean getDeleted() {
         return deleted;
     }
@@ -301,8 +268,6 @@ public class Message extends BaseEntity {
                 "id=" + getId() +
                 ", sender=" + sender.getName() +
                 ", isFile=" + isFile +
-                ", delivered=" + delivered +
-                ", read=" + read +
                 ", deleted=" + deleted +
                 ", sentAt=" + sentAt +
                 '}';
@@ -9,11 +9,15 @@ import jakarta.validation.constraints.Size;
  */
 @Entity
 @Table(name = "news", indexes = {
-    @Index(name = "idx_news_institution", columnList = "institution_id"),
+    @Index(name = "idx_news_feed", columnList = "institution_id, published, created_at DESC, id DESC"),
+    @Index(name = "idx_news_featured", columnList = "institution_id, created_at DESC"), // parcial (WHERE published AND featured) no PostgreSQL
     @Index(name = "idx_news_created_at", columnList = "created_at")
 })
 public class News extends BaseEntity {
 
+    // Tamanho do trecho do conteúdo exibido no feed
+    public static final int EXCERPT_LENGTH = 200;
+
     @NotBlank(message = "Título é obrigatório")
     @Size(min = 5, max = 200, message = "Título deve ter entre 5 e 200 caracteres")
     @Column(name = "title", nullable = false)
@@ -32,7 +36,8 @@ public class News extends BaseEntity {
     @Column(name = "featured", nullable = false)
     private Boolean featured = false;
 
-    @Column(name = "views", nullable = false)
+    // Mantido somente pelo NewsViewCounterService (UPDATE incremental): a entidade nunca grava o valor
+    @Column(name = "views", nullable = false, updatable = false)
     private Long views = 0L;
 
     // Relacionamentos
@@ -120,10 +125,6 @@ public class News extends BaseEntity {
     }
 
     // Helper methods
-    public void incrementViews() {
-        this.views++;
-    }
-
     public boolean canBeEditedBy(User user) {
         return this.author.equals(user) || 
                user.getRole().name().contains("ADMIN");
@@ -0,0 +1,74 @@
+package com.comuniquecem.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Entidade de uma distribuição de notícia publicada ainda em andamento.
+ *
+ * Gravada e avançada por JDBC em {@link com.comuniquecem.service.NewsPublishFanOutService}:
+ * last_recipient_id é o cursor keyset dos destinatários já notificados e lease_until o prazo
+ * após o qual uma distribuição interrompida é retomada. Referências são apenas ids (sem FKs).
+ */
+@Entity
+@Table(name = "news_fan_out_jobs", indexes = {
+    @Index(name = "idx_news_fan_out_job_lease", columnList = "lease_until")
+})
+public class NewsFanOutJob {
+
+    @Id
+    @Column(name = "news_id", updatable = false, nullable = false)
+    private UUID newsId;
+
+    @Column(name = "institution_id", nullable = false, updatable = false)
+    private UUID institutionId;
+
+    @Column(name = "author_id", nullable = false, updatable = false)
+    private UUID authorId;
+
+    @Column(name = "title", updatable = false)
+    private String title;
+
+    @Column(name = "published_at", nullable = false, updatable = false)
+    private LocalDateTime publishedAt;
+
+    @Column(name = "last_recipient_id", nullable = false)
+    private UUID lastRecipientId;
+
+    @Column(name = "lease_until", nullable = false)
+    private LocalDateTime leaseUntil;
+
+    // Constructors
+    public NewsFanOutJob() {}
+
+    // Getters
+    public UUID getNewsId() {
+        return newsId;
+    }
+
+    public UUID getInstitutionId() {
+        return institutionId;
+    }
+
+    public UUID getAuthorId() {
+        return authorId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public LocalDateTime getPublishedAt() {
+        return publishedAt;
+    }
+
+    public UUID getLastRecipientId() {
+        return lastRecipientId;
+    }
+
+    public LocalDateTime getLeaseUntil() {
+        return leaseUntil;
+    }
+}
@@ -0,0 +1,78 @@
+package com.comuniquecem.entity;
+
+import com.comuniquecem.entity.enums.NotificationType;
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Entidade de uma notificação de um usuário.
+ *
+ * As notificações são gravadas em lote por JDBC na distribuição de uma publicação (uma linha
+ * por destinatário) e não estendem {@link BaseEntity}: não têm versão nem auditoria, e
+ * referências são apenas ids (sem FKs). Somente read_at muda depois da gravação. No PostgreSQL,
+ * o índice único parcial uk_notification_news_recipient impede notificar duas vezes a mesma notícia.
+ */
+@Entity
+@Table(name = "notifications", indexes = {
+    @Index(name = "idx_notification_user_created", columnList = "user_id, created_at DESC, id DESC"),
+    @Index(name = "idx_notification_user_unread", columnList = "user_id") // parcial (WHERE read_at IS NULL) no PostgreSQL
+})
+public class Notification {
+
+    @Id
+    @Column(name = "id", updatable = false, nullable = false)
+    private UUID id;
+
+    @Column(name = "user_id", nullable = false, updatable = false)
+    private UUID userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false, length = 30, updatable = false)
+    private NotificationType type;
+
+    @Column(name = "reference_id", updatable = false)
+    private UUID referenceId;
+
+    @Column(name = "title", updatable = false)
+    private String title;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "read_at")
+    private LocalDateTime readAt;
+
+    // Constructors
+    public Notification() {}
+
+    // Getters
+    public UUID getId() {
+        return id;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public NotificationType getType() {
+        return type;
+    }
+
+    public UUID getReferenceId() {
+        return referenceId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getReadAt() {
+        return readAt;
+    }
+}
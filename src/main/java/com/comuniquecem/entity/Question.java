@@ -3,14 +3,17 @@ package com.comuniquecem.entity;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.Filter;
 
 /**
- * Entidade representando uma questão de quiz
+ * Entidade representando uma questão de quiz.
+ * Questões inativas ficam fora das consultas (filtro {@link SoftDeleteFilters#ACTIVE}).
  */
 @Entity
 @Table(name = "questions", indexes = {
-    @Index(name = "idx_question_institution", columnList = "institution_id")
+    @Index(name = "idx_question_institution_active", columnList = "institution_id") // parcial (WHERE active) no PostgreSQL
 })
+@Filter(name = SoftDeleteFilters.ACTIVE)
 public class Question extends BaseEntity {
 
     @NotBlank(message = "Título da questão é obrigatório")
@@ -51,10 +54,11 @@ public class Question extends BaseEntity {
     @Column(name = "active", nullable = false)
     private Boolean active = true;
 
-    @Column(name = "answer_count", nullable = false)
+    // Somados em lote por QuestionAnswerCounterService, fora da versão: edições não sobrescrevem
+    @Column(name = "answer_count", nullable = false, updatable = false)
     private Long answerCount = 0L;
 
-    @Column(name = "correct_count", nullable = false)
+    @Column(name = "correct_count", nullable = false, updatable = false)
     private Long correctCount = 0L;
 
     // Relacionamentos
@@ -191,13 +195,6 @@ public class Question extends BaseEntity {
         return this.correctAnswer.equals(answer);
     }
 
-    public void recordAnswer(boolean correct) {
-        this.answerCount++;
-        if (correct) {
-            this.correctCount++;
-        }
-    }
-
     public double getSuccessRate() {
         return answerCount > 0 ? (double) correctCount / answerCount * 100 : 0.0;
     }
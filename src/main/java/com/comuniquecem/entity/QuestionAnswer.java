@@ -0,0 +1,69 @@
+package com.comuniquecem.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Entidade do log de respostas das questões.
+ *
+ * Cada resposta é uma linha nova, gravada por JDBC, então alunos respondendo a mesma questão
+ * ao mesmo tempo não disputam a linha (versionada) de {@link Question}. As linhas são imutáveis
+ * e não estendem {@link BaseEntity}: não têm versão nem auditoria, e referências são apenas ids.
+ */
+@Entity
+@Table(name = "question_answers", indexes = {
+    @Index(name = "idx_question_answer_question", columnList = "question_id, answered_at"),
+    @Index(name = "idx_question_answer_user", columnList = "user_id, answered_at")
+})
+public class QuestionAnswer {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", updatable = false, nullable = false)
+    private Long id;
+
+    @Column(name = "question_id", nullable = false, updatable = false)
+    private UUID questionId;
+
+    @Column(name = "user_id", nullable = false, updatable = false)
+    private UUID userId;
+
+    @Column(name = "answer", nullable = false, updatable = false)
+    private String answer;
+
+    @Column(name = "correct", nullable = false, updatable = false)
+    private Boolean correct;
+
+    @Column(name = "answered_at", nullable = false, updatable = false)
+    private LocalDateTime answeredAt;
+
+    // Constructors
+    public QuestionAnswer() {}
+
+    // Getters
+    public Long getId() {
+        return id;
+    }
+
+    public UUID getQuestionId() {
+        return questionId;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public String getAnswer() {
+        return answer;
+    }
+
+    public Boolean getCorrect() {
+        return correct;
+    }
+
+    public LocalDateTime getAnsweredAt() {
+        return answeredAt;
+    }
+}
@@ -6,6 +6,9 @@ import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Objects;
 
 /**
  * Entidade representando um item de cronograma/agenda
@@ -13,10 +16,14 @@ import java.time.LocalDate;
 @Entity
 @Table(name = "schedules", indexes = {
     @Index(name = "idx_schedule_user", columnList = "user_id"),
-    @Index(name = "idx_schedule_date", columnList = "activity_date")
+    @Index(name = "idx_schedule_date", columnList = "activity_date"),
+    @Index(name = "idx_schedule_reminder_pending", columnList = "reminder_due_at")
 })
 public class Schedule extends BaseEntity {
 
+    // Horário em que os lembretes são enviados no dia calculado
+    public static final LocalTime REMINDER_TIME = LocalTime.of(8, 0);
+
     @NotBlank(message = "Nome da atividade é obrigatório")
     @Size(min = 3, max = 200, message = "Nome da atividade deve ter entre 3 e 200 caracteres")
     @Column(name = "activity_name", nullable = false)
@@ -50,6 +57,14 @@ public class Schedule extends BaseEntity {
     @Column(name = "reminder_days_before")
     private Integer reminderDaysBefore = 1;
 
+    // Calculado ao gravar; nulo sem lembrete a enviar
+    @Column(name = "reminder_due_at")
+    private LocalDateTime reminderDueAt;
+
+    // Gravado pelo envio do lembrete (ScheduleReminderService)
+    @Column(name = "reminder_sent_at")
+    private LocalDateTime reminderSentAt;
+
     // Relacionamentos
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
@@ -140,6 +155,14 @@ public class Schedule extends BaseEntity {
         this.reminderDaysBefore = reminderDaysBefore;
     }
 
+    public LocalDateTime getReminderDueAt() {
+        return reminderDueAt;
+    }
+
+    public LocalDateTime getReminderSentAt() {
+        return reminderSentAt;
+    }
+
     public User getUser() {
         return user;
     }
@@ -148,6 +171,24 @@ public class Schedule extends BaseEntity {
         this.user = user;
     }
 
+    /**
+     * Recalcula o vencimento do lembrete; se ele mudar (nova data, prazo ou reativação), o
+     * lembrete volta a ser pendente
+     */
+    @PrePersist
+    @PreUpdate
+    void updateReminderDueAt() {
+        LocalDateTime dueAt = null;
+        if (Boolean.TRUE.equals(reminderEnabled) && !Boolean.TRUE.equals(completed) && activityDate != null) {
+            int daysBefore = reminderDaysBefore != null ? Math.max(reminderDaysBefore, 0) : 0;
+            dueAt = activityDate.minusDays(daysBefore).atTime(REMINDER_TIME);
+        }
+        if (!Objects.equals(dueAt, reminderDueAt)) {
+            reminderDueAt = dueAt;
+            reminderSentAt = null;
+        }
+    }
+
     // Helper methods
     public LocalDate getDeadlineDate() {
         return activityDate.plusDays(deadlineDays);
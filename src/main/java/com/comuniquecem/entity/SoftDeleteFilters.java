@@ -0,0 +1,16 @@
+package com.comuniquecem.entity;
+
+/**
+ * Nomes dos filtros do Hibernate que escondem linhas inativas ou apagadas.
+ *
+ * Os filtros ficam habilitados em toda sessão e se aplicam às consultas (JPQL, métodos derivados
+ * e coleções), mas não à busca por id nem a associações carregadas a partir de outra entidade.
+ * Consultas que precisam das linhas ocultas usam {@link com.comuniquecem.repository.IncludeInactive}.
+ */
+public final class SoftDeleteFilters {
+
+    public static final String ACTIVE = "activeOnly";
+    public static final String NOT_DELETED = "notDeleted";
+
+    private SoftDeleteFilters() {}
+}
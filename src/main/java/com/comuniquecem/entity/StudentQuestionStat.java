@@ -0,0 +1,115 @@
+package com.comuniquecem.entity;
+
+import jakarta.persistence.*;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Entidade com as estatísticas de um aluno em uma questão.
+ *
+ * Mantida por upsert JDBC a cada resposta (tentativas, acertos e sequência de acertos), sem
+ * carregar a entidade. A dificuldade é a da questão no momento da última resposta, para que a
+ * prática adaptativa não precise consultar a tabela de questões.
+ */
+@Entity
+@Table(name = "student_question_stats")
+public class StudentQuestionStat {
+
+    @EmbeddedId
+    private Key id;
+
+    @Column(name = "difficulty_level", nullable = false, updatable = false)
+    private Short difficultyLevel;
+
+    @Column(name = "attempts", nullable = false, updatable = false)
+    private Integer attempts;
+
+    @Column(name = "correct_count", nullable = false, updatable = false)
+    private Integer correctCount;
+
+    @Column(name = "streak", nullable = false, updatable = false)
+    private Integer streak;
+
+    @Column(name = "last_correct", nullable = false, updatable = false)
+    private Boolean lastCorrect;
+
+    @Column(name = "last_answered_at", nullable = false, updatable = false)
+    private LocalDateTime lastAnsweredAt;
+
+    // Constructors
+    public StudentQuestionStat() {}
+
+    // Getters
+    public Key getId() {
+        return id;
+    }
+
+    public Short getDifficultyLevel() {
+        return difficultyLevel;
+    }
+
+    public Integer getAttempts() {
+        return attempts;
+    }
+
+    public Integer getCorrectCount() {
+        return correctCount;
+    }
+
+    public Integer getStreak() {
+        return streak;
+    }
+
+    public Boolean getLastCorrect() {
+        return lastCorrect;
+    }
+
+    public LocalDateTime getLastAnsweredAt() {
+        return lastAnsweredAt;
+    }
+
+    /**
+     * Chave composta: aluno e questão
+     */
+    @Embeddable
+    public static class Key implements Serializable {
+
+        @Column(name = "user_id", nullable = false, updatable = false)
+        private UUID userId;
+
+        @Column(name = "question_id", nullable = false, updatable = false)
+        private UUID questionId;
+
+        // Constructors
+        public Key() {}
+
+        public Key(UUID userId, UUID questionId) {
+            this.userId = userId;
+            this.questionId = questionId;
+        }
+
+        // Getters
+        public UUID getUserId() {
+            return userId;
+        }
+
+        public UUID getQuestionId() {
+            return questionId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key key)) return false;
+            return Objects.equals(userId, key.userId) && Objects.equals(questionId, key.questionId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(userId, questionId);
+        }
+    }
+}
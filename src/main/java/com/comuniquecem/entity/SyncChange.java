@@ -0,0 +1,86 @@
+package com.comuniquecem.entity;
+
+import com.comuniquecem.entity.enums.SyncChangeType;
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Entidade do log de alterações usado pela sincronização incremental dos clientes.
+ *
+ * Cada alteração em uma conversa gera uma linha por participante. A posição de cada linha é
+ * (xid, seq): a transação que a gravou e uma sequência crescente. As alterações de um usuário
+ * após um cursor são uma única varredura do índice (user_id, xid, seq). As linhas são
+ * imutáveis, gravadas em lote por JDBC, e não estendem {@link BaseEntity}: não têm versão nem
+ * auditoria, e referências são apenas ids (sem FKs).
+ */
+@Entity
+@Table(name = "sync_changes", indexes = {
+    @Index(name = "idx_sync_change_user_xid_seq", columnList = "user_id, xid, seq")
+})
+public class SyncChange {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "seq", updatable = false, nullable = false)
+    private Long seq;
+
+    @Column(name = "user_id", nullable = false, updatable = false)
+    private UUID userId;
+
+    @Column(name = "chat_id", nullable = false, updatable = false)
+    private UUID chatId;
+
+    @Column(name = "message_id", updatable = false)
+    private UUID messageId;
+
+    @Column(name = "message_sent_at", updatable = false)
+    private LocalDateTime messageSentAt;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false, length = 20, updatable = false)
+    private SyncChangeType type;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "xid", nullable = false, updatable = false)
+    private Long xid;
+
+    // Constructors
+    public SyncChange() {}
+
+    // Getters
+    public Long getSeq() {
+        return seq;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public UUID getChatId() {
+        return chatId;
+    }
+
+    public UUID getMessageId() {
+        return messageId;
+    }
+
+    public LocalDateTime getMessageSentAt() {
+        return messageSentAt;
+    }
+
+    public SyncChangeType getType() {
+        return type;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public Long getXid() {
+        return xid;
+    }
+}
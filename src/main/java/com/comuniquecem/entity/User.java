@@ -6,6 +6,7 @@ import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.Filter;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -13,16 +14,19 @@ import org.springframework.security.core.userdetails.UserDetails;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Objects;
 import java.util.Set;
 
 /**
- * Entidade representando um usuário do sistema
+ * Entidade representando um usuário do sistema.
+ * Usuários inativos ficam fora das consultas (filtro {@link SoftDeleteFilters#ACTIVE}).
  */
 @Entity
 @Table(name = "users", indexes = {
     @Index(name = "idx_user_email", columnList = "email"),
-    @Index(name = "idx_user_institution", columnList = "institution_id")
+    @Index(name = "idx_user_institution_active", columnList = "institution_id, id") // parcial (WHERE active) no PostgreSQL
 })
+@Filter(name = SoftDeleteFilters.ACTIVE)
 public class User extends BaseEntity implements UserDetails {
 
     @NotBlank(message = "Nome do usuário é obrigatório")
@@ -69,6 +73,10 @@ public class User extends BaseEntity implements UserDetails {
     @Column(name = "last_login_at")
     private java.time.LocalDateTime lastLoginAt;
 
+    // Só muda com o nome: versão do nome exibido nas notícias (ETags), sem login e status online
+    @Column(name = "name_changed_at")
+    private java.time.LocalDateTime nameChangedAt;
+
     // Relacionamentos
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "institution_id", nullable = false)
@@ -131,6 +139,9 @@ public class User extends BaseEntity implements UserDetails {
     }
 
     public void setName(String name) {
+        if (!Objects.equals(this.name, name)) {
+            this.nameChangedAt = java.time.LocalDateTime.now();
+        }
         this.name = name;
     }
 
@@ -255,6 +266,10 @@ public class User extends BaseEntity implements UserDetails {
         this.lastLoginAt = lastLoginAt;
     }
 
+    public java.time.LocalDateTime getNameChangedAt() {
+        return nameChangedAt;
+    }
+
     // Helper methods
     public boolean hasRole(UserRole role) {
         return this.role == role;
@@ -0,0 +1,32 @@
+package com.comuniquecem.entity.enums;
+
+import java.util.Locale;
+
+/**
+ * Enum para os tamanhos de imagem gerados a partir do original
+ */
+public enum ImageSize {
+    THUMB(160, "Miniatura"),
+    SMALL(480, "Pequena"),
+    MEDIUM(1080, "Média");
+
+    private final int maxDimension;
+    private final String description;
+
+    ImageSize(int maxDimension, String description) {
+        this.maxDimension = maxDimension;
+        this.description = description;
+    }
+
+    public int getMaxDimension() {
+        return maxDimension;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public String getParam() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,19 @@
+package com.comuniquecem.entity.enums;
+
+/**
+ * Enum para os tipos de notificação
+ */
+public enum NotificationType {
+    NEWS_PUBLISHED("Notícia publicada"),
+    SCHEDULE_REMINDER("Lembrete de atividade");
+
+    private final String description;
+
+    NotificationType(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,20 @@
+package com.comuniquecem.entity.enums;
+
+/**
+ * Enum para o motivo da escolha de uma questão na prática adaptativa
+ */
+public enum PracticeReason {
+    NEW("Questão ainda não respondida"),
+    REVIEW("Questão errada na última resposta"),
+    REPEAT("Questão já acertada ou respondida há pouco, sem questão nova ou a revisar na dificuldade");
+
+    private final String description;
+
+    PracticeReason(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
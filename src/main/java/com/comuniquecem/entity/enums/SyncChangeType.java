@@ -0,0 +1,25 @@
+package com.comuniquecem.entity.enums;
+
+/**
+ * Enum para os tipos de alteração registrados no log de sincronização
+ */
+public enum SyncChangeType {
+    MESSAGE_SENT("Mensagem enviada"),
+    MESSAGE_EDITED("Mensagem editada"),
+    MESSAGE_DELETED("Mensagem apagada"),
+    RECEIPT("Confirmação de entrega/leitura");
+
+    private final String description;
+
+    SyncChangeType(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public boolean isMessageChange() {
+        return this != RECEIPT;
+    }
+}
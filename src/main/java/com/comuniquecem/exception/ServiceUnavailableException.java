@@ -0,0 +1,15 @@
+package com.comuniquecem.exception;
+
+/**
+ * Exceção para sobrecarga temporária do serviço (o cliente pode tentar novamente)
+ */
+public class ServiceUnavailableException extends RuntimeException {
+
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+
+    public ServiceUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,36 @@
+package com.comuniquecem.repository;
+
+import com.comuniquecem.entity.Attachment;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Repositório para operações com Attachment
+ */
+@Repository
+public interface AttachmentRepository extends JpaRepository<Attachment, UUID> {
+
+    /**
+     * Busca um arquivo pelo hash do conteúdo
+     */
+    Optional<Attachment> findBySha256(String sha256);
+
+    /**
+     * Verifica se o usuário enviou o arquivo
+     */
+    @Query("SELECT COUNT(u) > 0 FROM AttachmentUpload u " +
+           "WHERE u.attachment.sha256 = :sha256 AND u.user.id = :userId")
+    boolean isUploadedBy(@Param("sha256") String sha256, @Param("userId") UUID userId);
+
+    /**
+     * Verifica se o arquivo está anexado a alguma mensagem (não apagada) de uma conversa do usuário
+     */
+    @Query("SELECT COUNT(m) > 0 FROM Message m, ChatParticipant p " +
+           "WHERE m.attachmentSha256 = :sha256 AND p.chat = m.chat AND p.user.id = :userId")
+    boolean isSharedWith(@Param("sha256") String sha256, @Param("userId") UUID userId);
+}
@@ -0,0 +1,19 @@
+package com.comuniquecem.repository;
+
+import com.comuniquecem.entity.AttachmentUpload;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+/**
+ * Repositório para operações com AttachmentUpload
+ */
+@Repository
+public interface AttachmentUploadRepository extends JpaRepository<AttachmentUpload, UUID> {
+
+    /**
+     * Verifica se o envio do arquivo pelo usuário já foi registrado
+     */
+    boolean existsByAttachmentIdAndUserId(UUID attachmentId, UUID userId);
+}
@@ -0,0 +1,134 @@
+package com.comuniquecem.repository;
+
+import com.comuniquecem.dto.response.InboxEntryResponse;
+import com.comuniquecem.entity.ChatParticipant;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Repositório para operações com ChatParticipant
+ */
+@Repository
+public interface ChatParticipantRepository extends JpaRepository<ChatParticipant, UUID> {
+
+    /**
+     * Registra novas mensagens nos dois participantes em um único comando: avança a posição
+     * na caixa de entrada e incrementa o contador de não lidas do destinatário
+     */
+    @Modifying
+    @Query("UPDATE ChatParticipant p SET " +
+           "p.unreadCount = p.unreadCount + CASE WHEN p.user.id = :senderId THEN 0 ELSE :amount END, " +
+           "p.lastMessageAt = CASE WHEN p.lastMessageAt < :sentAt THEN :sentAt ELSE p.lastMessageAt END " +
+           "WHERE p.chat.id = :chatId")
+    int recordMessages(@Param("chatId") UUID chatId,
+                       @Param("senderId") UUID senderId,
+                       @Param("amount") long amount,
+                       @Param("sentAt") LocalDateTime sentAt);
+
+    /**
+     * Define o contador de não lidas de um participante
+     */
+    @Modifying
+    @Query("UPDATE ChatParticipant p SET p.unreadCount = :unreadCount " +
+           "WHERE p.chat.id = :chatId AND p.user.id = :userId")
+    int updateUnread(@Param("chatId") UUID chatId, @Param("userId") UUID userId, @Param("unreadCount") long unreadCount);
+
+    /**
+     * Corrige o contador de não lidas de um participante pelo ID
+     */
+    @Modifying
+    @Query("UPDATE ChatParticipant p SET p.unreadCount = :unreadCount WHERE p.id = :id")
+    int updateUnreadById(@Param("id") UUID id, @Param("unreadCount") long unreadCount);
+
+    /**
+     * Caixa de entrada do usuário: conversas ordenadas pela última mensagem, paginadas por keyset
+     */
+    @Query("SELECT new com.comuniquecem.dto.response.InboxEntryResponse(" +
+           "c.id, o.id, o.name, o.profilePictureUrl, o.online, " +
+           "c.lastMessagePreview, c.lastMessageSender.id, p.lastMessageAt, p.unreadCount) " +
+           "FROM ChatParticipant p JOIN p.chat c JOIN p.otherUser o " +
+           "WHERE p.user.id = :userId AND c.active = true " +
+           "AND (p.lastMessageAt < :beforeAt OR (p.lastMessageAt = :beforeAt AND p.chat.id < :beforeId)) " +
+           "ORDER BY p.lastMessageAt DESC, p.chat.id DESC")
+    List<InboxEntryResponse> findInbox(@Param("userId") UUID userId,
+                                       @Param("beforeAt") LocalDateTime beforeAt,
+                                       @Param("beforeId") UUID beforeId,
+                                       Pageable pageable);
+
+    /**
+     * Busca a entrada da caixa de entrada de uma conversa específica
+     */
+    @Query("SELECT new com.comuniquecem.dto.response.InboxEntryResponse(" +
+           "c.id, o.id, o.name, o.profilePictureUrl, o.online, " +
+           "c.lastMessagePreview, c.lastMessageSender.id, p.lastMessageAt, p.unreadCount) " +
+           "FROM ChatParticipant p JOIN p.chat c JOIN p.otherUser o " +
+           "WHERE p.user.id = :userId AND p.chat.id = :chatId")
+    Optional<InboxEntryResponse> findInboxEntry(@Param("userId") UUID userId, @Param("chatId") UUID chatId);
+
+    /**
+     * Busca o outro participante de uma conversa ativa, se o usuário participa dela
+     */
+    @Query("SELECT p.otherUser.id FROM ChatParticipant p JOIN p.chat c " +
+           "WHERE p.chat.id = :chatId AND p.user.id = :userId AND c.active = true")
+    Optional<UUID> findOtherUserId(@Param("chatId") UUID chatId, @Param("userId") UUID userId);
+
+    /**
+     * Busca todos os contadores não zerados do usuário em uma única consulta
+     */
+    @Query("SELECT p.chat.id AS chatId, p.unreadCount AS unreadCount FROM ChatParticipant p " +
+           "WHERE p.user.id = :userId AND p.unreadCount > 0")
+    List<UnreadCount> findUnreadCountsByUserId(@Param("userId") UUID userId);
+
+    /**
+     * Busca os contadores do usuário em um conjunto de conversas
+     */
+    @Query("SELECT p.chat.id AS chatId, p.unreadCount AS unreadCount FROM ChatParticipant p " +
+           "WHERE p.user.id = :userId AND p.chat.id IN :chatIds")
+    List<UnreadCount> findUnreadCounts(@Param("userId") UUID userId, @Param("chatIds") Collection<UUID> chatIds);
+
+    /**
+     * Compara o contador armazenado com a contagem real para conversas com atividade recente
+     */
+    @Query("SELECT p.id AS id, p.unreadCount AS storedCount, " +
+           "(SELECT COUNT(m) FROM Message m WHERE m.chat = c AND m.sender <> p.user AND m.deleted = false " +
+           " AND m.sentAt > COALESCE(CASE WHEN c.user1 = p.user THEN c.user1ReadUpTo ELSE c.user2ReadUpTo END, :floor)) " +
+           "AS actualCount " +
+           "FROM ChatParticipant p JOIN p.chat c " +
+           "WHERE c.lastMessageAt >= :since AND p.id > :after ORDER BY p.id")
+    List<UnreadDrift> findUnreadDrift(@Param("since") LocalDateTime since,
+                                      @Param("floor") LocalDateTime floor,
+                                      @Param("after") UUID after,
+                                      Pageable pageable);
+
+    /**
+     * Verifica se a conversa já possui os registros de participantes
+     */
+    boolean existsByChatId(UUID chatId);
+
+    /**
+     * Projeção do contador de não lidas por conversa
+     */
+    interface UnreadCount {
+        UUID getChatId();
+        Long getUnreadCount();
+    }
+
+    /**
+     * Projeção usada pela reconciliação dos contadores
+     */
+    interface UnreadDrift {
+        UUID getId();
+        Long getStoredCount();
+        Long getActualCount();
+    }
+}
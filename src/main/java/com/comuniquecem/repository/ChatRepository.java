@@ -0,0 +1,100 @@
+package com.comuniquecem.repository;
+
+import com.comuniquecem.entity.Chat;
+import com.comuniquecem.entity.User;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Repositório para operações com Chat
+ */
+@Repository
+public interface ChatRepository extends JpaRepository<Chat, UUID> {
+
+    /**
+     * Busca o id da conversa de um par já em ordem canônica
+     */
+    @Query("SELECT c.id FROM Chat c WHERE c.user1.id = :user1Id AND c.user2.id = :user2Id")
+    Optional<UUID> findIdByPair(@Param("user1Id") UUID user1Id, @Param("user2Id") UUID user2Id);
+
+    /**
+     * Cria a conversa e seus participantes ou devolve a existente em um único comando.
+     * Retorna vazio apenas quando uma criação concorrente foi confirmada durante o comando;
+     * nesse caso a conversa já é visível para uma nova consulta. Exclusivo do Postgres (ON CONFLICT).
+     */
+    @Query(value = "WITH inserted AS (" +
+           "  INSERT INTO chats (id, created_at, updated_at, version, active, last_message_at, user1_id, user2_id, initiated_by_id) " +
+           "  VALUES (:chatId, :now, :now, 0, true, :now, :user1Id, :user2Id, :initiatedById) " +
+           "  ON CONFLICT ON CONSTRAINT uk_chat_pair DO NOTHING " +
+           "  RETURNING id" +
+           "), participants AS (" +
+           "  INSERT INTO chat_participants (id, created_at, updated_at, version, unread_count, last_message_at, chat_id, user_id, other_user_id) " +
+           "  SELECT p.id, :now, :now, 0, 0, :now, i.id, p.user_id, p.other_user_id " +
+           "  FROM inserted i CROSS JOIN (VALUES " +
+           "    (CAST(:participant1Id AS uuid), CAST(:user1Id AS uuid), CAST(:user2Id AS uuid)), " +
+           "    (CAST(:participant2Id AS uuid), CAST(:user2Id AS uuid), CAST(:user1Id AS uuid))" +
+           "  ) AS p (id, user_id, other_user_id)" +
+           ") " +
+           "SELECT id FROM inserted " +
+           "UNION ALL " +
+           "SELECT id FROM chats WHERE user1_id = :user1Id AND user2_id = :user2Id " +
+           "LIMIT 1",
+           nativeQuery = true)
+    Optional<UUID> upsertPair(@Param("chatId") UUID chatId,
+                              @Param("user1Id") UUID user1Id,
+                              @Param("user2Id") UUID user2Id,
+                              @Param("initiatedById") UUID initiatedById,
+                              @Param("participant1Id") UUID participant1Id,
+                              @Param("participant2Id") UUID participant2Id,
+                              @Param("now") LocalDateTime now);
+
+    /**
+     * Registra a última mensagem da conversa sem incrementar a versão (nunca retrocede)
+     */
+    @Modifying
+    @Query("UPDATE Chat c SET c.lastMessageAt = :sentAt, c.lastMessagePreview = :preview, c.lastMessageSender = :sender " +
+           "WHERE c.id = :chatId AND (c.lastMessageAt IS NULL OR c.lastMessageAt <= :sentAt)")
+    int recordLastMessage(@Param("chatId") UUID chatId,
+                          @Param("sentAt") LocalDateTime sentAt,
+                          @Param("preview") String preview,
+                          @Param("sender") User sender);
+
+    /**
+     * Avança a marca d'água de entrega do user1 (nunca retrocede)
+     */
+    @Modifying
+    @Query("UPDATE Chat c SET c.user1DeliveredUpTo = :upTo WHERE c.id = :chatId " +
+           "AND (c.user1DeliveredUpTo IS NULL OR c.user1DeliveredUpTo < :upTo)")
+    int advanceUser1DeliveredUpTo(@Param("chatId") UUID chatId, @Param("upTo") LocalDateTime upTo);
+
+    /**
+     * Avança a marca d'água de leitura do user1 (nunca retrocede)
+     */
+    @Modifying
+    @Query("UPDATE Chat c SET c.user1ReadUpTo = :upTo WHERE c.id = :chatId " +
+           "AND (c.user1ReadUpTo IS NULL OR c.user1ReadUpTo < :upTo)")
+    int advanceUser1ReadUpTo(@Param("chatId") UUID chatId, @Param("upTo") LocalDateTime upTo);
+
+    /**
+     * Avança a marca d'água de entrega do user2 (nunca retrocede)
+     */
+    @Modifying
+    @Query("UPDATE Chat c SET c.user2DeliveredUpTo = :upTo WHERE c.id = :chatId " +
+           "AND (c.user2DeliveredUpTo IS NULL OR c.user2DeliveredUpTo < :upTo)")
+    int advanceUser2DeliveredUpTo(@Param("chatId") UUID chatId, @Param("upTo") LocalDateTime upTo);
+
+    /**
+     * Avança a marca d'água de leitura do user2 (nunca retrocede)
+     */
+    @Modifying
+    @Query("UPDATE Chat c SET c.user2ReadUpTo = :upTo WHERE c.id = :chatId " +
+           "AND (c.user2ReadUpTo IS NULL OR c.user2ReadUpTo < :upTo)")
+    int advanceUser2ReadUpTo(@Param("chatId") UUID chatId, @Param("upTo") LocalDateTime upTo);
+}
@@ -0,0 +1,18 @@
+package com.comuniquecem.repository;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marca um método de repositório que deve enxergar linhas inativas ou apagadas,
+ * desabilitando os filtros de {@link com.comuniquecem.entity.SoftDeleteFilters} durante a chamada.
+ * Deve ser chamado dentro de uma transação, para que o filtro seja desabilitado na mesma sessão.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface IncludeInactive {
+}
@@ -18,8 +18,9 @@ import java.util.UUID;
 public interface InstitutionRepository extends JpaRepository<Institution, UUID> {
 
     /**
-     * Busca instituição por nome
+     * Busca instituição por nome, inclusive inativa
      */
+    @IncludeInactive
     Optional<Institution> findByName(String name);
 
     /**
@@ -28,8 +29,9 @@ public interface InstitutionRepository extends JpaRepository<Institution, UUID>
     Optional<Institution> findByCodeAndActiveTrue(String code);
 
     /**
-     * Verifica se existe instituição com o nome (ignorando case)
+     * Verifica se existe instituição com o nome (ignorando case), inclusive inativa
      */
+    @IncludeInactive
     boolean existsByNameIgnoreCase(String name);
 
     /**
@@ -71,4 +73,16 @@ public interface InstitutionRepository extends JpaRepository<Institution, UUID>
      */
     @Query("SELECT COUNT(q) FROM Question q WHERE q.institution.id = :institutionId AND q.active = true")
     long countActiveQuestionsByInstitutionId(@Param("institutionId") UUID institutionId);
+
+    /**
+     * Versão da instituição, para requisições condicionais
+     */
+    @Query("SELECT i.version AS version, i.updatedAt AS updatedAt FROM Institution i WHERE i.id = :id")
+    Optional<VersionStamp> findVersionStamp(@Param("id") UUID id);
+
+    /**
+     * ID da instituição ativa com o código (endpoints públicos)
+     */
+    @Query("SELECT i.id FROM Institution i WHERE i.code = :code AND i.active = true")
+    Optional<UUID> findActiveIdByCode(@Param("code") String code);
 }
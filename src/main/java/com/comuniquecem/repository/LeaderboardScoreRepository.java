@@ -0,0 +1,33 @@
+package com.comuniquecem.repository;
+
+import com.comuniquecem.entity.LeaderboardScore;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repository para a cópia das pontuações dos rankings.
+ * As gravações são feitas por upsert JDBC em {@link com.comuniquecem.service.LeaderboardService}.
+ */
+@Repository
+public interface LeaderboardScoreRepository extends JpaRepository<LeaderboardScore, LeaderboardScore.Key> {
+
+    /**
+     * Pontuações gravadas da instituição, para reconstruir o ranking
+     */
+    @Query("SELECT s.id.userId AS userId, s.score AS score FROM LeaderboardScore s " +
+           "WHERE s.id.institutionId = :institutionId")
+    List<ScoreEntry> findScores(@Param("institutionId") UUID institutionId);
+
+    /**
+     * Projeção da pontuação de um aluno
+     */
+    interface ScoreEntry {
+        UUID getUserId();
+        Long getScore();
+    }
+}
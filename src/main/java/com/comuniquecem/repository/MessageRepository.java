@@ -0,0 +1,166 @@
+package com.comuniquecem.repository;
+
+import com.comuniquecem.entity.Message;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Repositório para operações com Message
+ */
+@Repository
+public interface MessageRepository extends JpaRepository<Message, UUID> {
+
+    /**
+     * Busca o histórico de uma conversa anterior a um instante (paginação por keyset).
+     * O limite inferior (criação da conversa) restringe as partições mensais lidas.
+     */
+    @Query("SELECT m FROM Message m JOIN FETCH m.sender " +
+           "WHERE m.chat.id = :chatId AND m.sentAt >= :since AND m.sentAt < :before ORDER BY m.sentAt DESC")
+    List<Message> findHistory(@Param("chatId") UUID chatId,
+                              @Param("since") LocalDateTime since,
+                              @Param("before") LocalDateTime before,
+                              Pageable pageable);
+
+    /**
+     * Busca uma mensagem (não apagada) da conversa; since limita as partições lidas
+     */
+    @Query("SELECT m FROM Message m JOIN FETCH m.sender " +
+           "WHERE m.id = :messageId AND m.chat.id = :chatId AND m.sentAt >= :since")
+    Optional<Message> findInChat(@Param("chatId") UUID chatId,
+                                 @Param("messageId") UUID messageId,
+                                 @Param("since") LocalDateTime since);
+
+    /**
+     * Busca o estado atual das mensagens alteradas para a sincronização, inclusive as apagadas.
+     * O intervalo [since, until] vem do próprio log e limita as partições lidas.
+     */
+    @IncludeInactive
+    @Query("SELECT m FROM Message m JOIN FETCH m.sender " +
+           "WHERE m.id IN :ids AND m.sentAt >= :since AND m.sentAt <= :until")
+    List<Message> findAllForSync(@Param("ids") Collection<UUID> ids,
+                                 @Param("since") LocalDateTime since,
+                                 @Param("until") LocalDateTime until);
+
+    /**
+     * Busca em uma única consulta as prévias das mensagens respondidas em uma página do histórico.
+     * Respostas são sempre posteriores à mensagem original, então o intervalo [since, until]
+     * limita as partições lidas. Mensagens apagadas não são retornadas.
+     */
+    @Query("SELECT m.id AS id, s.id AS senderId, s.name AS senderName, " +
+           "m.content AS content, m.isFile AS isFile, m.fileName AS fileName " +
+           "FROM Message m JOIN m.sender s " +
+           "WHERE m.chat.id = :chatId AND m.id IN :ids AND m.sentAt >= :since AND m.sentAt <= :until")
+    List<ReplyPreview> findReplyPreviews(@Param("chatId") UUID chatId,
+                                         @Param("ids") Collection<UUID> ids,
+                                         @Param("since") LocalDateTime since,
+                                         @Param("until") LocalDateTime until);
+
+    /**
+     * Busca os dados necessários para registrar uma confirmação de entrega/leitura
+     */
+    @Query("SELECT m.sentAt AS sentAt, c.user1.id AS user1Id, c.user2.id AS user2Id " +
+           "FROM Message m JOIN m.chat c WHERE m.id = :messageId AND c.id = :chatId")
+    Optional<ReceiptTarget> findReceiptTarget(@Param("chatId") UUID chatId, @Param("messageId") UUID messageId);
+
+    /**
+     * Conta as mensagens do outro participante enviadas após a marca d'água de leitura
+     */
+    @Query("SELECT COUNT(m) FROM Message m WHERE m.chat.id = :chatId AND m.sender.id <> :userId " +
+           "AND m.deleted = false AND m.sentAt > :readUpTo")
+    long countUnreadAfter(@Param("chatId") UUID chatId,
+                          @Param("userId") UUID userId,
+                          @Param("readUpTo") LocalDateTime readUpTo);
+
+    /**
+     * Busca textual (configuração portuguese) nas conversas do usuário, ordenada por relevância.
+     * Paginação por keyset em (relevância, sent_at, id); o trecho destacado é gerado apenas
+     * para as linhas da página. Somente PostgreSQL (coluna search_vector e índice GIN).
+     */
+    @Query(value = "SELECT page.id AS \"id\", page.chat_id AS \"chatId\", page.sender_id AS \"senderId\", " +
+                   "       u.name AS \"senderName\", page.sent_at AS \"sentAt\", page.rank AS \"rank\", " +
+                   "       ts_headline('portuguese', " +
+                   "           replace(replace(replace(page.content, '&', '&amp;'), '<', '&lt;'), '>', '&gt;'), " +
+                   "           websearch_to_tsquery('portuguese', :query), " +
+                   "           'StartSel=<mark>, StopSel=</mark>, MaxWords=30, MinWords=10, MaxFragments=2') AS \"snippet\" " +
+                   "FROM (" +
+                   "  SELECT m.id, m.chat_id, m.sender_id, m.sent_at, m.content, " +
+                   "         ts_rank_cd(m.search_vector, websearch_to_tsquery('portuguese', :query)) AS rank " +
+                   "  FROM chat_participants p " +
+                   "  JOIN chats c ON c.id = p.chat_id AND c.active " +
+                   "  JOIN messages m ON m.chat_id = p.chat_id " +
+                   "  WHERE p.user_id = :userId " +
+                   "    AND (CAST(:chatId AS uuid) IS NULL OR p.chat_id = CAST(:chatId AS uuid)) " +
+                   "    AND NOT m.deleted " +
+                   "    AND m.search_vector @@ websearch_to_tsquery('portuguese', :query) " +
+                   "    AND (ts_rank_cd(m.search_vector, websearch_to_tsquery('portuguese', :query)), m.sent_at, m.id) " +
+                   "        < (CAST(:beforeRank AS real), :beforeAt, :beforeId) " +
+                   "  ORDER BY rank DESC, m.sent_at DESC, m.id DESC " +
+                   "  LIMIT :limit" +
+                   ") page " +
+                   "JOIN users u ON u.id = page.sender_id " +
+                   "ORDER BY page.rank DESC, page.sent_at DESC, page.id DESC",
+           nativeQuery = true)
+    List<SearchHit> search(@Param("userId") UUID userId,
+                           @Param("chatId") UUID chatId,
+                           @Param("query") String query,
+                           @Param("beforeRank") float beforeRank,
+                           @Param("beforeAt") LocalDateTime beforeAt,
+                           @Param("beforeId") UUID beforeId,
+                           @Param("limit") int limit);
+
+    /**
+     * Apaga o conteúdo de um lote de mensagens excluídas antes do instante informado
+     */
+    @Modifying
+    @Query(value = "UPDATE messages SET content = '', file_name = NULL, file_url = NULL, file_size = NULL, file_type = NULL " +
+                   "WHERE (id, sent_at) IN (" +
+                   "  SELECT id, sent_at FROM messages " +
+                   "  WHERE deleted = true AND deleted_at < :cutoff AND content <> '' " +
+                   "  LIMIT :limit)",
+           nativeQuery = true)
+    int purgeDeletedContent(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
+    /**
+     * Projeção da prévia de uma mensagem respondida
+     */
+    interface ReplyPreview {
+        UUID getId();
+        UUID getSenderId();
+        String getSenderName();
+        String getContent();
+        Boolean getIsFile();
+        String getFileName();
+    }
+
+    /**
+     * Projeção de um resultado da busca textual
+     */
+    interface SearchHit {
+        UUID getId();
+        UUID getChatId();
+        UUID getSenderId();
+        String getSenderName();
+        LocalDateTime getSentAt();
+        Float getRank();
+        String getSnippet();
+    }
+
+    /**
+     * Projeção com o instante da mensagem e os participantes da conversa
+     */
+    interface ReceiptTarget {
+        LocalDateTime getSentAt();
+        UUID getUser1Id();
+        UUID getUser2Id();
+    }
+}
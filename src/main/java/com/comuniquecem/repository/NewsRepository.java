@@ -0,0 +1,88 @@
+package com.comuniquecem.repository;
+
+import com.comuniquecem.dto.response.NewsSummaryResponse;
+import com.comuniquecem.dto.response.PublicNewsSummaryResponse;
+import com.comuniquecem.entity.News;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Repository para operações com notícias
+ */
+@Repository
+public interface NewsRepository extends JpaRepository<News, UUID> {
+
+    /**
+     * Feed da instituição: notícias publicadas da mais recente para a mais antiga, paginadas por
+     * keyset. Percorre o índice idx_news_feed na ordem, sem ordenação em memória.
+     */
+    @Query("SELECT new com.comuniquecem.dto.response.NewsSummaryResponse(" +
+           "n.id, n.title, SUBSTRING(n.content, 1, " + News.EXCERPT_LENGTH + "), n.imageUrl, n.featured, n.views, " +
+           "a.id, a.name, n.createdAt) " +
+           "FROM News n JOIN n.author a " +
+           "WHERE n.institution.id = :institutionId AND n.published = true " +
+           "AND (n.createdAt < :beforeAt OR (n.createdAt = :beforeAt AND n.id < :beforeId)) " +
+           "ORDER BY n.createdAt DESC, n.id DESC")
+    List<NewsSummaryResponse> findFeed(@Param("institutionId") UUID institutionId,
+                                       @Param("beforeAt") LocalDateTime beforeAt,
+                                       @Param("beforeId") UUID beforeId,
+                                       Pageable pageable);
+
+    /**
+     * Notícias publicadas em destaque, fixadas no topo do feed (índice parcial idx_news_featured)
+     */
+    @Query("SELECT new com.comuniquecem.dto.response.NewsSummaryResponse(" +
+           "n.id, n.title, SUBSTRING(n.content, 1, " + News.EXCERPT_LENGTH + "), n.imageUrl, n.featured, n.views, " +
+           "a.id, a.name, n.createdAt) " +
+           "FROM News n JOIN n.author a " +
+           "WHERE n.institution.id = :institutionId AND n.published = true AND n.featured = true " +
+           "ORDER BY n.createdAt DESC, n.id DESC")
+    List<NewsSummaryResponse> findPinned(@Param("institutionId") UUID institutionId, Pageable pageable);
+
+    /**
+     * Busca a notícia da instituição já com o autor
+     */
+    @Query("SELECT n FROM News n JOIN FETCH n.author WHERE n.id = :id AND n.institution.id = :institutionId")
+    Optional<News> findInInstitution(@Param("id") UUID id, @Param("institutionId") UUID institutionId);
+
+    /**
+     * Versão de uma notícia publicada da instituição, para requisições condicionais.
+     * A resposta traz o nome do autor, então a última troca de nome dele também entra na versão
+     * (name_changed_at, e não updated_at, que muda a cada login e status online). COALESCE: nulo
+     * até a primeira troca, e o H2 retorna NULL em GREATEST com qualquer argumento nulo.
+     */
+    @Query("SELECT n.version AS version, GREATEST(n.updatedAt, COALESCE(a.nameChangedAt, n.updatedAt)) AS updatedAt " +
+           "FROM News n JOIN n.author a " +
+           "WHERE n.id = :id AND n.institution.id = :institutionId AND n.published = true")
+    Optional<VersionStamp> findPublishedStamp(@Param("id") UUID id, @Param("institutionId") UUID institutionId);
+
+    /**
+     * Quantidade e última alteração das notícias da instituição (ETag fraca do feed).
+     * Inclui rascunhos: despublicar uma notícia também altera o feed. As páginas trazem o nome
+     * dos autores, então a última troca de nome deles também entra na última alteração.
+     */
+    @Query("SELECT COUNT(n) AS version, MAX(GREATEST(n.updatedAt, COALESCE(a.nameChangedAt, n.updatedAt))) " +
+           "AS updatedAt FROM News n JOIN n.author a WHERE n.institution.id = :institutionId")
+    VersionStamp findFeedStamp(@Param("institutionId") UUID institutionId);
+
+    /**
+     * Página da listagem pública: notícias publicadas, sem visualizações (que mudam fora da versão).
+     * O número de páginas é limitado pelo serviço, então o deslocamento no índice idx_news_feed é curto.
+     */
+    @Query("SELECT new com.comuniquecem.dto.response.PublicNewsSummaryResponse(" +
+           "n.id, n.title, SUBSTRING(n.content, 1, " + News.EXCERPT_LENGTH + "), n.imageUrl, n.featured, " +
+           "a.name, n.createdAt) " +
+           "FROM News n JOIN n.author a " +
+           "WHERE n.institution.id = :institutionId AND n.published = true " +
+           "ORDER BY n.createdAt DESC, n.id DESC")
+    Slice<PublicNewsSummaryResponse> findPublicPage(@Param("institutionId") UUID institutionId, Pageable pageable);
+}
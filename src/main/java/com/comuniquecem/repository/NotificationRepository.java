@@ -0,0 +1,61 @@
+package com.comuniquecem.repository;
+
+import com.comuniquecem.dto.response.NotificationResponse;
+import com.comuniquecem.entity.Notification;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repository para as notificações dos usuários
+ */
+@Repository
+public interface NotificationRepository extends JpaRepository<Notification, UUID> {
+
+    /**
+     * Notificações do usuário da mais recente para a mais antiga, paginadas por keyset
+     * (índice idx_notification_user_created)
+     */
+    @Query("SELECT new com.comuniquecem.dto.response.NotificationResponse(" +
+           "n.id, n.type, n.referenceId, n.title, n.createdAt, n.readAt) " +
+           "FROM Notification n " +
+           "WHERE n.userId = :userId " +
+           "AND (n.createdAt < :beforeAt OR (n.createdAt = :beforeAt AND n.id < :beforeId)) " +
+           "ORDER BY n.createdAt DESC, n.id DESC")
+    List<NotificationResponse> findPage(@Param("userId") UUID userId,
+                                        @Param("beforeAt") LocalDateTime beforeAt,
+                                        @Param("beforeId") UUID beforeId,
+                                        Pageable pageable);
+
+    /**
+     * Quantidade de notificações não lidas do usuário (índice parcial idx_notification_user_unread)
+     */
+    @Query("SELECT COUNT(n) FROM Notification n WHERE n.userId = :userId AND n.readAt IS NULL")
+    long countUnread(@Param("userId") UUID userId);
+
+    /**
+     * Verifica se a notificação pertence ao usuário
+     */
+    boolean existsByIdAndUserId(UUID id, UUID userId);
+
+    /**
+     * Marca uma notificação do usuário como lida
+     */
+    @Modifying
+    @Query("UPDATE Notification n SET n.readAt = :readAt WHERE n.id = :id AND n.userId = :userId AND n.readAt IS NULL")
+    int markRead(@Param("id") UUID id, @Param("userId") UUID userId, @Param("readAt") LocalDateTime readAt);
+
+    /**
+     * Marca todas as notificações do usuário como lidas
+     */
+    @Modifying
+    @Query("UPDATE Notification n SET n.readAt = :readAt WHERE n.userId = :userId AND n.readAt IS NULL")
+    int markAllRead(@Param("userId") UUID userId, @Param("readAt") LocalDateTime readAt);
+}
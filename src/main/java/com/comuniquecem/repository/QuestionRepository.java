@@ -0,0 +1,51 @@
+package com.comuniquecem.repository;
+
+import com.comuniquecem.dto.response.QuizQuestionResponse;
+import com.comuniquecem.entity.Question;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Repository para operações com questões
+ */
+@Repository
+public interface QuestionRepository extends JpaRepository<Question, UUID> {
+
+    /**
+     * Busca a questão ativa da instituição
+     */
+    @Query("SELECT q FROM Question q WHERE q.id = :id AND q.institution.id = :institutionId AND q.active = true")
+    Optional<Question> findInInstitution(@Param("id") UUID id, @Param("institutionId") UUID institutionId);
+
+    /**
+     * Questões ativas da instituição com a dificuldade, para montar o índice de sorteio
+     */
+    @Query("SELECT q.id AS id, q.difficultyLevel AS difficultyLevel FROM Question q " +
+           "WHERE q.institution.id = :institutionId AND q.active = true")
+    List<PoolEntry> findPoolEntries(@Param("institutionId") UUID institutionId);
+
+    /**
+     * Questões sorteadas para um quiz, sem a resposta correta. Questões desativadas desde o
+     * sorteio ficam de fora.
+     */
+    @Query("SELECT new com.comuniquecem.dto.response.QuizQuestionResponse(" +
+           "q.id, q.title, q.option1, q.option2, q.option3, q.option4, q.difficultyLevel) " +
+           "FROM Question q WHERE q.id IN :ids AND q.institution.id = :institutionId AND q.active = true")
+    List<QuizQuestionResponse> findQuizQuestions(@Param("ids") Collection<UUID> ids,
+                                                 @Param("institutionId") UUID institutionId);
+
+    /**
+     * Id e dificuldade de uma questão ativa
+     */
+    interface PoolEntry {
+        UUID getId();
+        Integer getDifficultyLevel();
+    }
+}
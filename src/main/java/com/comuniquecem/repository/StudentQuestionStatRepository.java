@@ -0,0 +1,57 @@
+package com.comuniquecem.repository;
+
+import com.comuniquecem.entity.StudentQuestionStat;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repository para as estatísticas dos alunos por questão.
+ * As gravações são feitas por upsert JDBC em {@link com.comuniquecem.service.StudentQuestionStatsService}.
+ */
+@Repository
+public interface StudentQuestionStatRepository extends JpaRepository<StudentQuestionStat, StudentQuestionStat.Key> {
+
+    /**
+     * Resumo do aluno por dificuldade: questões respondidas e quantas tiveram a última resposta correta
+     */
+    @Query("SELECT s.difficultyLevel AS difficultyLevel, COUNT(s) AS attempted, " +
+           "SUM(CASE WHEN s.lastCorrect = true THEN 1 ELSE 0 END) AS lastCorrect " +
+           "FROM StudentQuestionStat s WHERE s.id.userId = :userId GROUP BY s.difficultyLevel")
+    List<LevelSummary> summarizeByLevel(@Param("userId") UUID userId);
+
+    /**
+     * Estatísticas do aluno nas questões candidatas (busca pela chave primária)
+     */
+    @Query("SELECT s.id.questionId AS questionId, s.attempts AS attempts, s.correctCount AS correctCount, " +
+           "s.streak AS streak, s.lastAnsweredAt AS lastAnsweredAt " +
+           "FROM StudentQuestionStat s WHERE s.id.userId = :userId AND s.id.questionId IN :questionIds")
+    List<QuestionSummary> findForQuestions(@Param("userId") UUID userId,
+                                           @Param("questionIds") Collection<UUID> questionIds);
+
+    /**
+     * Projeção do resumo por dificuldade
+     */
+    interface LevelSummary {
+        Short getDifficultyLevel();
+        Long getAttempted();
+        Long getLastCorrect();
+    }
+
+    /**
+     * Projeção das estatísticas de uma questão
+     */
+    interface QuestionSummary {
+        UUID getQuestionId();
+        Integer getAttempts();
+        Integer getCorrectCount();
+        Integer getStreak();
+        LocalDateTime getLastAnsweredAt();
+    }
+}
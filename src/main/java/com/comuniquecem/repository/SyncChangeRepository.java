@@ -0,0 +1,27 @@
+package com.comuniquecem.repository;
+
+import com.comuniquecem.entity.SyncChange;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repositório para leitura do log de sincronização (a gravação é feita em lote pelo SyncChangeService)
+ */
+@Repository
+public interface SyncChangeRepository extends JpaRepository<SyncChange, Long> {
+
+    /**
+     * Busca as alterações do usuário após a posição (afterXid, afterSeq) e antes do horizonte, na
+     * ordem (xid, seq): varredura do índice (user_id, xid, seq), limitada pelas faixas de xid
+     */
+    @Query("SELECT s FROM SyncChange s WHERE s.userId = :userId AND s.xid >= :afterXid AND s.xid < :horizon " +
+           "AND (s.xid > :afterXid OR s.seq > :afterSeq) ORDER BY s.xid, s.seq")
+    List<SyncChange> findAfter(@Param("userId") UUID userId, @Param("afterXid") long afterXid,
+                               @Param("afterSeq") long afterSeq, @Param("horizon") long horizon, Pageable pageable);
+}
@@ -23,8 +23,9 @@ import java.util.UUID;
 public interface UserRepository extends JpaRepository<User, UUID> {
 
     /**
-     * Busca usuário por email (usado para autenticação)
+     * Busca usuário por email, inclusive inativo (usado para verificar email já cadastrado)
      */
+    @IncludeInactive
     Optional<User> findByEmail(String email);
 
     /**
@@ -33,10 +34,16 @@ public interface UserRepository extends JpaRepository<User, UUID> {
     Optional<User> findByEmailAndActiveTrue(String email);
 
     /**
-     * Verifica se existe usuário com o email
+     * Verifica se existe usuário com o email, inclusive inativo
      */
+    @IncludeInactive
     boolean existsByEmail(String email);
 
+    /**
+     * Verifica se o usuário está ativo e pertence à instituição
+     */
+    boolean existsByIdAndInstitutionIdAndActiveTrue(UUID id, UUID institutionId);
+
     /**
      * Busca usuários por instituição
      */
@@ -145,4 +152,30 @@ public interface UserRepository extends JpaRepository<User, UUID> {
      */
     @Query("SELECT u FROM User u WHERE u.institution = :institution AND u.active = true AND u.emailVerified = true")
     List<User> findUsersForNotifications(@Param("institution") Institution institution);
+
+    /**
+     * Próximo lote de destinatários de uma distribuição: ids dos membros ativos da instituição
+     * após o cursor, em ordem de id (índice parcial idx_user_institution_active)
+     */
+    @Query("SELECT u.id FROM User u WHERE u.institution.id = :institutionId AND u.active = true " +
+           "AND u.id > :afterId AND u.id <> :excludedId ORDER BY u.id")
+    List<UUID> findRecipientIds(@Param("institutionId") UUID institutionId,
+                                @Param("afterId") UUID afterId,
+                                @Param("excludedId") UUID excludedId,
+                                Pageable pageable);
+
+    /**
+     * Versão do usuário para requisições condicionais: a resposta inclui a instituição, então a
+     * versão combina as duas (ambas só crescem) e a última alteração é a mais recente delas
+     */
+    @Query("SELECT COALESCE(u.version, 0) + COALESCE(i.version, 0) AS version, " +
+           "CASE WHEN i.updatedAt IS NULL OR u.updatedAt >= i.updatedAt THEN u.updatedAt ELSE i.updatedAt END AS updatedAt " +
+           "FROM User u JOIN u.institution i WHERE u.id = :id")
+    Optional<VersionStamp> findVersionStamp(@Param("id") UUID id);
+
+    /**
+     * Quantidade e última alteração dos usuários ativos da instituição (ETag fraca da listagem)
+     */
+    @Query("SELECT COUNT(u) AS version, MAX(u.updatedAt) AS updatedAt FROM User u WHERE u.institution.id = :institutionId")
+    VersionStamp findInstitutionStamp(@Param("institutionId") UUID institutionId);
 }
@@ -0,0 +1,14 @@
+package com.comuniquecem.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projeção com a versão e a última alteração de um registro (ou de um conjunto de registros),
+ * usada para responder requisições condicionais sem carregar as entidades
+ */
+public interface VersionStamp {
+
+    Long getVersion();
+
+    LocalDateTime getUpdatedAt();
+}
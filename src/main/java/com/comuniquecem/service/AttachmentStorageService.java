@@ -0,0 +1,255 @@
+package com.comuniquecem.service;
+
+import com.comuniquecem.dto.response.AttachmentResponse;
+import com.comuniquecem.entity.Attachment;
+import com.comuniquecem.entity.AttachmentUpload;
+import com.comuniquecem.exception.BusinessException;
+import com.comuniquecem.exception.ResourceNotFoundException;
+import com.comuniquecem.repository.AttachmentRepository;
+import com.comuniquecem.repository.AttachmentUploadRepository;
+import com.comuniquecem.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Service para o armazenamento de anexos no sistema de arquivos local.
+ *
+ * Os arquivos são endereçados pelo SHA-256 do conteúdo (upload-dir/ab/cd/abcd...): o mesmo
+ * arquivo enviado em várias conversas ocupa o disco uma única vez. O upload é lido em fluxo,
+ * calculando o hash enquanto grava um arquivo temporário que depois é movido atomicamente
+ * para o destino, sem carregar o arquivo inteiro na memória. As versões reduzidas das imagens
+ * são geradas em segundo plano pelo {@link ImageDerivativeService}.
+ */
+@Service
+@Transactional
+public class AttachmentStorageService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AttachmentStorageService.class);
+
+    private static final Pattern SHA256 = Pattern.compile("[0-9a-f]{64}");
+    private static final String DOWNLOAD_PATH = "/api/attachments/";
+
+    @Autowired
+    private AttachmentRepository attachmentRepository;
+
+    @Autowired
+    private AttachmentUploadRepository attachmentUploadRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ImageDerivativeService imageDerivativeService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${file.storage.upload-dir:./uploads}")
+    private String uploadDir;
+
+    @Value("${file.storage.max-size:10485760}")
+    private long maxSize;
+
+    @Value("${file.storage.allowed-extensions:jpg,jpeg,png,gif,pdf,doc,docx}")
+    private String allowedExtensions;
+
+    private Path root;
+    private Path tempDir;
+    private Set<String> extensions;
+
+    @PostConstruct
+    void init() throws IOException {
+        root = Paths.get(uploadDir).toAbsolutePath().normalize();
+        // Temporários no mesmo sistema de arquivos do destino, para que a movimentação seja atômica
+        tempDir = Files.createDirectories(root.resolve("tmp"));
+        extensions = Arrays.stream(allowedExtensions.split(","))
+            .map(extension -> extension.trim().toLowerCase(Locale.ROOT))
+            .filter(extension -> !extension.isEmpty())
+            .collect(Collectors.toUnmodifiableSet());
+    }
+
+    /**
+     * URL de download de um arquivo
+     */
+    public static String downloadUrl(String sha256) {
+        return DOWNLOAD_PATH + sha256;
+    }
+
+    /**
+     * Grava o arquivo enviado (ou reaproveita o já armazenado com o mesmo conteúdo) e
+     * registra o envio pelo usuário. Imagens públicas ficam visíveis a todos os usuários.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public AttachmentResponse store(MultipartFile file, UUID userId, boolean publicImage) {
+        String fileName = StringUtils.cleanPath(file.getOriginalFilename() != null ? file.getOriginalFilename() : "");
+        String extension = StringUtils.getFilenameExtension(fileName);
+
+        if (file.isEmpty()) {
+            throw new BusinessException("Arquivo vazio");
+        }
+        if (file.getSize() > maxSize) {
+            throw new BusinessException("Arquivo deve ter no máximo " + maxSize / (1024 * 1024) + " MB");
+        }
+        if (extension == null || !extensions.contains(extension.toLowerCase(Locale.ROOT))) {
+            throw new BusinessException("Tipo de arquivo não permitido");
+        }
+
+        // O tipo servido no download vem da extensão permitida, nunca do que o cliente declarou
+        String contentType = MediaTypeFactory.getMediaType(fileName)
+            .orElse(MediaType.APPLICATION_OCTET_STREAM)
+            .toString();
+        if (publicImage && !imageDerivativeService.isSupported(contentType)) {
+            throw new BusinessException("Arquivo deve ser uma imagem JPG, PNG ou GIF");
+        }
+
+        StoredContent content = writeContent(file);
+
+        Attachment attachment;
+        try {
+            attachment = transactionTemplate.execute(status -> register(content, contentType, userId, publicImage));
+        } catch (DataIntegrityViolationException e) {
+            // Envio concorrente do mesmo arquivo: o registro do outro envio já está confirmado
+            attachment = transactionTemplate.execute(status -> register(content, contentType, userId, publicImage));
+        }
+
+        if (imageDerivativeService.isSupported(attachment.getContentType())) {
+            imageDerivativeService.schedule(attachment.getSha256(), pathOf(attachment.getSha256()));
+        }
+
+        logger.debug("Arquivo {} ({} bytes) enviado pelo usuário {}", content.sha256(), content.size(), userId);
+
+        return new AttachmentResponse(attachment.getSha256(), fileName, attachment.getContentType(),
+            attachment.getSize(), downloadUrl(attachment.getSha256()));
+    }
+
+    /**
+     * Busca um arquivo que o usuário pode baixar: imagem pública, enviado por ele ou anexado
+     * a uma conversa da qual participa
+     */
+    @Transactional(readOnly = true)
+    public Attachment findReadable(String sha256, UUID userId) {
+        Attachment attachment = SHA256.matcher(sha256).matches()
+            ? attachmentRepository.findBySha256(sha256).orElse(null)
+            : null;
+
+        // Não revela a existência de arquivos aos quais o usuário não tem acesso
+        if (attachment == null || !(attachment.getPublicImage()
+                || attachmentRepository.isUploadedBy(sha256, userId)
+                || attachmentRepository.isSharedWith(sha256, userId))) {
+            throw new ResourceNotFoundException("Arquivo não encontrado");
+        }
+
+        return attachment;
+    }
+
+    /**
+     * Caminho do arquivo armazenado
+     */
+    public Path resolve(Attachment attachment) {
+        Path path = pathOf(attachment.getSha256());
+        if (!Files.isReadable(path)) {
+            logger.error("Arquivo {} registrado mas ausente em {}", attachment.getSha256(), path);
+            throw new ResourceNotFoundException("Arquivo não encontrado");
+        }
+        return path;
+    }
+
+    private Attachment register(StoredContent content, String contentType, UUID userId, boolean publicImage) {
+        Attachment attachment = attachmentRepository.findBySha256(content.sha256())
+            .orElseGet(() -> attachmentRepository.saveAndFlush(
+                new Attachment(content.sha256(), content.size(), contentType)));
+
+        if (publicImage && !attachment.getPublicImage()) {
+            attachment.setPublicImage(true);
+        }
+
+        if (!attachmentUploadRepository.existsByAttachmentIdAndUserId(attachment.getId(), userId)) {
+            attachmentUploadRepository.saveAndFlush(
+                new AttachmentUpload(attachment, userRepository.getReferenceById(userId)));
+        }
+
+        return attachment;
+    }
+
+    private StoredContent writeContent(MultipartFile file) {
+        Path temp = null;
+        try {
+            temp = Files.createTempFile(tempDir, "upload-", ".part");
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+
+            long size;
+            try (InputStream in = new DigestInputStream(file.getInputStream(), digest);
+                 OutputStream out = Files.newOutputStream(temp)) {
+                size = in.transferTo(out);
+            }
+
+            String sha256 = HexFormat.of().formatHex(digest.digest());
+            Path target = pathOf(sha256);
+
+            if (!Files.exists(target)) {
+                Files.createDirectories(target.getParent());
+                try {
+                    Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+                } catch (FileAlreadyExistsException e) {
+                    // Gravado por um envio concorrente com o mesmo conteúdo
+                }
+            }
+
+            return new StoredContent(sha256, size);
+        } catch (IOException e) {
+            throw new IllegalStateException("Falha ao gravar o arquivo", e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        } finally {
+            deleteQuietly(temp);
+        }
+    }
+
+    private Path pathOf(String sha256) {
+        return root.resolve(sha256.substring(0, 2)).resolve(sha256.substring(2, 4)).resolve(sha256);
+    }
+
+    private void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            logger.warn("Não foi possível remover o arquivo temporário {}", path, e);
+        }
+    }
+
+    private record StoredContent(String sha256, long size) {}
+}
@@ -0,0 +1,177 @@
+package com.comuniquecem.service;
+
+import com.comuniquecem.exception.ResourceNotFoundException;
+import com.comuniquecem.repository.ChatRepository;
+import com.comuniquecem.repository.MessageRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Service para confirmações de entrega e leitura.
+ *
+ * As confirmações avançam marcas d'água por participante ("leu até a mensagem X") e são
+ * acumuladas em memória: várias confirmações da mesma conversa dentro do intervalo de
+ * flush resultam em uma única atualização por participante, que nunca retrocede a marca.
+ */
+@Service
+public class ChatReceiptService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChatReceiptService.class);
+
+    @Autowired
+    private ChatRepository chatRepository;
+
+    @Autowired
+    private MessageRepository messageRepository;
+
+    @Autowired
+    private UnreadCounterService unreadCounterService;
+
+    @Autowired
+    private SyncChangeService syncChangeService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final Map<ParticipantKey, LocalDateTime> pendingDeliveries = new ConcurrentHashMap<>();
+    private final Map<ParticipantKey, LocalDateTime> pendingReads = new ConcurrentHashMap<>();
+
+    /**
+     * Registra que o usuário recebeu as mensagens da conversa até a mensagem indicada
+     */
+    @Transactional(readOnly = true)
+    public void markDelivered(UUID chatId, UUID userId, UUID messageId) {
+        ParticipantKey key = resolve(chatId, userId, messageId, pendingDeliveries);
+        logger.debug("Entrega confirmada na conversa {} pelo participante {}", chatId, key.user1() ? 1 : 2);
+    }
+
+    /**
+     * Registra que o usuário leu as mensagens da conversa até a mensagem indicada
+     */
+    @Transactional(readOnly = true)
+    public void markRead(UUID chatId, UUID userId, UUID messageId) {
+        ParticipantKey key = resolve(chatId, userId, messageId, pendingReads);
+        logger.debug("Leitura confirmada na conversa {} pelo participante {}", chatId, key.user1() ? 1 : 2);
+    }
+
+    /**
+     * Grava as marcas d'água acumuladas, no máximo uma vez por intervalo para cada participante
+     */
+    @Scheduled(fixedDelayString = "${chat.receipts.flush-interval-ms:2000}")
+    public void flush() {
+        if (pendingDeliveries.isEmpty() && pendingReads.isEmpty()) {
+            return;
+        }
+
+        Map<ParticipantKey, LocalDateTime> deliveries = drain(pendingDeliveries);
+        Map<ParticipantKey, LocalDateTime> reads = drain(pendingReads);
+
+        Integer written;
+        try {
+            written = transactionTemplate.execute(status -> writePending(deliveries, reads));
+        } catch (RuntimeException e) {
+            // Devolve as marcas para a próxima tentativa, sem retroceder as registradas nesse meio-tempo
+            deliveries.forEach((key, upTo) -> pendingDeliveries.merge(key, upTo, ChatReceiptService::latest));
+            reads.forEach((key, upTo) -> pendingReads.merge(key, upTo, ChatReceiptService::latest));
+            logger.warn("Falha ao gravar confirmações, nova tentativa no próximo flush: {}", e.getMessage());
+            return;
+        }
+
+        if (written != null && written > 0) {
+            logger.debug("{} marcas d'água de confirmação gravadas", written);
+        }
+    }
+
+    private int writePending(Map<ParticipantKey, LocalDateTime> deliveries, Map<ParticipantKey, LocalDateTime> reads) {
+        int written = 0;
+        Set<UUID> advancedChats = new HashSet<>();
+
+        for (Map.Entry<ParticipantKey, LocalDateTime> entry : deliveries.entrySet()) {
+            ParticipantKey key = entry.getKey();
+            int advanced = key.user1()
+                ? chatRepository.advanceUser1DeliveredUpTo(key.chatId(), entry.getValue())
+                : chatRepository.advanceUser2DeliveredUpTo(key.chatId(), entry.getValue());
+            if (advanced > 0) {
+                advancedChats.add(key.chatId());
+            }
+            written += advanced;
+        }
+
+        for (Map.Entry<ParticipantKey, LocalDateTime> entry : reads.entrySet()) {
+            ParticipantKey key = entry.getKey();
+            int advanced = key.user1()
+                ? chatRepository.advanceUser1ReadUpTo(key.chatId(), entry.getValue())
+                : chatRepository.advanceUser2ReadUpTo(key.chatId(), entry.getValue());
+            if (advanced > 0) {
+                unreadCounterService.onReadAdvanced(key.chatId(), key.userId(), entry.getValue());
+                advancedChats.add(key.chatId());
+            }
+            written += advanced;
+        }
+
+        // Uma alteração de confirmação por conversa para o log de sincronização dos participantes
+        if (!advancedChats.isEmpty()) {
+            syncChangeService.recordReceipts(advancedChats);
+        }
+
+        return written;
+    }
+
+    /**
+     * Retira as marcas acumuladas; confirmações registradas durante a gravação ficam para o próximo flush
+     */
+    private static Map<ParticipantKey, LocalDateTime> drain(Map<ParticipantKey, LocalDateTime> pending) {
+        Map<ParticipantKey, LocalDateTime> drained = new HashMap<>();
+        for (ParticipantKey key : pending.keySet()) {
+            LocalDateTime upTo = pending.remove(key);
+            if (upTo != null) {
+                drained.put(key, upTo);
+            }
+        }
+        return drained;
+    }
+
+    private static LocalDateTime latest(LocalDateTime a, LocalDateTime b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        try {
+            flush();
+        } catch (Exception e) {
+            logger.warn("Não foi possível gravar confirmações pendentes no encerramento: {}", e.getMessage());
+        }
+    }
+
+    private ParticipantKey resolve(UUID chatId, UUID userId, UUID messageId,
+                                   Map<ParticipantKey, LocalDateTime> pending) {
+        MessageRepository.ReceiptTarget target = messageRepository.findReceiptTarget(chatId, messageId)
+            .orElseThrow(() -> new ResourceNotFoundException("Mensagem não encontrada"));
+
+        boolean user1 = target.getUser1Id().equals(userId);
+        if (!user1 && !target.getUser2Id().equals(userId)) {
+            throw new ResourceNotFoundException("Conversa não encontrada");
+        }
+
+        ParticipantKey key = new ParticipantKey(chatId, userId, user1);
+        pending.merge(key, target.getSentAt(), ChatReceiptService::latest);
+        return key;
+    }
+
+    private record ParticipantKey(UUID chatId, UUID userId, boolean user1) {}
+}
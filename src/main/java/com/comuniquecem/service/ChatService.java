@@ -0,0 +1,442 @@
+package com.comuniquecem.service;
+
+import com.comuniquecem.dto.request.SendMessageRequest;
+import com.comuniquecem.dto.response.CursorPageResponse;
+import com.comuniquecem.dto.response.InboxEntryResponse;
+import com.comuniquecem.dto.response.MessageResponse;
+import com.comuniquecem.dto.response.MessageSearchResultResponse;
+import com.comuniquecem.dto.response.ReplyPreviewResponse;
+import com.comuniquecem.entity.Attachment;
+import com.comuniquecem.entity.Chat;
+import com.comuniquecem.entity.Message;
+import com.comuniquecem.entity.User;
+import com.comuniquecem.entity.enums.SyncChangeType;
+import com.comuniquecem.exception.BusinessException;
+import com.comuniquecem.exception.ResourceNotFoundException;
+import com.comuniquecem.repository.ChatParticipantRepository;
+import com.comuniquecem.repository.ChatRepository;
+import com.comuniquecem.repository.MessageRepository;
+import com.comuniquecem.repository.UserRepository;
+import com.comuniquecem.util.KeysetCursor;
+import com.comuniquecem.util.RankedKeysetCursor;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Service para conversas e mensagens
+ */
+@Service
+@Transactional
+public class ChatService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChatService.class);
+
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final LocalDateTime KEYSET_START = LocalDateTime.of(9999, 12, 31, 23, 59);
+    private static final UUID KEYSET_START_ID = new UUID(-1L, -1L);
+    private static final int MAX_SEARCH_PAGE_SIZE = 50;
+    private static final int MAX_SEARCH_QUERY_LENGTH = 200;
+    private static final Duration EDIT_WINDOW = Duration.ofMinutes(15);
+    private static final String DELETED_PREVIEW = "Mensagem apagada";
+
+    // Fora do Postgres (H2 em dev/test) não há ON CONFLICT: busca e insere, e trata a criação concorrente
+    private static final String INSERT_CHAT =
+        "INSERT INTO chats (id, created_at, updated_at, version, active, last_message_at, user1_id, user2_id, initiated_by_id) " +
+        "VALUES (?, ?, ?, 0, true, ?, ?, ?, ?)";
+
+    private static final String INSERT_PARTICIPANT =
+        "INSERT INTO chat_participants (id, created_at, updated_at, version, unread_count, last_message_at, chat_id, user_id, other_user_id) " +
+        "VALUES (?, ?, ?, 0, 0, ?, ?, ?, ?)";
+
+    @Autowired
+    private ChatRepository chatRepository;
+
+    @Autowired
+    private MessageRepository messageRepository;
+
+    @Autowired
+    private ChatParticipantRepository chatParticipantRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MessageSendPipeline messageSendPipeline;
+
+    @Autowired
+    private AttachmentStorageService attachmentStorageService;
+
+    @Autowired
+    private UnreadCounterService unreadCounterService;
+
+    @Autowired
+    private SyncChangeService syncChangeService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private boolean postgres;
+
+    @PostConstruct
+    void init() {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+            connection.getMetaData().getDatabaseProductName());
+        postgres = "PostgreSQL".equals(product);
+    }
+
+    /**
+     * Busca a caixa de entrada do usuário: uma única consulta sobre chat_participants, já com
+     * o outro participante, a prévia da última mensagem e o contador de não lidas
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<InboxEntryResponse> getInbox(UUID userId, String cursor, int size) {
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+
+        // Busca um item a mais para saber se existe próxima página
+        List<InboxEntryResponse> entries = chatParticipantRepository.findInbox(
+            userId,
+            position != null ? position.position() : KEYSET_START,
+            position != null ? position.id() : KEYSET_START_ID,
+            PageRequest.of(0, pageSize + 1));
+
+        boolean hasMore = entries.size() > pageSize;
+        String nextCursor = null;
+        if (hasMore) {
+            entries = entries.subList(0, pageSize);
+            InboxEntryResponse last = entries.get(entries.size() - 1);
+            nextCursor = new KeysetCursor(last.getLastMessageAt(), last.getChatId()).encode();
+        }
+
+        return new CursorPageResponse<>(entries, nextCursor);
+    }
+
+    /**
+     * Busca textual nas mensagens das conversas do usuário (opcionalmente em uma conversa),
+     * ordenada por relevância e paginada por cursor
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<MessageSearchResultResponse> searchMessages(UUID userId, String query, UUID chatId,
+                                                                          String cursor, int size) {
+        if (query == null || query.isBlank()) {
+            throw new BusinessException("Termo de busca é obrigatório");
+        }
+        if (query.length() > MAX_SEARCH_QUERY_LENGTH) {
+            throw new BusinessException("Termo de busca deve ter no máximo " + MAX_SEARCH_QUERY_LENGTH + " caracteres");
+        }
+
+        RankedKeysetCursor position = RankedKeysetCursor.decode(cursor);
+        int pageSize = Math.min(Math.max(size, 1), MAX_SEARCH_PAGE_SIZE);
+
+        // Busca um item a mais para saber se existe próxima página
+        List<MessageRepository.SearchHit> hits = messageRepository.search(
+            userId, chatId, query.trim(),
+            position != null ? position.rank() : Float.MAX_VALUE,
+            position != null ? position.position() : KEYSET_START,
+            position != null ? position.id() : KEYSET_START_ID,
+            pageSize + 1);
+
+        String nextCursor = null;
+        if (hits.size() > pageSize) {
+            hits = hits.subList(0, pageSize);
+            MessageRepository.SearchHit last = hits.get(hits.size() - 1);
+            nextCursor = new RankedKeysetCursor(last.getRank(), last.getSentAt(), last.getId()).encode();
+        }
+
+        List<MessageSearchResultResponse> results = hits.stream()
+            .map(hit -> new MessageSearchResultResponse(hit.getId(), hit.getChatId(), hit.getSenderId(),
+                hit.getSenderName(), hit.getSnippet(), hit.getRank(), hit.getSentAt()))
+            .collect(Collectors.toList());
+
+        return new CursorPageResponse<>(results, nextCursor);
+    }
+
+    /**
+     * Busca ou cria a conversa entre o usuário e outro participante da mesma instituição.
+     * A criação é um único comando de upsert sobre o par canônico, seguro contra requisições concorrentes;
+     * em outros bancos (H2 em dev) é uma busca seguida de inserção que trata a criação concorrente.
+     */
+    public InboxEntryResponse getOrCreateChat(UUID userId, UUID institutionId, UUID otherUserId) {
+        if (userId.equals(otherUserId)) {
+            throw new BusinessException("Não é possível iniciar uma conversa consigo mesmo");
+        }
+
+        if (!userRepository.existsByIdAndInstitutionIdAndActiveTrue(otherUserId, institutionId)) {
+            throw new ResourceNotFoundException("Usuário não encontrado");
+        }
+
+        boolean userFirst = Chat.compareUserIds(userId, otherUserId) < 0;
+        UUID user1Id = userFirst ? userId : otherUserId;
+        UUID user2Id = userFirst ? otherUserId : userId;
+
+        UUID chatId = postgres
+            ? chatRepository.upsertPair(
+                    UUID.randomUUID(), user1Id, user2Id, userId,
+                    UUID.randomUUID(), UUID.randomUUID(), LocalDateTime.now())
+                // Criação concorrente confirmada durante o comando: já visível para uma nova consulta
+                .or(() -> chatRepository.findIdByPair(user1Id, user2Id))
+                .orElseThrow(() -> new IllegalStateException("Conversa não encontrada após criação"))
+            : findOrInsertPair(user1Id, user2Id, userId);
+
+        return chatParticipantRepository.findInboxEntry(userId, chatId)
+            .orElseThrow(() -> new ResourceNotFoundException("Conversa não encontrada"));
+    }
+
+    /**
+     * Busca ou cria a conversa do par sem ON CONFLICT; a violação de uk_chat_pair indica uma
+     * criação concorrente, cuja conversa é buscada em seguida
+     */
+    private UUID findOrInsertPair(UUID user1Id, UUID user2Id, UUID initiatedById) {
+        Optional<UUID> existing = chatRepository.findIdByPair(user1Id, user2Id);
+        if (existing.isPresent()) {
+            return existing.get();
+        }
+
+        UUID chatId = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            jdbcTemplate.update(INSERT_CHAT, chatId, now, now, now, user1Id, user2Id, initiatedById);
+        } catch (DuplicateKeyException e) {
+            return chatRepository.findIdByPair(user1Id, user2Id)
+                .orElseThrow(() -> new IllegalStateException("Conversa não encontrada após criação"));
+        }
+        jdbcTemplate.batchUpdate(INSERT_PARTICIPANT, List.of(
+            new Object[] {UUID.randomUUID(), now, now, now, chatId, user1Id, user2Id},
+            new Object[] {UUID.randomUUID(), now, now, now, chatId, user2Id, user1Id}));
+        return chatId;
+    }
+
+    /**
+     * Busca o histórico de mensagens anteriores a um instante.
+     * O status de entrega/leitura de cada mensagem é derivado das marcas d'água da conversa
+     * e as prévias das mensagens respondidas são carregadas em uma única consulta por página.
+     */
+    @Transactional(readOnly = true)
+    public List<MessageResponse> getMessages(UUID chatId, UUID userId, LocalDateTime before, int size) {
+        Chat chat = findChatForParticipant(chatId, userId);
+
+        LocalDateTime upperBound = before != null ? before : LocalDateTime.now().plusSeconds(1);
+        List<Message> messages = messageRepository.findHistory(
+            chatId, chat.getCreatedAt(), upperBound, PageRequest.of(0, Math.min(Math.max(size, 1), MAX_PAGE_SIZE)));
+
+        return toMessageResponses(chat, messages);
+    }
+
+    /**
+     * Envia uma mensagem de texto ou um arquivo já enviado na conversa.
+     * A gravação é feita pelo pipeline de commit em grupo; a resposta só retorna após o commit.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public MessageResponse sendMessage(UUID chatId, UUID senderId, SendMessageRequest request) {
+        Chat chat = findChatForParticipant(chatId, senderId);
+
+        if (!chat.getActive()) {
+            throw new BusinessException("Conversa inativa");
+        }
+
+        Attachment attachment = null;
+        if (request.getAttachmentSha256() != null) {
+            if (request.getFileName() == null || request.getFileName().isBlank()) {
+                throw new BusinessException("Nome do arquivo é obrigatório");
+            }
+            // Só é possível anexar arquivos enviados pelo usuário ou recebidos em suas conversas
+            attachment = attachmentStorageService.findReadable(request.getAttachmentSha256(), senderId);
+        } else if (request.getContent() == null || request.getContent().isBlank()) {
+            throw new BusinessException("Conteúdo da mensagem é obrigatório");
+        }
+
+        ReplyPreviewResponse replyTo = null;
+        if (request.getReplyToId() != null) {
+            replyTo = messageRepository.findReplyPreviews(
+                    chatId, List.of(request.getReplyToId()), chat.getCreatedAt(), LocalDateTime.now())
+                .stream()
+                .findFirst()
+                .map(this::mapToReplyPreview)
+                .orElseThrow(() -> new BusinessException("Mensagem respondida não pertence à conversa"));
+        }
+
+        Message message = messageSendPipeline.send(chatId, senderId, request.getContent(), request.getReplyToId(),
+            attachment, request.getFileName());
+
+        logger.debug("Mensagem {} enviada na conversa {}", message.getId(), chatId);
+
+        MessageResponse response = mapToMessageResponse(message, chat);
+        response.setReplyTo(replyTo);
+        return response;
+    }
+
+    /**
+     * Edita o texto de uma mensagem própria, permitido até 15 minutos após o envio
+     */
+    public MessageResponse editMessage(UUID chatId, UUID userId, UUID messageId, String content) {
+        Chat chat = findChatForParticipant(chatId, userId);
+        Message message = findOwnMessage(chat, userId, messageId);
+
+        if (message.getSentAt().isBefore(LocalDateTime.now().minus(EDIT_WINDOW))) {
+            throw new BusinessException("O prazo para editar a mensagem expirou");
+        }
+
+        message.setContent(content);
+        message.setEdited(true);
+        message.setEditedAt(LocalDateTime.now());
+
+        // Só altera a prévia da caixa de entrada se esta ainda for a última mensagem da conversa
+        chatRepository.recordLastMessage(chatId, message.getSentAt(), Chat.previewOf(message), message.getSender());
+        syncChangeService.recordMessages(SyncChangeType.MESSAGE_EDITED, List.of(message));
+
+        logger.debug("Mensagem {} editada na conversa {}", messageId, chatId);
+
+        return toMessageResponses(chat, List.of(message)).get(0);
+    }
+
+    /**
+     * Apaga uma mensagem própria. O conteúdo é descartado depois pela compactação.
+     */
+    public void deleteMessage(UUID chatId, UUID userId, UUID messageId) {
+        Chat chat = findChatForParticipant(chatId, userId);
+        Message message = findOwnMessage(chat, userId, messageId);
+
+        boolean unreadByRecipient = !chat.isReadByRecipient(message);
+        message.setDeleted(true);
+
+        chatRepository.recordLastMessage(chatId, message.getSentAt(), DELETED_PREVIEW, message.getSender());
+        if (unreadByRecipient) {
+            UUID recipientId = chat.isUser1(userId) ? chat.getUser2().getId() : chat.getUser1().getId();
+            unreadCounterService.onMessageDeleted(chat, recipientId);
+        }
+        syncChangeService.recordMessages(SyncChangeType.MESSAGE_DELETED, List.of(message));
+
+        logger.debug("Mensagem {} apagada na conversa {}", messageId, chatId);
+    }
+
+    /**
+     * Mapeia mensagens de uma conversa já com as prévias das respondidas.
+     * Mensagens apagadas são retornadas apenas como marcação, sem conteúdo nem arquivo.
+     */
+    List<MessageResponse> toMessageResponses(Chat chat, List<Message> messages) {
+        Map<UUID, ReplyPreviewResponse> replies = loadReplyPreviews(chat,
+            messages.stream().filter(message -> !message.getDeleted()).toList());
+
+        return messages.stream()
+            .map(message -> {
+                MessageResponse response = mapToMessageResponse(message, chat);
+                if (message.getDeleted()) {
+                    hideDeletedContent(response);
+                } else if (message.getReplyTo() != null) {
+                    UUID replyToId = message.getReplyTo().getId();
+                    response.setReplyTo(replies.getOrDefault(replyToId, ReplyPreviewResponse.deleted(replyToId)));
+                }
+                return response;
+            })
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Busca a conversa garantindo que o usuário é participante
+     */
+    @Transactional(readOnly = true)
+    public Chat findChatForParticipant(UUID chatId, UUID userId) {
+        Chat chat = chatRepository.findById(chatId)
+            .orElseThrow(() -> new ResourceNotFoundException("Conversa não encontrada"));
+
+        // Não revela a existência da conversa para quem não participa dela
+        if (!chat.getUser1().getId().equals(userId) && !chat.getUser2().getId().equals(userId)) {
+            throw new ResourceNotFoundException("Conversa não encontrada");
+        }
+
+        return chat;
+    }
+
+    private Message findOwnMessage(Chat chat, UUID userId, UUID messageId) {
+        Message message = messageRepository.findInChat(chat.getId(), messageId, chat.getCreatedAt())
+            .orElseThrow(() -> new ResourceNotFoundException("Mensagem não encontrada"));
+
+        if (!message.getSender().getId().equals(userId)) {
+            throw new BusinessException("Somente o remetente pode alterar a mensagem");
+        }
+
+        return message;
+    }
+
+    private Map<UUID, ReplyPreviewResponse> loadReplyPreviews(Chat chat, List<Message> messages) {
+        Set<UUID> replyToIds = new HashSet<>();
+        LocalDateTime latestReply = null;
+
+        for (Message message : messages) {
+            if (message.getReplyTo() != null) {
+                replyToIds.add(message.getReplyTo().getId());
+                if (latestReply == null || message.getSentAt().isAfter(latestReply)) {
+                    latestReply = message.getSentAt();
+                }
+            }
+        }
+
+        if (replyToIds.isEmpty()) {
+            return Map.of();
+        }
+
+        return messageRepository.findReplyPreviews(chat.getId(), replyToIds, chat.getCreatedAt(), latestReply)
+            .stream()
+            .collect(Collectors.toMap(MessageRepository.ReplyPreview::getId, this::mapToReplyPreview));
+    }
+
+    // Métodos de mapeamento privados
+    private ReplyPreviewResponse mapToReplyPreview(MessageRepository.ReplyPreview reply) {
+        return new ReplyPreviewResponse(
+            reply.getId(),
+            reply.getSenderId(),
+            reply.getSenderName(),
+            Chat.previewOf(reply.getIsFile(), reply.getFileName(), reply.getContent()),
+            false
+        );
+    }
+
+    private void hideDeletedContent(MessageResponse response) {
+        response.setDeleted(true);
+        response.setContent(null);
+        response.setFileName(null);
+        response.setFileUrl(null);
+        response.setFileSize(null);
+        response.setFileType(null);
+        response.setReplyToId(null);
+    }
+
+    private MessageResponse mapToMessageResponse(Message message, Chat chat) {
+        return new MessageResponse(
+            message.getId(),
+            chat.getId(),
+            message.getSender().getId(),
+            message.getSender().getName(),
+            message.getContent(),
+            chat.isDeliveredToRecipient(message),
+            chat.isReadByRecipient(message),
+            message.getIsFile(),
+            message.getFileName(),
+            message.getFileUrl(),
+            message.getFileSize(),
+            message.getFileType(),
+            message.getEdited(),
+            message.getReplyTo() != null ? message.getReplyTo().getId() : null,
+            message.getSentAt()
+        );
+    }
+}
@@ -0,0 +1,302 @@
+package com.comuniquecem.service;
+
+import com.comuniquecem.entity.enums.ImageSize;
+import com.comuniquecem.exception.BusinessException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Service para as versões reduzidas das imagens (fotos de perfil, logos, imagens de notícias e anexos).
+ *
+ * Quando uma imagem é armazenada, as versões de cada {@link ImageSize} são geradas em segundo
+ * plano por um pool limitado de threads e gravadas em derivative-dir, endereçadas pelo mesmo
+ * SHA-256 do original. Com a fila cheia a tarefa é descartada: a versão é pedida de novo no
+ * primeiro download que não a encontrar. A decodificação usa subamostragem, para não carregar
+ * imagens grandes em resolução total, e as versões são sempre JPEG.
+ */
+@Service
+public class ImageDerivativeService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImageDerivativeService.class);
+
+    private static final Set<String> SUPPORTED_TYPES = Set.of("image/jpeg", "image/png", "image/gif");
+    private static final String DERIVATIVE_TYPE = "image/jpeg";
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${file.storage.derivative-dir:./uploads/derivatives}")
+    private String derivativeDir;
+
+    @Value("${file.images.workers:2}")
+    private int workers;
+
+    @Value("${file.images.queue-capacity:100}")
+    private int queueCapacity;
+
+    @Value("${file.images.max-pixels:40000000}")
+    private long maxPixels;
+
+    @Value("${file.images.jpeg-quality:0.82}")
+    private float jpegQuality;
+
+    private Path root;
+    private Path tempDir;
+    private ThreadPoolTaskExecutor executor;
+
+    // Evita gerar a mesma imagem duas vezes quando vários downloads a pedem ao mesmo tempo
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+
+    private Timer generationTimer;
+    private Counter rejected;
+    private Counter failures;
+
+    @PostConstruct
+    void init() throws IOException {
+        root = Paths.get(derivativeDir).toAbsolutePath().normalize();
+        tempDir = Files.createDirectories(root.resolve("tmp"));
+        ImageIO.setUseCache(false);
+
+        // Pool próprio: não é registrado como bean para não substituir o executor padrão do @Async
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("image-derivative-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+
+        generationTimer = Timer.builder("image.derivatives.generation")
+            .description("Duração da geração das versões de uma imagem")
+            .register(meterRegistry);
+        rejected = Counter.builder("image.derivatives.rejected")
+            .description("Gerações descartadas com a fila cheia")
+            .register(meterRegistry);
+        failures = Counter.builder("image.derivatives.failures")
+            .description("Imagens que não puderam ser processadas")
+            .register(meterRegistry);
+        meterRegistry.gauge("image.derivatives.queue", executor,
+            pool -> pool.getThreadPoolExecutor().getQueue().size());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * Verifica se o tipo de arquivo tem versões reduzidas
+     */
+    public boolean isSupported(String contentType) {
+        return contentType != null && SUPPORTED_TYPES.contains(contentType);
+    }
+
+    /**
+     * Converte o parâmetro de tamanho (thumb, small, medium); null ou original para o arquivo original
+     */
+    public ImageSize parseSize(String param) {
+        if (param == null || param.isBlank() || param.equalsIgnoreCase("original")) {
+            return null;
+        }
+        try {
+            return ImageSize.valueOf(param.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException("Tamanho de imagem inválido: " + param);
+        }
+    }
+
+    /**
+     * Tipo de conteúdo das versões reduzidas
+     */
+    public String getDerivativeType() {
+        return DERIVATIVE_TYPE;
+    }
+
+    /**
+     * Busca a versão já gerada de uma imagem
+     */
+    public Optional<Path> find(String sha256, ImageSize size) {
+        Path path = pathOf(sha256, size);
+        return Files.isReadable(path) ? Optional.of(path) : Optional.empty();
+    }
+
+    /**
+     * Agenda a geração das versões ainda ausentes de uma imagem, sem bloquear quem chamou
+     */
+    public void schedule(String sha256, Path original) {
+        if (Arrays.stream(ImageSize.values()).allMatch(size -> Files.exists(pathOf(sha256, size)))
+                || !inFlight.add(sha256)) {
+            return;
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    generationTimer.record(() -> generate(sha256, original));
+                } finally {
+                    inFlight.remove(sha256);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            inFlight.remove(sha256);
+            rejected.increment();
+            logger.debug("Fila de imagens cheia, versões de {} ficam para o próximo download", sha256);
+        }
+    }
+
+    private void generate(String sha256, Path original) {
+        try {
+            BufferedImage source = decode(original, ImageSize.MEDIUM.getMaxDimension());
+            if (source == null) {
+                return;
+            }
+
+            // Do maior para o menor: cada versão é reduzida a partir da anterior
+            BufferedImage current = source;
+            ImageSize[] sizes = ImageSize.values();
+            Arrays.sort(sizes, Comparator.comparingInt(ImageSize::getMaxDimension).reversed());
+            for (ImageSize size : sizes) {
+                current = scale(current, size.getMaxDimension());
+                Path target = pathOf(sha256, size);
+                if (!Files.exists(target)) {
+                    write(current, target);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            failures.increment();
+            logger.warn("Falha ao gerar as versões reduzidas da imagem {}", sha256, e);
+        }
+    }
+
+    /**
+     * Decodifica a imagem pulando pixels (subamostragem) até o mínimo que ainda cobre a maior versão
+     */
+    private BufferedImage decode(Path original, int targetDimension) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(original.toFile())) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                logger.warn("Formato de imagem não reconhecido: {}", original.getFileName());
+                return null;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxPixels) {
+                    logger.warn("Imagem {} com {}x{} pixels excede o limite de processamento",
+                        original.getFileName(), width, height);
+                    return null;
+                }
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                int subsampling = Math.max(1, Math.max(width, height) / targetDimension);
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * Reduz a imagem para caber em maxDimension, em etapas de no máximo metade do tamanho
+     * (interpolação bilinear em uma única etapa grande perde detalhes), e remove a transparência
+     */
+    private BufferedImage scale(BufferedImage image, int maxDimension) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        double ratio = Math.min(1.0, (double) maxDimension / Math.max(width, height));
+        int targetWidth = Math.max(1, (int) Math.round(width * ratio));
+        int targetHeight = Math.max(1, (int) Math.round(height * ratio));
+
+        BufferedImage current = image;
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            if (ratio == 1.0) {
+                width = targetWidth;
+                height = targetHeight;
+            }
+
+            BufferedImage next = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = next.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                graphics.setColor(Color.WHITE);
+                graphics.fillRect(0, 0, width, height);
+                graphics.drawImage(current, 0, 0, width, height, null);
+            } finally {
+                graphics.dispose();
+            }
+            current = next;
+        } while (width != targetWidth || height != targetHeight);
+
+        return current;
+    }
+
+    private void write(BufferedImage image, Path target) throws IOException {
+        Path temp = Files.createTempFile(tempDir, "derivative-", ".part");
+        try {
+            ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+            try (ImageOutputStream output = ImageIO.createImageOutputStream(temp.toFile())) {
+                ImageWriteParam param = writer.getDefaultWriteParam();
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionQuality(jpegQuality);
+                writer.setOutput(output);
+                writer.write(null, new IIOImage(image, null, null), param);
+            } finally {
+                writer.dispose();
+            }
+
+            Files.createDirectories(target.getParent());
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private Path pathOf(String sha256, ImageSize size) {
+        return root.resolve(sha256.substring(0, 2)).resolve(sha256.substring(2, 4))
+            .resolve(sha256 + "-" + size.getParam() + ".jpg");
+    }
+}
@@ -0,0 +1,73 @@
+package com.comuniquecem.service;
+
+import com.comuniquecem.dto.response.InstitutionSummaryResponse;
+import com.comuniquecem.entity.Institution;
+import com.comuniquecem.entity.User;
+import com.comuniquecem.entity.enums.UserRole;
+import com.comuniquecem.exception.ResourceNotFoundException;
+import com.comuniquecem.repository.InstitutionRepository;
+import com.comuniquecem.util.EntityTag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+/**
+ * Service para operações com instituições
+ */
+@Service
+@Transactional
+public class InstitutionService {
+
+    @Autowired
+    private InstitutionRepository institutionRepository;
+
+    /**
+     * Busca a instituição do usuário (super administradores podem consultar qualquer uma)
+     */
+    @Transactional(readOnly = true)
+    public InstitutionSummaryResponse findById(UUID id, User user) {
+        checkAccess(id, user);
+
+        Institution institution = institutionRepository.findById(id)
+            .filter(Institution::getActive)
+            .orElseThrow(() -> new ResourceNotFoundException("Instituição não encontrada"));
+
+        return mapToInstitutionSummaryResponse(institution);
+    }
+
+    /**
+     * ETag da instituição, consultada sem carregar a entidade; null se ela não existir
+     */
+    @Transactional(readOnly = true)
+    public EntityTag getInstitutionTag(UUID id, User user) {
+        checkAccess(id, user);
+
+        return institutionRepository.findVersionStamp(id)
+            .map(stamp -> EntityTag.strong(stamp.getUpdatedAt(), id, stamp.getVersion()))
+            .orElse(null);
+    }
+
+    private void checkAccess(UUID id, User user) {
+        // Não revela a existência de outras instituições
+        if (!user.hasRole(UserRole.SUPER_ADMIN) && !user.getInstitution().getId().equals(id)) {
+            throw new ResourceNotFoundException("Instituição não encontrada");
+        }
+    }
+
+    // Métodos de mapeamento privados
+    private InstitutionSummaryResponse mapToInstitutionSummaryResponse(Institution institution) {
+        return new InstitutionSummaryResponse(
+            institution.getId(),
+            institution.getName(),
+            institution.getCode(),
+            institution.getAddress(),
+            institution.getPhone(),
+            institution.getEmail(),
+            institution.getLogoUrl(),
+            institution.getActive(),
+            institution.getCreatedAt()
+        );
+    }
+}
@@ -0,0 +1,256 @@
+package com.comuniquecem.service;
+
+import com.comuniquecem.dto.response.LeaderboardEntryResponse;
+import com.comuniquecem.dto.response.LeaderboardResponse;
+import com.comuniquecem.entity.User;
+import com.comuniquecem.exception.ServiceUnavailableException;
+import com.comuniquecem.repository.LeaderboardScoreRepository;
+import com.comuniquecem.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Service para os rankings de pontuação dos quizzes por instituição.
+ *
+ * Cada resposta correta soma pontos (points-per-level vezes a dificuldade da questão) ao
+ * ranking da instituição no {@link LeaderboardStore}: um sorted set no Redis, ou em memória sem
+ * Redis. Os primeiros colocados e a posição de um aluno são lidos direto dele em O(log n), sem
+ * agregar o log de respostas.
+ *
+ * A cada snapshot-interval-ms as pontuações alteradas neste nó são copiadas para
+ * leaderboard_scores com um único batch de upsert. Se o ranking de uma instituição não existir
+ * no store (Redis reiniciado sem persistência, ou um nó novo sem Redis), ele é reconstruído a
+ * partir dessa cópia no primeiro acesso; como pontos só aumentam, cópia e reconstrução sempre
+ * ficam com a maior pontuação e uma perda custa no máximo um intervalo de pontos.
+ */
+@Service
+public class LeaderboardService {
+
+    private static final Logger logger = LoggerFactory.getLogger(LeaderboardService.class);
+
+    // GREATEST: uma cópia atrasada de outro nó nunca reduz a pontuação gravada
+    private static final String UPSERT_POSTGRES =
+        "INSERT INTO leaderboard_scores AS s (institution_id, user_id, score, updated_at) VALUES (?, ?, ?, ?) " +
+        "ON CONFLICT (institution_id, user_id) DO UPDATE SET " +
+        "score = GREATEST(s.score, EXCLUDED.score), updated_at = EXCLUDED.updated_at";
+
+    // dev/test usam H2, que não aceita ON CONFLICT; mesmos parâmetros, na mesma ordem
+    private static final String UPSERT_MERGE =
+        "MERGE INTO leaderboard_scores s USING (VALUES (CAST(? AS UUID), CAST(? AS UUID), CAST(? AS BIGINT), " +
+        "CAST(? AS TIMESTAMP))) AS v (institution_id, user_id, score, updated_at) " +
+        "ON s.institution_id = v.institution_id AND s.user_id = v.user_id " +
+        "WHEN MATCHED THEN UPDATE SET score = GREATEST(s.score, v.score), updated_at = v.updated_at " +
+        "WHEN NOT MATCHED THEN INSERT (institution_id, user_id, score, updated_at) " +
+        "VALUES (v.institution_id, v.user_id, v.score, v.updated_at)";
+
+    @Autowired
+    private LeaderboardStore store;
+
+    @Autowired
+    private LeaderboardScoreRepository scoreRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${quiz.leaderboard.points-per-level:10}")
+    private long pointsPerLevel;
+
+    @Value("${quiz.leaderboard.default-size:10}")
+    private int defaultSize;
+
+    @Value("${quiz.leaderboard.max-size:100}")
+    private int maxSize;
+
+    private String upsert;
+
+    // Instituições cujo ranking já foi conferido desde o último snapshot
+    private final Set<UUID> restored = ConcurrentHashMap.newKeySet();
+    // Alunos com pontuação alterada desde o último snapshot, por instituição
+    private final Map<UUID, Set<UUID>> dirty = new ConcurrentHashMap<>();
+    // Pontos que o store recusou, somados de novo no próximo snapshot
+    private final Map<UUID, Map<UUID, Long>> pendingPoints = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void init() {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+            connection.getMetaData().getDatabaseProductName());
+        upsert = "PostgreSQL".equals(product) ? UPSERT_POSTGRES : UPSERT_MERGE;
+    }
+
+    /**
+     * Pontos de uma resposta já gravada; respostas erradas não pontuam
+     */
+    public void recordAnswer(UUID institutionId, UUID userId, Integer difficultyLevel, boolean correct) {
+        if (correct) {
+            addPoints(institutionId, Map.of(userId, pointsFor(difficultyLevel)));
+        }
+    }
+
+    /**
+     * Soma de uma vez os pontos de várias respostas já gravadas da mesma instituição
+     */
+    public void addPoints(UUID institutionId, Map<UUID, Long> points) {
+        if (points.isEmpty()) {
+            return;
+        }
+        try {
+            ensureRestored(institutionId);
+            store.incrementAll(institutionId, points);
+            dirty.computeIfAbsent(institutionId, id -> ConcurrentHashMap.newKeySet()).addAll(points.keySet());
+        } catch (RuntimeException e) {
+            Map<UUID, Long> pending = pendingPoints.computeIfAbsent(institutionId, id -> new ConcurrentHashMap<>());
+            points.forEach((userId, delta) -> pending.merge(userId, delta, Long::sum));
+            logger.warn("Falha ao somar pontos no ranking da instituição {}, nova tentativa no próximo snapshot: {}",
+                institutionId, e.getMessage());
+        }
+    }
+
+    /**
+     * Pontos de uma resposta correta na dificuldade informada
+     */
+    public long pointsFor(Integer difficultyLevel) {
+        return QuestionPoolIndex.levelOf(difficultyLevel) * pointsPerLevel;
+    }
+
+    /**
+     * Primeiros colocados da instituição e a posição do usuário
+     */
+    public LeaderboardResponse getLeaderboard(User user, Integer size) {
+        UUID institutionId = user.getInstitution().getId();
+        int count = size != null ? Math.min(Math.max(size, 1), maxSize) : defaultSize;
+
+        List<LeaderboardStore.Entry> top;
+        LeaderboardStore.Standing standing;
+        try {
+            ensureRestored(institutionId);
+            top = store.top(institutionId, count);
+            standing = store.standing(institutionId, user.getId());
+        } catch (RuntimeException e) {
+            throw unavailable(institutionId, e);
+        }
+
+        Map<UUID, String> names = userRepository.findAllById(top.stream().map(LeaderboardStore.Entry::userId).toList())
+            .stream()
+            .collect(Collectors.toMap(User::getId, User::getName));
+
+        List<LeaderboardEntryResponse> entries = new ArrayList<>(top.size());
+        for (int i = 0; i < top.size(); i++) {
+            LeaderboardStore.Entry entry = top.get(i);
+            entries.add(new LeaderboardEntryResponse((long) i + 1, entry.userId(), names.get(entry.userId()),
+                entry.score()));
+        }
+
+        return new LeaderboardResponse(entries, toResponse(user, standing), standing.players());
+    }
+
+    /**
+     * Posição e pontuação do usuário no ranking da instituição
+     */
+    public LeaderboardEntryResponse getStanding(User user) {
+        UUID institutionId = user.getInstitution().getId();
+        try {
+            ensureRestored(institutionId);
+            return toResponse(user, store.standing(institutionId, user.getId()));
+        } catch (RuntimeException e) {
+            throw unavailable(institutionId, e);
+        }
+    }
+
+    /**
+     * Copia para o banco as pontuações alteradas neste nó desde o último snapshot
+     */
+    @Scheduled(fixedDelayString = "${quiz.leaderboard.snapshot-interval-ms:60000}")
+    public void snapshot() {
+        for (UUID institutionId : new ArrayList<>(pendingPoints.keySet())) {
+            Map<UUID, Long> points = pendingPoints.remove(institutionId);
+            if (points != null) {
+                addPoints(institutionId, points);
+            }
+        }
+
+        for (UUID institutionId : dirty.keySet()) {
+            Set<UUID> userIds = dirty.remove(institutionId);
+            if (userIds != null && !userIds.isEmpty()) {
+                snapshot(institutionId, userIds);
+            }
+        }
+
+        // Cada ranking volta a ser conferido no próximo acesso: um ranking perdido no Redis é
+        // reconstruído em no máximo um intervalo
+        restored.clear();
+    }
+
+    @PreDestroy
+    public void snapshotOnShutdown() {
+        try {
+            snapshot();
+        } catch (Exception e) {
+            logger.warn("Não foi possível copiar os rankings no encerramento: {}", e.getMessage());
+        }
+    }
+
+    private void snapshot(UUID institutionId, Set<UUID> userIds) {
+        try {
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            List<Object[]> rows = store.scores(institutionId, userIds).entrySet().stream()
+                .map(entry -> new Object[] {institutionId, entry.getKey(), entry.getValue(), now})
+                .toList();
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(upsert, rows));
+            logger.debug("Pontuações de {} alunos da instituição {} copiadas", rows.size(), institutionId);
+        } catch (RuntimeException e) {
+            // Devolve os alunos para o próximo snapshot
+            dirty.computeIfAbsent(institutionId, id -> ConcurrentHashMap.newKeySet()).addAll(userIds);
+            logger.warn("Falha ao copiar o ranking da instituição {}, nova tentativa no próximo snapshot: {}",
+                institutionId, e.getMessage());
+        }
+    }
+
+    private void ensureRestored(UUID institutionId) {
+        if (restored.contains(institutionId)) {
+            return;
+        }
+        if (store.needsRestore(institutionId)) {
+            Map<UUID, Long> scores = scoreRepository.findScores(institutionId).stream()
+                .collect(Collectors.toMap(LeaderboardScoreRepository.ScoreEntry::getUserId,
+                    LeaderboardScoreRepository.ScoreEntry::getScore));
+            store.restore(institutionId, scores);
+            logger.info("Ranking da instituição {} reconstruído com {} pontuações", institutionId, scores.size());
+        }
+        restored.add(institutionId);
+    }
+
+    private ServiceUnavailableException unavailable(UUID institutionId, RuntimeException e) {
+        logger.warn("Ranking da instituição {} indisponível: {}", institutionId, e.getMessage());
+        return new ServiceUnavailableException("Ranking indisponível no momento, tente novamente");
+    }
+
+    private LeaderboardEntryResponse toResponse(User user, LeaderboardStore.Standing standing) {
+        Long rank = standing.rank() >= 0 ? standing.rank() + 1 : null;
+        return new LeaderboardEntryResponse(rank, user.getId(), user.getName(), standing.score());
+    }
+}
@@ -0,0 +1,48 @@
+package com.comuniquecem.service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Onde ficam os rankings das instituições: um conjunto ordenado por pontuação por instituição,
+ * com posição e pontuação de um aluno em O(log n). Usado somente por {@link LeaderboardService}.
+ */
+interface LeaderboardStore {
+
+    /**
+     * Soma os pontos de cada aluno no ranking da instituição
+     */
+    void incrementAll(UUID institutionId, Map<UUID, Long> points);
+
+    /**
+     * Os count primeiros do ranking, da maior para a menor pontuação
+     */
+    List<Entry> top(UUID institutionId, int count);
+
+    /**
+     * Posição (a partir de 0, -1 se fora do ranking) e pontuação do aluno, com o total de participantes
+     */
+    Standing standing(UUID institutionId, UUID userId);
+
+    /**
+     * Pontuações atuais dos alunos; os ausentes do ranking não aparecem no mapa
+     */
+    Map<UUID, Long> scores(UUID institutionId, Collection<UUID> userIds);
+
+    /**
+     * Indica se o ranking da instituição ainda não foi reconstruído a partir da cópia no banco
+     */
+    boolean needsRestore(UUID institutionId);
+
+    /**
+     * Reconstrói o ranking a partir da cópia: cada pontuação só é aplicada se for maior que a
+     * atual, para não desfazer pontos somados desde a cópia
+     */
+    void restore(UUID institutionId, Map<UUID, Long> scores);
+
+    record Entry(UUID userId, long score) {}
+
+    record Standing(long rank, long score, long players) {}
+}
@@ -0,0 +1,443 @@
+package com.comuniquecem.service;
+
+import com.comuniquecem.dto.request.LiveQuizRequest;
+import com.comuniquecem.dto.response.LiveQuizResponse;
+import com.comuniquecem.dto.response.LiveQuizResultsResponse;
+import com.comuniquecem.dto.response.QuizQuestionResponse;
+import com.comuniquecem.entity.Question;
+import com.comuniquecem.entity.User;
+import com.comuniquecem.exception.BusinessException;
+import com.comuniquecem.exception.ResourceNotFoundException;
+import com.comuniquecem.repository.QuestionRepository;
+import com.comuniquecem.repository.UserRepository;
+import com.comuniquecem.websocket.WebSocketEvent;
+import com.comuniquecem.websocket.WebSocketSessionRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Service para os quizzes ao vivo em sala de aula.
+ *
+ * O professor inicia uma sessão com uma questão, enviada na hora aos alunos conectados, e as
+ * respostas são recebidas até o fim da duração. Nada passa pelo banco enquanto a sessão está
+ * aberta: cada aluno responde uma única vez (putIfAbsent no mapa de respostas) e a escolha soma
+ * um contador atômico por opção, sem trava. O histograma é enviado ao professor no máximo uma
+ * vez por broadcast-interval-ms, e só quando mudou. Ao encerrar, as respostas são gravadas em
+ * question_answers e nas estatísticas dos alunos em batches de uma única transação, os acertos
+ * pontuam no ranking da instituição de uma vez e o resultado final (com a opção correta) vai
+ * para todos.
+ *
+ * As sessões ficam na memória do nó que as iniciou, como as sessões WebSocket: respostas
+ * recebidas por outro nó não encontram a sessão.
+ */
+@Service
+public class LiveQuizService {
+
+    private static final Logger logger = LoggerFactory.getLogger(LiveQuizService.class);
+
+    private static final UUID FIRST_ID = new UUID(0L, 0L);
+    private static final int OPTIONS = 4;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private QuestionAnswerCounterService counterService;
+
+    @Autowired
+    private LeaderboardService leaderboardService;
+
+    @Autowired
+    private StudentQuestionStatsService studentStatsService;
+
+    @Autowired
+    private WebSocketSessionRegistry sessionRegistry;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${quiz.live.default-duration-seconds:30}")
+    private int defaultDurationSeconds;
+
+    @Value("${quiz.live.close-grace-ms:500}")
+    private long closeGraceMs;
+
+    @Value("${quiz.live.results-retention-ms:600000}")
+    private long resultsRetentionMs;
+
+    @Value("${quiz.live.fan-out-batch-size:500}")
+    private int fanOutBatchSize;
+
+    private final Map<UUID, LiveSession> sessions = new ConcurrentHashMap<>();
+
+    private Counter accepted;
+    private Counter rejected;
+
+    @PostConstruct
+    void init() {
+        accepted = Counter.builder("quiz.live.answers")
+            .description("Respostas de quizzes ao vivo")
+            .tag("result", "accepted")
+            .register(meterRegistry);
+        rejected = Counter.builder("quiz.live.answers")
+            .description("Respostas de quizzes ao vivo")
+            .tag("result", "rejected")
+            .register(meterRegistry);
+        meterRegistry.gauge("quiz.live.sessions", sessions, Map::size);
+    }
+
+    /**
+     * Inicia a sessão e envia a questão aos membros da instituição conectados
+     */
+    @Transactional(readOnly = true)
+    public LiveQuizResponse start(User teacher, LiveQuizRequest request) {
+        UUID institutionId = teacher.getInstitution().getId();
+        Question question = questionRepository.findInInstitution(request.getQuestionId(), institutionId)
+            .orElseThrow(() -> new ResourceNotFoundException("Questão não encontrada"));
+
+        int duration = request.getDurationSeconds() != null ? request.getDurationSeconds() : defaultDurationSeconds;
+        long startedAt = System.currentTimeMillis();
+        String[] options = {question.getOption1(), question.getOption2(), question.getOption3(), question.getOption4()};
+
+        LiveSession session = new LiveSession(UUID.randomUUID(), question.getId(), institutionId, teacher.getId(),
+            question.getTitle(), question.getDifficultyLevel(), options, correctOptionOf(question, options), startedAt,
+            startedAt + duration * 1000L);
+        sessions.put(session.id, session);
+
+        LiveQuizResponse response = toResponse(session);
+        int delivered = push(session, response);
+        logger.info("Quiz ao vivo {} iniciado com a questão {} para {} alunos conectados",
+            session.id, question.getId(), delivered);
+        return response;
+    }
+
+    /**
+     * Sessões abertas da instituição, para quem conectou depois do início
+     */
+    public List<LiveQuizResponse> getOpenSessions(User user) {
+        UUID institutionId = user.getInstitution().getId();
+        long now = System.currentTimeMillis();
+        return sessions.values().stream()
+            .filter(session -> session.institutionId.equals(institutionId) && now < session.closesAt)
+            .sorted(Comparator.comparingLong(session -> session.startedAt))
+            .map(this::toResponse)
+            .toList();
+    }
+
+    /**
+     * Registra a resposta do aluno; sem exceções, para ser chamado também pelo WebSocket
+     */
+    public AnswerResult answer(UUID sessionId, UUID userId, UUID institutionId, int option) {
+        LiveSession session = sessions.get(sessionId);
+        if (session == null || !session.institutionId.equals(institutionId)) {
+            rejected.increment();
+            return AnswerResult.NOT_FOUND;
+        }
+
+        long now = System.currentTimeMillis();
+        if (now >= session.closesAt) {
+            rejected.increment();
+            return AnswerResult.CLOSED;
+        }
+        if (option < 1 || option > OPTIONS) {
+            rejected.increment();
+            return AnswerResult.INVALID_OPTION;
+        }
+        if (session.answers.putIfAbsent(userId, new LiveAnswer(option, now)) != null) {
+            rejected.increment();
+            return AnswerResult.DUPLICATE;
+        }
+
+        session.tallies.incrementAndGet(option - 1);
+        accepted.increment();
+        return AnswerResult.ACCEPTED;
+    }
+
+    /**
+     * Registra a resposta recebida pela API REST
+     */
+    public void answer(UUID sessionId, User user, int option) {
+        switch (answer(sessionId, user.getId(), user.getInstitution().getId(), option)) {
+            case NOT_FOUND -> throw new ResourceNotFoundException("Quiz ao vivo não encontrado");
+            case CLOSED -> throw new BusinessException("Quiz ao vivo encerrado");
+            case INVALID_OPTION -> throw new BusinessException("Opção deve estar entre 1 e 4");
+            case DUPLICATE -> throw new BusinessException("Resposta já registrada neste quiz");
+            case ACCEPTED -> { }
+        }
+    }
+
+    /**
+     * Encerra a sessão antes do fim da duração (somente o professor que a iniciou ou um administrador)
+     */
+    public LiveQuizResultsResponse close(UUID sessionId, User user) {
+        LiveSession session = findSession(sessionId, user);
+        if (!canManage(session, user)) {
+            throw new BusinessException("Somente o professor que iniciou o quiz pode encerrá-lo");
+        }
+
+        long now = System.currentTimeMillis();
+        if (now < session.closesAt) {
+            // A gravação acontece no próximo ciclo após a carência, como no encerramento por tempo
+            session.closesAt = now;
+        }
+        return snapshot(session, true);
+    }
+
+    /**
+     * Histograma da sessão: durante o quiz, somente para o professor ou um administrador
+     */
+    public LiveQuizResultsResponse getResults(UUID sessionId, User user) {
+        LiveSession session = findSession(sessionId, user);
+        boolean closed = System.currentTimeMillis() >= session.closesAt;
+        if (!closed && !canManage(session, user)) {
+            throw new BusinessException("Resultado disponível após o encerramento do quiz");
+        }
+        return snapshot(session, closed);
+    }
+
+    /**
+     * Envia o histograma das sessões abertas que mudaram, encerra as que passaram da duração
+     * e descarta os resultados antigos
+     */
+    @Scheduled(fixedDelayString = "${quiz.live.broadcast-interval-ms:250}")
+    public void tick() {
+        long now = System.currentTimeMillis();
+
+        for (LiveSession session : sessions.values()) {
+            try {
+                if (session.persisted) {
+                    if (now - session.closesAt >= resultsRetentionMs) {
+                        sessions.remove(session.id, session);
+                    }
+                } else if (now >= session.closesAt + closeGraceMs) {
+                    finish(session);
+                } else {
+                    broadcastIfChanged(session);
+                }
+            } catch (RuntimeException e) {
+                logger.error("Falha ao processar o quiz ao vivo {}", session.id, e);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void finishOnShutdown() {
+        for (LiveSession session : sessions.values()) {
+            if (!session.persisted) {
+                session.closesAt = Math.min(session.closesAt, System.currentTimeMillis());
+                try {
+                    persist(session);
+                } catch (RuntimeException e) {
+                    logger.warn("Não foi possível gravar as respostas do quiz ao vivo {} no encerramento: {}",
+                        session.id, e.getMessage());
+                }
+            }
+        }
+    }
+
+    private int push(LiveSession session, LiveQuizResponse response) {
+        WebSocketEvent event = new WebSocketEvent(WebSocketEvent.LIVE_QUIZ_STARTED, null, session.teacherId,
+            response, response.getStartedAt());
+        UUID after = FIRST_ID;
+        int delivered = 0;
+
+        while (after != null) {
+            List<UUID> batch = userRepository.findRecipientIds(
+                session.institutionId, after, session.teacherId, PageRequest.of(0, fanOutBatchSize));
+            for (UUID userId : batch) {
+                if (sessionRegistry.isConnected(userId)) {
+                    session.audience.add(userId);
+                    sessionRegistry.sendToUser(userId, event);
+                    delivered++;
+                }
+            }
+            after = batch.size() < fanOutBatchSize ? null : batch.get(batch.size() - 1);
+        }
+        return delivered;
+    }
+
+    private void broadcastIfChanged(LiveSession session) {
+        LiveQuizResultsResponse results = snapshot(session, false);
+        if (results.getTotalAnswers() == session.lastBroadcastTotal) {
+            return;
+        }
+
+        session.lastBroadcastTotal = results.getTotalAnswers();
+        sessionRegistry.sendToUser(session.teacherId, resultsEvent(session, results));
+    }
+
+    private void finish(LiveSession session) {
+        persist(session);
+
+        // Resultado final para o professor, para quem recebeu a questão e para quem respondeu
+        Set<UUID> recipients = new HashSet<>(session.audience);
+        recipients.addAll(session.answers.keySet());
+        recipients.add(session.teacherId);
+
+        WebSocketEvent event = resultsEvent(session, snapshot(session, true));
+        recipients.forEach(userId -> sessionRegistry.sendToUser(userId, event));
+    }
+
+    private void persist(LiveSession session) {
+        List<Object[]> rows = new ArrayList<>(session.answers.size());
+        List<StudentQuestionStatsService.AnswerStat> stats = new ArrayList<>(session.answers.size());
+        Map<UUID, Long> points = new HashMap<>();
+        long correct = 0;
+        for (Map.Entry<UUID, LiveAnswer> entry : session.answers.entrySet()) {
+            LiveAnswer answer = entry.getValue();
+            boolean isCorrect = answer.option() == session.correctOption;
+            if (isCorrect) {
+                correct++;
+                points.put(entry.getKey(), leaderboardService.pointsFor(session.difficultyLevel));
+            }
+            rows.add(new Object[] {session.questionId, entry.getKey(), session.options[answer.option() - 1],
+                isCorrect, new Timestamp(answer.answeredAt())});
+            stats.add(new StudentQuestionStatsService.AnswerStat(entry.getKey(), session.questionId,
+                session.difficultyLevel, isCorrect, toLocalDateTime(answer.answeredAt())));
+        }
+
+        if (!rows.isEmpty()) {
+            // Em caso de falha a sessão continua pendente e a gravação é repetida no próximo ciclo
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(QuizService.INSERT_ANSWER, rows);
+                studentStatsService.recordAll(stats);
+            });
+            counterService.recordAnswers(session.questionId, rows.size(), correct);
+            leaderboardService.addPoints(session.institutionId, points);
+        }
+
+        session.persisted = true;
+        logger.info("Quiz ao vivo {} encerrado com {} respostas", session.id, rows.size());
+    }
+
+    private LiveQuizResultsResponse snapshot(LiveSession session, boolean closed) {
+        List<Long> counts = new ArrayList<>(OPTIONS);
+        long total = 0;
+        for (int i = 0; i < OPTIONS; i++) {
+            long count = session.tallies.get(i);
+            counts.add(count);
+            total += count;
+        }
+
+        Integer correctOption = closed && session.correctOption > 0 ? session.correctOption : null;
+        return new LiveQuizResultsResponse(session.id, session.questionId, counts, total, closed, correctOption,
+            toLocalDateTime(session.closesAt));
+    }
+
+    private WebSocketEvent resultsEvent(LiveSession session, LiveQuizResultsResponse results) {
+        return new WebSocketEvent(WebSocketEvent.LIVE_QUIZ_RESULTS, null, session.teacherId, results,
+            LocalDateTime.now());
+    }
+
+    private LiveSession findSession(UUID sessionId, User user) {
+        LiveSession session = sessions.get(sessionId);
+        if (session == null || !session.institutionId.equals(user.getInstitution().getId())) {
+            throw new ResourceNotFoundException("Quiz ao vivo não encontrado");
+        }
+        return session;
+    }
+
+    private boolean canManage(LiveSession session, User user) {
+        return session.teacherId.equals(user.getId()) || user.getRole().name().contains("ADMIN");
+    }
+
+    private LiveQuizResponse toResponse(LiveSession session) {
+        QuizQuestionResponse question = new QuizQuestionResponse(session.questionId, session.title,
+            session.options[0], session.options[1], session.options[2], session.options[3], session.difficultyLevel);
+        return new LiveQuizResponse(session.id, session.teacherId, question,
+            toLocalDateTime(session.startedAt), toLocalDateTime(session.closesAt));
+    }
+
+    private static int correctOptionOf(Question question, String[] options) {
+        for (int i = 0; i < options.length; i++) {
+            if (question.isCorrectAnswer(options[i])) {
+                return i + 1;
+            }
+        }
+        return 0;
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    public enum AnswerResult {
+        ACCEPTED, NOT_FOUND, CLOSED, INVALID_OPTION, DUPLICATE
+    }
+
+    private record LiveAnswer(int option, long answeredAt) {}
+
+    private static final class LiveSession {
+        private final UUID id;
+        private final UUID questionId;
+        private final UUID institutionId;
+        private final UUID teacherId;
+        private final String title;
+        private final Integer difficultyLevel;
+        private final String[] options;
+        private final int correctOption;
+        private final long startedAt;
+
+        // Uma resposta por aluno; os contadores por opção evitam percorrer o mapa a cada envio
+        private final Map<UUID, LiveAnswer> answers = new ConcurrentHashMap<>();
+        private final AtomicLongArray tallies = new AtomicLongArray(OPTIONS);
+        private final Set<UUID> audience = ConcurrentHashMap.newKeySet();
+
+        private volatile long closesAt;
+        private volatile boolean persisted;
+
+        // Usado somente pela thread do agendador
+        private long lastBroadcastTotal;
+
+        private LiveSession(UUID id, UUID questionId, UUID institutionId, UUID teacherId, String title,
+                            Integer difficultyLevel, String[] options, int correctOption, long startedAt,
+                            long closesAt) {
+            this.id = id;
+            this.questionId = questionId;
+            this.institutionId = institutionId;
+            this.teacherId = teacherId;
+            this.title = title;
+            this.difficultyLevel = difficultyLevel;
+            this.options = options;
+            this.correctOption = correctOption;
+            this.startedAt = startedAt;
+            this.closesAt = closesAt;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.comuniquecem.service;
+
+import com.comuniquecem.util.SortedScoreSet;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Rankings em memória ({@link SortedScoreSet}) para ambientes sem Redis. Cada nó tem os seus:
+ * serve para desenvolvimento e para implantações com um único nó. Operações em um mesmo
+ * ranking são serializadas; rankings de instituições diferentes não disputam entre si.
+ */
+@Component
+@ConditionalOnProperty(name = "quiz.leaderboard.store", havingValue = "memory")
+class MemoryLeaderboardStore implements LeaderboardStore {
+
+    private final Map<UUID, SortedScoreSet<UUID>> boards = new ConcurrentHashMap<>();
+
+    @Override
+    public void incrementAll(UUID institutionId, Map<UUID, Long> points) {
+        SortedScoreSet<UUID> board = boardOf(institutionId);
+        synchronized (board) {
+            points.forEach(board::incrementBy);
+        }
+    }
+
+    @Override
+    public List<Entry> top(UUID institutionId, int count) {
+        SortedScoreSet<UUID> board = boardOf(institutionId);
+        synchronized (board) {
+            return board.reverseRange(0, count).stream()
+                .map(entry -> new Entry(entry.member(), entry.score()))
+                .toList();
+        }
+    }
+
+    @Override
+    public Standing standing(UUID institutionId, UUID userId) {
+        SortedScoreSet<UUID> board = boardOf(institutionId);
+        synchronized (board) {
+            Long score = board.score(userId);
+            return new Standing(board.reverseRank(userId), score != null ? score : 0, board.size());
+        }
+    }
+
+    @Override
+    public Map<UUID, Long> scores(UUID institutionId, Collection<UUID> userIds) {
+        SortedScoreSet<UUID> board = boardOf(institutionId);
+        Map<UUID, Long> scores = new HashMap<>();
+        synchronized (board) {
+            for (UUID userId : userIds) {
+                Long score = board.score(userId);
+                if (score != null) {
+                    scores.put(userId, score);
+                }
+            }
+        }
+        return scores;
+    }
+
+    @Override
+    public boolean needsRestore(UUID institutionId) {
+        return !boards.containsKey(institutionId);
+    }
+
+    @Override
+    public void restore(UUID institutionId, Map<UUID, Long> scores) {
+        SortedScoreSet<UUID> board = boardOf(institutionId);
+        synchronized (board) {
+            scores.forEach(board::setIfGreater);
+        }
+    }
+
+    private SortedScoreSet<UUID> boardOf(UUID institutionId) {
+        return boards.computeIfAbsent(institutionId, id -> new SortedScoreSet<>());
+    }
+}
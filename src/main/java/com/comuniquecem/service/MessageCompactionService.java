@@ -0,0 +1,56 @@
+package com.comuniquecem.service;
+
+import com.comuniquecem.repository.MessageRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+/**
+ * Service para compactação de mensagens excluídas.
+ *
+ * A exclusão de mensagens é lógica; após o prazo configurado o conteúdo (texto e dados do
+ * arquivo) é descartado em lotes curtos, cada um em sua própria transação, mantendo apenas
+ * a linha para preservar a ordem do histórico e as referências de respostas.
+ */
+@Service
+public class MessageCompactionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(MessageCompactionService.class);
+
+    @Autowired
+    private MessageRepository messageRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${chat.compaction.purge-after-days:30}")
+    private long purgeAfterDays;
+
+    @Value("${chat.compaction.batch-size:1000}")
+    private int batchSize;
+
+    /**
+     * Descarta o conteúdo das mensagens excluídas há mais de purge-after-days dias
+     */
+    @Scheduled(cron = "${chat.compaction.cron:0 45 3 * * *}")
+    public void purgeDeletedContent() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(purgeAfterDays);
+        int total = 0;
+        int purged;
+
+        do {
+            purged = transactionTemplate.execute(status -> messageRepository.purgeDeletedContent(cutoff, batchSize));
+            total += purged;
+        } while (purged == batchSize);
+
+        if (total > 0) {
+            logger.info("Conteúdo de {} mensagens excluídas descartado", total);
+        }
+    }
+}
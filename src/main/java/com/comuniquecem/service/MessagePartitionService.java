@@ -0,0 +1,121 @@
+package com.comuniquecem.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+/**
+ * Service para manutenção das partições mensais de messages (somente PostgreSQL).
+ *
+ * Mantém partições criadas com antecedência, para que nenhum envio caia fora de uma faixa,
+ * e desanexa as partições mais antigas que o período de retenção. Partições desanexadas
+ * continuam no banco como tabelas comuns (para arquivamento) a menos que drop-detached esteja ativo.
+ */
+@Service
+@ConditionalOnProperty(name = "chat.partitions.enabled", havingValue = "true")
+public class MessagePartitionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(MessagePartitionService.class);
+
+    private static final String PARENT_TABLE = "messages";
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${chat.partitions.months-ahead:3}")
+    private int monthsAhead;
+
+    @Value("${chat.partitions.retention-months:36}")
+    private int retentionMonths;
+
+    @Value("${chat.partitions.drop-detached:false}")
+    private boolean dropDetached;
+
+    /**
+     * Garante as partições futuras assim que a aplicação sobe
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        createFuturePartitions();
+    }
+
+    /**
+     * Rotina diária: cria partições futuras e aplica a retenção
+     */
+    @Scheduled(cron = "${chat.partitions.maintenance-cron:0 15 2 * * *}")
+    public void maintain() {
+        createFuturePartitions();
+        detachExpiredPartitions();
+    }
+
+    /**
+     * Cria as partições do mês atual até months-ahead meses à frente
+     */
+    public void createFuturePartitions() {
+        YearMonth current = YearMonth.now();
+        for (int i = 0; i <= monthsAhead; i++) {
+            YearMonth month = current.plusMonths(i);
+            jdbcTemplate.execute(String.format(
+                "CREATE TABLE IF NOT EXISTS %s PARTITION OF %s FOR VALUES FROM ('%s') TO ('%s')",
+                partitionName(month), PARENT_TABLE, month.atDay(1), month.plusMonths(1).atDay(1)));
+        }
+    }
+
+    /**
+     * Desanexa as partições cujo mês inteiro está fora do período de retenção
+     */
+    public void detachExpiredPartitions() {
+        YearMonth oldestKept = YearMonth.now().minusMonths(retentionMonths);
+
+        List<String> partitions = jdbcTemplate.queryForList(
+            "SELECT c.relname FROM pg_inherits i " +
+            "JOIN pg_class c ON c.oid = i.inhrelid " +
+            "JOIN pg_class p ON p.oid = i.inhparent " +
+            "WHERE p.relname = ? ORDER BY c.relname",
+            String.class, PARENT_TABLE);
+
+        for (String partition : partitions) {
+            YearMonth month = monthOf(partition);
+            if (month == null || !month.isBefore(oldestKept)) {
+                continue;
+            }
+
+            // CONCURRENTLY evita bloquear envios e leituras enquanto a partição é desanexada
+            jdbcTemplate.execute(String.format("ALTER TABLE %s DETACH PARTITION %s CONCURRENTLY", PARENT_TABLE, partition));
+            if (dropDetached) {
+                jdbcTemplate.execute(String.format("DROP TABLE %s", partition));
+            }
+            logger.info("Partição {} de mensagens {} pela política de retenção de {} meses",
+                partition, dropDetached ? "removida" : "desanexada", retentionMonths);
+        }
+    }
+
+    private String partitionName(YearMonth month) {
+        return PARENT_TABLE + "_" + month.format(PARTITION_SUFFIX);
+    }
+
+    private YearMonth monthOf(String partition) {
+        String prefix = PARENT_TABLE + "_";
+        if (!partition.startsWith(prefix)) {
+            return null;
+        }
+        try {
+            return YearMonth.parse(partition.substring(prefix.length()), PARTITION_SUFFIX);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+}
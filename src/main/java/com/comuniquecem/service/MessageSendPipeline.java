@@ -0,0 +1,328 @@
+package com.comuniquecem.service;
+
+import com.comuniquecem.entity.Attachment;
+import com.comuniquecem.entity.Chat;
+import com.comuniquecem.entity.Message;
+import com.comuniquecem.entity.User;
+import com.comuniquecem.entity.enums.SyncChangeType;
+import com.comuniquecem.exception.ServiceUnavailableException;
+import com.comuniquecem.repository.ChatRepository;
+import com.comuniquecem.repository.MessageRepository;
+import com.comuniquecem.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Pipeline de envio de mensagens com commit em grupo.
+ *
+ * As mensagens de várias requisições são acumuladas por no máximo max-wait-ms (ou até
+ * max-batch-size mensagens) e gravadas em uma única transação: os INSERTs saem em lote JDBC
+ * e a última mensagem de cada conversa e os contadores dos participantes são atualizados uma
+ * vez por conversa, sem incrementar a versão do Chat. Quem enviou só é respondido após o commit.
+ * Aumentar max-wait-ms favorece a vazão; reduzi-lo (ou usar lotes de 1) favorece a latência.
+ *
+ * Cada mensagem é reivindicada uma única vez: pelo gravador, ao entrar em um lote, ou por quem
+ * enviou, ao esgotar ack-timeout-ms. Só uma mensagem ainda na fila é cancelada (e respondida com
+ * 503, podendo ser reenviada sem duplicar); uma que já está sendo gravada aguarda o fim da
+ * transação, para que a resposta sempre corresponda ao que foi gravado.
+ */
+@Service
+public class MessageSendPipeline {
+
+    private static final Logger logger = LoggerFactory.getLogger(MessageSendPipeline.class);
+
+    private static final long IDLE_POLL_MS = 500;
+
+    @Autowired
+    private MessageRepository messageRepository;
+
+    @Autowired
+    private ChatRepository chatRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UnreadCounterService unreadCounterService;
+
+    @Autowired
+    private SyncChangeService syncChangeService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // Limitado pelo hibernate.jdbc.batch_size para que cada lote seja um único batch JDBC
+    @Value("${chat.send-pipeline.max-batch-size:25}")
+    private int maxBatchSize;
+
+    @Value("${chat.send-pipeline.max-wait-ms:5}")
+    private long maxWaitMs;
+
+    @Value("${chat.send-pipeline.queue-capacity:2000}")
+    private int queueCapacity;
+
+    @Value("${chat.send-pipeline.ack-timeout-ms:5000}")
+    private long ackTimeoutMs;
+
+    private BlockingQueue<PendingMessage> queue;
+    private Thread flusher;
+    private volatile boolean running;
+
+    private Timer flushTimer;
+    private Timer ackTimer;
+    private DistributionSummary batchSizes;
+    private Counter failures;
+
+    @PostConstruct
+    void start() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        flushTimer = Timer.builder("chat.send.pipeline.flush")
+            .description("Duração da transação de cada lote de mensagens")
+            .register(meterRegistry);
+        ackTimer = Timer.builder("chat.send.pipeline.ack")
+            .description("Tempo entre o envio e a confirmação do commit")
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .register(meterRegistry);
+        batchSizes = DistributionSummary.builder("chat.send.pipeline.batch.size")
+            .description("Mensagens gravadas por transação")
+            .register(meterRegistry);
+        failures = Counter.builder("chat.send.pipeline.failures")
+            .description("Mensagens que não puderam ser gravadas")
+            .register(meterRegistry);
+        meterRegistry.gauge("chat.send.pipeline.queue", queue, BlockingQueue::size);
+
+        running = true;
+        flusher = new Thread(this::run, "message-send-pipeline");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    /**
+     * Enfileira a mensagem e aguarda o commit do lote em que ela foi gravada.
+     * Com um anexo, a mensagem é um arquivo e o conteúdo (se houver) é a legenda.
+     */
+    public Message send(UUID chatId, UUID senderId, String content, UUID replyToId,
+                        Attachment attachment, String fileName) {
+        PendingMessage pending = new PendingMessage(chatId, senderId, content, replyToId, attachment, fileName,
+            LocalDateTime.now(), System.nanoTime(), new AtomicBoolean(), new CompletableFuture<>());
+
+        if (!running || !queue.offer(pending)) {
+            throw new ServiceUnavailableException("Muitas mensagens sendo enviadas, tente novamente");
+        }
+
+        try {
+            try {
+                return pending.result().get(ackTimeoutMs, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                if (pending.claim()) {
+                    // Ainda na fila: o gravador vai descartá-la
+                    throw new ServiceUnavailableException("Tempo esgotado aguardando a gravação da mensagem");
+                }
+                // Já está em um lote: o resultado da transação é a resposta
+                return pending.result().get();
+            }
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Falha ao gravar a mensagem", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Envio da mensagem interrompido");
+        }
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        // Sem interromper: um lote em andamento termina a transação normalmente
+        running = false;
+        flusher.join(TimeUnit.SECONDS.toMillis(10));
+
+        // Grava o que ainda estiver na fila antes de encerrar
+        List<PendingMessage> remaining = new ArrayList<>();
+        while (queue.drainTo(remaining, maxBatchSize) > 0) {
+            remaining.removeIf(pending -> !pending.claim());
+            if (!remaining.isEmpty()) {
+                flush(remaining);
+            }
+            remaining = new ArrayList<>();
+        }
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                List<PendingMessage> batch = nextBatch();
+                // Mensagens canceladas por quem enviou (tempo esgotado) não são gravadas
+                batch.removeIf(pending -> !pending.claim());
+                if (!batch.isEmpty()) {
+                    flush(batch);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                logger.error("Erro inesperado no pipeline de envio de mensagens", e);
+            }
+        }
+    }
+
+    /**
+     * Aguarda a primeira mensagem e acumula as seguintes até fechar a janela ou encher o lote
+     */
+    private List<PendingMessage> nextBatch() throws InterruptedException {
+        List<PendingMessage> batch = new ArrayList<>(maxBatchSize);
+
+        PendingMessage first = queue.poll(IDLE_POLL_MS, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return batch;
+        }
+        batch.add(first);
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxWaitMs);
+        while (batch.size() < maxBatchSize) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                queue.drainTo(batch, maxBatchSize - batch.size());
+                break;
+            }
+            PendingMessage next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+
+        return batch;
+    }
+
+    private void flush(List<PendingMessage> batch) {
+        batchSizes.record(batch.size());
+
+        List<Message> saved;
+        try {
+            saved = flushTimer.record(() -> transactionTemplate.execute(status -> persist(batch)));
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                fail(batch.get(0), e);
+                return;
+            }
+            // Uma mensagem inválida não deve derrubar o lote: regrava uma a uma
+            logger.warn("Falha ao gravar lote de {} mensagens, regravando individualmente", batch.size(), e);
+            for (PendingMessage pending : batch) {
+                flush(List.of(pending));
+            }
+            return;
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            PendingMessage pending = batch.get(i);
+            ackTimer.record(System.nanoTime() - pending.enqueuedAt(), TimeUnit.NANOSECONDS);
+            pending.result().complete(saved.get(i));
+        }
+    }
+
+    private List<Message> persist(List<PendingMessage> batch) {
+        // Remetentes carregados em uma única consulta (o nome é usado na resposta)
+        Map<UUID, User> senders = userRepository.findAllById(
+                batch.stream().map(PendingMessage::senderId).distinct().toList())
+            .stream()
+            .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        List<Message> messages = new ArrayList<>(batch.size());
+        Map<UUID, Message> lastByChat = new LinkedHashMap<>();
+        Map<SenderKey, List<Message>> bySender = new LinkedHashMap<>();
+
+        for (PendingMessage pending : batch) {
+            Message message = newMessage(pending, senders.get(pending.senderId()),
+                chatRepository.getReferenceById(pending.chatId()));
+            message.setSentAt(pending.sentAt());
+            if (pending.replyToId() != null) {
+                message.setReplyTo(messageRepository.getReferenceById(pending.replyToId()));
+            }
+            messages.add(message);
+
+            lastByChat.merge(pending.chatId(), message,
+                (current, candidate) -> candidate.getSentAt().isBefore(current.getSentAt()) ? current : candidate);
+            bySender.computeIfAbsent(new SenderKey(pending.chatId(), pending.senderId()), key -> new ArrayList<>())
+                .add(message);
+        }
+
+        messageRepository.saveAll(messages);
+
+        // Uma atualização por conversa, independentemente de quantas mensagens ela recebeu no lote
+        lastByChat.forEach((chatId, last) ->
+            chatRepository.recordLastMessage(chatId, last.getSentAt(), Chat.previewOf(last), last.getSender()));
+        bySender.forEach((key, sent) ->
+            unreadCounterService.onMessagesSent(key.chatId(), key.senderId(), sent.size(),
+                sent.stream().map(Message::getSentAt).max(LocalDateTime::compareTo).orElseThrow()));
+        syncChangeService.recordMessages(SyncChangeType.MESSAGE_SENT, messages);
+
+        return messages;
+    }
+
+    private Message newMessage(PendingMessage pending, User sender, Chat chat) {
+        Attachment attachment = pending.attachment();
+        if (attachment == null) {
+            return new Message(pending.content(), sender, chat);
+        }
+
+        Message message = new Message(pending.fileName(), AttachmentStorageService.downloadUrl(attachment.getSha256()),
+            attachment.getSize(), attachment.getContentType(), sender, chat);
+        message.setAttachmentSha256(attachment.getSha256());
+        if (pending.content() != null && !pending.content().isBlank()) {
+            message.setContent(pending.content());
+        }
+        return message;
+    }
+
+    private void fail(PendingMessage pending, RuntimeException e) {
+        failures.increment();
+        logger.error("Falha ao gravar mensagem na conversa {}", pending.chatId(), e);
+        pending.result().completeExceptionally(e);
+    }
+
+    private record PendingMessage(UUID chatId, UUID senderId, String content, UUID replyToId,
+                                  Attachment attachment, String fileName, LocalDateTime sentAt, long enqueuedAt,
+                                  AtomicBoolean claimed, CompletableFuture<Message> result) {
+
+        /**
+         * Reivindica a mensagem para gravação ou cancelamento; só a primeira chamada vence
+         */
+        boolean claim() {
+            return claimed.compareAndSet(false, true);
+        }
+    }
+
+    private record SenderKey(UUID chatId, UUID senderId) {}
+}
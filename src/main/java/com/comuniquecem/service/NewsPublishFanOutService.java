@@ -0,0 +1,319 @@
+package com.comuniquecem.service;
+
+import com.comuniquecem.dto.response.NotificationResponse;
+import com.comuniquecem.entity.enums.NotificationType;
+import com.comuniquecem.repository.UserRepository;
+import com.comuniquecem.websocket.WebSocketEvent;
+import com.comuniquecem.websocket.WebSocketSessionRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Distribuição assíncrona das notícias publicadas aos membros da instituição.
+ *
+ * A publicação grava, na mesma transação, uma linha em news_fan_out_jobs e apenas enfileira o
+ * trabalho após o commit; a requisição não espera pelos destinatários. Os membros ativos são
+ * percorridos por keyset em lotes: cada lote grava as notificações em um único batch JDBC e
+ * avança o cursor da distribuição na mesma transação, e em seguida as envia às sessões
+ * WebSocket abertas neste servidor. Quem estiver desconectado encontra a notificação em
+ * GET /api/notifications.
+ *
+ * Uma distribuição recusada pela fila cheia ou interrompida por erro (ou pela parada do nó)
+ * continua registrada e é retomada do cursor, por qualquer nó, quando sua concessão de
+ * lease-ms expira. O cursor só avança se ainda estiver onde o lote começou, e o índice único
+ * de notifications descarta uma notificação repetida: nenhum membro é notificado duas vezes.
+ */
+@Service
+public class NewsPublishFanOutService {
+
+    private static final Logger logger = LoggerFactory.getLogger(NewsPublishFanOutService.class);
+
+    private static final UUID FIRST_ID = new UUID(0L, 0L);
+
+    // Republicar com uma distribuição ainda registrada (em andamento ou aguardando a concessão) não
+    // cria outra: a existente continua do seu cursor
+    private static final String INSERT_JOB_POSTGRES =
+        "INSERT INTO news_fan_out_jobs (news_id, institution_id, author_id, title, published_at, " +
+        "last_recipient_id, lease_until) VALUES (?, ?, ?, ?, ?, ?, ?) ON CONFLICT (news_id) DO NOTHING";
+
+    // dev/test usam H2, que não aceita ON CONFLICT; mesmos parâmetros, na mesma ordem
+    private static final String INSERT_JOB_MERGE =
+        "MERGE INTO news_fan_out_jobs j USING (VALUES (CAST(? AS UUID), CAST(? AS UUID), CAST(? AS UUID), " +
+        "CAST(? AS VARCHAR(255)), CAST(? AS TIMESTAMP), CAST(? AS UUID), CAST(? AS TIMESTAMP))) " +
+        "AS v (news_id, institution_id, author_id, title, published_at, last_recipient_id, lease_until) " +
+        "ON j.news_id = v.news_id " +
+        "WHEN NOT MATCHED THEN INSERT (news_id, institution_id, author_id, title, published_at, " +
+        "last_recipient_id, lease_until) VALUES (v.news_id, v.institution_id, v.author_id, v.title, " +
+        "v.published_at, v.last_recipient_id, v.lease_until)";
+
+    private static final String SELECT_EXPIRED_JOBS =
+        "SELECT news_id, institution_id, author_id, title, published_at, last_recipient_id " +
+        "FROM news_fan_out_jobs WHERE lease_until < ? ORDER BY lease_until LIMIT ?";
+
+    // Só um nó assume uma distribuição com a concessão expirada
+    private static final String CLAIM_JOB =
+        "UPDATE news_fan_out_jobs SET lease_until = ? WHERE news_id = ? AND lease_until < ?";
+
+    // O cursor só avança a partir de onde o lote começou: outro nó que já o avançou faz este lote desistir
+    private static final String ADVANCE_JOB =
+        "UPDATE news_fan_out_jobs SET last_recipient_id = ?, lease_until = ? " +
+        "WHERE news_id = ? AND last_recipient_id = ?";
+
+    private static final String DELETE_JOB = "DELETE FROM news_fan_out_jobs WHERE news_id = ?";
+
+    private static final String INSERT_NOTIFICATION_POSTGRES =
+        "INSERT INTO notifications (id, user_id, type, reference_id, title, created_at) VALUES (?, ?, ?, ?, ?, ?) " +
+        "ON CONFLICT (user_id, type, reference_id) WHERE type = 'NEWS_PUBLISHED' DO NOTHING";
+
+    // dev/test usam H2, que não aceita ON CONFLICT; mesmos parâmetros, na mesma ordem
+    private static final String INSERT_NOTIFICATION_MERGE =
+        "MERGE INTO notifications n USING (VALUES (CAST(? AS UUID), CAST(? AS UUID), CAST(? AS VARCHAR(30)), " +
+        "CAST(? AS UUID), CAST(? AS VARCHAR(255)), CAST(? AS TIMESTAMP))) " +
+        "AS v (id, user_id, type, reference_id, title, created_at) " +
+        "ON n.user_id = v.user_id AND n.type = v.type AND n.reference_id = v.reference_id " +
+        "WHEN NOT MATCHED THEN INSERT (id, user_id, type, reference_id, title, created_at) " +
+        "VALUES (v.id, v.user_id, v.type, v.reference_id, v.title, v.created_at)";
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private WebSocketSessionRegistry sessionRegistry;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${news.fan-out.batch-size:500}")
+    private int batchSize;
+
+    @Value("${news.fan-out.workers:2}")
+    private int workers;
+
+    @Value("${news.fan-out.queue-capacity:1000}")
+    private int queueCapacity;
+
+    @Value("${news.fan-out.lease-ms:60000}")
+    private long leaseMs;
+
+    private String insertJob;
+
+    private String insertNotification;
+
+    private ThreadPoolTaskExecutor executor;
+
+    private Timer fanOutTimer;
+    private Counter recipients;
+    private Counter rejected;
+    private Counter failures;
+    private Counter resumed;
+
+    @PostConstruct
+    void init() {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+            connection.getMetaData().getDatabaseProductName());
+        boolean postgres = "PostgreSQL".equals(product);
+        insertJob = postgres ? INSERT_JOB_POSTGRES : INSERT_JOB_MERGE;
+        insertNotification = postgres ? INSERT_NOTIFICATION_POSTGRES : INSERT_NOTIFICATION_MERGE;
+
+        // Pool próprio: não é registrado como bean para não substituir o executor padrão do @Async
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("news-fan-out-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        // Uma distribuição em andamento termina antes do encerramento (as já gravadas não se repetem)
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+
+        fanOutTimer = Timer.builder("news.fan-out.duration")
+            .description("Duração da distribuição de uma notícia publicada")
+            .register(meterRegistry);
+        recipients = Counter.builder("news.fan-out.recipients")
+            .description("Notificações de notícias gravadas")
+            .register(meterRegistry);
+        rejected = Counter.builder("news.fan-out.rejected")
+            .description("Distribuições adiadas com a fila cheia")
+            .register(meterRegistry);
+        failures = Counter.builder("news.fan-out.failures")
+            .description("Distribuições interrompidas por erro")
+            .register(meterRegistry);
+        resumed = Counter.builder("news.fan-out.resumed")
+            .description("Distribuições interrompidas retomadas do cursor")
+            .register(meterRegistry);
+        meterRegistry.gauge("news.fan-out.queue", executor,
+            pool -> pool.getThreadPoolExecutor().getQueue().size());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * Registra a distribuição na transação da publicação: ela não se perde se o nó parar após o commit
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void registerFanOut(NewsPublishedEvent event) {
+        jdbcTemplate.update(insertJob, event.newsId(), event.institutionId(), event.authorId(), event.title(),
+            Timestamp.valueOf(event.publishedAt()), FIRST_ID, leaseUntil());
+    }
+
+    /**
+     * Enfileira a distribuição somente após o commit da publicação
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onNewsPublished(NewsPublishedEvent event) {
+        submit(new FanOutJob(event.newsId(), event.institutionId(), event.authorId(), event.title(),
+            event.publishedAt(), FIRST_ID));
+    }
+
+    /**
+     * Retoma as distribuições cuja concessão expirou (fila cheia, erro ou nó parado)
+     */
+    @Scheduled(fixedDelayString = "${news.fan-out.resume-interval-ms:60000}")
+    public void resumeExpired() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<FanOutJob> expired = jdbcTemplate.query(SELECT_EXPIRED_JOBS,
+            (rs, rowNum) -> new FanOutJob(rs.getObject("news_id", UUID.class),
+                rs.getObject("institution_id", UUID.class), rs.getObject("author_id", UUID.class),
+                rs.getString("title"), rs.getTimestamp("published_at").toLocalDateTime(),
+                rs.getObject("last_recipient_id", UUID.class)),
+            now, queueCapacity);
+
+        for (FanOutJob job : expired) {
+            if (jdbcTemplate.update(CLAIM_JOB, leaseUntil(), job.newsId(), now) == 1) {
+                resumed.increment();
+                logger.info("Retomando a distribuição da notícia {} após o destinatário {}",
+                    job.newsId(), job.after());
+                submit(job);
+            }
+        }
+    }
+
+    private void submit(FanOutJob job) {
+        try {
+            executor.execute(() -> fanOutTimer.record(() -> fanOut(job)));
+        } catch (TaskRejectedException e) {
+            rejected.increment();
+            logger.warn("Fila de distribuição cheia: notícia {} será distribuída quando a concessão expirar",
+                job.newsId());
+        }
+    }
+
+    private void fanOut(FanOutJob job) {
+        UUID after = job.after();
+        long delivered = 0;
+
+        try {
+            while (after != null) {
+                UUID from = after;
+                List<Delivery> batch = transactionTemplate.execute(status -> writeBatch(job, from));
+                if (batch == null) {
+                    logger.info("Distribuição da notícia {} assumida por outro nó após {} destinatários",
+                        job.newsId(), delivered);
+                    return;
+                }
+                if (batch.isEmpty()) {
+                    break;
+                }
+
+                deliver(job, batch);
+                delivered += batch.size();
+                after = batch.size() < batchSize ? null : batch.get(batch.size() - 1).userId();
+            }
+            jdbcTemplate.update(DELETE_JOB, job.newsId());
+        } catch (RuntimeException e) {
+            // Os lotes anteriores já foram gravados; os restantes são retomados do cursor
+            failures.increment();
+            logger.error("Distribuição da notícia {} interrompida após {} destinatários, será retomada",
+                job.newsId(), delivered, e);
+            return;
+        }
+
+        logger.info("Notícia {} distribuída para {} membros da instituição {}",
+            job.newsId(), delivered, job.institutionId());
+    }
+
+    /**
+     * Grava as notificações do próximo lote e avança o cursor na mesma transação; retorna null
+     * se o cursor já não estiver em after (a distribuição foi assumida por outro nó)
+     */
+    private List<Delivery> writeBatch(FanOutJob job, UUID after) {
+        List<UUID> recipientIds = userRepository.findRecipientIds(
+            job.institutionId(), after, job.authorId(), PageRequest.of(0, batchSize));
+        UUID last = recipientIds.isEmpty() ? after : recipientIds.get(recipientIds.size() - 1);
+
+        // Primeira escrita do lote: trava a linha, e um nó que disputava a mesma distribuição (e leu os
+        // mesmos destinatários) encontra o cursor já avançado e desiste
+        if (jdbcTemplate.update(ADVANCE_JOB, last, leaseUntil(), job.newsId(), after) != 1) {
+            return null;
+        }
+
+        Timestamp createdAt = Timestamp.valueOf(job.publishedAt());
+        List<Object[]> rows = new ArrayList<>(recipientIds.size());
+        List<Delivery> batch = new ArrayList<>(recipientIds.size());
+        for (UUID userId : recipientIds) {
+            UUID id = UUID.randomUUID();
+            rows.add(new Object[] {id, userId, NotificationType.NEWS_PUBLISHED.name(), job.newsId(),
+                job.title(), createdAt});
+            batch.add(new Delivery(userId, id));
+        }
+
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(insertNotification, rows);
+            recipients.increment(rows.size());
+        }
+        return batch;
+    }
+
+    private void deliver(FanOutJob job, List<Delivery> batch) {
+        // Gravadas antes do envio: o cliente pode buscar a notificação assim que a receber
+        for (Delivery delivery : batch) {
+            NotificationResponse notification = new NotificationResponse(delivery.notificationId(),
+                NotificationType.NEWS_PUBLISHED, job.newsId(), job.title(), job.publishedAt(), null);
+            sessionRegistry.sendToUser(delivery.userId(), new WebSocketEvent(
+                WebSocketEvent.NOTIFICATION, null, job.authorId(), notification, job.publishedAt()));
+        }
+    }
+
+    private Timestamp leaseUntil() {
+        return Timestamp.valueOf(LocalDateTime.now().plusNanos(leaseMs * 1_000_000));
+    }
+
+    private record FanOutJob(UUID newsId, UUID institutionId, UUID authorId, String title,
+                             LocalDateTime publishedAt, UUID after) {}
+
+    private record Delivery(UUID userId, UUID notificationId) {}
+}
@@ -0,0 +1,10 @@
+package com.comuniquecem.service;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Evento de publicação de uma notícia, entregue aos membros da instituição após o commit
+ */
+public record NewsPublishedEvent(UUID newsId, UUID institutionId, UUID authorId, String title,
+                                 LocalDateTime publishedAt) {}
@@ -0,0 +1,340 @@
+package com.comuniquecem.service;
+
+import com.comuniquecem.dto.request.NewsRequest;
+import com.comuniquecem.dto.response.NewsFeedResponse;
+import com.comuniquecem.dto.response.NewsResponse;
+import com.comuniquecem.dto.response.NewsSummaryResponse;
+import com.comuniquecem.dto.response.NewsViewsResponse;
+import com.comuniquecem.entity.News;
+import com.comuniquecem.entity.User;
+import com.comuniquecem.exception.BusinessException;
+import com.comuniquecem.exception.ResourceNotFoundException;
+import com.comuniquecem.repository.InstitutionRepository;
+import com.comuniquecem.repository.NewsRepository;
+import com.comuniquecem.repository.UserRepository;
+import com.comuniquecem.repository.VersionStamp;
+import com.comuniquecem.util.EntityTag;
+import com.comuniquecem.util.KeysetCursor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Service para notícias e o feed por instituição.
+ *
+ * A primeira página do feed (a aberta na tela inicial) fica em cache por instituição e é
+ * invalidada após o commit de qualquer alteração que a afete. As demais páginas são lidas
+ * por keyset diretamente do índice idx_news_feed. Falhas do cache não impedem a leitura.
+ */
+@Service
+@Transactional
+public class NewsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(NewsService.class);
+
+    public static final String FEED_CACHE = "newsFeed";
+
+    private static final int MAX_PAGE_SIZE = 50;
+    private static final LocalDateTime KEYSET_START = LocalDateTime.of(9999, 12, 31, 23, 59);
+    private static final UUID KEYSET_START_ID = new UUID(-1L, -1L);
+
+    @Autowired
+    private NewsRepository newsRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private InstitutionRepository institutionRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private NewsViewCounterService newsViewCounterService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${news.feed.page-size:20}")
+    private int defaultPageSize;
+
+    @Value("${news.feed.max-pinned:5}")
+    private int maxPinned;
+
+    /**
+     * Busca uma página do feed de notícias publicadas da instituição
+     */
+    @Transactional(readOnly = true)
+    public NewsFeedResponse getFeed(UUID institutionId, String cursor, int size) {
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+
+        // Somente a primeira página no tamanho padrão é compartilhada pelo cache
+        if (position != null || pageSize != defaultPageSize) {
+            return loadFeed(institutionId, position, pageSize);
+        }
+
+        NewsFeedResponse cached = readCachedFeed(institutionId);
+        if (cached != null) {
+            return cached;
+        }
+
+        NewsFeedResponse feed = loadFeed(institutionId, null, pageSize);
+        writeCachedFeed(institutionId, feed);
+        return feed;
+    }
+
+    /**
+     * ETag fraca do feed da instituição (quantidade e última alteração das notícias)
+     */
+    @Transactional(readOnly = true)
+    public EntityTag getFeedTag(UUID institutionId) {
+        VersionStamp stamp = newsRepository.findFeedStamp(institutionId);
+        return EntityTag.weak(stamp.getUpdatedAt(), institutionId, stamp.getVersion());
+    }
+
+    /**
+     * ETag de uma notícia publicada; null para rascunhos ou notícias inexistentes, que seguem
+     * pela busca completa. É fraca porque as visualizações mudam sem alterar a versão.
+     */
+    @Transactional(readOnly = true)
+    public EntityTag getNewsTag(UUID newsId, User user) {
+        return newsRepository.findPublishedStamp(newsId, user.getInstitution().getId())
+            .map(stamp -> EntityTag.weak(stamp.getUpdatedAt(), newsId, stamp.getVersion()))
+            .orElse(null);
+    }
+
+    /**
+     * Conta uma visualização de notícia publicada respondida sem corpo (304)
+     */
+    public void recordView(UUID newsId, User user) {
+        newsViewCounterService.recordView(newsId, user.getId());
+    }
+
+    /**
+     * Busca uma notícia da instituição. Rascunhos são visíveis apenas para quem pode editá-los.
+     * Leituras de notícias publicadas contam como visualização.
+     */
+    @Transactional(readOnly = true)
+    public NewsResponse getNews(UUID newsId, User user) {
+        News news = findInInstitution(newsId, user);
+
+        if (!news.getPublished()) {
+            if (!news.canBeEditedBy(user)) {
+                throw new ResourceNotFoundException("Notícia não encontrada");
+            }
+        } else {
+            newsViewCounterService.recordView(newsId, user.getId());
+        }
+
+        return mapToNewsResponse(news);
+    }
+
+    /**
+     * Busca as visualizações da notícia (somente o autor ou um administrador)
+     */
+    @Transactional(readOnly = true)
+    public NewsViewsResponse getViews(UUID newsId, User user) {
+        News news = findEditable(newsId, user);
+
+        return new NewsViewsResponse(newsId,
+            news.getViews() + newsViewCounterService.getPendingViews(newsId),
+            newsViewCounterService.getUniqueViewers(newsId));
+    }
+
+    /**
+     * Cria uma notícia na instituição do autor, como rascunho ou já publicada
+     */
+    public NewsResponse createNews(User author, NewsRequest request) {
+        News news = new News(request.getTitle(), request.getContent(),
+            institutionRepository.getReferenceById(author.getInstitution().getId()),
+            userRepository.getReferenceById(author.getId()));
+        news.setImageUrl(request.getImageUrl());
+        news.setFeatured(Boolean.TRUE.equals(request.getFeatured()));
+        news.setPublished(Boolean.TRUE.equals(request.getPublished()));
+
+        news = newsRepository.save(news);
+        if (news.getPublished()) {
+            evictFeed(author.getInstitution().getId());
+            notifyPublished(news);
+        }
+
+        logger.info("Notícia {} criada por {}", news.getId(), author.getId());
+        return mapToNewsResponse(news);
+    }
+
+    /**
+     * Edita uma notícia. Campos ausentes na requisição de destaque/publicação são mantidos.
+     */
+    public NewsResponse updateNews(UUID newsId, User user, NewsRequest request) {
+        News news = findEditable(newsId, user);
+        boolean wasPublished = news.getPublished();
+
+        news.setTitle(request.getTitle());
+        news.setContent(request.getContent());
+        news.setImageUrl(request.getImageUrl());
+        if (request.getFeatured() != null) {
+            news.setFeatured(request.getFeatured());
+        }
+        if (request.getPublished() != null) {
+            news.setPublished(request.getPublished());
+        }
+
+        if (wasPublished || news.getPublished()) {
+            evictFeed(news.getInstitution().getId());
+        }
+        if (!wasPublished && news.getPublished()) {
+            notifyPublished(news);
+        }
+
+        logger.info("Notícia {} editada por {}", newsId, user.getId());
+        return mapToNewsResponse(news);
+    }
+
+    /**
+     * Publica um rascunho
+     */
+    public NewsResponse publishNews(UUID newsId, User user) {
+        News news = findEditable(newsId, user);
+
+        if (news.getPublished()) {
+            throw new BusinessException("Notícia já publicada");
+        }
+
+        news.setPublished(true);
+        evictFeed(news.getInstitution().getId());
+        notifyPublished(news);
+
+        logger.info("Notícia {} publicada por {}", newsId, user.getId());
+        return mapToNewsResponse(news);
+    }
+
+    /**
+     * Agenda a notificação dos membros da instituição, distribuída somente após o commit
+     */
+    private void notifyPublished(News news) {
+        eventPublisher.publishEvent(new NewsPublishedEvent(news.getId(), news.getInstitution().getId(),
+            news.getAuthor().getId(), news.getTitle(), LocalDateTime.now()));
+    }
+
+    private NewsFeedResponse loadFeed(UUID institutionId, KeysetCursor position, int pageSize) {
+        // Busca um item a mais para saber se existe próxima página
+        List<NewsSummaryResponse> items = newsRepository.findFeed(
+            institutionId,
+            position != null ? position.position() : KEYSET_START,
+            position != null ? position.id() : KEYSET_START_ID,
+            PageRequest.of(0, pageSize + 1));
+
+        String nextCursor = null;
+        if (items.size() > pageSize) {
+            items = items.subList(0, pageSize);
+            NewsSummaryResponse last = items.get(items.size() - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        // Destaques só acompanham a primeira página
+        List<NewsSummaryResponse> pinned = position == null
+            ? newsRepository.findPinned(institutionId, PageRequest.of(0, maxPinned))
+            : List.of();
+
+        return new NewsFeedResponse(pinned, List.copyOf(items), nextCursor);
+    }
+
+    private NewsFeedResponse readCachedFeed(UUID institutionId) {
+        try {
+            Cache cache = cacheManager.getCache(FEED_CACHE);
+            return cache != null ? cache.get(institutionId, NewsFeedResponse.class) : null;
+        } catch (RuntimeException e) {
+            logger.warn("Cache do feed de notícias indisponível: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeCachedFeed(UUID institutionId, NewsFeedResponse feed) {
+        try {
+            Cache cache = cacheManager.getCache(FEED_CACHE);
+            if (cache != null) {
+                cache.put(institutionId, feed);
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Não foi possível gravar o feed de notícias no cache: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Invalida a primeira página após o commit, para que uma leitura concorrente não
+     * volte a gravar no cache o estado anterior à alteração
+     */
+    private void evictFeed(UUID institutionId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evictCachedFeed(institutionId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evictCachedFeed(institutionId);
+            }
+        });
+    }
+
+    private void evictCachedFeed(UUID institutionId) {
+        try {
+            Cache cache = cacheManager.getCache(FEED_CACHE);
+            if (cache != null) {
+                cache.evict(institutionId);
+            }
+        } catch (RuntimeException e) {
+            // A alteração já foi confirmada: a página em cache expira pelo time-to-live
+            logger.warn("Não foi possível invalidar o feed de notícias da instituição {}: {}", institutionId, e.getMessage());
+        }
+    }
+
+    private News findInInstitution(UUID newsId, User user) {
+        return newsRepository.findInInstitution(newsId, user.getInstitution().getId())
+            .orElseThrow(() -> new ResourceNotFoundException("Notícia não encontrada"));
+    }
+
+    private News findEditable(UUID newsId, User user) {
+        News news = findInInstitution(newsId, user);
+
+        if (!news.canBeEditedBy(user)) {
+            throw new BusinessException("Somente o autor ou um administrador pode alterar a notícia");
+        }
+
+        return news;
+    }
+
+    // Métodos de mapeamento privados
+    private NewsResponse mapToNewsResponse(News news) {
+        return new NewsResponse(
+            news.getId(),
+            news.getInstitution().getId(),
+            news.getAuthor().getId(),
+            news.getAuthor().getName(),
+            news.getTitle(),
+            news.getContent(),
+            news.getImageUrl(),
+            news.getPublished(),
+            news.getFeatured(),
+            news.getViews() + newsViewCounterService.getPendingViews(news.getId()),
+            news.getCreatedAt(),
+            news.getUpdatedAt()
+        );
+    }
+}
@@ -0,0 +1,223 @@
+package com.comuniquecem.service;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Service para a contagem de visualizações de notícias.
+ *
+ * As visualizações são somadas em contadores em memória (LongAdder, sem disputa entre leitores)
+ * e gravadas a cada flush-interval-ms com um único batch de UPDATE views = views + ?, sem
+ * carregar a entidade nem incrementar sua versão. O flush só zera os contadores com
+ * sumThenReset() e nunca remove entradas, então uma visualização nunca cai em um contador já
+ * descartado; o mapa fica limitado às notícias vistas desde o início do nó.
+ *
+ * Leitores únicos são estimados com um HyperLogLog por notícia no Redis. O flush retira e
+ * aposenta o conjunto de leitores pendentes de cada notícia; quem somou um leitor a um conjunto
+ * já aposentado repete em um conjunto novo, o que é inofensivo porque o PFADD ignora repetidos.
+ * Uma queda do nó perde no máximo um intervalo de contagem.
+ */
+@Service
+public class NewsViewCounterService {
+
+    private static final Logger logger = LoggerFactory.getLogger(NewsViewCounterService.class);
+
+    private static final String UPDATE_VIEWS = "UPDATE news SET views = views + ? WHERE id = ?";
+    private static final String VIEWERS_KEY_PREFIX = "news:viewers:";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Value("${news.views.unique-viewers.enabled:true}")
+    private boolean uniqueViewersEnabled;
+
+    @Value("${news.views.unique-viewers.max-pending:100000}")
+    private int maxPendingViewers;
+
+    @Value("${news.views.unique-viewers.ttl-days:365}")
+    private long uniqueViewersTtlDays;
+
+    private final Map<UUID, LongAdder> pendingViews = new ConcurrentHashMap<>();
+    private final Map<UUID, Viewers> pendingViewers = new ConcurrentHashMap<>();
+    private final AtomicInteger pendingViewerCount = new AtomicInteger();
+
+    /**
+     * Registra uma visualização da notícia pelo usuário
+     */
+    public void recordView(UUID newsId, UUID userId) {
+        addViews(newsId, 1);
+
+        // Limita a memória se o Redis ficar indisponível: o excedente só perde a estimativa de únicos
+        if (uniqueViewersEnabled && pendingViewerCount.get() < maxPendingViewers) {
+            addViewer(newsId, userId.toString());
+        }
+    }
+
+    /**
+     * Visualizações ainda não gravadas neste nó, para somar ao valor do banco
+     */
+    public long getPendingViews(UUID newsId) {
+        LongAdder adder = pendingViews.get(newsId);
+        return adder != null ? adder.sum() : 0;
+    }
+
+    /**
+     * Estimativa de leitores únicos da notícia; null se o Redis estiver indisponível
+     */
+    public Long getUniqueViewers(UUID newsId) {
+        if (!uniqueViewersEnabled) {
+            return null;
+        }
+        try {
+            return redisTemplate.opsForHyperLogLog().size(VIEWERS_KEY_PREFIX + newsId);
+        } catch (RuntimeException e) {
+            logger.warn("Não foi possível consultar os leitores únicos da notícia {}: {}", newsId, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Grava as visualizações acumuladas desde o último flush
+     */
+    @Scheduled(fixedDelayString = "${news.views.flush-interval-ms:5000}")
+    public void flush() {
+        flushViews();
+        if (uniqueViewersEnabled) {
+            flushViewers();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        try {
+            flush();
+        } catch (Exception e) {
+            logger.warn("Não foi possível gravar visualizações pendentes no encerramento: {}", e.getMessage());
+        }
+    }
+
+    private void flushViews() {
+        List<UUID> ids = new ArrayList<>();
+        List<Object[]> rows = new ArrayList<>();
+
+        for (Map.Entry<UUID, LongAdder> entry : pendingViews.entrySet()) {
+            long views = entry.getValue().sumThenReset();
+            if (views > 0) {
+                ids.add(entry.getKey());
+                rows.add(new Object[] { views, entry.getKey() });
+            }
+        }
+
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(UPDATE_VIEWS, rows));
+            logger.debug("Visualizações de {} notícias gravadas", rows.size());
+        } catch (RuntimeException e) {
+            // Devolve as contagens para a próxima tentativa
+            for (int i = 0; i < ids.size(); i++) {
+                addViews(ids.get(i), (Long) rows.get(i)[0]);
+            }
+            logger.warn("Falha ao gravar visualizações de notícias, nova tentativa no próximo flush: {}", e.getMessage());
+        }
+    }
+
+    private void addViews(UUID newsId, long views) {
+        LongAdder adder = pendingViews.get(newsId);
+        if (adder == null) {
+            adder = pendingViews.computeIfAbsent(newsId, id -> new LongAdder());
+        }
+        adder.add(views);
+    }
+
+    private void addViewer(UUID newsId, String viewer) {
+        while (true) {
+            Viewers viewers = pendingViewers.get(newsId);
+            if (viewers == null) {
+                viewers = pendingViewers.computeIfAbsent(newsId, id -> new Viewers());
+            }
+            if (viewers.ids.add(viewer)) {
+                pendingViewerCount.incrementAndGet();
+            }
+            // Lido depois de somar: se o conjunto ainda não foi aposentado, o flush vai enviar este leitor
+            if (!viewers.retired) {
+                return;
+            }
+        }
+    }
+
+    private void flushViewers() {
+        if (pendingViewers.isEmpty()) {
+            return;
+        }
+
+        Map<String, Set<String>> batch = new HashMap<>();
+        for (UUID newsId : pendingViewers.keySet()) {
+            Viewers viewers = pendingViewers.remove(newsId);
+            if (viewers != null) {
+                // Antes de ler o conjunto: quem somar depois disso repete em um conjunto novo
+                viewers.retired = true;
+                batch.put(VIEWERS_KEY_PREFIX + newsId, viewers.ids);
+            }
+        }
+        // Recalculado a partir do que restou, para não acumular desvio com registros concorrentes
+        pendingViewerCount.set(pendingViewers.values().stream().mapToInt(viewers -> viewers.ids.size()).sum());
+
+        long ttlSeconds = Duration.ofDays(uniqueViewersTtlDays).toSeconds();
+        try {
+            // Um único round trip para todas as notícias visualizadas no intervalo
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                batch.forEach((key, viewers) -> addViewers(connection, key, viewers, ttlSeconds));
+                return null;
+            });
+        } catch (RuntimeException e) {
+            // Estimativa aproximada por natureza: os leitores do intervalo são descartados
+            logger.warn("Falha ao gravar leitores únicos de {} notícias: {}", batch.size(), e.getMessage());
+        }
+    }
+
+    private void addViewers(RedisConnection connection, String key, Set<String> viewers, long ttlSeconds) {
+        byte[] rawKey = key.getBytes(StandardCharsets.UTF_8);
+        byte[][] rawViewers = viewers.stream()
+            .map(viewer -> viewer.getBytes(StandardCharsets.UTF_8))
+            .toArray(byte[][]::new);
+
+        connection.hyperLogLogCommands().pfAdd(rawKey, rawViewers);
+        connection.keyCommands().expire(rawKey, ttlSeconds);
+    }
+
+    private static final class Viewers {
+        private final Set<String> ids = ConcurrentHashMap.newKeySet();
+        private volatile boolean retired;
+    }
+}
@@ -0,0 +1,72 @@
+package com.comuniquecem.service;
+
+import com.comuniquecem.dto.response.NotificationPageResponse;
+import com.comuniquecem.dto.response.NotificationResponse;
+import com.comuniquecem.exception.ResourceNotFoundException;
+import com.comuniquecem.repository.NotificationRepository;
+import com.comuniquecem.util.KeysetCursor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Service para a leitura das notificações do usuário (gravadas por {@link NewsPublishFanOutService})
+ */
+@Service
+@Transactional
+public class NotificationService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final LocalDateTime KEYSET_START = LocalDateTime.of(9999, 12, 31, 23, 59);
+    private static final UUID KEYSET_START_ID = new UUID(-1L, -1L);
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    /**
+     * Busca uma página das notificações do usuário, da mais recente para a mais antiga
+     */
+    @Transactional(readOnly = true)
+    public NotificationPageResponse getNotifications(UUID userId, String cursor, int size) {
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+
+        // Busca um item a mais para saber se existe próxima página
+        List<NotificationResponse> items = notificationRepository.findPage(
+            userId,
+            position != null ? position.position() : KEYSET_START,
+            position != null ? position.id() : KEYSET_START_ID,
+            PageRequest.of(0, pageSize + 1));
+
+        String nextCursor = null;
+        if (items.size() > pageSize) {
+            items = items.subList(0, pageSize);
+            NotificationResponse last = items.get(items.size() - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return new NotificationPageResponse(List.copyOf(items), notificationRepository.countUnread(userId), nextCursor);
+    }
+
+    /**
+     * Marca uma notificação do usuário como lida
+     */
+    public void markRead(UUID notificationId, UUID userId) {
+        if (notificationRepository.markRead(notificationId, userId, LocalDateTime.now()) == 0
+                && !notificationRepository.existsByIdAndUserId(notificationId, userId)) {
+            throw new ResourceNotFoundException("Notificação não encontrada");
+        }
+    }
+
+    /**
+     * Marca todas as notificações do usuário como lidas
+     */
+    public void markAllRead(UUID userId) {
+        notificationRepository.markAllRead(userId, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,164 @@
+package com.comuniquecem.service;
+
+import com.comuniquecem.dto.response.PublicNewsPageResponse;
+import com.comuniquecem.dto.response.PublicNewsResponse;
+import com.comuniquecem.dto.response.PublicNewsSummaryResponse;
+import com.comuniquecem.entity.News;
+import com.comuniquecem.exception.BusinessException;
+import com.comuniquecem.exception.ResourceNotFoundException;
+import com.comuniquecem.repository.InstitutionRepository;
+import com.comuniquecem.repository.NewsRepository;
+import com.comuniquecem.repository.VersionStamp;
+import com.comuniquecem.util.EntityTag;
+import com.comuniquecem.util.PrecompressedBody;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Service para as notícias públicas (portal dos responsáveis), sem autenticação.
+ *
+ * As respostas ficam em memória já serializadas e comprimidas com gzip, por instituição e
+ * página (ou notícia). Cada entrada guarda a ETag da versão em que foi gerada e só é servida
+ * enquanto a ETag atual (uma consulta de versão, sem carregar notícias) for a mesma: uma
+ * alteração em qualquer nó invalida o corpo em todos os nós, sem evicção distribuída.
+ */
+@Service
+@Transactional(readOnly = true)
+public class PublicNewsService {
+
+    @Autowired
+    private NewsRepository newsRepository;
+
+    @Autowired
+    private InstitutionRepository institutionRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${news.public.page-size:20}")
+    private int pageSize;
+
+    @Value("${news.public.max-pages:10}")
+    private int maxPages;
+
+    @Value("${news.public.cache-max-entries:2000}")
+    private int cacheMaxEntries;
+
+    // LRU limitado: instituições e notícias pouco acessadas saem primeiro
+    private Map<CacheKey, PrecompressedBody> bodies;
+
+    private Counter hits;
+    private Counter misses;
+
+    @PostConstruct
+    void init() {
+        bodies = Collections.synchronizedMap(new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<CacheKey, PrecompressedBody> eldest) {
+                return size() > cacheMaxEntries;
+            }
+        });
+
+        hits = Counter.builder("news.public.cache")
+            .description("Respostas públicas de notícias servidas do cache em memória")
+            .tag("result", "hit")
+            .register(meterRegistry);
+        misses = Counter.builder("news.public.cache")
+            .description("Respostas públicas de notícias servidas do cache em memória")
+            .tag("result", "miss")
+            .register(meterRegistry);
+        meterRegistry.gauge("news.public.cache.entries", bodies, Map::size);
+    }
+
+    /**
+     * Busca o ID da instituição ativa pelo código
+     */
+    public UUID findInstitutionId(String code) {
+        return institutionRepository.findActiveIdByCode(code)
+            .orElseThrow(() -> new ResourceNotFoundException("Instituição não encontrada"));
+    }
+
+    /**
+     * ETag de uma página da listagem: muda com qualquer notícia da instituição ou com a troca de
+     * nome de um dos autores (exibido na página)
+     */
+    public EntityTag getPageTag(UUID institutionId, int page) {
+        if (page < 0 || page >= maxPages) {
+            throw new BusinessException("Página deve estar entre 0 e " + (maxPages - 1));
+        }
+
+        VersionStamp stamp = newsRepository.findFeedStamp(institutionId);
+        return EntityTag.strong(stamp.getUpdatedAt(), institutionId, page, stamp.getVersion());
+    }
+
+    /**
+     * Corpo da página na versão da tag, do cache ou gerado agora
+     */
+    public PrecompressedBody getPage(UUID institutionId, int page, EntityTag tag) {
+        return cached(new CacheKey(institutionId, page, null), tag, () -> {
+            Slice<PublicNewsSummaryResponse> slice = newsRepository.findPublicPage(
+                institutionId, PageRequest.of(page, pageSize));
+            return new PublicNewsPageResponse(slice.getContent(), page, slice.hasNext() && page + 1 < maxPages);
+        });
+    }
+
+    /**
+     * ETag de uma notícia publicada da instituição; muda também com a troca de nome do autor
+     */
+    public EntityTag getNewsTag(UUID institutionId, UUID newsId) {
+        return newsRepository.findPublishedStamp(newsId, institutionId)
+            .map(stamp -> EntityTag.strong(stamp.getUpdatedAt(), newsId, stamp.getVersion()))
+            .orElseThrow(() -> new ResourceNotFoundException("Notícia não encontrada"));
+    }
+
+    /**
+     * Corpo da notícia na versão da tag, do cache ou gerado agora
+     */
+    public PrecompressedBody getNews(UUID institutionId, UUID newsId, EntityTag tag) {
+        return cached(new CacheKey(institutionId, null, newsId), tag, () -> {
+            News news = newsRepository.findInInstitution(newsId, institutionId)
+                .filter(News::getPublished)
+                .orElseThrow(() -> new ResourceNotFoundException("Notícia não encontrada"));
+            return new PublicNewsResponse(news.getId(), news.getTitle(), news.getContent(), news.getImageUrl(),
+                news.getFeatured(), news.getAuthor().getName(), news.getCreatedAt(), news.getUpdatedAt());
+        });
+    }
+
+    private PrecompressedBody cached(CacheKey key, EntityTag tag, Supplier<Object> loader) {
+        PrecompressedBody body = bodies.get(key);
+        if (body != null && body.tag().equals(tag)) {
+            hits.increment();
+            return body;
+        }
+
+        misses.increment();
+        try {
+            // Requisições simultâneas podem gerar o mesmo corpo: o resultado é idêntico
+            body = PrecompressedBody.of(tag, objectMapper.writeValueAsBytes(loader.get()));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Falha ao serializar notícias públicas", e);
+        }
+        bodies.put(key, body);
+        return body;
+    }
+
+    private record CacheKey(UUID institutionId, Integer page, UUID newsId) {}
+}
@@ -0,0 +1,132 @@
+package com.comuniquecem.service;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Service para os contadores de respostas das questões (answer_count e correct_count).
+ *
+ * As respostas são somadas em contadores em memória e gravadas a cada flush-interval-ms com um
+ * único batch de UPDATE answer_count = answer_count + ?, sem carregar a entidade nem incrementar
+ * sua versão. A soma é um get() no mapa seguido de LongAdder.add, sem trava: uma turma inteira
+ * respondendo a mesma questão não disputa a entrada. O flush só zera os contadores com
+ * sumThenReset() e nunca remove entradas, então uma resposta nunca é somada a um contador já
+ * descartado; o mapa fica limitado às questões respondidas desde o início do nó.
+ * O log question_answers é a fonte de verdade: uma queda do nó só atrasa os contadores.
+ */
+@Service
+public class QuestionAnswerCounterService {
+
+    private static final Logger logger = LoggerFactory.getLogger(QuestionAnswerCounterService.class);
+
+    private static final String UPDATE_COUNTS =
+        "UPDATE questions SET answer_count = answer_count + ?, correct_count = correct_count + ? WHERE id = ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final Map<UUID, Tally> pending = new ConcurrentHashMap<>();
+
+    /**
+     * Soma uma resposta da questão
+     */
+    public void recordAnswer(UUID questionId, boolean correct) {
+        add(questionId, 1, correct ? 1 : 0);
+    }
+
+    /**
+     * Soma de uma vez as respostas de um quiz ao vivo já gravadas no log
+     */
+    public void recordAnswers(UUID questionId, long answers, long correct) {
+        if (answers == 0) {
+            return;
+        }
+        add(questionId, answers, correct);
+    }
+
+    /**
+     * Respostas ainda não gravadas neste nó, para somar aos valores do banco
+     */
+    public PendingCounts getPending(UUID questionId) {
+        Tally tally = pending.get(questionId);
+        if (tally == null) {
+            return new PendingCounts(0, 0);
+        }
+        long correct = tally.correct.sum();
+        return new PendingCounts(tally.answers.sum(), correct);
+    }
+
+    /**
+     * Grava as respostas acumuladas desde o último flush
+     */
+    @Scheduled(fixedDelayString = "${quiz.answers.flush-interval-ms:2000}")
+    public void flush() {
+        List<Object[]> rows = new ArrayList<>();
+
+        for (Map.Entry<UUID, Tally> entry : pending.entrySet()) {
+            Tally tally = entry.getValue();
+            long correct = tally.correct.sumThenReset();
+            long answers = tally.answers.sumThenReset();
+            if (answers > 0 || correct > 0) {
+                rows.add(new Object[] {answers, correct, entry.getKey()});
+            }
+        }
+
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(UPDATE_COUNTS, rows));
+            logger.debug("Contadores de respostas de {} questões gravados", rows.size());
+        } catch (RuntimeException e) {
+            // Devolve as contagens para a próxima tentativa
+            for (Object[] row : rows) {
+                add((UUID) row[2], (Long) row[0], (Long) row[1]);
+            }
+            logger.warn("Falha ao gravar contadores de respostas, nova tentativa no próximo flush: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        try {
+            flush();
+        } catch (Exception e) {
+            logger.warn("Não foi possível gravar contadores de respostas pendentes no encerramento: {}", e.getMessage());
+        }
+    }
+
+    private void add(UUID questionId, long answers, long correct) {
+        Tally tally = pending.get(questionId);
+        if (tally == null) {
+            tally = pending.computeIfAbsent(questionId, id -> new Tally());
+        }
+        // Total antes dos acertos: o flush lê na ordem inversa e nunca grava acertos sem a resposta
+        tally.answers.add(answers);
+        tally.correct.add(correct);
+    }
+
+    public record PendingCounts(long answers, long correct) {}
+
+    private static final class Tally {
+        private final LongAdder answers = new LongAdder();
+        private final LongAdder correct = new LongAdder();
+    }
+}
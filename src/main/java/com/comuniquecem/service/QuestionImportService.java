@@ -0,0 +1,307 @@
+package com.comuniquecem.service;
+
+import com.comuniquecem.dto.request.QuestionRequest;
+import com.comuniquecem.dto.response.QuestionImportErrorResponse;
+import com.comuniquecem.dto.response.QuestionImportResponse;
+import com.comuniquecem.entity.User;
+import com.comuniquecem.exception.BusinessException;
+import com.comuniquecem.util.CsvReader;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Service para a importação de bancos de questões a partir de planilhas (CSV) ou JSON.
+ *
+ * O arquivo é lido registro a registro e cada linha é validada com as mesmas regras do cadastro
+ * pela API. As linhas válidas são gravadas em lotes de batch-size com um INSERT em lote JDBC por
+ * transação; só o lote atual e as primeiras linhas recusadas ficam na memória, qualquer que seja
+ * o tamanho do arquivo. Se um lote falhar no banco, suas linhas são gravadas uma a uma para que
+ * somente as problemáticas sejam recusadas. Os lotes já gravados permanecem mesmo que o arquivo
+ * termine com erro.
+ */
+@Service
+public class QuestionImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(QuestionImportService.class);
+
+    private static final String INSERT_QUESTION =
+        "INSERT INTO questions (id, created_at, updated_at, version, title, option_1, option_2, option_3, option_4, " +
+        "correct_answer, explanation, difficulty_level, active, answer_count, correct_count, institution_id, author_id) " +
+        "VALUES (?, ?, ?, 0, ?, ?, ?, ?, ?, ?, ?, ?, true, 0, 0, ?, ?)";
+
+    private static final List<String> REQUIRED_COLUMNS =
+        List.of("title", "option1", "option2", "option3", "option4", "correctanswer");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private QuestionPoolIndex questionPoolIndex;
+
+    @Value("${quiz.import.batch-size:25}")
+    private int batchSize;
+
+    @Value("${quiz.import.max-reported-errors:100}")
+    private int maxReportedErrors;
+
+    /**
+     * Importa as questões do arquivo na instituição do autor; JSON pela extensão ou pelo tipo,
+     * CSV nos demais casos
+     */
+    public QuestionImportResponse importQuestions(User author, MultipartFile file) {
+        if (file == null || file.isEmpty()) {
+            throw new BusinessException("Arquivo é obrigatório");
+        }
+
+        ImportRun run = new ImportRun(author);
+        try (InputStream input = file.getInputStream()) {
+            if (isJson(file)) {
+                readJson(input, run);
+            } else {
+                readCsv(input, run);
+            }
+        } catch (IOException e) {
+            throw new BusinessException("Não foi possível ler o arquivo: " + e.getMessage());
+        } finally {
+            run.flush();
+            if (run.imported > 0) {
+                // Muitas questões de uma vez: mais barato recarregar o índice do que incluí-las uma a uma
+                questionPoolIndex.invalidate(author.getInstitution().getId());
+            }
+        }
+
+        logger.info("Importação de {} por {}: {} questões gravadas, {} linhas recusadas",
+            file.getOriginalFilename(), author.getId(), run.imported, run.failed);
+        return new QuestionImportResponse(run.total, run.imported, run.failed, run.errors,
+            run.failed > run.errors.size());
+    }
+
+    private void readCsv(InputStream input, ImportRun run) throws IOException {
+        CsvReader reader = new CsvReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        List<String> header = reader.readRecord();
+        if (header == null) {
+            throw new BusinessException("Arquivo vazio");
+        }
+
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.putIfAbsent(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        List<String> missing = REQUIRED_COLUMNS.stream().filter(column -> !columns.containsKey(column)).toList();
+        if (!missing.isEmpty()) {
+            throw new BusinessException("Colunas obrigatórias ausentes no cabeçalho: " + String.join(", ", missing));
+        }
+
+        List<String> record;
+        while ((record = reader.readRecord()) != null) {
+            // Linha da planilha, para o professor localizar o erro
+            long row = reader.getRecordLine();
+            if (record.stream().allMatch(String::isBlank)) {
+                continue;
+            }
+
+            QuestionRequest request = new QuestionRequest();
+            request.setTitle(column(record, columns, "title"));
+            request.setOption1(column(record, columns, "option1"));
+            request.setOption2(column(record, columns, "option2"));
+            request.setOption3(column(record, columns, "option3"));
+            request.setOption4(column(record, columns, "option4"));
+            request.setCorrectAnswer(column(record, columns, "correctanswer"));
+            request.setExplanation(column(record, columns, "explanation"));
+
+            String difficulty = column(record, columns, "difficultylevel");
+            if (difficulty != null) {
+                try {
+                    request.setDifficultyLevel(Integer.valueOf(difficulty));
+                } catch (NumberFormatException e) {
+                    run.reject(row, "Dificuldade deve ser um número de 1 a 5");
+                    continue;
+                }
+            }
+
+            run.accept(row, request);
+        }
+    }
+
+    private void readJson(InputStream input, ImportRun run) throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(input)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new BusinessException("O JSON deve ser uma lista de questões");
+            }
+
+            long row = 1;
+            try {
+                JsonToken token;
+                for (; (token = parser.nextToken()) != JsonToken.END_ARRAY && token != null; row++) {
+                    // Uma questão por vez: a árvore lida é só a do item atual
+                    JsonNode item = objectMapper.readTree(parser);
+                    if (token != JsonToken.START_OBJECT) {
+                        run.reject(row, "Item deve ser um objeto");
+                        continue;
+                    }
+
+                    try {
+                        run.accept(row, objectMapper.treeToValue(item, QuestionRequest.class));
+                    } catch (JsonProcessingException e) {
+                        run.reject(row, "Campo com tipo inválido: " + e.getOriginalMessage());
+                    }
+                }
+            } catch (JsonProcessingException e) {
+                // JSON malformado: o restante do arquivo não pode ser lido, os itens anteriores são mantidos
+                run.reject(row, "JSON inválido na linha " + e.getLocation().getLineNr()
+                    + ", leitura interrompida: " + e.getOriginalMessage());
+            }
+        } catch (JsonProcessingException e) {
+            throw new BusinessException("O JSON deve ser uma lista de questões");
+        }
+    }
+
+    private boolean isJson(MultipartFile file) {
+        String name = file.getOriginalFilename();
+        String contentType = file.getContentType();
+        return (name != null && name.toLowerCase(Locale.ROOT).endsWith(".json"))
+            || (contentType != null && contentType.contains("json"));
+    }
+
+    private static String column(List<String> record, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= record.size()) {
+            return null;
+        }
+        String value = record.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * Estado de uma importação: o lote pendente e o relatório
+     */
+    private final class ImportRun {
+
+        private final UUID institutionId;
+        private final UUID authorId;
+
+        private final List<PendingRow> pending = new ArrayList<>();
+        private final List<QuestionImportErrorResponse> errors = new ArrayList<>();
+
+        private long total;
+        private long imported;
+        private long failed;
+
+        private ImportRun(User author) {
+            this.institutionId = author.getInstitution().getId();
+            this.authorId = author.getId();
+        }
+
+        void accept(long row, QuestionRequest request) {
+            total++;
+            Set<ConstraintViolation<QuestionRequest>> violations = validator.validate(request);
+            if (!violations.isEmpty()) {
+                failed(row, violations.stream()
+                    .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                    .map(ConstraintViolation::getMessage)
+                    .collect(Collectors.joining("; ")));
+                return;
+            }
+            try {
+                QuestionService.validateCorrectAnswer(request);
+            } catch (BusinessException e) {
+                failed(row, e.getMessage());
+                return;
+            }
+
+            pending.add(new PendingRow(row, toParameters(request)));
+            if (pending.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        void reject(long row, String message) {
+            total++;
+            failed(row, message);
+        }
+
+        void flush() {
+            if (pending.isEmpty()) {
+                return;
+            }
+
+            List<Object[]> rows = pending.stream().map(PendingRow::parameters).toList();
+            try {
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_QUESTION, rows));
+                imported += rows.size();
+            } catch (DataAccessException e) {
+                logger.debug("Lote de importação recusado, gravando linha a linha: {}", e.getMessage());
+                for (PendingRow row : pending) {
+                    insertOne(row);
+                }
+            }
+            pending.clear();
+        }
+
+        private void insertOne(PendingRow row) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(INSERT_QUESTION, row.parameters()));
+                imported++;
+            } catch (DataAccessException e) {
+                logger.debug("Linha {} da importação recusada pelo banco: {}", row.row(), e.getMessage());
+                failed(row.row(), "Não foi possível gravar a questão");
+            }
+        }
+
+        private void failed(long row, String message) {
+            failed++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new QuestionImportErrorResponse(row, message));
+            }
+        }
+
+        private Object[] toParameters(QuestionRequest request) {
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            int difficulty = request.getDifficultyLevel() != null ? request.getDifficultyLevel() : 1;
+            return new Object[] {UUID.randomUUID(), now, now, request.getTitle(), request.getOption1(),
+                request.getOption2(), request.getOption3(), request.getOption4(), request.getCorrectAnswer(),
+                request.getExplanation(), difficulty, institutionId, authorId};
+        }
+    }
+
+    private record PendingRow(long row, Object[] parameters) {}
+}
@@ -0,0 +1,242 @@
+package com.comuniquecem.service;
+
+import com.comuniquecem.repository.QuestionRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+/**
+ * Índice em memória das questões ativas de cada instituição, separadas por dificuldade (1 a 5),
+ * para sortear quizzes sem varrer a tabela (ORDER BY random()).
+ *
+ * O índice de uma instituição é carregado na primeira geração de quiz (uma consulta de id e
+ * dificuldade) e atualizado incrementalmente quando uma questão é criada, editada ou desativada
+ * neste nó. Alterações feitas em outros nós entram na próxima recarga (refresh-interval-ms).
+ * Cada índice é imutável: uma alteração gera uma cópia e o sorteio nunca precisa de trava.
+ */
+@Service
+public class QuestionPoolIndex {
+
+    public static final int MIN_DIFFICULTY = 1;
+    public static final int MAX_DIFFICULTY = 5;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Value("${quiz.pool.refresh-interval-ms:300000}")
+    private long refreshIntervalMs;
+
+    private final Map<UUID, Pool> pools = new ConcurrentHashMap<>();
+
+    /**
+     * Sorteia até size questões distintas da instituição. As cotas por dificuldade seguem os
+     * pesos (ou o tamanho de cada dificuldade, sem pesos) pelo método dos maiores restos; a
+     * cota que uma dificuldade não consegue preencher é redistribuída entre as demais.
+     */
+    public List<UUID> sample(UUID institutionId, int size, Map<Integer, Integer> weights, Random random) {
+        Pool pool = poolOf(institutionId);
+        int[] quotas = allocate(pool, size, weights);
+
+        List<UUID> chosen = new ArrayList<>(size);
+        for (int level = MIN_DIFFICULTY; level <= MAX_DIFFICULTY; level++) {
+            UUID[] bucket = pool.buckets()[level];
+            for (int index : sampleIndexes(bucket.length, quotas[level], random)) {
+                chosen.add(bucket[index]);
+            }
+        }
+        return chosen;
+    }
+
+    /**
+     * Quantidade de questões ativas da instituição por dificuldade (posição 0 sem uso)
+     */
+    public int[] levelSizes(UUID institutionId) {
+        UUID[][] buckets = poolOf(institutionId).buckets();
+        int[] sizes = new int[MAX_DIFFICULTY + 1];
+        for (int level = MIN_DIFFICULTY; level <= MAX_DIFFICULTY; level++) {
+            sizes[level] = buckets[level].length;
+        }
+        return sizes;
+    }
+
+    /**
+     * Sorteia até count questões distintas de uma dificuldade, em ordem aleatória
+     */
+    public List<UUID> sampleLevel(UUID institutionId, int level, int count, Random random) {
+        UUID[] bucket = poolOf(institutionId).buckets()[levelOf(level)];
+        List<UUID> chosen = new ArrayList<>(Math.min(count, bucket.length));
+        for (int index : sampleIndexes(bucket.length, Math.min(count, bucket.length), random)) {
+            chosen.add(bucket[index]);
+        }
+        Collections.shuffle(chosen, random);
+        return chosen;
+    }
+
+    /**
+     * Inclui ou move a questão para a dificuldade informada, se o índice da instituição estiver carregado
+     */
+    public void put(UUID institutionId, UUID questionId, Integer difficultyLevel) {
+        pools.computeIfPresent(institutionId, (id, pool) -> pool.with(questionId, levelOf(difficultyLevel)));
+    }
+
+    /**
+     * Retira a questão desativada do índice da instituição
+     */
+    public void remove(UUID institutionId, UUID questionId) {
+        pools.computeIfPresent(institutionId, (id, pool) -> pool.without(questionId));
+    }
+
+    /**
+     * Descarta o índice da instituição; a próxima geração de quiz o recarrega do banco
+     */
+    public void invalidate(UUID institutionId) {
+        pools.remove(institutionId);
+    }
+
+    private Pool poolOf(UUID institutionId) {
+        Pool pool = pools.get(institutionId);
+        if (pool != null && System.currentTimeMillis() - pool.loadedAt() < refreshIntervalMs) {
+            return pool;
+        }
+
+        pool = load(institutionId);
+        pools.put(institutionId, pool);
+        return pool;
+    }
+
+    private Pool load(UUID institutionId) {
+        List<List<UUID>> buckets = new ArrayList<>();
+        for (int level = 0; level <= MAX_DIFFICULTY; level++) {
+            buckets.add(new ArrayList<>());
+        }
+        for (QuestionRepository.PoolEntry entry : questionRepository.findPoolEntries(institutionId)) {
+            buckets.get(levelOf(entry.getDifficultyLevel())).add(entry.getId());
+        }
+
+        return new Pool(buckets.stream().map(bucket -> bucket.toArray(UUID[]::new)).toArray(UUID[][]::new),
+            System.currentTimeMillis());
+    }
+
+    /**
+     * Cotas por dificuldade pelo método dos maiores restos, limitadas ao tamanho de cada uma
+     */
+    private int[] allocate(Pool pool, int size, Map<Integer, Integer> weights) {
+        int[] quotas = new int[MAX_DIFFICULTY + 1];
+        long[] weightOf = new long[MAX_DIFFICULTY + 1];
+        for (int level = MIN_DIFFICULTY; level <= MAX_DIFFICULTY; level++) {
+            weightOf[level] = weights == null || weights.isEmpty()
+                ? pool.buckets()[level].length
+                : Math.max(weights.getOrDefault(level, 0), 0);
+        }
+
+        int remaining = size;
+        while (remaining > 0) {
+            int[] open = IntStream.rangeClosed(MIN_DIFFICULTY, MAX_DIFFICULTY)
+                .filter(level -> weightOf[level] > 0 && quotas[level] < pool.buckets()[level].length)
+                .toArray();
+            long totalWeight = Arrays.stream(open).mapToLong(level -> weightOf[level]).sum();
+            if (totalWeight == 0) {
+                break;
+            }
+
+            double[] remainders = new double[MAX_DIFFICULTY + 1];
+            int assigned = 0;
+            for (int level : open) {
+                double exact = (double) remaining * weightOf[level] / totalWeight;
+                int take = Math.min((int) exact, pool.buckets()[level].length - quotas[level]);
+                quotas[level] += take;
+                assigned += take;
+                remainders[level] = exact - Math.floor(exact);
+            }
+
+            // As vagas que sobraram vão para os maiores restos, uma por dificuldade
+            int leftover = remaining - assigned;
+            Integer[] byRemainder = Arrays.stream(open).boxed()
+                .sorted(Comparator.comparingDouble((Integer level) -> remainders[level]).reversed())
+                .toArray(Integer[]::new);
+            for (int level : byRemainder) {
+                if (leftover == 0) {
+                    break;
+                }
+                if (quotas[level] < pool.buckets()[level].length) {
+                    quotas[level]++;
+                    leftover--;
+                }
+            }
+
+            if (leftover == remaining) {
+                break;
+            }
+            remaining = leftover;
+        }
+
+        return quotas;
+    }
+
+    /**
+     * Algoritmo de Floyd: k índices distintos de [0, n) com exatamente k sorteios
+     */
+    private static Set<Integer> sampleIndexes(int n, int k, Random random) {
+        Set<Integer> chosen = new HashSet<>(k * 2);
+        for (int j = n - k; j < n; j++) {
+            int candidate = random.nextInt(j + 1);
+            if (!chosen.add(candidate)) {
+                chosen.add(j);
+            }
+        }
+        return chosen;
+    }
+
+    static int levelOf(Integer difficultyLevel) {
+        if (difficultyLevel == null) {
+            return MIN_DIFFICULTY;
+        }
+        return Math.min(Math.max(difficultyLevel, MIN_DIFFICULTY), MAX_DIFFICULTY);
+    }
+
+    /**
+     * Questões de uma instituição por dificuldade (posição 0 sem uso)
+     */
+    private record Pool(UUID[][] buckets, long loadedAt) {
+
+        Pool with(UUID questionId, int level) {
+            Pool pool = without(questionId);
+            UUID[][] copy = pool.buckets().clone();
+            copy[level] = Arrays.copyOf(copy[level], copy[level].length + 1);
+            copy[level][copy[level].length - 1] = questionId;
+            return new Pool(copy, loadedAt);
+        }
+
+        Pool without(UUID questionId) {
+            UUID[][] copy = buckets.clone();
+            for (int level = MIN_DIFFICULTY; level <= MAX_DIFFICULTY; level++) {
+                UUID[] bucket = copy[level];
+                for (int i = 0; i < bucket.length; i++) {
+                    if (bucket[i].equals(questionId)) {
+                        // Troca com o último: a ordem dentro da dificuldade não importa
+                        UUID[] shrunk = Arrays.copyOf(bucket, bucket.length - 1);
+                        if (i < shrunk.length) {
+                            shrunk[i] = bucket[bucket.length - 1];
+                        }
+                        copy[level] = shrunk;
+                        return new Pool(copy, loadedAt);
+                    }
+                }
+            }
+            return this;
+        }
+    }
+}
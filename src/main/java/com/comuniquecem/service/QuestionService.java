@@ -0,0 +1,173 @@
+package com.comuniquecem.service;
+
+import com.comuniquecem.dto.request.QuestionRequest;
+import com.comuniquecem.dto.response.QuestionResponse;
+import com.comuniquecem.entity.Question;
+import com.comuniquecem.entity.User;
+import com.comuniquecem.exception.BusinessException;
+import com.comuniquecem.exception.ResourceNotFoundException;
+import com.comuniquecem.repository.InstitutionRepository;
+import com.comuniquecem.repository.QuestionRepository;
+import com.comuniquecem.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Service para o cadastro de questões da instituição.
+ *
+ * Toda alteração é repassada ao {@link QuestionPoolIndex} somente após o commit, para que um
+ * quiz nunca sorteie uma questão que acabou não sendo gravada.
+ */
+@Service
+@Transactional
+public class QuestionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(QuestionService.class);
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private InstitutionRepository institutionRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private QuestionPoolIndex questionPoolIndex;
+
+    /**
+     * Busca uma questão da instituição com a resposta correta
+     */
+    @Transactional(readOnly = true)
+    public QuestionResponse getQuestion(UUID questionId, User user) {
+        return mapToQuestionResponse(findInInstitution(questionId, user));
+    }
+
+    /**
+     * Cria uma questão na instituição do autor
+     */
+    public QuestionResponse createQuestion(User author, QuestionRequest request) {
+        validateCorrectAnswer(request);
+
+        Question question = new Question(request.getTitle(), request.getOption1(), request.getOption2(),
+            request.getOption3(), request.getOption4(), request.getCorrectAnswer(),
+            institutionRepository.getReferenceById(author.getInstitution().getId()),
+            userRepository.getReferenceById(author.getId()));
+        question.setExplanation(request.getExplanation());
+        if (request.getDifficultyLevel() != null) {
+            question.setDifficultyLevel(request.getDifficultyLevel());
+        }
+
+        question = questionRepository.save(question);
+        indexAfterCommit(author.getInstitution().getId(), question.getId(), question.getDifficultyLevel());
+
+        logger.info("Questão {} criada por {}", question.getId(), author.getId());
+        return mapToQuestionResponse(question);
+    }
+
+    /**
+     * Edita uma questão (somente o autor ou um administrador)
+     */
+    public QuestionResponse updateQuestion(UUID questionId, User user, QuestionRequest request) {
+        validateCorrectAnswer(request);
+        Question question = findEditable(questionId, user);
+
+        question.setTitle(request.getTitle());
+        question.setOption1(request.getOption1());
+        question.setOption2(request.getOption2());
+        question.setOption3(request.getOption3());
+        question.setOption4(request.getOption4());
+        question.setCorrectAnswer(request.getCorrectAnswer());
+        question.setExplanation(request.getExplanation());
+        if (request.getDifficultyLevel() != null) {
+            question.setDifficultyLevel(request.getDifficultyLevel());
+        }
+
+        indexAfterCommit(user.getInstitution().getId(), questionId, question.getDifficultyLevel());
+
+        logger.info("Questão {} editada por {}", questionId, user.getId());
+        return mapToQuestionResponse(question);
+    }
+
+    /**
+     * Desativa uma questão (somente o autor ou um administrador)
+     */
+    public void deactivateQuestion(UUID questionId, User user) {
+        Question question = findEditable(questionId, user);
+        question.setActive(false);
+
+        UUID institutionId = user.getInstitution().getId();
+        afterCommit(() -> questionPoolIndex.remove(institutionId, questionId));
+
+        logger.info("Questão {} desativada por {}", questionId, user.getId());
+    }
+
+    static void validateCorrectAnswer(QuestionRequest request) {
+        List<String> options = List.of(request.getOption1(), request.getOption2(), request.getOption3(),
+            request.getOption4());
+        if (!options.contains(request.getCorrectAnswer())) {
+            throw new BusinessException("Resposta correta deve ser uma das opções");
+        }
+    }
+
+    private void indexAfterCommit(UUID institutionId, UUID questionId, Integer difficultyLevel) {
+        afterCommit(() -> questionPoolIndex.put(institutionId, questionId, difficultyLevel));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private Question findInInstitution(UUID questionId, User user) {
+        return questionRepository.findInInstitution(questionId, user.getInstitution().getId())
+            .orElseThrow(() -> new ResourceNotFoundException("Questão não encontrada"));
+    }
+
+    private Question findEditable(UUID questionId, User user) {
+        Question question = findInInstitution(questionId, user);
+
+        if (!question.canBeEditedBy(user)) {
+            throw new BusinessException("Somente o autor ou um administrador pode alterar a questão");
+        }
+
+        return question;
+    }
+
+    // Métodos de mapeamento privados
+    private QuestionResponse mapToQuestionResponse(Question question) {
+        return new QuestionResponse(
+            question.getId(),
+            question.getTitle(),
+            question.getOption1(),
+            question.getOption2(),
+            question.getOption3(),
+            question.getOption4(),
+            question.getCorrectAnswer(),
+            question.getExplanation(),
+            question.getDifficultyLevel(),
+            question.getActive(),
+            question.getAuthor().getId(),
+            question.getCreatedAt(),
+            question.getUpdatedAt()
+        );
+    }
+}
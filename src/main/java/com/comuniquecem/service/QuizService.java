@@ -0,0 +1,291 @@
+package com.comuniquecem.service;
+
+import com.comuniquecem.dto.request.QuestionAnswerRequest;
+import com.comuniquecem.dto.request.QuizRequest;
+import com.comuniquecem.dto.response.PracticeQuestionResponse;
+import com.comuniquecem.dto.response.QuestionAnswerResponse;
+import com.comuniquecem.dto.response.QuestionStatsResponse;
+import com.comuniquecem.dto.response.QuizQuestionResponse;
+import com.comuniquecem.dto.response.QuizResponse;
+import com.comuniquecem.entity.Question;
+import com.comuniquecem.entity.User;
+import com.comuniquecem.entity.enums.PracticeReason;
+import com.comuniquecem.exception.BusinessException;
+import com.comuniquecem.exception.ResourceNotFoundException;
+import com.comuniquecem.exception.ServiceUnavailableException;
+import com.comuniquecem.repository.QuestionRepository;
+import com.comuniquecem.repository.StudentQuestionStatRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Service para as respostas dos alunos às questões.
+ *
+ * Cada resposta é uma linha nova em question_answers; a questão só é lida, nunca travada nem
+ * atualizada na requisição. Os contadores da questão são mantidos por
+ * {@link QuestionAnswerCounterService} e as estatísticas somam o que ainda não foi gravado.
+ * Os quizzes são sorteados no {@link QuestionPoolIndex}; o banco só é lido para buscar as
+ * questões escolhidas. Cada resposta também atualiza as estatísticas do aluno na questão
+ * ({@link StudentQuestionStatsService}), usadas pela prática adaptativa, e as corretas pontuam
+ * no ranking da instituição ({@link LeaderboardService}).
+ */
+@Service
+@Transactional
+public class QuizService {
+
+    static final String INSERT_ANSWER =
+        "INSERT INTO question_answers (question_id, user_id, answer, correct, answered_at) VALUES (?, ?, ?, ?, ?)";
+
+    private static final int SCORE_REVIEW = 3;
+    private static final int SCORE_NEW = 2;
+    private static final int SCORE_UNMASTERED = 1;
+    private static final int SCORE_REPEAT = 0;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private QuestionAnswerCounterService counterService;
+
+    @Autowired
+    private QuestionPoolIndex questionPoolIndex;
+
+    @Autowired
+    private StudentQuestionStatsService studentStatsService;
+
+    @Autowired
+    private StudentQuestionStatRepository studentStatRepository;
+
+    @Autowired
+    private LeaderboardService leaderboardService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${quiz.practice.mastery-threshold:0.8}")
+    private double masteryThreshold;
+
+    @Value("${quiz.practice.min-attempted:3}")
+    private int minAttempted;
+
+    @Value("${quiz.practice.mastered-streak:2}")
+    private int masteredStreak;
+
+    @Value("${quiz.practice.review-cooldown-minutes:10}")
+    private long reviewCooldownMinutes;
+
+    @Value("${quiz.practice.candidates:50}")
+    private int candidates;
+
+    /**
+     * Gera um quiz com questões distintas da instituição, na mistura de dificuldades pedida
+     */
+    @Transactional(readOnly = true)
+    public QuizResponse generateQuiz(User user, QuizRequest request) {
+        Map<Integer, Integer> weights = request.getDifficultyWeights();
+        if (weights != null && weights.keySet().stream().anyMatch(level ->
+                level < QuestionPoolIndex.MIN_DIFFICULTY || level > QuestionPoolIndex.MAX_DIFFICULTY)) {
+            throw new BusinessException("Dificuldade deve estar entre 1 e 5");
+        }
+
+        UUID institutionId = user.getInstitution().getId();
+        List<UUID> chosen = questionPoolIndex.sample(institutionId, request.getSize(), weights,
+            ThreadLocalRandom.current());
+        if (chosen.isEmpty()) {
+            return new QuizResponse(List.of(), request.getSize());
+        }
+
+        Map<UUID, QuizQuestionResponse> found = questionRepository.findQuizQuestions(chosen, institutionId).stream()
+            .collect(Collectors.toMap(QuizQuestionResponse::getId, Function.identity()));
+        if (found.size() < chosen.size()) {
+            // Questões desativadas em outro nó: o índice é recarregado na próxima geração
+            questionPoolIndex.invalidate(institutionId);
+        }
+
+        List<QuizQuestionResponse> questions = new ArrayList<>(found.values());
+        Collections.shuffle(questions, ThreadLocalRandom.current());
+        return new QuizResponse(questions, request.getSize());
+    }
+
+    /**
+     * Escolhe a próxima questão de prática do aluno.
+     *
+     * A dificuldade alvo é a menor ainda não dominada: uma dificuldade é dominada quando o aluno
+     * respondeu ao menos min-attempted questões dela e acertou a última resposta em pelo menos
+     * mastery-threshold delas. Entre candidatas sorteadas dessa dificuldade no índice, vêm
+     * primeiro as erradas fora do intervalo de revisão, depois as nunca respondidas. Só são
+     * lidos o índice e as linhas do aluno em student_question_stats.
+     */
+    @Transactional(readOnly = true)
+    public PracticeQuestionResponse nextPracticeQuestion(User user) {
+        UUID institutionId = user.getInstitution().getId();
+        int[] sizes = questionPoolIndex.levelSizes(institutionId);
+        if (Arrays.stream(sizes).sum() == 0) {
+            throw new ResourceNotFoundException("Nenhuma questão disponível para prática");
+        }
+
+        int level = targetLevel(user.getId(), sizes);
+        List<UUID> sampled = questionPoolIndex.sampleLevel(institutionId, level, candidates, ThreadLocalRandom.current());
+        if (sampled.isEmpty()) {
+            // Dificuldade esvaziada entre a leitura dos tamanhos e o sorteio (índice recarregado)
+            throw poolChanged(institutionId);
+        }
+        Map<UUID, StudentQuestionStatRepository.QuestionSummary> stats = studentStatRepository
+            .findForQuestions(user.getId(), sampled).stream()
+            .collect(Collectors.toMap(StudentQuestionStatRepository.QuestionSummary::getQuestionId, Function.identity()));
+
+        LocalDateTime reviewBefore = LocalDateTime.now().minusMinutes(reviewCooldownMinutes);
+        UUID chosen = null;
+        int best = -1;
+        for (UUID candidate : sampled) {
+            int score = scoreOf(stats.get(candidate), reviewBefore);
+            if (score > best) {
+                chosen = candidate;
+                best = score;
+            }
+            if (best == SCORE_REVIEW) {
+                break;
+            }
+        }
+
+        UUID questionId = chosen;
+        QuizQuestionResponse question = questionRepository.findQuizQuestions(List.of(questionId), institutionId).stream()
+            .findFirst()
+            // Desativada em outro nó: o índice é recarregado na próxima escolha
+            .orElseThrow(() -> poolChanged(institutionId));
+
+        StudentQuestionStatRepository.QuestionSummary stat = stats.get(questionId);
+        return new PracticeQuestionResponse(question, level, reasonOf(best),
+            stat != null ? stat.getAttempts() : 0, stat != null ? stat.getCorrectCount() : 0);
+    }
+
+    /**
+     * Registra a resposta do usuário e informa se ele acertou
+     */
+    public QuestionAnswerResponse answer(UUID questionId, User user, QuestionAnswerRequest request) {
+        Question question = findInInstitution(questionId, user);
+        boolean correct = question.isCorrectAnswer(request.getAnswer());
+
+        LocalDateTime answeredAt = LocalDateTime.now();
+        jdbcTemplate.update(INSERT_ANSWER, questionId, user.getId(), request.getAnswer(), correct,
+            Timestamp.valueOf(answeredAt));
+        studentStatsService.record(user.getId(), questionId, question.getDifficultyLevel(), correct, answeredAt);
+        recordAfterCommit(question, user, correct);
+
+        return new QuestionAnswerResponse(questionId, request.getAnswer(), correct,
+            question.getCorrectAnswer(), question.getExplanation());
+    }
+
+    /**
+     * Estatísticas da questão, incluindo as respostas recebidas por este nó e ainda não gravadas
+     */
+    @Transactional(readOnly = true)
+    public QuestionStatsResponse getStats(UUID questionId, User user) {
+        Question question = findInInstitution(questionId, user);
+        QuestionAnswerCounterService.PendingCounts pending = counterService.getPending(questionId);
+
+        return new QuestionStatsResponse(questionId,
+            question.getAnswerCount() + pending.answers(),
+            question.getCorrectCount() + pending.correct());
+    }
+
+    /**
+     * Os contadores e o ranking só somam respostas já gravadas no log
+     */
+    private void recordAfterCommit(Question question, User user, boolean correct) {
+        Runnable record = () -> {
+            counterService.recordAnswer(question.getId(), correct);
+            leaderboardService.recordAnswer(user.getInstitution().getId(), user.getId(),
+                question.getDifficultyLevel(), correct);
+        };
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            record.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                record.run();
+            }
+        });
+    }
+
+    private int targetLevel(UUID userId, int[] sizes) {
+        long[] attempted = new long[QuestionPoolIndex.MAX_DIFFICULTY + 1];
+        long[] lastCorrect = new long[QuestionPoolIndex.MAX_DIFFICULTY + 1];
+        for (StudentQuestionStatRepository.LevelSummary summary : studentStatRepository.summarizeByLevel(userId)) {
+            int level = QuestionPoolIndex.levelOf(summary.getDifficultyLevel().intValue());
+            attempted[level] += summary.getAttempted();
+            lastCorrect[level] += summary.getLastCorrect();
+        }
+
+        int highest = QuestionPoolIndex.MIN_DIFFICULTY;
+        for (int level = QuestionPoolIndex.MIN_DIFFICULTY; level <= QuestionPoolIndex.MAX_DIFFICULTY; level++) {
+            if (sizes[level] == 0) {
+                continue;
+            }
+            highest = level;
+            boolean mastered = attempted[level] >= Math.min(minAttempted, sizes[level])
+                && lastCorrect[level] >= masteryThreshold * attempted[level];
+            if (!mastered) {
+                return level;
+            }
+        }
+        // Todas dominadas: segue praticando na mais difícil disponível
+        return highest;
+    }
+
+    /**
+     * Errada na última resposta e fora do intervalo de revisão; depois nunca respondida; depois
+     * acertada há menos de mastered-streak vezes seguidas; por último as dominadas ou recentes
+     */
+    private int scoreOf(StudentQuestionStatRepository.QuestionSummary stat, LocalDateTime reviewBefore) {
+        if (stat == null) {
+            return SCORE_NEW;
+        }
+        boolean rested = stat.getLastAnsweredAt().isBefore(reviewBefore);
+        if (rested && stat.getStreak() == 0) {
+            return SCORE_REVIEW;
+        }
+        if (rested && stat.getStreak() < masteredStreak) {
+            return SCORE_UNMASTERED;
+        }
+        return SCORE_REPEAT;
+    }
+
+    private static PracticeReason reasonOf(int score) {
+        return switch (score) {
+            case SCORE_REVIEW -> PracticeReason.REVIEW;
+            case SCORE_NEW -> PracticeReason.NEW;
+            default -> PracticeReason.REPEAT;
+        };
+    }
+
+    private ServiceUnavailableException poolChanged(UUID institutionId) {
+        questionPoolIndex.invalidate(institutionId);
+        return new ServiceUnavailableException("Banco de questões em atualização, tente novamente");
+    }
+
+    private Question findInInstitution(UUID questionId, User user) {
+        return questionRepository.findInInstitution(questionId, user.getInstitution().getId())
+            .orElseThrow(() -> new ResourceNotFoundException("Questão não encontrada"));
+    }
+}
@@ -0,0 +1,131 @@
+package com.comuniquecem.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisZSetCommands;
+import org.springframework.data.redis.connection.zset.Tuple;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Rankings em sorted sets do Redis, compartilhados por todos os nós: um ZSET por instituição
+ * com o id do aluno como membro. Cada operação é um único round trip (pipeline quando envolve
+ * vários comandos). Requer Redis 6.2 ou superior (ZADD GT e ZMSCORE).
+ */
+@Component
+@ConditionalOnProperty(name = "quiz.leaderboard.store", havingValue = "redis", matchIfMissing = true)
+class RedisLeaderboardStore implements LeaderboardStore {
+
+    private static final String KEY_PREFIX = "leaderboard:";
+    private static final String RESTORED_SUFFIX = ":restored";
+    private static final int RESTORE_CHUNK_SIZE = 1000;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Override
+    public void incrementAll(UUID institutionId, Map<UUID, Long> points) {
+        byte[] key = raw(keyOf(institutionId));
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            points.forEach((userId, delta) -> connection.zSetCommands().zIncrBy(key, delta, raw(userId.toString())));
+            return null;
+        });
+    }
+
+    @Override
+    public List<Entry> top(UUID institutionId, int count) {
+        Set<ZSetOperations.TypedTuple<String>> tuples =
+            redisTemplate.opsForZSet().reverseRangeWithScores(keyOf(institutionId), 0, count - 1);
+        if (tuples == null) {
+            return List.of();
+        }
+        return tuples.stream()
+            .map(tuple -> new Entry(UUID.fromString(tuple.getValue()), tuple.getScore().longValue()))
+            .toList();
+    }
+
+    @Override
+    public Standing standing(UUID institutionId, UUID userId) {
+        byte[] key = raw(keyOf(institutionId));
+        byte[] member = raw(userId.toString());
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.zSetCommands().zRevRank(key, member);
+            connection.zSetCommands().zScore(key, member);
+            connection.zSetCommands().zCard(key);
+            return null;
+        });
+
+        Long rank = (Long) results.get(0);
+        Double score = (Double) results.get(1);
+        Long players = (Long) results.get(2);
+        return new Standing(rank != null ? rank : -1, score != null ? score.longValue() : 0,
+            players != null ? players : 0);
+    }
+
+    @Override
+    public Map<UUID, Long> scores(UUID institutionId, Collection<UUID> userIds) {
+        List<UUID> ids = new ArrayList<>(userIds);
+        List<Double> values = redisTemplate.opsForZSet().score(keyOf(institutionId),
+            ids.stream().map(UUID::toString).toArray());
+
+        Map<UUID, Long> scores = new HashMap<>();
+        for (int i = 0; values != null && i < ids.size(); i++) {
+            if (values.get(i) != null) {
+                scores.put(ids.get(i), values.get(i).longValue());
+            }
+        }
+        return scores;
+    }
+
+    @Override
+    public boolean needsRestore(UUID institutionId) {
+        // A marca some junto com o ranking se o Redis perder os dados
+        return !Boolean.TRUE.equals(redisTemplate.hasKey(keyOf(institutionId) + RESTORED_SUFFIX));
+    }
+
+    @Override
+    public void restore(UUID institutionId, Map<UUID, Long> scores) {
+        byte[] key = raw(keyOf(institutionId));
+        byte[] marker = raw(keyOf(institutionId) + RESTORED_SUFFIX);
+        List<Set<Tuple>> chunks = new ArrayList<>();
+        Set<Tuple> chunk = new HashSet<>();
+        for (Map.Entry<UUID, Long> entry : scores.entrySet()) {
+            chunk.add(Tuple.of(raw(entry.getKey().toString()), entry.getValue().doubleValue()));
+            if (chunk.size() == RESTORE_CHUNK_SIZE) {
+                chunks.add(chunk);
+                chunk = new HashSet<>();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            chunks.add(chunk);
+        }
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Set<Tuple> tuples : chunks) {
+                connection.zSetCommands().zAdd(key, tuples, RedisZSetCommands.ZAddArgs.empty().gt());
+            }
+            connection.stringCommands().set(marker, raw("1"));
+            return null;
+        });
+    }
+
+    private static String keyOf(UUID institutionId) {
+        return KEY_PREFIX + institutionId;
+    }
+
+    private static byte[] raw(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,245 @@
+package com.comuniquecem.service;
+
+import com.comuniquecem.dto.response.NotificationResponse;
+import com.comuniquecem.entity.enums.NotificationType;
+import com.comuniquecem.util.TimingWheel;
+import com.comuniquecem.websocket.WebSocketEvent;
+import com.comuniquecem.websocket.WebSocketSessionRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Service para o envio dos lembretes de cronograma (Schedule.reminderEnabled).
+ *
+ * O vencimento de cada lembrete fica em schedules.reminder_due_at, com um índice parcial só
+ * dos pendentes. A cada window-ms os lembretes que vencem até o fim da próxima janela são lidos
+ * por esse índice (id e vencimento) e agendados em uma roda de temporização em memória; a roda
+ * avança a cada tick-ms e os vencidos são enviados em lotes de batch-size, sem varrer a tabela.
+ *
+ * Todos os lembretes vencem às 08:00, então cada um entra na roda com um atraso fixo derivado do
+ * seu id, entre zero e spread-ms: os envios se distribuem por esse intervalo em vez de caírem
+ * todos no mesmo tick. Além disso, cada tick envia no máximo max-per-tick lembretes; o excedente
+ * volta para o tick seguinte, e o agendador nunca fica preso em um único avanço.
+ *
+ * Cada lote é reivindicado com SELECT ... FOR UPDATE SKIP LOCKED e, na mesma transação, grava
+ * as notificações e marca reminder_sent_at: com vários nós agendando os mesmos lembretes, cada
+ * um é enviado uma única vez. O envio às sessões WebSocket ocorre após o commit. Lembretes de
+ * atividades já passadas (nó parado por dias) são marcados sem notificação. Lembretes criados
+ * ou alterados para vencer dentro da janela atual entram na próxima leitura, com no máximo
+ * window-ms de atraso.
+ */
+@Service
+public class ScheduleReminderService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ScheduleReminderService.class);
+
+    private static final String SELECT_PENDING =
+        "SELECT id, reminder_due_at FROM schedules " +
+        "WHERE reminder_due_at IS NOT NULL AND reminder_sent_at IS NULL AND reminder_due_at < ? " +
+        "ORDER BY reminder_due_at LIMIT ?";
+
+    // Linhas travadas por outro nó são ignoradas: ele já está enviando esses lembretes
+    private static final String CLAIM_DUE =
+        "SELECT id, user_id, activity_name, activity_date FROM schedules " +
+        "WHERE id IN (%s) AND reminder_due_at IS NOT NULL AND reminder_sent_at IS NULL AND reminder_due_at <= ? " +
+        "FOR UPDATE SKIP LOCKED";
+
+    // version + 1: uma edição concorrente da atividade falha no lock otimista em vez de desfazer o envio
+    private static final String MARK_SENT =
+        "UPDATE schedules SET reminder_sent_at = ?, version = version + 1 WHERE id = ?";
+
+    private static final String INSERT_NOTIFICATION =
+        "INSERT INTO notifications (id, user_id, type, reference_id, title, created_at) VALUES (?, ?, ?, ?, ?, ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private WebSocketSessionRegistry sessionRegistry;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${schedule.reminders.tick-ms:1000}")
+    private long tickMs;
+
+    @Value("${schedule.reminders.window-ms:300000}")
+    private long windowMs;
+
+    @Value("${schedule.reminders.batch-size:500}")
+    private int batchSize;
+
+    @Value("${schedule.reminders.max-loaded:50000}")
+    private int maxLoaded;
+
+    @Value("${schedule.reminders.spread-ms:600000}")
+    private long spreadMs;
+
+    @Value("${schedule.reminders.max-per-tick:2000}")
+    private int maxPerTick;
+
+    private TimingWheel<UUID> wheel;
+
+    // Lembretes já na roda, para a próxima leitura não agendá-los de novo
+    private final Set<UUID> scheduled = ConcurrentHashMap.newKeySet();
+
+    private Counter sent;
+    private Counter expired;
+
+    @PostConstruct
+    void init() {
+        // Duas janelas mais o espalhamento: a leitura seguinte cabe na roda mesmo que o avanço atrase
+        int slots = (int) Math.max((2 * windowMs + spreadMs) / tickMs, 1);
+        wheel = new TimingWheel<>(tickMs, slots, System.currentTimeMillis());
+
+        sent = Counter.builder("schedule.reminders.sent")
+            .description("Lembretes de cronograma enviados")
+            .register(meterRegistry);
+        expired = Counter.builder("schedule.reminders.expired")
+            .description("Lembretes descartados porque a atividade já passou")
+            .register(meterRegistry);
+        meterRegistry.gauge("schedule.reminders.scheduled", scheduled, Set::size);
+    }
+
+    /**
+     * Agenda na roda os lembretes pendentes que vencem até o fim da próxima janela
+     */
+    @Scheduled(fixedDelayString = "${schedule.reminders.window-ms:300000}")
+    public void loadWindow() {
+        long horizon = Math.min(System.currentTimeMillis() + windowMs, wheel.horizonMs());
+        List<Pending> pending = jdbcTemplate.query(SELECT_PENDING,
+            (rs, rowNum) -> new Pending(rs.getObject("id", UUID.class), rs.getTimestamp("reminder_due_at").getTime()),
+            new Timestamp(horizon), maxLoaded);
+
+        int added = 0;
+        for (Pending reminder : pending) {
+            if (scheduled.add(reminder.id())) {
+                if (wheel.schedule(reminder.id(), reminder.dueAtMs() + spreadOffset(reminder.id()))) {
+                    added++;
+                } else {
+                    scheduled.remove(reminder.id());
+                }
+            }
+        }
+
+        if (added > 0) {
+            logger.debug("{} lembretes agendados até {}", added, new Timestamp(horizon));
+        }
+        if (pending.size() == maxLoaded) {
+            logger.warn("Leitura de lembretes limitada a {}; os demais entram na próxima janela", maxLoaded);
+        }
+    }
+
+    /**
+     * Envia os lembretes vencidos na roda
+     */
+    @Scheduled(fixedDelayString = "${schedule.reminders.tick-ms:1000}")
+    public void tick() {
+        long now = System.currentTimeMillis();
+        List<UUID> due = wheel.advance(now);
+        if (due.size() > maxPerTick) {
+            // Já vencidos: entram no próximo tick
+            due.subList(maxPerTick, due.size()).forEach(id -> wheel.schedule(id, now));
+            due = due.subList(0, maxPerTick);
+        }
+
+        for (int from = 0; from < due.size(); from += batchSize) {
+            List<UUID> batch = due.subList(from, Math.min(from + batchSize, due.size()));
+            try {
+                dispatch(batch);
+            } catch (RuntimeException e) {
+                // Continuam pendentes no banco e voltam na próxima leitura da janela
+                logger.error("Falha ao enviar {} lembretes, nova tentativa na próxima janela", batch.size(), e);
+            } finally {
+                batch.forEach(scheduled::remove);
+            }
+        }
+    }
+
+    /**
+     * Atraso fixo do lembrete dentro de spread-ms, sempre o mesmo em todos os nós
+     */
+    private long spreadOffset(UUID id) {
+        return spreadMs > 0 ? Math.floorMod(id.hashCode(), spreadMs) : 0;
+    }
+
+    private void dispatch(List<UUID> ids) {
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp sentAt = Timestamp.valueOf(now);
+        String claim = String.format(CLAIM_DUE, String.join(", ", Collections.nCopies(ids.size(), "?")));
+        Object[] parameters = new Object[ids.size() + 1];
+        ids.toArray(parameters);
+        parameters[ids.size()] = sentAt;
+
+        List<Delivery> deliveries = transactionTemplate.execute(status -> {
+            List<Due> claimed = jdbcTemplate.query(claim,
+                (rs, rowNum) -> new Due(rs.getObject("id", UUID.class), rs.getObject("user_id", UUID.class),
+                    rs.getString("activity_name"), rs.getObject("activity_date", LocalDate.class)),
+                parameters);
+            if (claimed.isEmpty()) {
+                return List.<Delivery>of();
+            }
+
+            LocalDate today = now.toLocalDate();
+            List<Object[]> marks = new ArrayList<>(claimed.size());
+            List<Object[]> rows = new ArrayList<>(claimed.size());
+            List<Delivery> toSend = new ArrayList<>(claimed.size());
+            for (Due reminder : claimed) {
+                marks.add(new Object[] {sentAt, reminder.scheduleId()});
+                if (reminder.activityDate().isBefore(today)) {
+                    continue;
+                }
+                UUID id = UUID.randomUUID();
+                rows.add(new Object[] {id, reminder.userId(), NotificationType.SCHEDULE_REMINDER.name(),
+                    reminder.scheduleId(), reminder.activityName(), sentAt});
+                toSend.add(new Delivery(reminder.userId(), new NotificationResponse(id,
+                    NotificationType.SCHEDULE_REMINDER, reminder.scheduleId(), reminder.activityName(), now, null)));
+            }
+
+            jdbcTemplate.batchUpdate(MARK_SENT, marks);
+            if (!rows.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_NOTIFICATION, rows);
+            }
+            expired.increment(claimed.size() - rows.size());
+            return toSend;
+        });
+
+        sent.increment(deliveries.size());
+        // Gravadas antes do envio: o cliente pode buscar a notificação assim que a receber
+        for (Delivery delivery : deliveries) {
+            sessionRegistry.sendToUser(delivery.userId(), new WebSocketEvent(
+                WebSocketEvent.NOTIFICATION, null, null, delivery.notification(), now));
+        }
+        if (!deliveries.isEmpty()) {
+            logger.info("{} lembretes de cronograma enviados", deliveries.size());
+        }
+    }
+
+    private record Pending(UUID id, long dueAtMs) {}
+
+    private record Due(UUID scheduleId, UUID userId, String activityName, LocalDate activityDate) {}
+
+    private record Delivery(UUID userId, NotificationResponse notification) {}
+}
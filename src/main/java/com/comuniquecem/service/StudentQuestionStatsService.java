@@ -0,0 +1,88 @@
+package com.comuniquecem.service;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Service para as estatísticas de cada aluno por questão (student_question_stats).
+ *
+ * Cada resposta soma uma tentativa à linha do par aluno/questão com um único upsert, na mesma
+ * transação da linha do log de respostas: a tabela nunca fica atrás do log e alunos diferentes
+ * não disputam linhas. Deve ser chamado dentro de uma transação.
+ */
+@Service
+public class StudentQuestionStatsService {
+
+    // ON CONFLICT: atômico mesmo com duas respostas simultâneas do mesmo aluno à mesma questão
+    private static final String UPSERT_POSTGRES =
+        "INSERT INTO student_question_stats AS s (user_id, question_id, difficulty_level, attempts, correct_count, " +
+        "streak, last_correct, last_answered_at) VALUES (?, ?, ?, 1, ?, ?, ?, ?) " +
+        "ON CONFLICT (user_id, question_id) DO UPDATE SET " +
+        "difficulty_level = EXCLUDED.difficulty_level, " +
+        "attempts = s.attempts + 1, " +
+        "correct_count = s.correct_count + EXCLUDED.correct_count, " +
+        "streak = CASE WHEN EXCLUDED.last_correct THEN s.streak + 1 ELSE 0 END, " +
+        "last_correct = EXCLUDED.last_correct, " +
+        "last_answered_at = GREATEST(s.last_answered_at, EXCLUDED.last_answered_at)";
+
+    // dev/test usam H2, que não aceita ON CONFLICT; mesmos parâmetros, na mesma ordem
+    private static final String UPSERT_MERGE =
+        "MERGE INTO student_question_stats s USING (VALUES (CAST(? AS UUID), CAST(? AS UUID), CAST(? AS SMALLINT), " +
+        "CAST(? AS INTEGER), CAST(? AS INTEGER), CAST(? AS BOOLEAN), CAST(? AS TIMESTAMP))) " +
+        "AS v (user_id, question_id, difficulty_level, correct_count, streak, last_correct, last_answered_at) " +
+        "ON s.user_id = v.user_id AND s.question_id = v.question_id " +
+        "WHEN MATCHED THEN UPDATE SET difficulty_level = v.difficulty_level, attempts = s.attempts + 1, " +
+        "correct_count = s.correct_count + v.correct_count, " +
+        "streak = CASE WHEN v.last_correct THEN s.streak + 1 ELSE 0 END, last_correct = v.last_correct, " +
+        "last_answered_at = GREATEST(s.last_answered_at, v.last_answered_at) " +
+        "WHEN NOT MATCHED THEN INSERT (user_id, question_id, difficulty_level, attempts, correct_count, streak, " +
+        "last_correct, last_answered_at) VALUES (v.user_id, v.question_id, v.difficulty_level, 1, v.correct_count, " +
+        "v.streak, v.last_correct, v.last_answered_at)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private String upsert;
+
+    @PostConstruct
+    void init() {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+            connection.getMetaData().getDatabaseProductName());
+        upsert = "PostgreSQL".equals(product) ? UPSERT_POSTGRES : UPSERT_MERGE;
+    }
+
+    /**
+     * Soma a resposta às estatísticas do aluno na questão
+     */
+    public void record(UUID userId, UUID questionId, Integer difficultyLevel, boolean correct, LocalDateTime answeredAt) {
+        jdbcTemplate.update(upsert, parameters(new AnswerStat(userId, questionId, difficultyLevel, correct, answeredAt)));
+    }
+
+    /**
+     * Soma várias respostas em um único batch; cada par aluno/questão deve aparecer uma vez
+     */
+    public void recordAll(List<AnswerStat> answers) {
+        if (answers.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(upsert, answers.stream().map(this::parameters).toList());
+    }
+
+    private Object[] parameters(AnswerStat answer) {
+        int correct = answer.correct() ? 1 : 0;
+        short difficulty = (short) QuestionPoolIndex.levelOf(answer.difficultyLevel());
+        return new Object[] {answer.userId(), answer.questionId(), difficulty, correct, correct, answer.correct(),
+            Timestamp.valueOf(answer.answeredAt())};
+    }
+
+    public record AnswerStat(UUID userId, UUID questionId, Integer difficultyLevel, boolean correct,
+                             LocalDateTime answeredAt) {}
+}
@@ -0,0 +1,188 @@
+package com.comuniquecem.service;
+
+import com.comuniquecem.entity.Message;
+import com.comuniquecem.entity.enums.SyncChangeType;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.UUID;
+
+/**
+ * Service para a gravação do log de sincronização (sync_changes).
+ *
+ * Cada alteração gera uma linha por participante da conversa com um único INSERT ... SELECT
+ * sobre chat_participants, e as alterações de um lote saem em um único batch JDBC, na mesma
+ * transação que as produziu. O log é podado após o período de retenção.
+ *
+ * A sequência é atribuída no INSERT, não no commit: uma transação lenta pode confirmar uma
+ * sequência menor que a de outra já lida pelo app. Por isso cada linha guarda também o id da
+ * transação que a gravou (txid_current() no Postgres), e a sincronização só serve linhas de
+ * transações anteriores ao horizonte: o xmin do snapshot atual, abaixo do qual todas as
+ * transações já terminaram. Nenhuma linha confirmada depois terá posição (xid, seq) abaixo do
+ * horizonte, sem travas entre as transações que gravam no log. O horizonte fica parado enquanto
+ * houver uma transação aberta mais antiga, o que só atrasa a sincronização. No H2 de dev/test,
+ * sem ids de transação expostos, o mesmo horizonte é mantido em memória (um único nó).
+ */
+@Service
+@Transactional
+public class SyncChangeService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SyncChangeService.class);
+
+    // %s: id da transação, do banco no Postgres ou parâmetro no H2
+    private static final String INSERT_FOR_PARTICIPANTS =
+        "INSERT INTO sync_changes (user_id, chat_id, message_id, message_sent_at, type, created_at, xid) " +
+        "SELECT p.user_id, p.chat_id, ?, ?, ?, ?, %s FROM chat_participants p WHERE p.chat_id = ?";
+
+    // txid_* em vez de pg_current_xact_id(): mesmos valores de 64 bits, disponível no PostgreSQL 12
+    private static final String XID_POSTGRES = "txid_current()";
+
+    private static final String HORIZON_POSTGRES = "SELECT txid_snapshot_xmin(txid_current_snapshot())";
+
+    private static final String DELETE_EXPIRED =
+        "DELETE FROM sync_changes WHERE seq IN " +
+        "(SELECT seq FROM sync_changes WHERE created_at < ? ORDER BY seq LIMIT ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${chat.sync.retention-days:30}")
+    private long retentionDays;
+
+    @Value("${chat.sync.prune-batch-size:5000}")
+    private int pruneBatchSize;
+
+    private boolean postgres;
+
+    private String insert;
+
+    // H2: ids das transações deste nó que gravaram no log e ainda não terminaram
+    private final NavigableSet<Long> activeLocalXids = new TreeSet<>();
+    private long lastLocalXid;
+
+    @PostConstruct
+    void init() {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+            connection.getMetaData().getDatabaseProductName());
+        postgres = "PostgreSQL".equals(product);
+        insert = String.format(INSERT_FOR_PARTICIPANTS, postgres ? XID_POSTGRES : "?");
+    }
+
+    /**
+     * Registra alterações de mensagens para os participantes de cada conversa
+     */
+    public void recordMessages(SyncChangeType type, Collection<Message> messages) {
+        LocalDateTime now = LocalDateTime.now();
+        Long xid = localXid();
+        List<Object[]> rows = messages.stream()
+            .map(message -> row(message.getId(), message.getSentAt(), type, now, xid, message.getChat().getId()))
+            .toList();
+
+        jdbcTemplate.batchUpdate(insert, rows);
+    }
+
+    /**
+     * Registra que as marcas d'água de entrega/leitura das conversas avançaram
+     */
+    public void recordReceipts(Collection<UUID> chatIds) {
+        LocalDateTime now = LocalDateTime.now();
+        Long xid = localXid();
+        List<Object[]> rows = chatIds.stream()
+            .map(chatId -> row(null, null, SyncChangeType.RECEIPT, now, xid, chatId))
+            .toList();
+
+        jdbcTemplate.batchUpdate(insert, rows);
+    }
+
+    /**
+     * Horizonte do log: todas as transações com id menor já terminaram, então as linhas delas
+     * já estão visíveis e nenhuma linha confirmada depois terá xid menor
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public long currentHorizon() {
+        if (postgres) {
+            return jdbcTemplate.queryForObject(HORIZON_POSTGRES, Long.class);
+        }
+        synchronized (activeLocalXids) {
+            return activeLocalXids.isEmpty() ? lastLocalXid + 1 : activeLocalXids.first();
+        }
+    }
+
+    private Object[] row(UUID messageId, LocalDateTime sentAt, SyncChangeType type, LocalDateTime now, Long xid,
+                         UUID chatId) {
+        return xid != null
+            ? new Object[] { messageId, sentAt, type.name(), now, xid, chatId }
+            : new Object[] { messageId, sentAt, type.name(), now, chatId };
+    }
+
+    /**
+     * H2: id da transação atual, atribuído na primeira gravação no log e ativo até o fim dela.
+     * No Postgres retorna null: o id vem de txid_current() no próprio INSERT.
+     */
+    private Long localXid() {
+        if (postgres) {
+            return null;
+        }
+        Long bound = (Long) TransactionSynchronizationManager.getResource(activeLocalXids);
+        if (bound != null) {
+            return bound;
+        }
+
+        long xid;
+        synchronized (activeLocalXids) {
+            xid = ++lastLocalXid;
+            activeLocalXids.add(xid);
+        }
+        TransactionSynchronizationManager.bindResource(activeLocalXids, xid);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResource(activeLocalXids);
+                synchronized (activeLocalXids) {
+                    activeLocalXids.remove(xid);
+                }
+            }
+        });
+        return xid;
+    }
+
+    /**
+     * Remove em lotes as alterações mais antigas que o período de retenção
+     */
+    @Scheduled(cron = "${chat.sync.prune-cron:0 0 4 * * *}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void prune() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        int total = 0;
+        int deleted;
+
+        do {
+            deleted = transactionTemplate.execute(status -> jdbcTemplate.update(DELETE_EXPIRED, cutoff, pruneBatchSize));
+            total += deleted;
+        } while (deleted == pruneBatchSize);
+
+        if (total > 0) {
+            logger.info("{} alterações do log de sincronização removidas pela retenção de {} dias", total, retentionDays);
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.comuniquecem.service;
+
+import com.comuniquecem.dto.response.MessageResponse;
+import com.comuniquecem.dto.response.SyncChatStateResponse;
+import com.comuniquecem.dto.response.SyncResponse;
+import com.comuniquecem.entity.Chat;
+import com.comuniquecem.entity.Message;
+import com.comuniquecem.entity.SyncChange;
+import com.comuniquecem.repository.ChatParticipantRepository;
+import com.comuniquecem.repository.ChatRepository;
+import com.comuniquecem.repository.MessageRepository;
+import com.comuniquecem.repository.SyncChangeRepository;
+import com.comuniquecem.util.SyncCursor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Service para a sincronização incremental de todas as conversas do usuário (reconexão do app).
+ *
+ * O cursor é uma posição (xid, seq) do log sync_changes: cada página é uma única varredura de
+ * intervalo em (user_id, xid, seq), seguida de uma consulta para as mensagens e outra para as
+ * conversas alteradas. A leitura é limitada ao horizonte de commits (ver
+ * {@link SyncChangeService#currentHorizon()}): nenhuma alteração confirmada depois terá posição
+ * menor. Sem mais páginas, o cursor avança até o horizonte, mesmo sem alterações do usuário.
+ *
+ * O cursor guarda também o instante a partir do qual foram gravadas as alterações seguintes a
+ * ele; se ele for anterior à retenção (com uma margem para transações longas e relógios dos
+ * nós), alguma pode já ter sido removida e o app precisa recarregar tudo.
+ */
+@Service
+@Transactional(readOnly = true)
+public class SyncService {
+
+    private static final int MAX_LIMIT = 500;
+
+    private static final Duration RETENTION_MARGIN = Duration.ofHours(1);
+
+    @Autowired
+    private SyncChangeRepository syncChangeRepository;
+
+    @Autowired
+    private MessageRepository messageRepository;
+
+    @Autowired
+    private ChatRepository chatRepository;
+
+    @Autowired
+    private ChatParticipantRepository chatParticipantRepository;
+
+    @Autowired
+    private ChatService chatService;
+
+    @Autowired
+    private SyncChangeService syncChangeService;
+
+    @Value("${chat.sync.retention-days:30}")
+    private long retentionDays;
+
+    /**
+     * Busca as alterações posteriores ao cursor. Sem cursor, retorna apenas a posição atual
+     * do log, a partir da qual o app (após carregar o estado completo) passa a sincronizar.
+     */
+    public SyncResponse sync(UUID userId, String cursor, int limit) {
+        // Lido antes das alterações: tudo que for confirmado depois terá posição além dele
+        long horizon = syncChangeService.currentHorizon();
+        LocalDateTime now = LocalDateTime.now();
+        SyncCursor current = new SyncCursor(horizon, 0, now);
+
+        SyncCursor position = SyncCursor.decode(cursor);
+        if (position == null) {
+            return SyncResponse.empty(current.encode(), false);
+        }
+
+        // Alterações posteriores ao cursor possivelmente removidas pela retenção: o app precisa recarregar tudo
+        if (position.since().isBefore(now.minusDays(retentionDays).plus(RETENTION_MARGIN))) {
+            return SyncResponse.empty(current.encode(), true);
+        }
+
+        int pageSize = Math.min(Math.max(limit, 1), MAX_LIMIT);
+
+        // Busca um item a mais para saber se existe próxima página
+        List<SyncChange> changes = syncChangeRepository.findAfter(userId, position.xid(), position.seq(), horizon,
+            PageRequest.of(0, pageSize + 1));
+        boolean hasMore = changes.size() > pageSize;
+        if (hasMore) {
+            changes = changes.subList(0, pageSize);
+        }
+
+        // Sem próxima página, o usuário não tem alterações até o horizonte: o cursor pode avançar até lá
+        SyncCursor next;
+        if (hasMore) {
+            SyncChange last = changes.get(changes.size() - 1);
+            next = new SyncCursor(last.getXid(), last.getSeq(), last.getCreatedAt());
+        } else if (position.xid() < horizon) {
+            next = current;
+        } else {
+            next = new SyncCursor(position.xid(), position.seq(), now);
+        }
+        if (changes.isEmpty()) {
+            return SyncResponse.empty(next.encode(), false);
+        }
+
+        return new SyncResponse(loadMessages(changes), loadChatStates(userId, changes), next.encode(),
+            hasMore, false);
+    }
+
+    private List<MessageResponse> loadMessages(List<SyncChange> changes) {
+        Set<UUID> messageIds = new LinkedHashSet<>();
+        LocalDateTime since = null;
+        LocalDateTime until = null;
+
+        for (SyncChange change : changes) {
+            if (change.getType().isMessageChange() && change.getMessageId() != null) {
+                // Várias alterações da mesma mensagem resultam no seu estado atual, uma única vez
+                messageIds.remove(change.getMessageId());
+                messageIds.add(change.getMessageId());
+                LocalDateTime sentAt = change.getMessageSentAt();
+                since = since == null || sentAt.isBefore(since) ? sentAt : since;
+                until = until == null || sentAt.isAfter(until) ? sentAt : until;
+            }
+        }
+
+        if (messageIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<UUID, Message> messages = messageRepository.findAllForSync(messageIds, since, until).stream()
+            .collect(Collectors.toMap(Message::getId, Function.identity()));
+        Map<UUID, Chat> chats = chatRepository.findAllById(messages.values().stream()
+                .map(message -> message.getChat().getId())
+                .collect(Collectors.toSet()))
+            .stream()
+            .collect(Collectors.toMap(Chat::getId, Function.identity()));
+
+        // Mantém a ordem do log; conversas desativadas não são sincronizadas
+        Map<UUID, List<Message>> byChat = new LinkedHashMap<>();
+        for (UUID messageId : messageIds) {
+            Message message = messages.get(messageId);
+            if (message != null && chats.containsKey(message.getChat().getId())) {
+                byChat.computeIfAbsent(message.getChat().getId(), chatId -> new ArrayList<>()).add(message);
+            }
+        }
+
+        List<MessageResponse> responses = new ArrayList<>(messageIds.size());
+        byChat.forEach((chatId, chatMessages) ->
+            responses.addAll(chatService.toMessageResponses(chats.get(chatId), chatMessages)));
+        return responses;
+    }
+
+    private List<SyncChatStateResponse> loadChatStates(UUID userId, List<SyncChange> changes) {
+        Set<UUID> chatIds = changes.stream().map(SyncChange::getChatId).collect(Collectors.toSet());
+
+        Map<UUID, Long> unread = chatParticipantRepository.findUnreadCounts(userId, chatIds).stream()
+            .collect(Collectors.toMap(ChatParticipantRepository.UnreadCount::getChatId,
+                ChatParticipantRepository.UnreadCount::getUnreadCount));
+
+        // Marcas d'água do outro participante: até onde ele recebeu e leu as mensagens do usuário
+        return chatRepository.findAllById(chatIds).stream()
+            .map(chat -> {
+                UUID otherId = chat.isUser1(userId) ? chat.getUser2().getId() : chat.getUser1().getId();
+                return new SyncChatStateResponse(chat.getId(), chat.getDeliveredUpTo(otherId),
+                    chat.getReadUpTo(otherId), unread.getOrDefault(chat.getId(), 0L));
+            })
+            .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,157 @@
+package com.comuniquecem.service;
+
+import com.comuniquecem.dto.response.UnreadCountsResponse;
+import com.comuniquecem.entity.Chat;
+import com.comuniquecem.entity.ChatParticipant;
+import com.comuniquecem.repository.ChatParticipantRepository;
+import com.comuniquecem.repository.ChatRepository;
+import com.comuniquecem.repository.MessageRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Service para os contadores de mensagens não lidas.
+ *
+ * Os contadores ficam em chat_participants e são mantidos de forma incremental: somados no
+ * envio e recalculados apenas para a conversa cuja marca d'água de leitura avançou. Um job
+ * periódico compara os contadores das conversas com atividade recente com a contagem real
+ * e corrige eventuais divergências.
+ */
+@Service
+@Transactional
+public class UnreadCounterService {
+
+    private static final Logger logger = LoggerFactory.getLogger(UnreadCounterService.class);
+
+    private static final LocalDateTime NEVER_READ = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final UUID FIRST_ID = new UUID(0L, 0L);
+
+    @Autowired
+    private ChatParticipantRepository chatParticipantRepository;
+
+    @Autowired
+    private MessageRepository messageRepository;
+
+    @Autowired
+    private ChatRepository chatRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${chat.unread.reconcile-window-hours:48}")
+    private long reconcileWindowHours;
+
+    @Value("${chat.unread.reconcile-batch-size:500}")
+    private int reconcileBatchSize;
+
+    /**
+     * Incrementa o contador do destinatário e a posição na caixa de entrada após o envio
+     * de uma ou mais mensagens do mesmo remetente
+     */
+    public void onMessagesSent(UUID chatId, UUID senderId, long count, LocalDateTime lastSentAt) {
+        if (chatParticipantRepository.recordMessages(chatId, senderId, count, lastSentAt) == 0) {
+            // Conversa criada antes dos contadores: cria os registros já com a contagem real
+            chatRepository.findById(chatId).ifPresent(this::createParticipants);
+        }
+    }
+
+    /**
+     * Recalcula o contador do participante cuja marca d'água de leitura avançou
+     */
+    public void onReadAdvanced(UUID chatId, UUID userId, LocalDateTime readUpTo) {
+        long unread = messageRepository.countUnreadAfter(chatId, userId, readUpTo);
+        chatParticipantRepository.updateUnread(chatId, userId, unread);
+    }
+
+    /**
+     * Recalcula o contador do destinatário após uma mensagem ainda não lida ser apagada
+     */
+    public void onMessageDeleted(Chat chat, UUID recipientId) {
+        LocalDateTime readUpTo = chat.getReadUpTo(recipientId);
+        onReadAdvanced(chat.getId(), recipientId, readUpTo != null ? readUpTo : NEVER_READ);
+    }
+
+    /**
+     * Busca todos os contadores de não lidas do usuário em uma única consulta
+     */
+    @Transactional(readOnly = true)
+    public UnreadCountsResponse getUnreadCounts(UUID userId) {
+        Map<UUID, Long> chats = new LinkedHashMap<>();
+        long total = 0;
+
+        for (ChatParticipantRepository.UnreadCount count : chatParticipantRepository.findUnreadCountsByUserId(userId)) {
+            chats.put(count.getChatId(), count.getUnreadCount());
+            total += count.getUnreadCount();
+        }
+
+        return new UnreadCountsResponse(total, chats);
+    }
+
+    /**
+     * Corrige divergências dos contadores das conversas com atividade recente
+     */
+    @Scheduled(cron = "${chat.unread.reconcile-cron:0 30 3 * * *}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void reconcile() {
+        LocalDateTime since = LocalDateTime.now().minusHours(reconcileWindowHours);
+        UUID after = FIRST_ID;
+        int fixed = 0;
+
+        while (after != null) {
+            final UUID cursor = after;
+            ReconcileResult result = transactionTemplate.execute(status -> reconcileBatch(since, cursor));
+            fixed += result.fixed();
+            after = result.lastId();
+        }
+
+        if (fixed > 0) {
+            logger.warn("{} contadores de mensagens não lidas corrigidos pela reconciliação", fixed);
+        }
+    }
+
+    private ReconcileResult reconcileBatch(LocalDateTime since, UUID after) {
+        List<ChatParticipantRepository.UnreadDrift> batch = chatParticipantRepository.findUnreadDrift(
+            since, NEVER_READ, after, PageRequest.of(0, reconcileBatchSize));
+
+        int fixed = 0;
+        for (ChatParticipantRepository.UnreadDrift drift : batch) {
+            if (!drift.getStoredCount().equals(drift.getActualCount())) {
+                chatParticipantRepository.updateUnreadById(drift.getId(), drift.getActualCount());
+                fixed++;
+            }
+        }
+
+        UUID lastId = batch.size() < reconcileBatchSize ? null : batch.get(batch.size() - 1).getId();
+        return new ReconcileResult(fixed, lastId);
+    }
+
+    private void createParticipants(Chat chat) {
+        if (chatParticipantRepository.existsByChatId(chat.getId())) {
+            return;
+        }
+
+        for (var user : List.of(chat.getUser1(), chat.getUser2())) {
+            ChatParticipant participant = new ChatParticipant(chat, user);
+            LocalDateTime readUpTo = chat.getReadUpTo(user.getId());
+            participant.setUnreadCount(messageRepository.countUnreadAfter(
+                chat.getId(), user.getId(), readUpTo != null ? readUpTo : NEVER_READ));
+            chatParticipantRepository.save(participant);
+        }
+    }
+
+    private record ReconcileResult(int fixed, UUID lastId) {}
+}
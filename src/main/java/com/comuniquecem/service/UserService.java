@@ -8,6 +8,8 @@ import com.comuniquecem.entity.enums.UserRole;
 import com.comuniquecem.exception.BusinessException;
 import com.comuniquecem.exception.ResourceNotFoundException;
 import com.comuniquecem.repository.UserRepository;
+import com.comuniquecem.repository.VersionStamp;
+import com.comuniquecem.util.EntityTag;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -60,6 +62,25 @@ public class UserService implements UserDetailsService {
         return mapToUserResponse(user);
     }
 
+    /**
+     * ETag do usuário, consultada sem carregar a entidade; null se o usuário não existir
+     */
+    @Transactional(readOnly = true)
+    public EntityTag getUserTag(UUID id) {
+        return userRepository.findVersionStamp(id)
+            .map(stamp -> EntityTag.strong(stamp.getUpdatedAt(), id, stamp.getVersion()))
+            .orElse(null);
+    }
+
+    /**
+     * ETag fraca da listagem de usuários da instituição
+     */
+    @Transactional(readOnly = true)
+    public EntityTag getInstitutionUsersTag(UUID institutionId) {
+        VersionStamp stamp = userRepository.findInstitutionStamp(institutionId);
+        return EntityTag.weak(stamp.getUpdatedAt(), institutionId, stamp.getVersion());
+    }
+
     /**
      * Busca usuário por email
      */
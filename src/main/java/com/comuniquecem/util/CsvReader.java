@@ -0,0 +1,121 @@
+package com.comuniquecem.util;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Leitor de CSV (RFC 4180) registro a registro, sem carregar o arquivo na memória.
+ *
+ * Aceita vírgula ou ponto e vírgula (padrão do Excel em português): o separador é o primeiro
+ * dos dois encontrado fora de aspas no cabeçalho. Campos entre aspas podem conter separadores,
+ * quebras de linha e aspas duplicadas (""). O BOM do UTF-8 no início do arquivo é ignorado.
+ */
+public class CsvReader implements Closeable {
+
+    private static final int EOF = -1;
+
+    private final BufferedReader reader;
+    private char delimiter;
+    private boolean started;
+    private long line = 1;
+    private long recordLine;
+
+    public CsvReader(Reader reader) {
+        this.reader = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+    }
+
+    /**
+     * Lê o próximo registro; retorna null no fim do arquivo. Linhas em branco são ignoradas.
+     */
+    public List<String> readRecord() throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean empty = true;
+
+        int c = read();
+        if (!started) {
+            started = true;
+            if (c == '\uFEFF') {
+                c = read();
+            }
+        }
+
+        recordLine = line;
+        while (c != EOF) {
+            if (quoted) {
+                if (c == '"') {
+                    int next = read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        c = next;
+                        continue;
+                    }
+                } else {
+                    if (c == '\n') {
+                        line++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+                empty = false;
+            } else if (isDelimiter(c)) {
+                fields.add(field.toString());
+                field.setLength(0);
+                empty = false;
+            } else if (c == '\n' || c == '\r') {
+                if (c == '\r') {
+                    reader.mark(1);
+                    if (read() != '\n') {
+                        reader.reset();
+                    }
+                }
+                line++;
+                if (!empty) {
+                    break;
+                }
+                recordLine = line;
+            } else {
+                field.append((char) c);
+                empty = false;
+            }
+            c = read();
+        }
+
+        if (empty && c == EOF) {
+            return null;
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * Linha do arquivo em que começa o último registro lido (a primeira é 1)
+     */
+    public long getRecordLine() {
+        return recordLine;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private boolean isDelimiter(int c) {
+        if (delimiter == 0 && (c == ',' || c == ';')) {
+            delimiter = (char) c;
+        }
+        return c == delimiter;
+    }
+
+    private int read() throws IOException {
+        return reader.read();
+    }
+}
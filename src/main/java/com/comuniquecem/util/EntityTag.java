@@ -0,0 +1,59 @@
+package com.comuniquecem.util;
+
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * ETag e Last-Modified de um recurso, calculados a partir de version/updated_at sem carregar
+ * a entidade. A tag sempre inclui updated_at, pois alguns comandos em lote (status online)
+ * alteram a linha sem incrementar a versão. Tags fracas (W/) indicam representações
+ * equivalentes, não idênticas byte a byte: usadas em coleções e quando a resposta inclui
+ * valores mantidos fora da versão (visualizações).
+ */
+public record EntityTag(String value, long lastModified) {
+
+    /**
+     * Tag forte a partir das partes que identificam a versão do recurso
+     */
+    public static EntityTag strong(LocalDateTime lastModified, Object... parts) {
+        long millis = toEpochMillis(lastModified);
+        return new EntityTag("\"" + join(parts) + "-" + millis + "\"", millis);
+    }
+
+    /**
+     * Tag fraca a partir das partes que identificam a versão do recurso
+     */
+    public static EntityTag weak(LocalDateTime lastModified, Object... parts) {
+        long millis = toEpochMillis(lastModified);
+        return new EntityTag("W/\"" + join(parts) + "-" + millis + "\"", millis);
+    }
+
+    /**
+     * Verifica If-None-Match/If-Modified-Since. Quando o cliente já tem a versão atual, a resposta
+     * passa a ser 304; caso contrário os cabeçalhos ETag e Last-Modified já ficam definidos.
+     */
+    public boolean isNotModified(WebRequest request) {
+        return request.checkNotModified(value, lastModified);
+    }
+
+    /**
+     * Tag de uma variante da mesma versão (por exemplo, o corpo comprimido), que precisa de
+     * um valor próprio para não ser confundida com a representação sem compressão
+     */
+    public EntityTag variant(String suffix) {
+        return new EntityTag(value.substring(0, value.length() - 1) + "-" + suffix + "\"", lastModified);
+    }
+
+    private static String join(Object... parts) {
+        return Arrays.stream(parts).map(part -> Objects.toString(part, "0")).collect(Collectors.joining("-"));
+    }
+
+    private static long toEpochMillis(LocalDateTime instant) {
+        return instant != null ? instant.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : -1;
+    }
+}
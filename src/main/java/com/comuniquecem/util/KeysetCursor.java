@@ -0,0 +1,44 @@
+package com.comuniquecem.util;
+
+import com.comuniquecem.exception.BusinessException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Cursor opaco para paginação por keyset: posição (instante, id) do último item retornado
+ */
+public record KeysetCursor(LocalDateTime position, UUID id) {
+
+    private static final String SEPARATOR = "|";
+
+    /**
+     * Codifica o cursor para uso em parâmetros de URL
+     */
+    public String encode() {
+        String raw = position + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodifica um cursor recebido do cliente; retorna null quando ausente
+     */
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            return new KeysetCursor(
+                LocalDateTime.parse(raw.substring(0, separator)),
+                UUID.fromString(raw.substring(separator + 1))
+            );
+        } catch (RuntimeException e) {
+            throw new BusinessException("Cursor de paginação inválido");
+        }
+    }
+}
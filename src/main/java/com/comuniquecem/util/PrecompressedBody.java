@@ -0,0 +1,74 @@
+package com.comuniquecem.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Corpo JSON já serializado, guardado também comprimido com gzip para ser servido sem
+ * trabalho por requisição. Cada codificação tem a sua ETag (sufixo -gzip).
+ */
+public record PrecompressedBody(EntityTag tag, byte[] identity, byte[] gzip) {
+
+    public static final String GZIP = "gzip";
+
+    /**
+     * Comprime o corpo serializado da versão identificada pela tag
+     */
+    public static PrecompressedBody of(EntityTag tag, byte[] identity) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(identity.length / 4, 64));
+        try (GZIPOutputStream gzipOut = new GZIPOutputStream(out)) {
+            gzipOut.write(identity);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new PrecompressedBody(tag, identity, out.toByteArray());
+    }
+
+    /**
+     * Tag da representação escolhida para a codificação
+     */
+    public static EntityTag tagFor(EntityTag tag, boolean gzip) {
+        return gzip ? tag.variant(GZIP) : tag;
+    }
+
+    public byte[] content(boolean gzip) {
+        return gzip ? this.gzip : identity;
+    }
+
+    /**
+     * Verifica se o cabeçalho Accept-Encoding aceita gzip. Uma menção explícita a gzip
+     * prevalece sobre *; q=0 recusa a codificação.
+     */
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+
+        Boolean wildcard = null;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim();
+            boolean accepted = parts.length < 2 || !isZeroQuality(parts[1].trim());
+            if (name.equalsIgnoreCase(GZIP)) {
+                return accepted;
+            }
+            if (name.equals("*")) {
+                wildcard = accepted;
+            }
+        }
+        return Boolean.TRUE.equals(wildcard);
+    }
+
+    private static boolean isZeroQuality(String parameter) {
+        if (!parameter.startsWith("q=")) {
+            return false;
+        }
+        try {
+            return Double.parseDouble(parameter.substring(2)) == 0;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+}
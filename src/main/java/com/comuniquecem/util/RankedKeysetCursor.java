@@ -0,0 +1,46 @@
+package com.comuniquecem.util;
+
+import com.comuniquecem.exception.BusinessException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Cursor opaco para paginação por keyset de resultados ordenados por relevância:
+ * posição (relevância, instante, id) do último item retornado
+ */
+public record RankedKeysetCursor(float rank, LocalDateTime position, UUID id) {
+
+    private static final String SEPARATOR = "|";
+
+    /**
+     * Codifica o cursor para uso em parâmetros de URL
+     */
+    public String encode() {
+        String raw = Float.toString(rank) + SEPARATOR + position + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodifica um cursor recebido do cliente; retorna null quando ausente
+     */
+    public static RankedKeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 3);
+            return new RankedKeysetCursor(
+                Float.parseFloat(parts[0]),
+                LocalDateTime.parse(parts[1]),
+                UUID.fromString(parts[2])
+            );
+        } catch (RuntimeException e) {
+            throw new BusinessException("Cursor de paginação inválido");
+        }
+    }
+}
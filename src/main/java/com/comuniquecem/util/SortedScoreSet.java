@@ -0,0 +1,238 @@
+package com.comuniquecem.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Conjunto ordenado por pontuação, equivalente em memória ao sorted set do Redis (ZSET).
+ *
+ * Skip list indexável: cada ligação guarda quantos elementos ela salta (span), então a posição
+ * de um membro e a busca por posição custam O(log n), assim como inserir, remover ou alterar a
+ * pontuação. A ordem é a do Redis: pontuação crescente e, no empate, o membro crescente; as
+ * consultas "reverse" percorrem do maior para o menor, como ZREVRANK e ZREVRANGE.
+ * Não é thread-safe: quem compartilha uma instância deve sincronizar o acesso.
+ */
+public class SortedScoreSet<T extends Comparable<? super T>> {
+
+    private static final int MAX_LEVEL = 32;
+    private static final double LEVEL_PROBABILITY = 0.25;
+
+    private final Map<T, Long> scores = new HashMap<>();
+    private final Node<T> header = new Node<>(null, 0, MAX_LEVEL);
+    private int level = 1;
+    private int length;
+
+    /**
+     * Soma delta à pontuação do membro (zero se ausente) e retorna a nova pontuação
+     */
+    public long incrementBy(T member, long delta) {
+        Long current = scores.get(member);
+        long score = current != null ? current + delta : delta;
+        if (current != null) {
+            delete(current, member);
+        }
+        insert(score, member);
+        scores.put(member, score);
+        return score;
+    }
+
+    /**
+     * Define a pontuação do membro se ele estiver ausente ou com pontuação menor (ZADD GT)
+     */
+    public boolean setIfGreater(T member, long score) {
+        Long current = scores.get(member);
+        if (current != null) {
+            if (current >= score) {
+                return false;
+            }
+            delete(current, member);
+        }
+        insert(score, member);
+        scores.put(member, score);
+        return true;
+    }
+
+    /**
+     * Pontuação do membro; null se ausente
+     */
+    public Long score(T member) {
+        return scores.get(member);
+    }
+
+    /**
+     * Posição do membro do maior para o menor, a partir de 0; -1 se ausente
+     */
+    public long reverseRank(T member) {
+        Long score = scores.get(member);
+        if (score == null) {
+            return -1;
+        }
+
+        long rank = 0;
+        Node<T> node = header;
+        for (int i = level - 1; i >= 0; i--) {
+            while (node.next[i] != null && compare(node.next[i], score, member) <= 0) {
+                rank += node.span[i];
+                node = node.next[i];
+            }
+            if (node != header && node.member.equals(member)) {
+                return length - rank;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Até count membros a partir da posição start (0 é a maior pontuação), do maior para o menor
+     */
+    public List<Entry<T>> reverseRange(long start, int count) {
+        if (start < 0 || start >= length || count <= 0) {
+            return List.of();
+        }
+
+        List<Entry<T>> entries = new ArrayList<>((int) Math.min(count, length - start));
+        Node<T> node = byRank(length - start);
+        while (node != null && entries.size() < count) {
+            entries.add(new Entry<>(node.member, node.score));
+            node = node.previous;
+        }
+        return entries;
+    }
+
+    public int size() {
+        return length;
+    }
+
+    private void insert(long score, T member) {
+        Node<T>[] update = Node.newArray(MAX_LEVEL);
+        long[] rank = new long[MAX_LEVEL];
+
+        Node<T> node = header;
+        for (int i = level - 1; i >= 0; i--) {
+            rank[i] = i == level - 1 ? 0 : rank[i + 1];
+            while (node.next[i] != null && compare(node.next[i], score, member) < 0) {
+                rank[i] += node.span[i];
+                node = node.next[i];
+            }
+            update[i] = node;
+        }
+
+        int nodeLevel = randomLevel();
+        if (nodeLevel > level) {
+            for (int i = level; i < nodeLevel; i++) {
+                rank[i] = 0;
+                update[i] = header;
+                header.span[i] = length;
+            }
+            level = nodeLevel;
+        }
+
+        Node<T> inserted = new Node<>(member, score, nodeLevel);
+        for (int i = 0; i < nodeLevel; i++) {
+            inserted.next[i] = update[i].next[i];
+            update[i].next[i] = inserted;
+            // O salto anterior é dividido entre o predecessor e o novo nó
+            inserted.span[i] = update[i].span[i] - (rank[0] - rank[i]);
+            update[i].span[i] = (rank[0] - rank[i]) + 1;
+        }
+        for (int i = nodeLevel; i < level; i++) {
+            update[i].span[i]++;
+        }
+
+        inserted.previous = update[0] == header ? null : update[0];
+        if (inserted.next[0] != null) {
+            inserted.next[0].previous = inserted;
+        }
+        length++;
+    }
+
+    private void delete(long score, T member) {
+        Node<T>[] update = Node.newArray(MAX_LEVEL);
+
+        Node<T> node = header;
+        for (int i = level - 1; i >= 0; i--) {
+            while (node.next[i] != null && compare(node.next[i], score, member) < 0) {
+                node = node.next[i];
+            }
+            update[i] = node;
+        }
+
+        Node<T> deleted = node.next[0];
+        if (deleted == null || compare(deleted, score, member) != 0) {
+            return;
+        }
+
+        for (int i = 0; i < level; i++) {
+            if (update[i].next[i] == deleted) {
+                update[i].span[i] += deleted.span[i] - 1;
+                update[i].next[i] = deleted.next[i];
+            } else {
+                update[i].span[i]--;
+            }
+        }
+        if (deleted.next[0] != null) {
+            deleted.next[0].previous = deleted.previous;
+        }
+        while (level > 1 && header.next[level - 1] == null) {
+            level--;
+        }
+        length--;
+    }
+
+    /**
+     * Nó na posição rank em ordem crescente, a partir de 1
+     */
+    private Node<T> byRank(long rank) {
+        long traversed = 0;
+        Node<T> node = header;
+        for (int i = level - 1; i >= 0; i--) {
+            while (node.next[i] != null && traversed + node.span[i] <= rank) {
+                traversed += node.span[i];
+                node = node.next[i];
+            }
+            if (traversed == rank) {
+                return node;
+            }
+        }
+        return null;
+    }
+
+    private int compare(Node<T> node, long score, T member) {
+        int byScore = Long.compare(node.score, score);
+        return byScore != 0 ? byScore : node.member.compareTo(member);
+    }
+
+    private static int randomLevel() {
+        int nodeLevel = 1;
+        while (nodeLevel < MAX_LEVEL && ThreadLocalRandom.current().nextDouble() < LEVEL_PROBABILITY) {
+            nodeLevel++;
+        }
+        return nodeLevel;
+    }
+
+    public record Entry<T>(T member, long score) {}
+
+    private static final class Node<T> {
+        private final T member;
+        private final long score;
+        private final Node<T>[] next;
+        private final long[] span;
+        private Node<T> previous;
+
+        private Node(T member, long score, int level) {
+            this.member = member;
+            this.score = score;
+            this.next = newArray(level);
+            this.span = new long[level];
+        }
+
+        // Único ponto com array genérico: Node[] é criado sem tipo e só guarda Node<T>
+        @SuppressWarnings("unchecked")
+        private static <T> Node<T>[] newArray(int length) {
+            return (Node<T>[]) new Node<?>[length];
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.comuniquecem.util;
+
+import com.comuniquecem.exception.BusinessException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Cursor opaco da sincronização incremental: posição (xid, seq) no log sync_changes e o instante
+ * a partir do qual foram gravadas as alterações posteriores a ela, usado para saber se a
+ * retenção já removeu alguma
+ */
+public record SyncCursor(long xid, long seq, LocalDateTime since) {
+
+    private static final String SEPARATOR = "|";
+
+    /**
+     * Codifica o cursor para uso em parâmetros de URL
+     */
+    public String encode() {
+        String raw = Long.toString(xid) + SEPARATOR + seq + SEPARATOR + since;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodifica um cursor recebido do cliente; retorna null quando ausente. Cursores numéricos
+     * de versões anteriores (só a sequência) não têm posição de commit e voltam como expirados.
+     */
+    public static SyncCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        // Um cursor codificado nunca começa com dígito: a codificação de um dígito começa com M, N ou O
+        if (cursor.chars().allMatch(Character::isDigit)) {
+            return new SyncCursor(0, 0, LocalDateTime.MIN);
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 3);
+            SyncCursor decoded = new SyncCursor(
+                Long.parseLong(parts[0]),
+                Long.parseLong(parts[1]),
+                LocalDateTime.parse(parts[2])
+            );
+            if (decoded.xid() < 0 || decoded.seq() < 0) {
+                throw new BusinessException("Cursor inválido");
+            }
+            return decoded;
+        } catch (RuntimeException e) {
+            throw new BusinessException("Cursor inválido");
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.comuniquecem.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Roda de temporização (hashed timing wheel) de uma volta: cada posição guarda os itens que
+ * vencem em um tick de tickMs, e avançar a roda devolve os vencidos sem ordenar nem percorrer
+ * os demais. Agendar e avançar custam O(1) por item. Só aceita itens que vencem dentro de uma
+ * volta (slots x tickMs) a partir do tick atual; os já vencidos entram no próximo avanço.
+ * Thread-safe.
+ */
+public class TimingWheel<T> {
+
+    private final long tickMs;
+    private final List<List<T>> slots;
+    private long currentTick;
+    private int size;
+
+    public TimingWheel(long tickMs, int slotCount, long startMs) {
+        this.tickMs = tickMs;
+        this.slots = new ArrayList<>(slotCount);
+        for (int i = 0; i < slotCount; i++) {
+            slots.add(new ArrayList<>());
+        }
+        this.currentTick = startMs / tickMs;
+    }
+
+    /**
+     * Agenda o item para dueAtMs; retorna false se ele vencer depois do fim da volta atual
+     */
+    public synchronized boolean schedule(T item, long dueAtMs) {
+        long tick = Math.max(dueAtMs / tickMs, currentTick);
+        if (tick >= currentTick + slots.size()) {
+            return false;
+        }
+        slots.get(slotOf(tick)).add(item);
+        size++;
+        return true;
+    }
+
+    /**
+     * Avança a roda até nowMs e retorna os itens vencidos até lá
+     */
+    public synchronized List<T> advance(long nowMs) {
+        long nowTick = nowMs / tickMs;
+        List<T> due = new ArrayList<>();
+        // Todos os itens estão a menos de uma volta do tick atual: uma volta basta
+        long last = Math.min(nowTick, currentTick + slots.size() - 1);
+        for (long tick = currentTick; tick <= last; tick++) {
+            List<T> slot = slots.get(slotOf(tick));
+            if (!slot.isEmpty()) {
+                due.addAll(slot);
+                slot.clear();
+            }
+        }
+        currentTick = Math.max(currentTick, nowTick + 1);
+        size -= due.size();
+        return due;
+    }
+
+    /**
+     * Instante em que termina a volta atual: itens com vencimento posterior são recusados
+     */
+    public synchronized long horizonMs() {
+        return (currentTick + slots.size()) * tickMs;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    private int slotOf(long tick) {
+        return (int) (tick % slots.size());
+    }
+}
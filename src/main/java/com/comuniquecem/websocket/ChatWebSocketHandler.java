@@ -0,0 +1,136 @@
+package com.comuniquecem.websocket;
+
+import com.comuniquecem.service.LiveQuizService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.Refill;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Handler do WebSocket /ws/chat.
+ * Recebe os eventos efêmeros dos clientes e as respostas dos quizzes ao vivo, limitados por sessão:
+ * acima do limite são descartados.
+ */
+@Component
+public class ChatWebSocketHandler extends TextWebSocketHandler {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChatWebSocketHandler.class);
+
+    private static final String RATE_LIMIT = "rateLimit";
+
+    @Autowired
+    private WebSocketSessionRegistry sessionRegistry;
+
+    @Autowired
+    private EphemeralEventRelay ephemeralEventRelay;
+
+    @Autowired
+    private LiveQuizService liveQuizService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${chat.websocket.events-per-second:5}")
+    private int eventsPerSecond;
+
+    @Value("${chat.websocket.event-burst:20}")
+    private int eventBurst;
+
+    private Counter rateLimited;
+
+    @PostConstruct
+    void init() {
+        rateLimited = Counter.builder("chat.websocket.rate_limited")
+            .description("Eventos recebidos acima do limite da sessão")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) {
+        Bandwidth limit = Bandwidth.classic(eventBurst, Refill.greedy(eventsPerSecond, Duration.ofSeconds(1)));
+        session.getAttributes().put(RATE_LIMIT, Bucket.builder().addLimit(limit).build());
+        sessionRegistry.register(userIdOf(session), session);
+    }
+
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage message) {
+        Bucket bucket = (Bucket) session.getAttributes().get(RATE_LIMIT);
+        if (!bucket.tryConsume(1)) {
+            rateLimited.increment();
+            return;
+        }
+
+        WebSocketEvent event;
+        try {
+            event = objectMapper.readValue(message.getPayload(), WebSocketEvent.class);
+        } catch (IOException e) {
+            logger.debug("Evento inválido na sessão {}: {}", session.getId(), e.getMessage());
+            return;
+        }
+
+        if (WebSocketEvent.LIVE_QUIZ_ANSWER.equals(event.getType())) {
+            answerLiveQuiz(session, event);
+            return;
+        }
+
+        ephemeralEventRelay.relay(userIdOf(session), event);
+    }
+
+    @Override
+    public void handleTransportError(WebSocketSession session, Throwable exception) {
+        logger.debug("Erro de transporte na sessão {}: {}", session.getId(), exception.getMessage());
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        sessionRegistry.unregister(userIdOf(session), session);
+    }
+
+    private void answerLiveQuiz(WebSocketSession session, WebSocketEvent event) {
+        LiveQuizAnswer answer;
+        try {
+            answer = objectMapper.convertValue(event.getPayload(), LiveQuizAnswer.class);
+        } catch (IllegalArgumentException e) {
+            logger.debug("Resposta de quiz ao vivo inválida na sessão {}: {}", session.getId(), e.getMessage());
+            return;
+        }
+        if (answer == null || answer.sessionId() == null || answer.option() == null) {
+            return;
+        }
+
+        UUID userId = userIdOf(session);
+        LiveQuizService.AnswerResult result = liveQuizService.answer(answer.sessionId(), userId,
+            (UUID) session.getAttributes().get(JwtHandshakeInterceptor.INSTITUTION_ID), answer.option());
+
+        // Confirmação para o aluno, em todos os seus dispositivos
+        sessionRegistry.sendToUser(userId, new WebSocketEvent(WebSocketEvent.LIVE_QUIZ_ANSWER, null, userId,
+            Map.of("sessionId", answer.sessionId(), "result", result.name()), LocalDateTime.now()));
+    }
+
+    private UUID userIdOf(WebSocketSession session) {
+        return (UUID) session.getAttributes().get(JwtHandshakeInterceptor.USER_ID);
+    }
+
+    private record LiveQuizAnswer(UUID sessionId, Integer option) {}
+}
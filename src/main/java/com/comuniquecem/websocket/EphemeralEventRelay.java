@@ -0,0 +1,140 @@
+package com.comuniquecem.websocket;
+
+import com.comuniquecem.repository.ChatParticipantRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Repasse dos eventos efêmeros de conversa ("digitando…" e "visto agora") ao outro participante.
+ *
+ * Nada é gravado: os eventos só existem em memória e são perdidos se o destinatário estiver
+ * desconectado. Eventos do mesmo tipo, remetente e conversa são agrupados por janela: o primeiro
+ * é repassado na hora e os seguintes dentro da janela são descartados, então o cliente deve
+ * considerar o indicador expirado pouco depois do fim da janela. A participação na conversa é
+ * consultada uma vez e mantida em cache por alguns segundos.
+ */
+@Component
+public class EphemeralEventRelay {
+
+    private static final int MAX_CACHED_MEMBERSHIPS = 50_000;
+
+    @Autowired
+    private ChatParticipantRepository chatParticipantRepository;
+
+    @Autowired
+    private WebSocketSessionRegistry sessionRegistry;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${chat.ephemeral.typing-window-ms:3000}")
+    private long typingWindowMs;
+
+    @Value("${chat.ephemeral.seen-window-ms:5000}")
+    private long seenWindowMs;
+
+    @Value("${chat.ephemeral.membership-cache-ttl-ms:60000}")
+    private long membershipTtlMs;
+
+    private final Map<CoalesceKey, Long> lastForwarded = new ConcurrentHashMap<>();
+    private final Map<MembershipKey, Membership> memberships = new ConcurrentHashMap<>();
+
+    private Counter forwarded;
+    private Counter coalesced;
+
+    @PostConstruct
+    void init() {
+        forwarded = Counter.builder("chat.ephemeral.forwarded")
+            .description("Eventos efêmeros repassados ao outro participante")
+            .register(meterRegistry);
+        coalesced = Counter.builder("chat.ephemeral.coalesced")
+            .description("Eventos efêmeros descartados dentro da janela de agrupamento")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Repassa o evento do remetente ao outro participante da conversa, se estiver fora da janela
+     */
+    public void relay(UUID senderId, WebSocketEvent event) {
+        long window = windowOf(event.getType());
+        if (window <= 0 || event.getChatId() == null) {
+            return;
+        }
+
+        long now = System.nanoTime();
+        boolean[] accepted = {false};
+        lastForwarded.compute(new CoalesceKey(event.getChatId(), senderId, event.getType()), (key, last) -> {
+            if (last == null || now - last >= window) {
+                accepted[0] = true;
+                return now;
+            }
+            return last;
+        });
+        if (!accepted[0]) {
+            coalesced.increment();
+            return;
+        }
+
+        recipientOf(event.getChatId(), senderId).ifPresent(recipientId -> {
+            sessionRegistry.sendToUser(recipientId,
+                new WebSocketEvent(event.getType(), event.getChatId(), senderId, null, LocalDateTime.now()));
+            forwarded.increment();
+        });
+    }
+
+    /**
+     * Remove janelas encerradas e participações expiradas
+     */
+    @Scheduled(fixedDelayString = "${chat.ephemeral.cleanup-interval-ms:60000}")
+    public void evictExpired() {
+        long now = System.nanoTime();
+        long longestWindow = TimeUnit.MILLISECONDS.toNanos(Math.max(typingWindowMs, seenWindowMs));
+        lastForwarded.values().removeIf(last -> now - last >= longestWindow);
+        memberships.values().removeIf(membership -> membership.expiresAt() <= now);
+    }
+
+    private long windowOf(String type) {
+        if (WebSocketEvent.TYPING.equals(type)) {
+            return TimeUnit.MILLISECONDS.toNanos(typingWindowMs);
+        }
+        if (WebSocketEvent.SEEN.equals(type)) {
+            return TimeUnit.MILLISECONDS.toNanos(seenWindowMs);
+        }
+        return 0;
+    }
+
+    private Optional<UUID> recipientOf(UUID chatId, UUID senderId) {
+        MembershipKey key = new MembershipKey(chatId, senderId);
+        long now = System.nanoTime();
+
+        Membership cached = memberships.get(key);
+        if (cached != null && cached.expiresAt() > now) {
+            return Optional.ofNullable(cached.recipientId());
+        }
+
+        // Quem não participa também fica em cache, para que ids inválidos não cheguem ao banco a cada evento
+        UUID recipientId = chatParticipantRepository.findOtherUserId(chatId, senderId).orElse(null);
+        if (memberships.size() < MAX_CACHED_MEMBERSHIPS) {
+            memberships.put(key, new Membership(recipientId, now + TimeUnit.MILLISECONDS.toNanos(membershipTtlMs)));
+        }
+        return Optional.ofNullable(recipientId);
+    }
+
+    private record CoalesceKey(UUID chatId, UUID senderId, String type) {}
+
+    private record MembershipKey(UUID chatId, UUID userId) {}
+
+    private record Membership(UUID recipientId, long expiresAt) {}
+}
@@ -0,0 +1,83 @@
+package com.comuniquecem.websocket;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Envelope dos eventos trocados pelo WebSocket /ws/chat, nos dois sentidos
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class WebSocketEvent {
+
+    public static final String TYPING = "typing";
+    public static final String SEEN = "seen";
+    public static final String NOTIFICATION = "notification";
+    public static final String LIVE_QUIZ_STARTED = "live_quiz_started";
+    public static final String LIVE_QUIZ_ANSWER = "live_quiz_answer";
+    public static final String LIVE_QUIZ_RESULTS = "live_quiz_results";
+
+    private String type;
+    private UUID chatId;
+    private UUID userId;
+    private Object payload;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss.SSS")
+    private LocalDateTime at;
+
+    // Constructors
+    public WebSocketEvent() {}
+
+    public WebSocketEvent(String type, UUID chatId, UUID userId, Object payload, LocalDateTime at) {
+        this.type = type;
+        this.chatId = chatId;
+        this.userId = userId;
+        this.payload = payload;
+        this.at = at;
+    }
+
+    // Getters and Setters
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public UUID getChatId() {
+        return chatId;
+    }
+
+    public void setChatId(UUID chatId) {
+        this.chatId = chatId;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public void setUserId(UUID userId) {
+        this.userId = userId;
+    }
+
+    public Object getPayload() {
+        return payload;
+    }
+
+    public void setPayload(Object payload) {
+        this.payload = payload;
+    }
+
+    public LocalDateTime getAt() {
+        return at;
+    }
+
+    public void setAt(LocalDateTime at) {
+        this.at = at;
+    }
+}
@@ -0,0 +1,109 @@
+package com.comuniquecem.websocket;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registro em memória das sessões WebSocket abertas, por usuário (um usuário pode ter vários dispositivos).
+ *
+ * Cada sessão é envolvida por um {@link ConcurrentWebSocketSessionDecorator}: o envio nunca bloqueia
+ * quem chamou e, se o cliente estiver lento, as mensagens que excedem o buffer são descartadas
+ * (OverflowStrategy.DROP) em vez de acumuladas na memória do servidor.
+ */
+@Component
+public class WebSocketSessionRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(WebSocketSessionRegistry.class);
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${chat.websocket.send-time-limit-ms:2000}")
+    private int sendTimeLimitMs;
+
+    @Value("${chat.websocket.send-buffer-limit-bytes:65536}")
+    private int sendBufferLimitBytes;
+
+    private final Map<UUID, Set<WebSocketSession>> sessionsByUser = new ConcurrentHashMap<>();
+
+    /**
+     * Registra a sessão aberta e retorna a versão segura para envios concorrentes
+     */
+    public WebSocketSession register(UUID userId, WebSocketSession session) {
+        WebSocketSession decorated = new ConcurrentWebSocketSessionDecorator(
+            session, sendTimeLimitMs, sendBufferLimitBytes, ConcurrentWebSocketSessionDecorator.OverflowStrategy.DROP);
+        sessionsByUser.computeIfAbsent(userId, id -> ConcurrentHashMap.newKeySet()).add(decorated);
+        return decorated;
+    }
+
+    /**
+     * Remove a sessão encerrada
+     */
+    public void unregister(UUID userId, WebSocketSession session) {
+        sessionsByUser.computeIfPresent(userId, (id, sessions) -> {
+            sessions.removeIf(registered -> registered.getId().equals(session.getId()));
+            return sessions.isEmpty() ? null : sessions;
+        });
+    }
+
+    /**
+     * Verifica se o usuário tem alguma sessão aberta neste servidor
+     */
+    public boolean isConnected(UUID userId) {
+        return sessionsByUser.containsKey(userId);
+    }
+
+    /**
+     * Envia o evento a todas as sessões do usuário; sessões que não dão conta do volume são encerradas
+     */
+    public void sendToUser(UUID userId, WebSocketEvent event) {
+        Set<WebSocketSession> sessions = sessionsByUser.get(userId);
+        if (sessions == null) {
+            return;
+        }
+
+        TextMessage message = serialize(event);
+        for (WebSocketSession session : sessions) {
+            try {
+                session.sendMessage(message);
+            } catch (IOException | RuntimeException e) {
+                // SessionLimitExceededException: o cliente parou de ler dentro do limite de tempo
+                logger.debug("Falha ao enviar evento para a sessão {} do usuário {}: {}",
+                    session.getId(), userId, e.getMessage());
+                closeQuietly(session);
+                unregister(userId, session);
+            }
+        }
+    }
+
+    private TextMessage serialize(WebSocketEvent event) {
+        try {
+            return new TextMessage(objectMapper.writeValueAsString(event));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Falha ao serializar evento de WebSocket", e);
+        }
+    }
+
+    private void closeQuietly(WebSocketSession session) {
+        try {
+            session.close(CloseStatus.SESSION_NOT_RELIABLE);
+        } catch (IOException e) {
+            logger.debug("Falha ao encerrar a sessão {}", session.getId(), e);
+        }
+    }
+}
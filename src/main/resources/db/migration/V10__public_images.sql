@@ -0,0 +1,3 @@
+-- Imagens públicas (fotos de perfil, logos, imagens de notícias): visíveis a qualquer usuário autenticado
+
+ALTER TABLE attachments ADD COLUMN public_image BOOLEAN NOT NULL DEFAULT false;
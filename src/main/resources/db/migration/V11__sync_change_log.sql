@@ -0,0 +1,16 @@
+-- Log de alterações por usuário para a sincronização incremental (GET /api/sync).
+-- Sem FKs: é gravado a cada envio e podado pela retenção.
+
+CREATE TABLE sync_changes (
+    seq             BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id         UUID         NOT NULL,
+    chat_id         UUID         NOT NULL,
+    message_id      UUID,
+    message_sent_at TIMESTAMP(6),
+    type            VARCHAR(20)  NOT NULL,
+    created_at      TIMESTAMP(6) NOT NULL
+);
+
+-- Cobre a consulta de sincronização inteira: varredura de faixa sem acessar a tabela
+CREATE INDEX idx_sync_change_user_seq ON sync_changes (user_id, seq)
+    INCLUDE (chat_id, message_id, message_sent_at, type, created_at);
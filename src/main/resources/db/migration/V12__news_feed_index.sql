@@ -0,0 +1,8 @@
+-- Feed de notícias por instituição: publicadas da mais recente para a mais antiga, paginadas
+-- por keyset em (created_at, id). O índice composto entrega as linhas já na ordem do feed;
+-- institution_id como primeira coluna também atende às buscas da chave estrangeira.
+DROP INDEX idx_news_institution;
+CREATE INDEX idx_news_feed ON news (institution_id, published, created_at DESC, id DESC);
+
+-- Destaques fixados no topo do feed: poucas linhas por instituição
+CREATE INDEX idx_news_featured ON news (institution_id, created_at DESC) WHERE published AND featured;
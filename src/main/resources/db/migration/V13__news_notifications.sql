@@ -0,0 +1,23 @@
+-- Notificações por usuário (publicação de notícias). Sem FKs: gravadas em lote pela
+-- distribuição assíncrona, com ids gerados pela aplicação.
+
+CREATE TABLE notifications (
+    id           UUID PRIMARY KEY,
+    user_id      UUID         NOT NULL,
+    type         VARCHAR(30)  NOT NULL,
+    reference_id UUID,
+    title        VARCHAR(255),
+    created_at   TIMESTAMP(6) NOT NULL,
+    read_at      TIMESTAMP(6)
+);
+
+-- Listagem por keyset em (created_at, id), da mais recente para a mais antiga
+CREATE INDEX idx_notification_user_created ON notifications (user_id, created_at DESC, id DESC);
+
+-- Contagem e marcação das não lidas
+CREATE INDEX idx_notification_user_unread ON notifications (user_id) WHERE read_at IS NULL;
+
+-- Destinatários da distribuição percorridos por keyset em id dentro da instituição;
+-- institution_id como primeira coluna continua atendendo às buscas por instituição.
+DROP INDEX idx_user_institution_active;
+CREATE INDEX idx_user_institution_active ON users (institution_id, id) WHERE active;
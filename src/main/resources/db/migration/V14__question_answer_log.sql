@@ -0,0 +1,15 @@
+-- Log de respostas das questões. Cada resposta é uma nova linha (sem disputa pela linha da
+-- questão); answer_count/correct_count em questions são mantidos por somas periódicas.
+-- Sem FKs: gravado a cada resposta, referências são apenas ids.
+
+CREATE TABLE question_answers (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    question_id UUID         NOT NULL,
+    user_id     UUID         NOT NULL,
+    answer      VARCHAR(255) NOT NULL,
+    correct     BOOLEAN      NOT NULL,
+    answered_at TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX idx_question_answer_question ON question_answers (question_id, answered_at);
+CREATE INDEX idx_question_answer_user ON question_answers (user_id, answered_at);
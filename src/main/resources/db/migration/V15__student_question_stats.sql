@@ -0,0 +1,16 @@
+-- Estatísticas de cada aluno por questão, mantidas de forma incremental a cada resposta
+-- (upsert na mesma transação da linha de question_answers). Uma linha por par aluno/questão:
+-- a prática adaptativa lê somente as linhas do aluno pela chave primária.
+-- Sem FKs, como em question_answers: referências são apenas ids.
+
+CREATE TABLE student_question_stats (
+    user_id          UUID         NOT NULL,
+    question_id      UUID         NOT NULL,
+    difficulty_level SMALLINT     NOT NULL,
+    attempts         INTEGER      NOT NULL,
+    correct_count    INTEGER      NOT NULL,
+    streak           INTEGER      NOT NULL,
+    last_correct     BOOLEAN      NOT NULL,
+    last_answered_at TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (user_id, question_id)
+);
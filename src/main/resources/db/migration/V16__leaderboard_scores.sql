@@ -0,0 +1,12 @@
+-- Cópia periódica das pontuações dos rankings (sorted sets no Redis), uma linha por aluno em
+-- cada instituição. Só é lida para reconstruir um ranking ausente no Redis; as consultas de
+-- posição nunca passam por esta tabela.
+-- Sem FKs, como em question_answers: referências são apenas ids.
+
+CREATE TABLE leaderboard_scores (
+    institution_id UUID         NOT NULL,
+    user_id        UUID         NOT NULL,
+    score          BIGINT       NOT NULL,
+    updated_at     TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (institution_id, user_id)
+);
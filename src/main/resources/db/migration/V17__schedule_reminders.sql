@@ -0,0 +1,18 @@
+-- Lembretes de cronograma: o vencimento é calculado pela entidade ao gravar
+-- ((activity_date - reminder_days_before) às 08:00) e fica nulo com o lembrete desativado ou a
+-- atividade concluída. reminder_sent_at marca o lembrete como enviado.
+
+ALTER TABLE schedules ADD COLUMN reminder_due_at TIMESTAMP(6);
+ALTER TABLE schedules ADD COLUMN reminder_sent_at TIMESTAMP(6);
+
+UPDATE schedules
+SET reminder_due_at = (activity_date - GREATEST(COALESCE(reminder_days_before, 0), 0)) + TIME '08:00'
+WHERE reminder_enabled AND NOT completed;
+
+-- Atividades já passadas não recebem lembrete
+UPDATE schedules SET reminder_sent_at = now()
+WHERE reminder_due_at IS NOT NULL AND activity_date < CURRENT_DATE;
+
+-- Somente os lembretes pendentes: o índice cresce com os lembretes a enviar, não com a tabela
+CREATE INDEX idx_schedule_reminder_pending ON schedules (reminder_due_at)
+    WHERE reminder_due_at IS NOT NULL AND reminder_sent_at IS NULL;
@@ -0,0 +1,23 @@
+-- Distribuições de notícias publicadas em andamento. A linha é gravada na mesma transação da
+-- publicação e guarda o último destinatário notificado (cursor keyset em users.id), avançado
+-- na mesma transação de cada lote de notificações; é removida ao fim da distribuição.
+-- Uma distribuição interrompida (fila cheia, erro, nó parado) é retomada do cursor quando a
+-- concessão (lease_until) expira. Sem FKs, como em notifications.
+
+CREATE TABLE news_fan_out_jobs (
+    news_id           UUID PRIMARY KEY,
+    institution_id    UUID         NOT NULL,
+    author_id         UUID         NOT NULL,
+    title             VARCHAR(255),
+    published_at      TIMESTAMP(6) NOT NULL,
+    last_recipient_id UUID         NOT NULL,
+    lease_until       TIMESTAMP(6) NOT NULL
+);
+
+-- Distribuições a retomar
+CREATE INDEX idx_news_fan_out_job_lease ON news_fan_out_jobs (lease_until);
+
+-- Uma notificação por destinatário e notícia, mesmo que um lote seja regravado. Parcial: um
+-- lembrete de cronograma rearmado notifica de novo a mesma atividade.
+CREATE UNIQUE INDEX uk_notification_news_recipient ON notifications (user_id, type, reference_id)
+    WHERE type = 'NEWS_PUBLISHED';
@@ -0,0 +1,10 @@
+-- Ordem de commit do log de sincronização. A sequência é atribuída no INSERT, não no commit:
+-- uma transação lenta pode confirmar uma sequência menor que a de outra já lida pelo app.
+-- xid guarda o id da transação que gravou a linha (txid_current()); a sincronização só serve
+-- linhas de transações anteriores ao xmin do snapshot atual, todas já encerradas, e o cursor
+-- segue a ordem (xid, seq). As linhas já gravadas ficam com xid 0, antes de todas as novas.
+ALTER TABLE sync_changes ADD COLUMN xid BIGINT NOT NULL DEFAULT 0;
+
+DROP INDEX idx_sync_change_user_seq;
+CREATE INDEX idx_sync_change_user_xid_seq ON sync_changes (user_id, xid, seq)
+    INCLUDE (chat_id, message_id, message_sent_at, type, created_at);
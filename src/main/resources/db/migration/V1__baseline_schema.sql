@@ -0,0 +1,146 @@
+-- ComuniqueCEM - Esquema inicial (equivalente ao gerado pelas entidades JPA)
+
+CREATE TABLE institutions (
+    id               UUID         NOT NULL PRIMARY KEY,
+    created_at       TIMESTAMP(6) NOT NULL,
+    updated_at       TIMESTAMP(6),
+    version          BIGINT,
+    name             VARCHAR(255) NOT NULL UNIQUE,
+    code             VARCHAR(255) NOT NULL UNIQUE,
+    address          VARCHAR(255),
+    phone            VARCHAR(255),
+    email            VARCHAR(255),
+    password         VARCHAR(255) NOT NULL,
+    teacher_password VARCHAR(255) NOT NULL,
+    description      VARCHAR(255),
+    logo_url         VARCHAR(255),
+    active           BOOLEAN      NOT NULL
+);
+
+CREATE TABLE users (
+    id                   UUID         NOT NULL PRIMARY KEY,
+    created_at           TIMESTAMP(6) NOT NULL,
+    updated_at           TIMESTAMP(6),
+    version              BIGINT,
+    name                 VARCHAR(255) NOT NULL,
+    email                VARCHAR(255) NOT NULL UNIQUE,
+    password             VARCHAR(255) NOT NULL,
+    role                 VARCHAR(255) NOT NULL
+        CHECK (role IN ('STUDENT', 'TEACHER', 'ADMIN', 'SUPER_ADMIN')),
+    profile_picture_url  VARCHAR(255),
+    background_image_url VARCHAR(255),
+    online               BOOLEAN      NOT NULL,
+    active               BOOLEAN      NOT NULL,
+    email_verified       BOOLEAN      NOT NULL,
+    phone                VARCHAR(255),
+    bio                  VARCHAR(500),
+    last_login_at        TIMESTAMP(6),
+    institution_id       UUID         NOT NULL REFERENCES institutions (id)
+);
+
+CREATE INDEX idx_user_email ON users (email);
+CREATE INDEX idx_user_institution ON users (institution_id);
+
+CREATE TABLE chats (
+    id              UUID         NOT NULL PRIMARY KEY,
+    created_at      TIMESTAMP(6) NOT NULL,
+    updated_at      TIMESTAMP(6),
+    version         BIGINT,
+    active          BOOLEAN      NOT NULL,
+    last_message_at TIMESTAMP(6),
+    user1_id        UUID         NOT NULL REFERENCES users (id),
+    user2_id        UUID         NOT NULL REFERENCES users (id)
+);
+
+CREATE INDEX idx_chat_users ON chats (user1_id, user2_id);
+CREATE INDEX idx_chat_user1 ON chats (user1_id);
+CREATE INDEX idx_chat_user2 ON chats (user2_id);
+
+CREATE TABLE messages (
+    id           UUID         NOT NULL PRIMARY KEY,
+    created_at   TIMESTAMP(6) NOT NULL,
+    updated_at   TIMESTAMP(6),
+    version      BIGINT,
+    content      TEXT         NOT NULL,
+    sent_at      TIMESTAMP(6) NOT NULL,
+    delivered    BOOLEAN      NOT NULL,
+    delivered_at TIMESTAMP(6),
+    read         BOOLEAN      NOT NULL,
+    read_at      TIMESTAMP(6),
+    is_file      BOOLEAN      NOT NULL,
+    file_name    VARCHAR(255),
+    file_url     VARCHAR(255),
+    file_size    BIGINT,
+    file_type    VARCHAR(255),
+    deleted      BOOLEAN      NOT NULL,
+    deleted_at   TIMESTAMP(6),
+    edited       BOOLEAN      NOT NULL,
+    edited_at    TIMESTAMP(6),
+    chat_id      UUID         NOT NULL REFERENCES chats (id),
+    sender_id    UUID         NOT NULL REFERENCES users (id),
+    reply_to_id  UUID         REFERENCES messages (id)
+);
+
+CREATE INDEX idx_message_chat ON messages (chat_id);
+CREATE INDEX idx_message_sender ON messages (sender_id);
+CREATE INDEX idx_message_sent_at ON messages (sent_at);
+
+CREATE TABLE news (
+    id             UUID         NOT NULL PRIMARY KEY,
+    created_at     TIMESTAMP(6) NOT NULL,
+    updated_at     TIMESTAMP(6),
+    version        BIGINT,
+    title          VARCHAR(255) NOT NULL,
+    content        TEXT         NOT NULL,
+    image_url      VARCHAR(255),
+    published      BOOLEAN      NOT NULL,
+    featured       BOOLEAN      NOT NULL,
+    views          BIGINT       NOT NULL,
+    institution_id UUID         NOT NULL REFERENCES institutions (id),
+    author_id      UUID         NOT NULL REFERENCES users (id)
+);
+
+CREATE INDEX idx_news_institution ON news (institution_id);
+CREATE INDEX idx_news_created_at ON news (created_at);
+
+CREATE TABLE questions (
+    id               UUID         NOT NULL PRIMARY KEY,
+    created_at       TIMESTAMP(6) NOT NULL,
+    updated_at       TIMESTAMP(6),
+    version          BIGINT,
+    title            TEXT         NOT NULL,
+    option_1         VARCHAR(255) NOT NULL,
+    option_2         VARCHAR(255) NOT NULL,
+    option_3         VARCHAR(255) NOT NULL,
+    option_4         VARCHAR(255) NOT NULL,
+    correct_answer   VARCHAR(255) NOT NULL,
+    explanation      TEXT,
+    difficulty_level INTEGER,
+    active           BOOLEAN      NOT NULL,
+    answer_count     BIGINT       NOT NULL,
+    correct_count    BIGINT       NOT NULL,
+    institution_id   UUID         NOT NULL REFERENCES institutions (id),
+    author_id        UUID         NOT NULL REFERENCES users (id)
+);
+
+CREATE INDEX idx_question_institution ON questions (institution_id);
+
+CREATE TABLE schedules (
+    id                   UUID         NOT NULL PRIMARY KEY,
+    created_at           TIMESTAMP(6) NOT NULL,
+    updated_at           TIMESTAMP(6),
+    version              BIGINT,
+    activity_name        VARCHAR(255) NOT NULL,
+    description          TEXT,
+    activity_date        DATE         NOT NULL,
+    deadline_days        INTEGER      NOT NULL,
+    color                VARCHAR(255) NOT NULL,
+    completed            BOOLEAN      NOT NULL,
+    priority             INTEGER,
+    reminder_enabled     BOOLEAN      NOT NULL,
+    reminder_days_before INTEGER,
+    user_id              UUID         NOT NULL REFERENCES users (id)
+);
+
+CREATE INDEX idx_schedule_user ON schedules (user_id);
+CREATE INDEX idx_schedule_date ON schedules (activity_date);
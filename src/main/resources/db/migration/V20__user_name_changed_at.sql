@@ -0,0 +1,4 @@
+-- Última troca de nome do usuário. As ETags das notícias incluem o nome do autor; updated_at
+-- não serve como versão porque muda a cada login e alteração de status online. Nulo até a
+-- primeira troca: o nome atual já está coberto por updated_at das notícias existentes.
+ALTER TABLE users ADD COLUMN name_changed_at TIMESTAMP(6);
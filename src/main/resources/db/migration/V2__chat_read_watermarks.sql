@@ -0,0 +1,25 @@
+-- Confirmações de entrega/leitura passam a ser marcas d'água por participante na conversa,
+-- em vez de flags atualizadas mensagem a mensagem.
+
+ALTER TABLE chats
+    ADD COLUMN user1_delivered_up_to TIMESTAMP(6),
+    ADD COLUMN user1_read_up_to      TIMESTAMP(6),
+    ADD COLUMN user2_delivered_up_to TIMESTAMP(6),
+    ADD COLUMN user2_read_up_to      TIMESTAMP(6);
+
+-- Cada participante leu/recebeu até a mensagem mais recente do outro marcada como tal
+UPDATE chats c SET
+    user1_read_up_to = (SELECT MAX(m.sent_at) FROM messages m
+                        WHERE m.chat_id = c.id AND m.sender_id = c.user2_id AND m.read),
+    user1_delivered_up_to = (SELECT MAX(m.sent_at) FROM messages m
+                             WHERE m.chat_id = c.id AND m.sender_id = c.user2_id AND (m.delivered OR m.read)),
+    user2_read_up_to = (SELECT MAX(m.sent_at) FROM messages m
+                        WHERE m.chat_id = c.id AND m.sender_id = c.user1_id AND m.read),
+    user2_delivered_up_to = (SELECT MAX(m.sent_at) FROM messages m
+                             WHERE m.chat_id = c.id AND m.sender_id = c.user1_id AND (m.delivered OR m.read));
+
+ALTER TABLE messages
+    DROP COLUMN delivered,
+    DROP COLUMN delivered_at,
+    DROP COLUMN read,
+    DROP COLUMN read_at;
@@ -0,0 +1,24 @@
+-- Contadores de mensagens não lidas por participante, mantidos de forma incremental
+
+CREATE TABLE chat_participants (
+    id           UUID         NOT NULL PRIMARY KEY,
+    created_at   TIMESTAMP(6) NOT NULL,
+    updated_at   TIMESTAMP(6),
+    version      BIGINT,
+    unread_count BIGINT       NOT NULL DEFAULT 0,
+    chat_id      UUID         NOT NULL REFERENCES chats (id),
+    user_id      UUID         NOT NULL REFERENCES users (id),
+    CONSTRAINT uk_chat_participant UNIQUE (chat_id, user_id)
+);
+
+CREATE INDEX idx_chat_participant_user ON chat_participants (user_id);
+
+INSERT INTO chat_participants (id, created_at, updated_at, version, unread_count, chat_id, user_id)
+SELECT md5(c.id::text || p.user_id::text)::uuid, now(), now(), 0,
+       (SELECT COUNT(*) FROM messages m
+        WHERE m.chat_id = c.id AND m.sender_id <> p.user_id AND NOT m.deleted
+          AND (p.read_up_to IS NULL OR m.sent_at > p.read_up_to)),
+       c.id, p.user_id
+FROM chats c
+CROSS JOIN LATERAL (VALUES (c.user1_id, c.user1_read_up_to),
+                           (c.user2_id, c.user2_read_up_to)) AS p (user_id, read_up_to);
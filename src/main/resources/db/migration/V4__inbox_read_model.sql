@@ -0,0 +1,41 @@
+-- Caixa de entrada servida por uma única consulta: prévia da última mensagem desnormalizada
+-- em chats e chat_participants ordenável por (user_id, last_message_at, chat_id)
+
+ALTER TABLE chats ADD COLUMN last_message_preview VARCHAR(140);
+ALTER TABLE chats ADD COLUMN last_message_sender_id UUID REFERENCES users (id);
+
+UPDATE chats c
+SET last_message_at        = latest.sent_at,
+    last_message_preview   = latest.preview,
+    last_message_sender_id = latest.sender_id
+FROM (
+    SELECT DISTINCT ON (m.chat_id)
+           m.chat_id,
+           m.sent_at,
+           m.sender_id,
+           -- Mensagens apagadas mantêm o conteúdo: a prévia é a mesma do app (ChatService.DELETED_PREVIEW)
+           CASE
+               WHEN m.deleted THEN 'Mensagem apagada'
+               WHEN length(CASE WHEN m.is_file THEN m.file_name ELSE m.content END) > 140
+               THEN left(CASE WHEN m.is_file THEN m.file_name ELSE m.content END, 139) || '…'
+               ELSE CASE WHEN m.is_file THEN m.file_name ELSE m.content END
+           END AS preview
+    FROM messages m
+    ORDER BY m.chat_id, m.sent_at DESC, m.id DESC
+) latest
+WHERE latest.chat_id = c.id;
+
+ALTER TABLE chat_participants ADD COLUMN other_user_id UUID REFERENCES users (id);
+ALTER TABLE chat_participants ADD COLUMN last_message_at TIMESTAMP(6);
+
+UPDATE chat_participants p
+SET other_user_id   = CASE WHEN c.user1_id = p.user_id THEN c.user2_id ELSE c.user1_id END,
+    last_message_at = COALESCE(c.last_message_at, c.created_at)
+FROM chats c
+WHERE c.id = p.chat_id;
+
+ALTER TABLE chat_participants ALTER COLUMN other_user_id SET NOT NULL;
+ALTER TABLE chat_participants ALTER COLUMN last_message_at SET NOT NULL;
+
+DROP INDEX idx_chat_participant_user;
+CREATE INDEX idx_chat_participant_inbox ON chat_participants (user_id, last_message_at, chat_id);
@@ -0,0 +1,105 @@
+-- Par canônico de conversa (user1_id < user2_id) com restrição única.
+-- Conversas duplicadas do mesmo par (A→B e B→A ou criações concorrentes) são fundidas
+-- na mais antiga: mensagens movidas, marcas d'água combinadas por usuário e contadores recalculados.
+
+ALTER TABLE chats ADD COLUMN initiated_by_id UUID REFERENCES users (id);
+UPDATE chats SET initiated_by_id = user1_id;
+ALTER TABLE chats ALTER COLUMN initiated_by_id SET NOT NULL;
+
+CREATE TEMPORARY TABLE chat_merge ON COMMIT DROP AS
+SELECT c.id AS chat_id,
+       first_value(c.id) OVER (
+           PARTITION BY LEAST(c.user1_id, c.user2_id), GREATEST(c.user1_id, c.user2_id)
+           ORDER BY c.created_at, c.id
+       ) AS keeper_id
+FROM chats c;
+
+-- Marcas d'água por usuário, combinadas entre todas as conversas do par
+CREATE TEMPORARY TABLE chat_merge_watermarks ON COMMIT DROP AS
+SELECT m.keeper_id,
+       w.user_id,
+       MAX(w.delivered_up_to) AS delivered_up_to,
+       MAX(w.read_up_to)      AS read_up_to
+FROM chat_merge m
+JOIN chats c ON c.id = m.chat_id
+CROSS JOIN LATERAL (VALUES (c.user1_id, c.user1_delivered_up_to, c.user1_read_up_to),
+                           (c.user2_id, c.user2_delivered_up_to, c.user2_read_up_to))
+    AS w (user_id, delivered_up_to, read_up_to)
+GROUP BY m.keeper_id, w.user_id;
+
+UPDATE messages msg
+SET chat_id = m.keeper_id
+FROM chat_merge m
+WHERE msg.chat_id = m.chat_id
+  AND m.chat_id <> m.keeper_id;
+
+DELETE FROM chat_participants p
+USING chat_merge m
+WHERE p.chat_id = m.chat_id
+  AND m.chat_id <> m.keeper_id;
+
+DELETE FROM chats c
+USING chat_merge m
+WHERE c.id = m.chat_id
+  AND m.chat_id <> m.keeper_id;
+
+-- Ordem canônica do par (as marcas d'água são reaplicadas por usuário logo abaixo)
+UPDATE chats
+SET user1_id = user2_id,
+    user2_id = user1_id
+WHERE user1_id > user2_id;
+
+UPDATE chats c
+SET user1_delivered_up_to = w1.delivered_up_to,
+    user1_read_up_to      = w1.read_up_to,
+    user2_delivered_up_to = w2.delivered_up_to,
+    user2_read_up_to      = w2.read_up_to
+FROM chat_merge_watermarks w1, chat_merge_watermarks w2
+WHERE w1.keeper_id = c.id AND w1.user_id = c.user1_id
+  AND w2.keeper_id = c.id AND w2.user_id = c.user2_id;
+
+-- Última mensagem e contadores das conversas que receberam mensagens de duplicadas
+CREATE TEMPORARY TABLE chat_merged ON COMMIT DROP AS
+SELECT DISTINCT keeper_id AS chat_id FROM chat_merge WHERE chat_id <> keeper_id;
+
+UPDATE chats c
+SET last_message_at        = latest.sent_at,
+    last_message_preview   = latest.preview,
+    last_message_sender_id = latest.sender_id
+FROM (
+    SELECT DISTINCT ON (msg.chat_id)
+           msg.chat_id,
+           msg.sent_at,
+           msg.sender_id,
+           -- Mensagens apagadas mantêm o conteúdo: a prévia é a mesma do app (ChatService.DELETED_PREVIEW)
+           CASE
+               WHEN msg.deleted THEN 'Mensagem apagada'
+               WHEN length(CASE WHEN msg.is_file THEN msg.file_name ELSE msg.content END) > 140
+               THEN left(CASE WHEN msg.is_file THEN msg.file_name ELSE msg.content END, 139) || '…'
+               ELSE CASE WHEN msg.is_file THEN msg.file_name ELSE msg.content END
+           END AS preview
+    FROM messages msg
+    JOIN chat_merged cm ON cm.chat_id = msg.chat_id
+    ORDER BY msg.chat_id, msg.sent_at DESC, msg.id DESC
+) latest
+WHERE latest.chat_id = c.id;
+
+UPDATE chat_participants p
+SET last_message_at = COALESCE(c.last_message_at, c.created_at),
+    unread_count = (
+        SELECT COUNT(*) FROM messages msg
+        WHERE msg.chat_id = c.id AND msg.sender_id <> p.user_id AND NOT msg.deleted
+          AND msg.sent_at > COALESCE(
+              CASE WHEN c.user1_id = p.user_id THEN c.user1_read_up_to ELSE c.user2_read_up_to END,
+              TIMESTAMP '1970-01-01 00:00:00')
+    )
+FROM chats c
+JOIN chat_merged cm ON cm.chat_id = c.id
+WHERE p.chat_id = c.id;
+
+ALTER TABLE chats ADD CONSTRAINT uk_chat_pair UNIQUE (user1_id, user2_id);
+ALTER TABLE chats ADD CONSTRAINT ck_chat_pair_order CHECK (user1_id < user2_id);
+
+-- Cobertos pelo índice da restrição única
+DROP INDEX idx_chat_users;
+DROP INDEX idx_chat_user1;
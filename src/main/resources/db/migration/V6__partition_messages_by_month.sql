@@ -0,0 +1,62 @@
+-- Particionamento mensal de messages por sent_at.
+-- A chave primária passa a ser (id, sent_at), exigência do PostgreSQL para tabelas particionadas;
+-- por isso a FK de reply_to_id deixa de existir (a resposta é validada pela aplicação).
+-- Partições futuras e retenção ficam a cargo do MessagePartitionService.
+
+ALTER TABLE messages RENAME TO messages_legacy;
+ALTER TABLE messages_legacy RENAME CONSTRAINT messages_pkey TO messages_legacy_pkey;
+DROP INDEX idx_message_chat;
+DROP INDEX idx_message_sender;
+DROP INDEX idx_message_sent_at;
+
+CREATE TABLE messages (
+    id          UUID         NOT NULL,
+    created_at  TIMESTAMP(6) NOT NULL,
+    updated_at  TIMESTAMP(6),
+    version     BIGINT,
+    content     TEXT         NOT NULL,
+    sent_at     TIMESTAMP(6) NOT NULL,
+    is_file     BOOLEAN      NOT NULL,
+    file_name   VARCHAR(255),
+    file_url    VARCHAR(255),
+    file_size   BIGINT,
+    file_type   VARCHAR(255),
+    deleted     BOOLEAN      NOT NULL,
+    deleted_at  TIMESTAMP(6),
+    edited      BOOLEAN      NOT NULL,
+    edited_at   TIMESTAMP(6),
+    chat_id     UUID         NOT NULL REFERENCES chats (id),
+    sender_id   UUID         NOT NULL REFERENCES users (id),
+    reply_to_id UUID,
+    PRIMARY KEY (id, sent_at)
+) PARTITION BY RANGE (sent_at);
+
+CREATE INDEX idx_message_chat_sent_at ON messages (chat_id, sent_at);
+CREATE INDEX idx_message_sender ON messages (sender_id);
+
+-- Uma partição por mês, da mensagem mais antiga até três meses à frente
+DO $$
+DECLARE
+    month DATE;
+BEGIN
+    FOR month IN
+        SELECT generate_series(
+            date_trunc('month', COALESCE((SELECT MIN(sent_at) FROM messages_legacy), now())),
+            date_trunc('month', now()) + INTERVAL '3 months',
+            INTERVAL '1 month')::date
+    LOOP
+        EXECUTE format(
+            'CREATE TABLE %I PARTITION OF messages FOR VALUES FROM (%L) TO (%L)',
+            'messages_' || to_char(month, 'YYYY_MM'),
+            month,
+            (month + INTERVAL '1 month')::date);
+    END LOOP;
+END $$;
+
+INSERT INTO messages (id, created_at, updated_at, version, content, sent_at, is_file, file_name, file_url,
+                      file_size, file_type, deleted, deleted_at, edited, edited_at, chat_id, sender_id, reply_to_id)
+SELECT id, created_at, updated_at, version, content, sent_at, is_file, file_name, file_url,
+       file_size, file_type, deleted, deleted_at, edited, edited_at, chat_id, sender_id, reply_to_id
+FROM messages_legacy;
+
+DROP TABLE messages_legacy;
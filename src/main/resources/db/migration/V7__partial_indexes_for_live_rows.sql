@@ -0,0 +1,18 @@
+-- Índices parciais: as consultas filtram linhas inativas/apagadas (filtros do Hibernate),
+-- então os índices cobrem apenas as linhas vivas.
+-- institutions não recebe índice: a tabela é pequena e as buscas usam as chaves únicas.
+
+DROP INDEX idx_user_institution;
+CREATE INDEX idx_user_institution_active ON users (institution_id) WHERE active;
+
+DROP INDEX idx_chat_user2;
+CREATE INDEX idx_chat_user2_active ON chats (user2_id) WHERE active;
+
+DROP INDEX idx_question_institution;
+CREATE INDEX idx_question_institution_active ON questions (institution_id) WHERE active;
+
+DROP INDEX idx_message_chat_sent_at;
+CREATE INDEX idx_message_chat_live ON messages (chat_id, sent_at) WHERE NOT deleted;
+
+-- Usado somente pela compactação de mensagens excluídas
+CREATE INDEX idx_message_deleted_at ON messages (deleted_at) WHERE deleted;
@@ -0,0 +1,9 @@
+-- Busca textual em mensagens: tsvector gerado (configuração portuguese) e índice GIN.
+-- A coluna é calculada pelo banco e não é mapeada na entidade.
+-- Em uma tabela grande, o ADD COLUMN reescreve todas as partições: aplicar em janela de manutenção.
+
+ALTER TABLE messages
+    ADD COLUMN search_vector TSVECTOR
+    GENERATED ALWAYS AS (to_tsvector('portuguese', content)) STORED;
+
+CREATE INDEX idx_message_search ON messages USING GIN (search_vector) WHERE NOT deleted;
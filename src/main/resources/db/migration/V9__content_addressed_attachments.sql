@@ -0,0 +1,28 @@
+-- Armazenamento de anexos endereçado pelo conteúdo (SHA-256): cada arquivo é gravado uma vez
+
+CREATE TABLE attachments (
+    id           UUID         NOT NULL PRIMARY KEY,
+    created_at   TIMESTAMP(6) NOT NULL,
+    updated_at   TIMESTAMP(6),
+    version      BIGINT,
+    sha256       VARCHAR(64)  NOT NULL,
+    size         BIGINT       NOT NULL,
+    content_type VARCHAR(100) NOT NULL,
+    CONSTRAINT uk_attachment_sha256 UNIQUE (sha256)
+);
+
+-- Quem enviou cada arquivo: somente quem o enviou pode anexá-lo a uma mensagem
+CREATE TABLE attachment_uploads (
+    id            UUID         NOT NULL PRIMARY KEY,
+    created_at    TIMESTAMP(6) NOT NULL,
+    updated_at    TIMESTAMP(6),
+    version       BIGINT,
+    attachment_id UUID         NOT NULL REFERENCES attachments (id),
+    user_id       UUID         NOT NULL REFERENCES users (id),
+    CONSTRAINT uk_attachment_upload UNIQUE (attachment_id, user_id)
+);
+
+ALTER TABLE messages ADD COLUMN attachment_sha256 VARCHAR(64);
+
+-- Verificação de acesso no download; apenas mensagens com anexo entram no índice
+CREATE INDEX idx_message_attachment ON messages (attachment_sha256) WHERE attachment_sha256 IS NOT NULL;
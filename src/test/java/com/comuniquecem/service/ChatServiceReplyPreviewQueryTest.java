@@ -0,0 +1,147 @@
+package com.comuniquecem.service;
+
+import com.comuniquecem.dto.response.MessageResponse;
+import com.comuniquecem.entity.Chat;
+import com.comuniquecem.entity.Institution;
+import com.comuniquecem.entity.Message;
+import com.comuniquecem.entity.User;
+import com.comuniquecem.entity.enums.UserRole;
+import com.comuniquecem.repository.ChatRepository;
+import com.comuniquecem.repository.InstitutionRepository;
+import com.comuniquecem.repository.MessageRepository;
+import com.comuniquecem.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * Garante que as prévias das mensagens respondidas de uma página do histórico são
+ * carregadas em uma única consulta, independentemente de quantas respostas a página tem.
+ */
+// Porta aleatória: a configuração de WebSocket exige o contêiner do servidor
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        // Sem o resumo de métricas que o Hibernate registra ao fechar cada sessão
+        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN"
+    })
+@ActiveProfiles("test")
+class ChatServiceReplyPreviewQueryTest {
+
+    // Trecho exclusivo da consulta MessageRepository.findReplyPreviews
+    private static final String REPLY_PREVIEW_QUERY = "s.name AS senderName";
+
+    @Autowired
+    private ChatService chatService;
+
+    @Autowired
+    private InstitutionRepository institutionRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ChatRepository chatRepository;
+
+    @Autowired
+    private MessageRepository messageRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void loadsReplyPreviewsOfAHistoryPageInOneQuery() {
+        Conversation few = createConversation(2);
+        Conversation many = createConversation(30);
+
+        long fewStatements = countStatements(few);
+        assertEquals(1, replyPreviewQueries());
+
+        long manyStatements = countStatements(many);
+        assertEquals(1, replyPreviewQueries());
+
+        // O número de comandos não cresce com o número de respostas da página
+        assertEquals(fewStatements, manyStatements);
+    }
+
+    private long countStatements(Conversation conversation) {
+        statistics.clear();
+
+        List<MessageResponse> page = chatService.getMessages(conversation.chatId(), conversation.userId(), null, 100);
+
+        page.stream()
+            .filter(message -> message.getContent().startsWith("resposta"))
+            .forEach(message -> assertNotNull(message.getReplyTo()));
+        return statistics.getPrepareStatementCount();
+    }
+
+    private long replyPreviewQueries() {
+        return Arrays.stream(statistics.getQueries())
+            .filter(query -> query.contains(REPLY_PREVIEW_QUERY))
+            .mapToLong(query -> statistics.getQueryStatistics(query).getExecutionCount())
+            .sum();
+    }
+
+    /**
+     * Cria uma conversa com replies mensagens originais, cada uma respondida uma vez
+     */
+    private Conversation createConversation(int replies) {
+        return transactionTemplate.execute(status -> {
+            String suffix = UUID.randomUUID().toString().substring(0, 8);
+            Institution institution = new Institution("Escola " + suffix, "senha-alunos", "senha-professores");
+            institution.setCode(suffix);
+            institutionRepository.save(institution);
+
+            User teacher = userRepository.save(new User("Professor", "prof-" + suffix + "@escola.com", "secret123",
+                UserRole.TEACHER, institution));
+            User student = userRepository.save(new User("Aluno", "aluno-" + suffix + "@escola.com", "secret123",
+                UserRole.STUDENT, institution));
+
+            UUID chatId = chatService.getOrCreateChat(teacher.getId(), institution.getId(), student.getId()).getChatId();
+            Chat chat = chatRepository.getReferenceById(chatId);
+
+            LocalDateTime sentAt = LocalDateTime.now();
+            List<Message> messages = new ArrayList<>();
+            for (int i = 0; i < replies; i++) {
+                Message original = new Message("original " + i, student, chat);
+                original.setSentAt(sentAt = sentAt.plusNanos(1_000_000));
+                messages.add(original);
+
+                Message reply = new Message("resposta " + i, teacher, chat);
+                reply.setSentAt(sentAt = sentAt.plusNanos(1_000_000));
+                reply.setReplyTo(original);
+                messages.add(reply);
+            }
+            messageRepository.saveAll(messages);
+
+            return new Conversation(chatId, teacher.getId());
+        });
+    }
+
+    private record Conversation(UUID chatId, UUID userId) {}
+}
@@ -0,0 +1,84 @@
+package com.comuniquecem.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Casos do RFC 4180 e das planilhas exportadas pelo Excel que a importação em lote precisa
+ * aceitar, e a numeração de linhas usada nos erros por registro
+ */
+class CsvReaderTest {
+
+    @Test
+    void readsQuotedFieldsWithDelimitersNewlinesAndEscapedQuotes() throws IOException {
+        CsvReader reader = reader("\uFEFFnome,email\r\n" +
+            "\r\n" +
+            "\"Silva, Ana\",ana@escola.com\r\n" +
+            "\"linha 1\nlinha 2\",\"diz \"\"oi\"\"\"\n" +
+            "\n" +
+            "ultimo,fim");
+
+        assertEquals(List.of("nome", "email"), reader.readRecord());
+        assertEquals(1, reader.getRecordLine());
+
+        assertEquals(List.of("Silva, Ana", "ana@escola.com"), reader.readRecord());
+        assertEquals(3, reader.getRecordLine());
+
+        assertEquals(List.of("linha 1\nlinha 2", "diz \"oi\""), reader.readRecord());
+        assertEquals(4, reader.getRecordLine());
+
+        // A quebra dentro das aspas conta como linha do arquivo
+        assertEquals(List.of("ultimo", "fim"), reader.readRecord());
+        assertEquals(7, reader.getRecordLine());
+
+        assertNull(reader.readRecord());
+    }
+
+    @Test
+    void detectsSemicolonAndKeepsCommasAsData() throws IOException {
+        CsvReader reader = reader("\"nome,completo\";nota\nAna;7,5\n");
+
+        assertEquals(List.of("nome,completo", "nota"), reader.readRecord());
+        assertEquals(List.of("Ana", "7,5"), reader.readRecord());
+        assertNull(reader.readRecord());
+    }
+
+    @Test
+    void acceptsCrlfAndLoneCarriageReturns() throws IOException {
+        CsvReader reader = reader("a,b\r\nc,d\re,f\r\n\r\n");
+
+        assertEquals(List.of("a", "b"), reader.readRecord());
+        assertEquals(List.of("c", "d"), reader.readRecord());
+        assertEquals(2, reader.getRecordLine());
+        assertEquals(List.of("e", "f"), reader.readRecord());
+        assertEquals(3, reader.getRecordLine());
+        assertNull(reader.readRecord());
+    }
+
+    @Test
+    void keepsEmptyFields() throws IOException {
+        CsvReader reader = reader("a,,c\n,b,\n\"\",x\n");
+
+        assertEquals(List.of("a", "", "c"), reader.readRecord());
+        assertEquals(List.of("", "b", ""), reader.readRecord());
+        assertEquals(List.of("", "x"), reader.readRecord());
+        assertNull(reader.readRecord());
+    }
+
+    @Test
+    void returnsNullForEmptyOrBlankFiles() throws IOException {
+        assertNull(reader("").readRecord());
+        assertNull(reader("\uFEFF").readRecord());
+        assertNull(reader("\n\r\n\n").readRecord());
+    }
+
+    private static CsvReader reader(String content) {
+        return new CsvReader(new StringReader(content));
+    }
+}
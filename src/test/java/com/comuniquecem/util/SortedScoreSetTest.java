@@ -0,0 +1,115 @@
+package com.comuniquecem.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compara a skip list com um modelo ingênuo (mapa ordenado a cada consulta) em sequências
+ * aleatórias de operações: os saltos (span) mantidos à mão em insert e delete precisam manter
+ * posições e faixas iguais às do modelo.
+ */
+class SortedScoreSetTest {
+
+    // Do maior para o menor: pontuação decrescente e, no empate, membro decrescente (ZREVRANGE)
+    private static final Comparator<Map.Entry<String, Long>> REVERSE_ORDER =
+        Map.Entry.<String, Long>comparingByValue().thenComparing(Map.Entry.comparingByKey()).reversed();
+
+    @Test
+    void matchesNaiveModelOnRandomOperations() {
+        for (long seed = 1; seed <= 20; seed++) {
+            Random random = new Random(seed);
+            SortedScoreSet<String> set = new SortedScoreSet<>();
+            Map<String, Long> model = new HashMap<>();
+
+            for (int step = 0; step < 2_000; step++) {
+                // Poucos membros e pontuações próximas: muitos empates e reposicionamentos
+                String member = "m" + random.nextInt(60);
+                long value = random.nextInt(50) - 10;
+
+                if (random.nextBoolean()) {
+                    long expected = model.merge(member, value, Long::sum);
+                    assertEquals(expected, set.incrementBy(member, value), "seed " + seed);
+                } else {
+                    Long current = model.get(member);
+                    boolean expected = current == null || current < value;
+                    if (expected) {
+                        model.put(member, value);
+                    }
+                    assertEquals(expected, set.setIfGreater(member, value), "seed " + seed);
+                }
+
+                if (step % 50 == 0) {
+                    assertMatches(model, set, random, seed);
+                }
+            }
+            assertMatches(model, set, random, seed);
+        }
+    }
+
+    @Test
+    void breaksTiesByMemberLikeRedis() {
+        SortedScoreSet<String> set = new SortedScoreSet<>();
+        set.incrementBy("b", 10);
+        set.incrementBy("a", 10);
+        set.incrementBy("c", 5);
+
+        assertEquals(List.of(new SortedScoreSet.Entry<>("b", 10), new SortedScoreSet.Entry<>("a", 10),
+            new SortedScoreSet.Entry<>("c", 5)), set.reverseRange(0, 10));
+        assertEquals(0, set.reverseRank("b"));
+        assertEquals(1, set.reverseRank("a"));
+        assertEquals(2, set.reverseRank("c"));
+    }
+
+    @Test
+    void handlesMissingMembersAndOutOfRangeQueries() {
+        SortedScoreSet<String> set = new SortedScoreSet<>();
+        assertEquals(-1, set.reverseRank("x"));
+        assertNull(set.score("x"));
+        assertTrue(set.reverseRange(0, 10).isEmpty());
+
+        set.incrementBy("x", 3);
+        assertFalse(set.setIfGreater("x", 3));
+        assertTrue(set.reverseRange(1, 10).isEmpty());
+        assertTrue(set.reverseRange(-1, 10).isEmpty());
+        assertTrue(set.reverseRange(0, 0).isEmpty());
+        assertEquals(1, set.size());
+    }
+
+    private static void assertMatches(Map<String, Long> model, SortedScoreSet<String> set, Random random, long seed) {
+        List<Map.Entry<String, Long>> expected = new ArrayList<>(model.entrySet());
+        expected.sort(REVERSE_ORDER);
+
+        assertEquals(expected.size(), set.size(), "seed " + seed);
+        for (int rank = 0; rank < expected.size(); rank++) {
+            String member = expected.get(rank).getKey();
+            assertEquals(expected.get(rank).getValue(), set.score(member), "seed " + seed);
+            assertEquals(rank, set.reverseRank(member), "seed " + seed + ", membro " + member);
+        }
+
+        // Uma faixa inteira e algumas parciais, a partir de posições aleatórias
+        assertEquals(toEntries(expected), set.reverseRange(0, expected.size()), "seed " + seed);
+        for (int i = 0; i < 5 && !expected.isEmpty(); i++) {
+            int start = random.nextInt(expected.size());
+            int count = 1 + random.nextInt(10);
+            List<Map.Entry<String, Long>> slice = expected.subList(start, Math.min(start + count, expected.size()));
+            assertEquals(toEntries(slice), set.reverseRange(start, count), "seed " + seed);
+        }
+    }
+
+    private static List<SortedScoreSet.Entry<String>> toEntries(List<Map.Entry<String, Long>> entries) {
+        return entries.stream()
+            .map(entry -> new SortedScoreSet.Entry<>(entry.getKey(), entry.getValue()))
+            .toList();
+    }
+}
@@ -0,0 +1,81 @@
+package com.comuniquecem.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Limites da roda de temporização: a volta aceita, itens já vencidos e avanços atrasados
+ */
+class TimingWheelTest {
+
+    private static final long TICK_MS = 100;
+    private static final int SLOTS = 10;
+    private static final long START_MS = 1_000_000;
+
+    @Test
+    void acceptsItemsUpToTheEndOfOneRevolution() {
+        TimingWheel<String> wheel = new TimingWheel<>(TICK_MS, SLOTS, START_MS);
+        long horizon = START_MS + SLOTS * TICK_MS;
+
+        assertEquals(horizon, wheel.horizonMs());
+        assertTrue(wheel.schedule("last", horizon - 1));
+        assertFalse(wheel.schedule("beyond", horizon));
+        assertFalse(wheel.schedule("far", horizon + 60_000));
+        assertEquals(1, wheel.size());
+
+        assertEquals(List.of(), wheel.advance(horizon - TICK_MS - 1));
+        assertEquals(List.of("last"), wheel.advance(horizon - 1));
+    }
+
+    @Test
+    void returnsItemsOnlyOnceTheirTickIsReached() {
+        TimingWheel<String> wheel = new TimingWheel<>(TICK_MS, SLOTS, START_MS);
+        wheel.schedule("a", START_MS + 250);
+        wheel.schedule("b", START_MS + 299);
+        wheel.schedule("c", START_MS + 300);
+
+        assertEquals(List.of(), wheel.advance(START_MS + 199));
+        assertEquals(List.of("a", "b"), wheel.advance(START_MS + 200));
+        assertEquals(List.of("c"), wheel.advance(START_MS + 300));
+        assertEquals(List.of(), wheel.advance(START_MS + 300));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void schedulesPastDueItemsForTheNextAdvance() {
+        TimingWheel<String> wheel = new TimingWheel<>(TICK_MS, SLOTS, START_MS);
+        wheel.advance(START_MS + 500);
+
+        // Vencido há muito ou no tick já avançado: entra no tick atual, não na volta seguinte
+        assertTrue(wheel.schedule("old", START_MS - 3_600_000));
+        assertTrue(wheel.schedule("advanced", START_MS + 500));
+
+        assertEquals(List.of("old", "advanced"), wheel.advance(START_MS + 600));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void returnsEverythingOnceAfterALongStall() {
+        TimingWheel<String> wheel = new TimingWheel<>(TICK_MS, SLOTS, START_MS);
+        wheel.schedule("a", START_MS + 100);
+        wheel.schedule("b", START_MS + 900);
+
+        // Várias voltas sem avançar: uma volta basta e nada é devolvido duas vezes
+        long resumed = START_MS + 25 * SLOTS * TICK_MS;
+        assertEquals(List.of("a", "b"), wheel.advance(resumed));
+        assertEquals(0, wheel.size());
+        assertEquals(List.of(), wheel.advance(resumed + SLOTS * TICK_MS));
+
+        // A volta aceita passa a contar a partir do novo tick
+        long now = resumed + SLOTS * TICK_MS;
+        assertEquals(now + TICK_MS + SLOTS * TICK_MS, wheel.horizonMs());
+        assertTrue(wheel.schedule("c", now + 5 * TICK_MS));
+        assertEquals(List.of(), wheel.advance(now + 4 * TICK_MS));
+        assertEquals(List.of("c"), wheel.advance(now + 5 * TICK_MS));
+    }
+}